@@ -35,6 +35,7 @@ import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.cloudevents.extension.KogitoExtension;
 import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
+import org.kie.kogito.event.impl.EventEvaluationExecutor;
 import org.kie.kogito.internal.utils.ConversionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +58,7 @@ public class EventDrivenDecisionController {
     private ConfigBean config;
     private EventEmitter eventEmitter;
     private EventReceiver eventReceiver;
+    private EventEvaluationExecutor evaluationExecutor;
 
     protected EventDrivenDecisionController() {
     }
@@ -65,11 +67,29 @@ public class EventDrivenDecisionController {
         init(decisionModels, config, eventEmitter, eventReceiver);
     }
 
+    protected EventDrivenDecisionController(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver,
+            EventEvaluationExecutor evaluationExecutor) {
+        init(decisionModels, config, eventEmitter, eventReceiver, evaluationExecutor);
+    }
+
     protected void init(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
+        init(decisionModels, config, eventEmitter, eventReceiver, EventEvaluationExecutor.synchronous());
+    }
+
+    protected void init(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventEvaluationExecutor evaluationExecutor) {
         this.decisionModels = decisionModels;
         this.config = config;
         this.eventEmitter = eventEmitter;
         this.eventReceiver = eventReceiver;
+        this.evaluationExecutor = evaluationExecutor;
+    }
+
+    protected void close() {
+        evaluationExecutor.close();
+    }
+
+    public EventEvaluationExecutor getEvaluationExecutor() {
+        return evaluationExecutor;
     }
 
     protected void subscribe() {
@@ -79,10 +99,11 @@ public class EventDrivenDecisionController {
     private CompletionStage<Void> handleRequest(DataEvent<Map> event) {
         KogitoExtension kogitoExtension = ExtensionProvider.getInstance().parseExtension(KogitoExtension.class, event);
         if (CloudEventUtils.isValidRequest(event, REQUEST_EVENT_TYPE, kogitoExtension)) {
-            getDecisionModel(kogitoExtension.getDmnModelNamespace(), kogitoExtension.getDmnModelName())
-                    .map(model -> processRequest(model, event, kogitoExtension))
-                    .ifPresentOrElse(result -> eventEmitter.emit(buildResponseEvent(result, event, kogitoExtension)),
-                            () -> LOG.warn("Discarding request because not model is found for {}", kogitoExtension));
+            Optional<DecisionModel> model = getDecisionModel(kogitoExtension.getDmnModelNamespace(), kogitoExtension.getDmnModelName());
+            if (model.isPresent()) {
+                return evaluationExecutor.submit(event.getSubject(), () -> eventEmitter.emit(buildResponseEvent(processRequest(model.get(), event, kogitoExtension), event, kogitoExtension)));
+            }
+            LOG.warn("Discarding request because not model is found for {}", kogitoExtension);
         } else {
             LOG.warn("Event {} is not valid. Ignoring it", event);
         }
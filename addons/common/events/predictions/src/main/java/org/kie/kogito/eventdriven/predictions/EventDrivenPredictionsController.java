@@ -30,6 +30,7 @@ import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.cloudevents.extension.KogitoPredictionsExtension;
 import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
+import org.kie.kogito.event.impl.EventEvaluationExecutor;
 import org.kie.kogito.prediction.PredictionModel;
 import org.kie.kogito.prediction.PredictionModelNotFoundException;
 import org.kie.kogito.prediction.PredictionModels;
@@ -50,6 +51,7 @@ public class EventDrivenPredictionsController {
     private ConfigBean config;
     private EventEmitter eventEmitter;
     private EventReceiver eventReceiver;
+    private EventEvaluationExecutor evaluationExecutor;
 
     protected EventDrivenPredictionsController() {
     }
@@ -58,12 +60,29 @@ public class EventDrivenPredictionsController {
         init(predictionModels, config, eventEmitter, eventReceiver);
     }
 
+    protected EventDrivenPredictionsController(PredictionModels predictionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver,
+            EventEvaluationExecutor evaluationExecutor) {
+        init(predictionModels, config, eventEmitter, eventReceiver, evaluationExecutor);
+    }
+
     protected void init(PredictionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
+        init(decisionModels, config, eventEmitter, eventReceiver, EventEvaluationExecutor.synchronous());
+    }
+
+    protected void init(PredictionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventEvaluationExecutor evaluationExecutor) {
         this.predictionModels = decisionModels;
         this.config = config;
         this.eventEmitter = eventEmitter;
         this.eventReceiver = eventReceiver;
+        this.evaluationExecutor = evaluationExecutor;
+    }
+
+    protected void close() {
+        evaluationExecutor.close();
+    }
 
+    public EventEvaluationExecutor getEvaluationExecutor() {
+        return evaluationExecutor;
     }
 
     protected void subscribe() {
@@ -73,8 +92,12 @@ public class EventDrivenPredictionsController {
     private CompletionStage<Void> handleRequest(DataEvent<Map> event) {
         KogitoPredictionsExtension extension = ExtensionProvider.getInstance().parseExtension(KogitoPredictionsExtension.class, event);
         if (CloudEventUtils.isValidRequest(event, REQUEST_EVENT_TYPE, extension)) {
-            getPredictionModel(extension.getPmmlFileName(), extension.getPmmlModelName()).map(model -> model.evaluateAll(model.newContext(event.getData())))
-                    .ifPresentOrElse(result -> eventEmitter.emit(buildResponseCloudEvent(result, event, extension)), () -> LOG.warn("Discarding request because not model is found for {}", extension));
+            Optional<PredictionModel> model = getPredictionModel(extension.getPmmlFileName(), extension.getPmmlModelName());
+            if (model.isPresent()) {
+                return evaluationExecutor.submit(event.getSubject(),
+                        () -> eventEmitter.emit(buildResponseCloudEvent(model.get().evaluateAll(model.get().newContext(event.getData())), event, extension)));
+            }
+            LOG.warn("Discarding request because not model is found for {}", extension);
         } else {
             LOG.warn("Event {} is not valid. Ignoring it", event);
         }
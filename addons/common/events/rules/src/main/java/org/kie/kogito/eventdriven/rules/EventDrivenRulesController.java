@@ -15,10 +15,16 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
-import java.util.Objects;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.kie.kogito.config.ConfigBean;
@@ -26,6 +32,8 @@ import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.DataEventFactory;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.KogitoThreadPoolFactory;
 import org.kie.kogito.event.cloudevents.extension.KogitoRulesExtension;
 import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
 import org.slf4j.Logger;
@@ -36,6 +44,9 @@ import io.cloudevents.core.provider.ExtensionProvider;
 /**
  * This class must always have exact FQCN as <code>org.kie.kogito.eventdriven.rules.EventDrivenRulesController</code>
  * for code generation plugins to correctly detect if this addon is enabled.
+ * <p>
+ * A single handler is subscribed per data class. It parses the rules extension once, looks up the query executor
+ * registered for the requested rule unit and query, and evaluates only that one on a bounded worker pool.
  */
 public class EventDrivenRulesController {
 
@@ -44,9 +55,12 @@ public class EventDrivenRulesController {
 
     private static final Logger LOG = LoggerFactory.getLogger(EventDrivenRulesController.class);
 
+    private final Map<Class<?>, RequestHandler<?>> handlers = new HashMap<>();
+
     private ConfigBean config;
     private EventEmitter eventEmitter;
     private EventReceiver eventReceiver;
+    private ExecutorService executorService;
 
     protected EventDrivenRulesController() {
     }
@@ -55,41 +69,85 @@ public class EventDrivenRulesController {
         init(config, eventEmitter, eventReceiver);
     }
 
+    protected EventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, ExecutorService executorService) {
+        init(config, eventEmitter, eventReceiver, executorService);
+    }
+
     protected void init(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
+        init(config, eventEmitter, eventReceiver, defaultExecutorService());
+    }
+
+    protected synchronized void init(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, ExecutorService executorService) {
         this.config = config;
         this.eventEmitter = eventEmitter;
         this.eventReceiver = eventReceiver;
+        this.executorService = executorService;
+        handlers.forEach(this::subscribeHandler);
+    }
+
+    protected void close() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
     }
 
-    public <D> void subscribe(EventDrivenQueryExecutor<D> queryExecutor, Class<D> objectClass) {
-        eventReceiver.subscribe(new RequestHandler<>(queryExecutor), objectClass);
+    public synchronized <D> void subscribe(EventDrivenQueryExecutor<D> queryExecutor, Class<D> objectClass) {
+        @SuppressWarnings("unchecked")
+        RequestHandler<D> handler = (RequestHandler<D>) handlers.computeIfAbsent(objectClass, c -> new RequestHandler<>());
+        handler.register(queryExecutor);
+        if (eventReceiver != null) {
+            subscribeHandler(objectClass, handler);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void subscribeHandler(Class<?> objectClass, RequestHandler<?> handler) {
+        if (!handler.subscribed) {
+            eventReceiver.subscribe((RequestHandler) handler, (Class) objectClass);
+            handler.subscribed = true;
+        }
+    }
+
+    private static ExecutorService defaultExecutorService() {
+        return new ThreadPoolExecutor(1, Integer.parseInt(KogitoEventStreams.DEFAULT_MAX_THREADS), 1L, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(Integer.parseInt(KogitoEventStreams.DEFAULT_QUEUE_SIZE)), new KogitoThreadPoolFactory(KogitoEventStreams.THREAD_NAME),
+                new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
     private class RequestHandler<T> implements Function<DataEvent<T>, CompletionStage<?>> {
 
-        private EventDrivenQueryExecutor<T> queryExecutor;
+        // copy on write, registrations happen at startup while lookups happen on every event
+        private volatile Map<String, Map<String, EventDrivenQueryExecutor<T>>> queryExecutors = Collections.emptyMap();
+        private boolean subscribed;
 
-        public RequestHandler(EventDrivenQueryExecutor<T> queryExecutor) {
-            this.queryExecutor = queryExecutor;
+        private synchronized void register(EventDrivenQueryExecutor<T> queryExecutor) {
+            Map<String, Map<String, EventDrivenQueryExecutor<T>>> updated = new HashMap<>();
+            queryExecutors.forEach((ruleUnitId, queries) -> updated.put(ruleUnitId, new HashMap<>(queries)));
+            EventDrivenQueryExecutor<T> previous = updated.computeIfAbsent(queryExecutor.getRuleUnitId(), k -> new HashMap<>()).put(queryExecutor.getQueryName(), queryExecutor);
+            if (previous != null && previous != queryExecutor) {
+                LOG.warn("Query executor {} replaces {} for rule unit {} and query {}", queryExecutor, previous, queryExecutor.getRuleUnitId(), queryExecutor.getQueryName());
+            }
+            queryExecutors = updated;
         }
 
         @Override
         public CompletionStage<?> apply(DataEvent<T> event) {
             KogitoRulesExtension extension = ExtensionProvider.getInstance().parseExtension(KogitoRulesExtension.class, event);
-            if (CloudEventUtils.isValidRequest(event, REQUEST_EVENT_TYPE, extension)) {
-                buildResponseCloudEvent(event, queryExecutor.executeQuery(event), extension).ifPresentOrElse(c -> eventEmitter.emit(c),
-                        () -> LOG.info("Extension {} does not match this query executor {}", extension, queryExecutor));
-            } else {
+            if (!CloudEventUtils.isValidRequest(event, REQUEST_EVENT_TYPE, extension)) {
                 LOG.warn("Event {} does not have expected information, discarding it", event);
+                return CompletableFuture.completedStage(null);
+            }
+            EventDrivenQueryExecutor<T> queryExecutor = queryExecutors.getOrDefault(extension.getRuleUnitId(), Collections.emptyMap()).get(extension.getRuleUnitQuery());
+            if (queryExecutor == null) {
+                LOG.debug("No query executor registered for extension {}, discarding event {}", extension, event);
+                return CompletableFuture.completedStage(null);
             }
-            return CompletableFuture.completedStage(null);
+            return CompletableFuture.runAsync(() -> eventEmitter.emit(buildResponseCloudEvent(event, queryExecutor.executeQuery(event), extension)), executorService);
         }
 
-        private Optional<DataEvent<?>> buildResponseCloudEvent(DataEvent<?> event, Object payload, KogitoRulesExtension extension) {
-            return Objects.equals(queryExecutor.getRuleUnitId(), extension.getRuleUnitId()) && Objects.equals(queryExecutor.getQueryName(), extension.getRuleUnitQuery())
-                    ? Optional.of(DataEventFactory.from(payload, RESPONSE_EVENT_TYPE, CloudEventUtils.buildDecisionSource(config.getServiceUrl(), toKebabCase(queryExecutor.getQueryName())),
-                            Optional.ofNullable(event.getSubject()), extension))
-                    : Optional.empty();
+        private DataEvent<?> buildResponseCloudEvent(DataEvent<?> event, Object payload, KogitoRulesExtension extension) {
+            return DataEventFactory.from(payload, RESPONSE_EVENT_TYPE, CloudEventUtils.buildDecisionSource(config.getServiceUrl(), toKebabCase(extension.getRuleUnitQuery())),
+                    Optional.ofNullable(event.getSubject()), extension);
         }
 
         private String toKebabCase(String inputString) {
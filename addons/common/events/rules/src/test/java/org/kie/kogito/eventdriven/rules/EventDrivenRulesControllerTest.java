@@ -15,15 +15,29 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.config.ConfigBean;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.DataEventFactory;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.cloudevents.extension.KogitoRulesExtension;
+import org.mockito.ArgumentCaptor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class EventDrivenRulesControllerTest {
 
@@ -43,9 +57,49 @@ class EventDrivenRulesControllerTest {
 
         // option #2: parameterless via constructor + parameters via setup (introduced for Quarkus CDI)
         EventDrivenRulesController controller2 = new EventDrivenRulesController();
-        controller1.subscribe(queryExecutorMock, Object.class);
+        controller2.subscribe(queryExecutorMock, Object.class);
         controller2.init(configMock, eventEmitterMock, eventReceiverMock);
         verify(eventReceiverMock).subscribe(any(), any());
     }
 
+    @Test
+    void testDispatchToMatchingQueryOnly() {
+        KogitoRulesExtension.register();
+        ConfigBean configMock = mock(ConfigBean.class);
+        when(configMock.getServiceUrl()).thenReturn("http://localhost:8080");
+        EventEmitter eventEmitterMock = mock(EventEmitter.class);
+        EventReceiver eventReceiverMock = mock(EventReceiver.class);
+        EventDrivenQueryExecutor<String> firstQuery = mockQueryExecutor("org.acme.Unit", "firstQuery");
+        EventDrivenQueryExecutor<String> secondQuery = mockQueryExecutor("org.acme.Unit", "secondQuery");
+
+        EventDrivenRulesController controller = new EventDrivenRulesController(configMock, eventEmitterMock, eventReceiverMock);
+        controller.subscribe(firstQuery, String.class);
+        controller.subscribe(secondQuery, String.class);
+
+        ArgumentCaptor<Function<DataEvent<String>, CompletionStage<?>>> handlerCaptor = ArgumentCaptor.forClass(Function.class);
+        verify(eventReceiverMock, times(1)).subscribe(handlerCaptor.capture(), eq(String.class));
+
+        KogitoRulesExtension extension = new KogitoRulesExtension();
+        extension.setRuleUnitId("org.acme.Unit");
+        extension.setRuleUnitQuery("secondQuery");
+        DataEvent<String> event = DataEventFactory.from("payload", "RulesRequest", URI.create("/test"), Optional.of("subject"), extension);
+        handlerCaptor.getValue().apply(event).toCompletableFuture().join();
+        controller.close();
+
+        verify(firstQuery, never()).executeQuery(any());
+        verify(secondQuery, times(1)).executeQuery(event);
+        ArgumentCaptor<DataEvent<?>> responseCaptor = ArgumentCaptor.forClass(DataEvent.class);
+        verify(eventEmitterMock).emit(responseCaptor.capture());
+        assertThat(responseCaptor.getValue().getType()).isEqualTo("RulesResponse");
+        assertThat(responseCaptor.getValue().getSource()).asString().contains("second-query");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventDrivenQueryExecutor<String> mockQueryExecutor(String ruleUnitId, String queryName) {
+        EventDrivenQueryExecutor<String> queryExecutor = mock(EventDrivenQueryExecutor.class);
+        when(queryExecutor.getRuleUnitId()).thenReturn(ruleUnitId);
+        when(queryExecutor.getQueryName()).thenReturn(queryName);
+        when(queryExecutor.executeQuery(any())).thenReturn(queryName);
+        return queryExecutor;
+    }
 }
@@ -20,11 +20,18 @@ import java.util.Map;
 
 public class RandomForestConfiguration {
 
+    public static final int DEFAULT_MAX_OBSERVATIONS = 10000;
+    public static final int DEFAULT_RETRAIN_OBSERVATIONS = 10;
+
     private String outcomeName;
     private AttributeType outcomeType;
     private double confidenceThreshold;
     private int numTrees;
     private Map<String, AttributeType> inputFeatures = new HashMap<>();
+    private int maxObservations = DEFAULT_MAX_OBSERVATIONS;
+    private int retrainObservations = DEFAULT_RETRAIN_OBSERVATIONS;
+    private long retrainInterval;
+    private String modelPath;
 
     public int getNumTrees() {
         return numTrees;
@@ -80,4 +87,56 @@ public class RandomForestConfiguration {
     public void setInputFeatures(Map<String, AttributeType> inputFeatures) {
         this.inputFeatures = inputFeatures;
     }
+
+    /**
+     * Returns the maximum number of observations used for training. Once reached, the oldest observations are discarded.
+     *
+     * @return The size of the training window
+     */
+    public int getMaxObservations() {
+        return maxObservations;
+    }
+
+    public void setMaxObservations(int maxObservations) {
+        this.maxObservations = maxObservations;
+    }
+
+    /**
+     * Returns the number of new observations that triggers a background retraining of the model
+     *
+     * @return The number of observations, 0 to retrain on schedule only
+     */
+    public int getRetrainObservations() {
+        return retrainObservations;
+    }
+
+    public void setRetrainObservations(int retrainObservations) {
+        this.retrainObservations = retrainObservations;
+    }
+
+    /**
+     * Returns the interval between scheduled retrainings of the model, if there are new observations
+     *
+     * @return The interval in milliseconds, 0 to disable scheduled retraining
+     */
+    public long getRetrainInterval() {
+        return retrainInterval;
+    }
+
+    public void setRetrainInterval(long retrainInterval) {
+        this.retrainInterval = retrainInterval;
+    }
+
+    /**
+     * Returns the file where the trained model is stored and loaded from on startup
+     *
+     * @return The path of the model file, null if the model is not persisted
+     */
+    public String getModelPath() {
+        return modelPath;
+    }
+
+    public void setModelPath(String modelPath) {
+        this.modelPath = modelPath;
+    }
 }
@@ -15,14 +15,29 @@
  */
 package org.kie.kogito.predictions.smile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.kie.api.runtime.process.WorkItem;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
@@ -33,18 +48,28 @@ import org.slf4j.LoggerFactory;
 
 import smile.classification.RandomForest;
 import smile.data.Attribute;
-import smile.data.AttributeDataset;
 import smile.data.NominalAttribute;
 import smile.data.NumericAttribute;
 import smile.data.StringAttribute;
 
-public class SmileRandomForest extends AbstractPredictionEngine implements PredictionService {
+/**
+ * Random forest prediction service.
+ * <p>
+ * Observations are kept in a sliding window of {@link RandomForestConfiguration#getMaxObservations()} entries.
+ * The model is retrained in background, after {@link RandomForestConfiguration#getRetrainObservations()} new observations
+ * and/or every {@link RandomForestConfiguration#getRetrainInterval()} milliseconds, and published as an immutable snapshot,
+ * so predictions never wait for training once the first model has been built.
+ * Background training runs on a single daemon thread shared by every instance, {@link #close()} stops the training of this one.
+ * <p>
+ * As long as no model has been published (nor loaded from {@link RandomForestConfiguration#getModelPath()}),
+ * the first model is trained synchronously by the thread calling {@link #predict(WorkItem, Map)}.
+ */
+public class SmileRandomForest extends AbstractPredictionEngine implements PredictionService, AutoCloseable {
 
     public static final String IDENTIFIER = "SMILERandomForest";
     private static final String UNABLE_PARSE_TEXT = "Unable to parse text";
     private static final Logger logger = LoggerFactory.getLogger(SmileRandomForest.class);
 
-    private final AttributeDataset dataset;
     private final Map<String, Attribute> smileAttributes;
     private final Attribute outcomeAttribute;
     private final AttributeType outcomeAttributeType;
@@ -52,25 +77,42 @@ public class SmileRandomForest extends AbstractPredictionEngine implements Predi
     private final int numberTrees;
     protected List<String> attributeNames = new ArrayList<>();
 
-    private Set<String> outcomeSet = new HashSet<>();
     private static final int MINIMUM_OBSERVATIONS = 1200;
-    private int observations = 0;
+    private volatile int observations = 0;
 
-    public SmileRandomForest(RandomForestConfiguration configuration) {
-        this(configuration.getInputFeatures(),
-                configuration.getOutcomeName(),
-                configuration.getOutcomeType(),
-                configuration.getConfidenceThreshold(),
-                configuration.getNumTrees());
-    }
+    // training window, a ring buffer guarded by this
+    private final double[][] windowFeatures;
+    private final int[] windowOutcomes;
+    private int windowStart;
+    private int windowSize;
+    private long version;
+
+    private final int retrainObservations;
+    private final Path modelPath;
+    private final AtomicReference<ModelSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean trainingScheduled = new AtomicBoolean();
+    private final Object trainingLock = new Object();
+    private long lastTrainingVersion = -1;
+    private final ScheduledFuture<?> scheduledTraining;
+    private volatile boolean closed;
+
+    private static final ScheduledExecutorService TRAINER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "smile-random-forest-trainer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public SmileRandomForest(Map<String, AttributeType> inputFeatures,
             String outputFeatureName,
             AttributeType outputFeatureType,
             double confidenceThreshold,
             int numberTrees) {
-        super(inputFeatures, outputFeatureName, outputFeatureType, confidenceThreshold);
-        this.numberTrees = numberTrees;
+        this(configuration(inputFeatures, outputFeatureName, outputFeatureType, confidenceThreshold, numberTrees));
+    }
+
+    public SmileRandomForest(RandomForestConfiguration configuration) {
+        super(configuration.getInputFeatures(), configuration.getOutcomeName(), configuration.getOutcomeType(), configuration.getConfidenceThreshold());
+        this.numberTrees = configuration.getNumTrees();
         smileAttributes = new HashMap<>();
         for (Entry<String, AttributeType> inputFeature : inputFeatures.entrySet()) {
             final String name = inputFeature.getKey();
@@ -79,10 +121,28 @@ public class SmileRandomForest extends AbstractPredictionEngine implements Predi
             attributeNames.add(name);
         }
         numAttributes = smileAttributes.size();
-        outcomeAttribute = createAttribute(outputFeatureName, outputFeatureType);
-        outcomeAttributeType = outputFeatureType;
+        outcomeAttribute = createAttribute(outcomeFeatureName, outcomeFeatureType);
+        outcomeAttributeType = outcomeFeatureType;
 
-        dataset = new AttributeDataset("dataset", smileAttributes.values().toArray(new Attribute[numAttributes]), outcomeAttribute);
+        windowFeatures = new double[configuration.getMaxObservations()][];
+        windowOutcomes = new int[configuration.getMaxObservations()];
+        retrainObservations = configuration.getRetrainObservations();
+        modelPath = configuration.getModelPath() == null ? null : Paths.get(configuration.getModelPath());
+        scheduledTraining = configuration.getRetrainInterval() > 0
+                ? TRAINER.scheduleWithFixedDelay(this::retrain, configuration.getRetrainInterval(), configuration.getRetrainInterval(), TimeUnit.MILLISECONDS)
+                : null;
+        loadModel();
+    }
+
+    private static RandomForestConfiguration configuration(Map<String, AttributeType> inputFeatures, String outputFeatureName, AttributeType outputFeatureType, double confidenceThreshold,
+            int numberTrees) {
+        RandomForestConfiguration configuration = new RandomForestConfiguration();
+        configuration.setInputFeatures(inputFeatures);
+        configuration.setOutcomeName(outputFeatureName);
+        configuration.setOutcomeType(outputFeatureType);
+        configuration.setConfidenceThreshold(confidenceThreshold);
+        configuration.setNumTrees(numberTrees);
+        return configuration;
     }
 
     protected Attribute createAttribute(String name, AttributeType type) {
@@ -108,31 +168,33 @@ public class SmileRandomForest extends AbstractPredictionEngine implements Predi
     }
 
     /**
-     * Add the data provided as a map to a Smile {@link smile.data.Dataset}.
+     * Add the data provided as a map to the training window, discarding the oldest observation if the window is full.
      *
      * @param data A map containing the input attribute names as keys and the attribute values as values.
      * @param outcome The value of the outcome (output data).
      */
-    public void addData(Map<String, Object> data, Object outcome) {
-        final double[] features = new double[numAttributes];
-        int i = 0;
-        for (Entry<String, Attribute> entry : smileAttributes.entrySet()) {
-            try {
-                features[i] = smileAttributes.get(entry.getKey()).valueOf(data.get(entry.getKey()).toString());
-            } catch (ParseException e) {
-                logger.error(UNABLE_PARSE_TEXT, e);
-            }
-            i++;
-        }
+    public synchronized void addData(Map<String, Object> data, Object outcome) {
+        final double[] features = buildFeatures(data);
         try {
-            final String outcomeStr = outcome.toString();
-            outcomeSet.add(outcomeStr);
-            dataset.add(features, outcomeAttribute.valueOf(outcomeStr));
+            addToWindow(features, (int) outcomeAttribute.valueOf(outcome.toString()));
         } catch (ParseException e) {
             logger.error(UNABLE_PARSE_TEXT, e);
         }
     }
 
+    private void addToWindow(double[] features, int outcome) {
+        int index;
+        if (windowSize < windowFeatures.length) {
+            index = (windowStart + windowSize++) % windowFeatures.length;
+        } else {
+            index = windowStart;
+            windowStart = (windowStart + 1) % windowFeatures.length;
+        }
+        windowFeatures[index] = features;
+        windowOutcomes[index] = outcome;
+        version++;
+    }
+
     /**
      * Build a set of features compatible with Smile's datasets from the map of input data
      *
@@ -163,7 +225,8 @@ public class SmileRandomForest extends AbstractPredictionEngine implements Predi
     }
 
     /**
-     * Returns a model prediction given the input data
+     * Returns a model prediction given the input data.
+     * If no model has been published yet, the first one is trained by the calling thread.
      *
      * @param task Human task data
      * @param inputData A map containing the input attribute names as keys and the attribute values as values.
@@ -172,25 +235,29 @@ public class SmileRandomForest extends AbstractPredictionEngine implements Predi
     @Override
     public PredictionOutcome predict(WorkItem task, Map<String, Object> inputData) {
         logger.debug("Predicting with input data: {}", inputData);
-        RandomForest model = null;
         if (observations > MINIMUM_OBSERVATIONS) {
             this.confidenceThreshold = 0.75;
         }
 
+        ModelSnapshot model = snapshot.get();
+        if (model == null) {
+            // no model published yet, build the first one
+            retrain();
+            model = snapshot.get();
+        }
+
         Map<String, Object> outcomes = new HashMap<>();
-        if (outcomeSet.size() >= 2) {
-            model = new RandomForest(dataset, this.numberTrees);
-            final double[] features = buildFeatures(inputData);
-            final double[] posteriori = new double[outcomeSet.size()];
-            double prediction = model.predict(features, posteriori);
+        if (model != null) {
+            final double[] posteriori = new double[model.classes.length];
+            final int prediction = model.forest.predict(model.buildFeatures(inputData), posteriori);
 
-            String predictionStr = dataset.responseAttribute().toString(prediction);
+            String predictionStr = model.outcomeValues.get(model.classes[prediction]);
             outcomes.put(outcomeAttribute.getName(), convertValue(predictionStr, outcomeAttributeType));
-            final double confidence = posteriori[(int) prediction];
+            final double confidence = posteriori[prediction];
             outcomes.put("confidence", confidence);
 
-            logger.debug("task id {}, total {} observations, prediction = {}, confidence = {} (threshold = {})", ((KogitoWorkItem) task).getStringId(), this.observations, predictionStr, confidence,
-                    this.confidenceThreshold);
+            logger.debug("task id {}, total {} observations, prediction = {}, confidence = {} (threshold = {})", task == null ? null : ((KogitoWorkItem) task).getStringId(), this.observations,
+                    predictionStr, confidence, this.confidenceThreshold);
 
             return new PredictionOutcome(confidence, this.confidenceThreshold, outcomes);
         } else {
@@ -210,8 +277,234 @@ public class SmileRandomForest extends AbstractPredictionEngine implements Predi
     public void train(WorkItem task, Map<String, Object> inputData, Map<String, Object> outputData) {
         logger.debug("Training with input data: {}", inputData);
         logger.debug("Training with output data: {}", outputData);
-        this.observations += 1;
+        long pending;
+        synchronized (this) {
+            this.observations += 1;
+            addData(inputData, outputData.get(outcomeAttribute.getName()));
+            pending = version - Math.max(lastTrainingVersion, 0);
+        }
+        if (retrainObservations > 0 && pending >= retrainObservations && !closed && trainingScheduled.compareAndSet(false, true)) {
+            TRAINER.execute(() -> {
+                trainingScheduled.set(false);
+                if (!closed) {
+                    retrain();
+                }
+            });
+        }
+    }
+
+    /**
+     * Builds a new model from the observations in the training window and publishes it for predictions.
+     * Does nothing if there are no new observations since the last training.
+     */
+    public void retrain() {
+        synchronized (trainingLock) {
+            TrainingSet trainingSet;
+            synchronized (this) {
+                if (version == lastTrainingVersion) {
+                    return;
+                }
+                lastTrainingVersion = version;
+                trainingSet = copyWindow();
+            }
+            ModelSnapshot model = trainingSet.train(numberTrees);
+            if (model != null) {
+                snapshot.set(model);
+                saveModel(model);
+            }
+        }
+    }
 
-        addData(inputData, outputData.get(outcomeAttribute.getName()));
+    private TrainingSet copyWindow() {
+        double[][] x = new double[windowSize][];
+        int[] y = new int[windowSize];
+        for (int i = 0; i < windowSize; i++) {
+            int index = (windowStart + i) % windowFeatures.length;
+            x[i] = windowFeatures[index];
+            y[i] = windowOutcomes[index];
+        }
+        Attribute[] attributes = new Attribute[numAttributes];
+        List<List<String>> attributeValues = new ArrayList<>(numAttributes);
+        for (int i = 0; i < numAttributes; i++) {
+            attributes[i] = smileAttributes.get(attributeNames.get(i));
+            attributeValues.add(valuesOf(attributes[i]));
+        }
+        return new TrainingSet(attributes, x, y, new ArrayList<>(attributeNames), attributeValues, valuesOf(outcomeAttribute));
+    }
+
+    private static List<String> valuesOf(Attribute attribute) {
+        if (attribute instanceof NominalAttribute) {
+            return Arrays.asList(((NominalAttribute) attribute).values());
+        } else if (attribute instanceof StringAttribute) {
+            return new ArrayList<>(((StringAttribute) attribute).values());
+        } else {
+            return null;
+        }
+    }
+
+    private void saveModel(ModelSnapshot model) {
+        if (modelPath != null) {
+            try {
+                Path tempPath = Files.createTempFile(modelPath.toAbsolutePath().getParent(), modelPath.getFileName().toString(), ".tmp");
+                try (OutputStream out = Files.newOutputStream(tempPath); ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+                    objectOut.writeObject(model);
+                }
+                Files.move(tempPath, modelPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.warn("Unable to save model to {}", modelPath, e);
+            }
+        }
+    }
+
+    private void loadModel() {
+        if (modelPath == null || !Files.isReadable(modelPath)) {
+            return;
+        }
+        ModelSnapshot model;
+        try (InputStream in = Files.newInputStream(modelPath); ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            model = (ModelSnapshot) objectIn.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Unable to load model from {}", modelPath, e);
+            return;
+        }
+        if (!model.attributeNames.equals(attributeNames)) {
+            logger.warn("Ignoring model stored in {}, trained with attributes {} instead of {}", modelPath, model.attributeNames, attributeNames);
+            return;
+        }
+        synchronized (this) {
+            try {
+                // restore the encoding of nominal values so new observations are consistent with the stored ones
+                for (int i = 0; i < numAttributes; i++) {
+                    restoreValues(smileAttributes.get(attributeNames.get(i)), model.attributeValues.get(i));
+                }
+                restoreValues(outcomeAttribute, model.outcomeValues);
+            } catch (ParseException e) {
+                logger.warn("Unable to restore model from {}", modelPath, e);
+                return;
+            }
+            for (int i = 0; i < model.x.length; i++) {
+                addToWindow(model.x[i], model.y[i]);
+            }
+            lastTrainingVersion = version;
+            snapshot.set(model);
+        }
+        logger.debug("Loaded model trained with {} observations from {}", model.x.length, modelPath);
+    }
+
+    private static void restoreValues(Attribute attribute, List<String> values) throws ParseException {
+        if (values != null) {
+            for (String value : values) {
+                attribute.valueOf(value);
+            }
+        }
+    }
+
+    /**
+     * Stops the background training of this instance
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (scheduledTraining != null) {
+            scheduledTraining.cancel(false);
+        }
+    }
+
+    private static class TrainingSet {
+        private final Attribute[] attributes;
+        private final double[][] x;
+        private final int[] y;
+        private final List<String> attributeNames;
+        private final List<List<String>> attributeValues;
+        private final List<String> outcomeValues;
+
+        private TrainingSet(Attribute[] attributes, double[][] x, int[] y, List<String> attributeNames, List<List<String>> attributeValues, List<String> outcomeValues) {
+            this.attributes = attributes;
+            this.x = x;
+            this.y = y;
+            this.attributeNames = attributeNames;
+            this.attributeValues = attributeValues;
+            this.outcomeValues = outcomeValues;
+        }
+
+        private ModelSnapshot train(int numberTrees) {
+            // the window might not contain every outcome ever seen, so classes are renumbered to be contiguous
+            int[] classes = Arrays.stream(y).distinct().sorted().toArray();
+            if (classes.length < 2) {
+                return null;
+            }
+            int[] labels = new int[y.length];
+            for (int i = 0; i < y.length; i++) {
+                labels[i] = Arrays.binarySearch(classes, y[i]);
+            }
+            RandomForest forest = new RandomForest(attributes, x, labels, numberTrees);
+            return new ModelSnapshot(forest, classes, x, y, attributeNames, attributeValues, outcomeValues);
+        }
+    }
+
+    private static class ModelSnapshot implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RandomForest forest;
+        private final int[] classes;
+        private final double[][] x;
+        private final int[] y;
+        private final List<String> attributeNames;
+        private final List<List<String>> attributeValues;
+        private final List<String> outcomeValues;
+        private transient Map<String, Integer>[] encodings;
+
+        private ModelSnapshot(RandomForest forest, int[] classes, double[][] x, int[] y, List<String> attributeNames, List<List<String>> attributeValues,
+                List<String> outcomeValues) {
+            this.forest = forest;
+            this.classes = classes;
+            this.x = x;
+            this.y = y;
+            this.attributeNames = attributeNames;
+            this.attributeValues = attributeValues;
+            this.outcomeValues = outcomeValues;
+            this.encodings = encodings(attributeValues);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Integer>[] encodings(List<List<String>> attributeValues) {
+            Map<String, Integer>[] encodings = new Map[attributeValues.size()];
+            for (int i = 0; i < encodings.length; i++) {
+                List<String> values = attributeValues.get(i);
+                if (values != null) {
+                    encodings[i] = new HashMap<>();
+                    for (int j = 0; j < values.size(); j++) {
+                        encodings[i].put(values.get(j), j);
+                    }
+                }
+            }
+            return encodings;
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            encodings = encodings(attributeValues);
+        }
+
+        /**
+         * Same encoding as the attributes had when the model was trained, without registering values the model has never seen
+         */
+        private double[] buildFeatures(Map<String, Object> data) {
+            final double[] features = new double[encodings.length];
+            for (int i = 0; i < encodings.length; i++) {
+                String value = data.get(attributeNames.get(i)).toString();
+                if (encodings[i] != null) {
+                    features[i] = encodings[i].getOrDefault(value, encodings[i].size());
+                } else {
+                    try {
+                        features[i] = Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        logger.error(UNABLE_PARSE_TEXT, e);
+                    }
+                }
+            }
+            return features;
+        }
     }
 }
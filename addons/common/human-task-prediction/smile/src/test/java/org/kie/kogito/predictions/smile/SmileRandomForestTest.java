@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.predictions.smile;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.kogito.prediction.api.PredictionOutcome;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SmileRandomForestTest {
+
+    private static RandomForestConfiguration configuration() {
+        RandomForestConfiguration configuration = new RandomForestConfiguration();
+        configuration.setInputFeatures(Collections.singletonMap("ActorId", AttributeType.NOMINAL));
+        configuration.setOutcomeName("output");
+        configuration.setOutcomeType(AttributeType.NOMINAL);
+        configuration.setConfidenceThreshold(0.7);
+        configuration.setNumTrees(5);
+        configuration.setRetrainObservations(0);
+        return configuration;
+    }
+
+    private static void train(SmileRandomForest service, String actor, String output, int times) {
+        for (int i = 0; i < times; i++) {
+            service.train(null, Collections.singletonMap("ActorId", actor), Collections.singletonMap("output", output));
+        }
+    }
+
+    private static Map<String, Object> predict(SmileRandomForest service, String actor) {
+        PredictionOutcome outcome = service.predict(null, Collections.singletonMap("ActorId", actor));
+        return outcome.getData();
+    }
+
+    @Test
+    public void testPredictionUsesPublishedModel() {
+        try (SmileRandomForest service = new SmileRandomForest(configuration())) {
+            train(service, "john", "a", 10);
+            train(service, "mary", "b", 10);
+            assertThat(predict(service, "john")).containsEntry("output", "a");
+
+            train(service, "john", "c", 40);
+            assertThat(predict(service, "john")).containsEntry("output", "a");
+
+            service.retrain();
+            assertThat(predict(service, "john")).containsEntry("output", "c");
+        }
+    }
+
+    @Test
+    public void testTrainingWindowIsBounded() {
+        RandomForestConfiguration configuration = configuration();
+        configuration.setMaxObservations(20);
+        try (SmileRandomForest service = new SmileRandomForest(configuration)) {
+            train(service, "john", "a", 10);
+            train(service, "mary", "b", 10);
+            train(service, "john", "c", 10);
+            service.retrain();
+            // observations of outcome "a" have left the window
+            assertThat(predict(service, "john")).containsEntry("output", "c");
+        }
+    }
+
+    @Test
+    public void testModelIsPersisted(@TempDir Path dir) {
+        RandomForestConfiguration configuration = configuration();
+        configuration.setModelPath(dir.resolve("model.bin").toString());
+        try (SmileRandomForest service = new SmileRandomForest(configuration)) {
+            train(service, "john", "a", 10);
+            train(service, "mary", "b", 10);
+            service.retrain();
+        }
+        assertThat(dir.resolve("model.bin")).exists();
+
+        try (SmileRandomForest service = new SmileRandomForest(configuration)) {
+            assertThat(predict(service, "mary")).containsEntry("output", "b");
+            train(service, "mary", "c", 30);
+            service.retrain();
+            assertThat(predict(service, "mary")).containsEntry("output", "c");
+            assertThat(predict(service, "john")).containsEntry("output", "a");
+        }
+    }
+
+    @Test
+    public void testInstancesShareTrainer() {
+        RandomForestConfiguration configuration = configuration();
+        configuration.setRetrainInterval(60000);
+        List<SmileRandomForest> services = new ArrayList<>();
+        try {
+            for (int i = 0; i < 5; i++) {
+                services.add(new SmileRandomForest(configuration));
+            }
+            assertThat(Thread.getAllStackTraces().keySet().stream().filter(t -> t.getName().equals("smile-random-forest-trainer"))).hasSizeLessThanOrEqualTo(1);
+        } finally {
+            services.forEach(SmileRandomForest::close);
+        }
+    }
+}
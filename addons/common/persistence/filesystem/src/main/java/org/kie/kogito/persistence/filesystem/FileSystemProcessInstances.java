@@ -25,12 +25,16 @@ import java.nio.file.Paths;
 import java.nio.file.attribute.UserDefinedFileAttributeView;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
@@ -73,6 +77,16 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
         return Optional.of(marshaller.unmarshallProcessInstance(data, process, mode));
     }
 
+    @Override
+    public Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        Path processInstanceStorage = Paths.get(storage.toString(), id);
+
+        if (Files.notExists(processInstanceStorage)) {
+            return Optional.empty();
+        }
+        return Optional.of(marshaller.unmarshallProcessInstanceHeader(readBytesFromFile(processInstanceStorage)));
+    }
+
     @Override
     public Stream<ProcessInstance> stream(ProcessInstanceReadMode mode) {
         try {
@@ -85,6 +99,25 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
         }
     }
 
+    @Override
+    public ProcessInstancePage<ProcessInstance> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        // file names are the instance ids, so only the names are sorted and files are read in order until the page is full
+        try (Stream<Path> files = Files.list(storage)) {
+            return ProcessInstancePage.of(files.filter(file -> !Files.isDirectory(file))
+                    .map(file -> file.getFileName().toString())
+                    .filter(id -> after == null || id.compareTo(after) > 0)
+                    .sorted()
+                    .map(id -> readBytesFromFile(Paths.get(storage.toString(), id)))
+                    .filter(data -> filter.isEmpty() || filter.test(marshaller.unmarshallProcessInstanceHeader(data)))
+                    .limit(pageSize + 1L)
+                    .map(data -> (ProcessInstance) marshaller.unmarshallProcessInstance(data, process, mode))
+                    .collect(Collectors.toList()), pageSize, ProcessInstance::id);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read process instances ", e);
+        }
+    }
+
     @Override
     public boolean exists(String id) {
         return Files.exists(Paths.get(storage.toString(), id));
@@ -15,7 +15,9 @@
  */
 package org.kie.persistence.filesystem;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.drools.io.ClassPathResource;
 import org.jbpm.process.instance.impl.Action;
@@ -29,6 +31,8 @@ import org.kie.kogito.persistence.filesystem.AbstractProcessInstancesFactory;
 import org.kie.kogito.persistence.filesystem.FileSystemProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.ProcessInstances;
 import org.kie.kogito.process.WorkItem;
@@ -225,6 +229,34 @@ class FileSystemProcessInstancesTest {
         assertEmpty(fileSystemBasedStorage);
     }
 
+    @Test
+    void testFindPage() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+            processInstance.start();
+            ids.add(processInstance.id());
+        }
+        Collections.sort(ids);
+
+        ProcessInstances<BpmnVariables> instances = process.instances();
+        List<String> found = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProcessInstancePage<ProcessInstance<BpmnVariables>> page = instances.findPage(ProcessInstanceFilter.ALL, cursor, 2, ProcessInstanceReadMode.READ_ONLY);
+            page.items().forEach(pi -> found.add(pi.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertThat(found).isEqualTo(ids);
+
+        assertThat(instances.findPage(new ProcessInstanceFilter(STATE_ACTIVE, null, null, null), ProcessInstancePage.cursorOf(ids.get(2)), 10, ProcessInstanceReadMode.READ_ONLY).items())
+                .extracting(ProcessInstance::id).containsExactlyElementsOf(ids.subList(3, 5));
+        assertThat(instances.findPage(new ProcessInstanceFilter(STATE_COMPLETED, null, null, null), null, 10, ProcessInstanceReadMode.READ_ONLY).items()).isEmpty();
+
+        abort(instances);
+    }
+
     private class FileSystemProcessInstancesFactory extends AbstractProcessInstancesFactory {
 
         public FileSystemProcessInstancesFactory() {
@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -33,7 +34,10 @@ import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
@@ -72,6 +76,14 @@ public class CacheProcessInstances implements MutableProcessInstances {
         return Optional.ofNullable(cache.getWithMetadata(id)).map(record -> unmarshall(record, mode));
     }
 
+    @Override
+    public Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        if (this.lock) {
+            return Optional.ofNullable(cache.getWithMetadata(id)).map(record -> marshaller.unmarshallProcessInstanceHeader(record.getValue(), record.getVersion()));
+        }
+        return Optional.ofNullable(cache.get(id)).map(marshaller::unmarshallProcessInstanceHeader);
+    }
+
     @Override
     public Stream<? extends ProcessInstance> stream(ProcessInstanceReadMode mode) {
         if (lock) {
@@ -82,6 +94,21 @@ public class CacheProcessInstances implements MutableProcessInstances {
         }
     }
 
+    @Override
+    public ProcessInstancePage<ProcessInstance> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        // only the keys are fetched and sorted, values are read in order until the page is full
+        try (Stream<String> keys = cache.keySet().stream()) {
+            return ProcessInstancePage.of(keys.filter(id -> after == null || id.compareTo(after) > 0)
+                    .sorted()
+                    .map(id -> cache.getWithMetadata(id))
+                    .filter(record -> record != null && (filter.isEmpty() || filter.test(marshaller.unmarshallProcessInstanceHeader(record.getValue()))))
+                    .limit(pageSize + 1L)
+                    .map(record -> (ProcessInstance) (lock ? unmarshall(record, mode) : marshaller.unmarshallProcessInstance(record.getValue(), process, mode)))
+                    .collect(Collectors.toList()), pageSize, ProcessInstance::id);
+        }
+    }
+
     private <T> ProcessInstance<?> unmarshall(MetadataValue<T> versionedCache, ProcessInstanceReadMode mode) {
         ProcessInstance<?> instance = marshaller.unmarshallProcessInstance((byte[]) versionedCache.getValue(), process, mode);
         ((AbstractProcessInstance) instance).setVersion(versionedCache.getVersion());
@@ -24,18 +24,24 @@ public abstract class AbstractProcessInstancesFactory implements ProcessInstance
 
     private final DataSource dataSource;
     private final Boolean lock;
+    private final AbstractTransactionManager transactionManager;
 
     protected AbstractProcessInstancesFactory() {
         this(null, false);
     }
 
     public AbstractProcessInstancesFactory(DataSource dataSource, Boolean lock) {
+        this(dataSource, lock, null);
+    }
+
+    public AbstractProcessInstancesFactory(DataSource dataSource, Boolean lock, AbstractTransactionManager transactionManager) {
         this.dataSource = dataSource;
         this.lock = lock;
+        this.transactionManager = transactionManager;
     }
 
     @Override
     public JDBCProcessInstances createProcessInstances(Process<?> process) {
-        return new JDBCProcessInstances(process, dataSource, lock);
+        return new JDBCProcessInstances(process, dataSource, lock, transactionManager);
     }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.jdbc;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.WorkUnit;
+import org.kie.kogito.uow.events.UnitOfWorkAbortEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEventListener;
+import org.kie.kogito.uow.events.UnitOfWorkStartEvent;
+
+/**
+ * Makes {@link JDBCProcessInstances} join the unit of work: the process instances created, updated or removed
+ * while the unit of work ends are collected and written as one JDBC batch, on a single connection and transaction.
+ * Units of work nested in the same thread get their own batch, the enclosing one is used again once they are done.
+ */
+public abstract class AbstractTransactionManager implements UnitOfWorkEventListener {
+
+    // performed right after the process instance work units, which collect the writes
+    private static final int FLUSH_PRIORITY = WorkUnit.HIGH_PRIORITY + 1;
+
+    private final Repository repository;
+    private final boolean enabled;
+
+    private final ThreadLocal<Deque<BatchScope>> batchScopes = new ThreadLocal<>();
+
+    protected AbstractTransactionManager() {
+        this(null, false);
+    }
+
+    public AbstractTransactionManager(DataSource dataSource, Boolean enabled) {
+        this.repository = new GenericRepository(dataSource);
+        this.enabled = Boolean.TRUE.equals(enabled);
+    }
+
+    // the unit of work has to be started to intercept the flush on it
+    @Override
+    public void onAfterStartEvent(UnitOfWorkStartEvent event) {
+        if (!enabled()) {
+            return;
+        }
+        Deque<BatchScope> scopes = batchScopes.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            batchScopes.set(scopes);
+        }
+        BatchScope scope = new BatchScope(event.getUnitOfWork());
+        scopes.push(scope);
+        event.getUnitOfWork().intercept(new FlushWorkUnit(scope));
+    }
+
+    @Override
+    public void onAfterEndEvent(UnitOfWorkEndEvent event) {
+        release(event.getUnitOfWork());
+    }
+
+    @Override
+    public void onAfterAbortEvent(UnitOfWorkAbortEvent event) {
+        release(event.getUnitOfWork());
+    }
+
+    private void release(UnitOfWork unitOfWork) {
+        Deque<BatchScope> scopes = batchScopes.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.removeIf(scope -> scope.unitOfWork == unitOfWork);
+        if (scopes.isEmpty()) {
+            batchScopes.remove();
+        }
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    JDBCBatch currentBatch() {
+        Deque<BatchScope> scopes = batchScopes.get();
+        BatchScope scope = scopes == null ? null : scopes.peek();
+        return scope == null || scope.flushed ? null : scope.batch;
+    }
+
+    void flush(JDBCBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Collection<UUID> lockFailures = repository.flushInternal(batch);
+        if (!lockFailures.isEmpty()) {
+            Iterator<UUID> iterator = lockFailures.iterator();
+            ProcessInstanceOptimisticLockingException exception = new ProcessInstanceOptimisticLockingException(iterator.next().toString());
+            // every instance that failed the check is reported
+            iterator.forEachRemaining(id -> exception.addSuppressed(new ProcessInstanceOptimisticLockingException(id.toString())));
+            throw exception;
+        }
+    }
+
+    private static class BatchScope {
+
+        private final UnitOfWork unitOfWork;
+        private final JDBCBatch batch = new JDBCBatch();
+        private boolean flushed;
+
+        private BatchScope(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+    }
+
+    private class FlushWorkUnit implements WorkUnit<JDBCBatch> {
+
+        private final BatchScope scope;
+
+        private FlushWorkUnit(BatchScope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public JDBCBatch data() {
+            return scope.batch;
+        }
+
+        @Override
+        public void perform() {
+            // writes performed after the flush go straight to the database
+            scope.flushed = true;
+            flush(scope.batch);
+        }
+
+        @Override
+        public void abort() {
+            scope.flushed = true;
+        }
+
+        @Override
+        public Integer priority() {
+            return FLUSH_PRIORITY;
+        }
+    }
+}
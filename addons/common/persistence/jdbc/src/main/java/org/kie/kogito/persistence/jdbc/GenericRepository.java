@@ -19,11 +19,24 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZoneOffset;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.TimeZone;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -31,13 +44,21 @@ import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
+import org.kie.kogito.persistence.jdbc.JDBCBatch.Operation;
+import org.kie.kogito.persistence.jdbc.JDBCBatch.Write;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class GenericRepository extends Repository {
 
+    private static final String ID = "id";
     private static final String PAYLOAD = "payload";
     private static final String VERSION = "version";
+    private static final String STATE = "state";
+    private static final String BUSINESS_KEY = "business_key";
+    private static final String START_DATE = "start_date";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GenericRepository.class);
 
@@ -48,55 +69,101 @@ public class GenericRepository extends Repository {
     }
 
     @Override
-    void insertInternal(String processId, String processVersion, UUID id, byte[] payload) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(INSERT)) {
-            statement.setString(1, id.toString());
-            statement.setBytes(2, payload);
-            statement.setString(3, processId);
-            statement.setString(4, processVersion);
-            statement.setLong(5, 0L);
-            statement.executeUpdate();
+    void insertInternal(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, Collection<String> eventTypes) {
+        try (Connection connection = dataSource.getConnection()) {
+            inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                    statement.setString(1, id.toString());
+                    statement.setBytes(2, payload);
+                    statement.setString(3, processId);
+                    statement.setString(4, processVersion);
+                    statement.setLong(5, 0L);
+                    bindHeader(statement, 6, header);
+                    statement.executeUpdate();
+                }
+                insertEventTypes(connection, id, eventTypes);
+                return null;
+            });
         } catch (Exception e) {
             throw uncheckedException(e, "Error inserting process instance %s", id);
         }
     }
 
     @Override
-    void updateInternal(String processId, String processVersion, UUID id, byte[] payload) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(UPDATE, processVersion))) {
-            statement.setBytes(1, payload);
-            statement.setString(2, processId);
-            statement.setString(3, id.toString());
-            if (processVersion != null) {
-                statement.setString(4, processVersion);
-            }
-            statement.executeUpdate();
+    void updateInternal(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, Collection<String> eventTypes) {
+        try (Connection connection = dataSource.getConnection()) {
+            inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(UPDATE, processVersion))) {
+                    statement.setBytes(1, payload);
+                    bindHeader(statement, 2, header);
+                    statement.setString(5, processId);
+                    statement.setString(6, id.toString());
+                    if (processVersion != null) {
+                        statement.setString(7, processVersion);
+                    }
+                    if (statement.executeUpdate() == 1) {
+                        replaceEventTypes(connection, id, eventTypes);
+                    }
+                }
+                return null;
+            });
         } catch (Exception e) {
             throw uncheckedException(e, "Error updating process instance %s", id);
         }
     }
 
     @Override
-    boolean updateWithLock(String processId, String processVersion, UUID id, byte[] payload, long version) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(UPDATE_WITH_LOCK, processVersion))) {
-            statement.setBytes(1, payload);
-            statement.setLong(2, version + 1);
-            statement.setString(3, processId);
-            statement.setString(4, id.toString());
-            statement.setLong(5, version);
-            if (processVersion != null) {
-                statement.setString(6, processVersion);
-            }
-            int count = statement.executeUpdate();
-            return count == 1;
+    boolean updateWithLock(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, long version, Collection<String> eventTypes) {
+        try (Connection connection = dataSource.getConnection()) {
+            return inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(UPDATE_WITH_LOCK, processVersion))) {
+                    statement.setBytes(1, payload);
+                    statement.setLong(2, version + 1);
+                    bindHeader(statement, 3, header);
+                    statement.setString(6, processId);
+                    statement.setString(7, id.toString());
+                    statement.setLong(8, version);
+                    if (processVersion != null) {
+                        statement.setString(9, processVersion);
+                    }
+                    int count = statement.executeUpdate();
+                    if (count == 1) {
+                        replaceEventTypes(connection, id, eventTypes);
+                    }
+                    return count == 1;
+                }
+            });
         } catch (Exception e) {
             throw uncheckedException(e, "Error updating with lock process instance %s", id);
         }
     }
 
+    @FunctionalInterface
+    private interface TransactionalWork<T> {
+        T execute() throws SQLException;
+    }
+
+    /**
+     * Executes the work so the process instance row and its event type rows are written or rolled back together.
+     * When the connection already takes part of a transaction (auto commit disabled), that transaction is left in charge.
+     */
+    private static <T> T inTransaction(Connection connection, TransactionalWork<T> work) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            return work.execute();
+        }
+        connection.setAutoCommit(false);
+        try {
+            T result = work.execute();
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
     @Override
     boolean deleteInternal(String processId, String processVersion, UUID id) {
         try (Connection connection = dataSource.getConnection();
@@ -113,6 +180,210 @@ public class GenericRepository extends Repository {
         }
     }
 
+    @Override
+    Collection<UUID> flushInternal(JDBCBatch batch) {
+        try (Connection connection = dataSource.getConnection()) {
+            return inTransaction(connection, () -> {
+                Collection<UUID> lockFailures = executeBatch(connection, batch);
+                if (!lockFailures.isEmpty()) {
+                    // rolls back the transaction started here, an enclosing one is rolled back by the lock exception
+                    throw new LockFailures(lockFailures);
+                }
+                return lockFailures;
+            });
+        } catch (LockFailures e) {
+            return e.ids;
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error flushing %d process instance writes", batch.writes().size());
+        }
+    }
+
+    private static class LockFailures extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Collection<UUID> ids;
+
+        private LockFailures(Collection<UUID> ids) {
+            super(null, null, false, false);
+            this.ids = ids;
+        }
+    }
+
+    private static Collection<UUID> executeBatch(Connection connection, JDBCBatch batch) throws SQLException {
+        Set<Write> notUpdated = new HashSet<>();
+        List<Write> writes = batch.writes();
+        int start = 0;
+        while (start < writes.size()) {
+            // consecutive writes sharing a statement are batched together, so the writes keep the unit of work order
+            String sql = sql(writes.get(start));
+            int end = start + 1;
+            while (end < writes.size() && sql.equals(sql(writes.get(end)))) {
+                end++;
+            }
+            executeBatch(connection, sql, writes.subList(start, end), notUpdated);
+            start = end;
+        }
+        Collection<UUID> lockFailures = new ArrayList<>();
+        for (Write write : writes) {
+            if (write.getOperation() == Operation.UPDATE_WITH_LOCK && notUpdated.contains(write)) {
+                lockFailures.add(write.getId());
+            }
+        }
+        if (lockFailures.isEmpty()) {
+            replaceEventTypes(connection, batch, notUpdated);
+        }
+        return lockFailures;
+    }
+
+    private static void executeBatch(Connection connection, String sql, List<Write> writes, Set<Write> notUpdated) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Write write : writes) {
+                bind(statement, write);
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+            for (int i = 0; i < counts.length; i++) {
+                // drivers not reporting the affected rows return Statement.SUCCESS_NO_INFO, considered a success
+                if (counts[i] == 0) {
+                    notUpdated.add(writes.get(i));
+                }
+            }
+        }
+    }
+
+    private static String sql(Write write) {
+        switch (write.getOperation()) {
+            case INSERT:
+                return INSERT;
+            case UPDATE:
+                return sqlIncludingVersion(UPDATE, write.getProcessVersion());
+            case UPDATE_WITH_LOCK:
+                return sqlIncludingVersion(UPDATE_WITH_LOCK, write.getProcessVersion());
+            default:
+                return sqlIncludingVersion(DELETE, write.getProcessVersion());
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Write write) throws SQLException {
+        int index = 1;
+        switch (write.getOperation()) {
+            case INSERT:
+                statement.setString(index++, write.getId().toString());
+                statement.setBytes(index++, write.getPayload());
+                statement.setString(index++, write.getProcessId());
+                statement.setString(index++, write.getProcessVersion());
+                statement.setLong(index++, 0L);
+                bindHeader(statement, index, write.getHeader());
+                return;
+            case UPDATE:
+                statement.setBytes(index++, write.getPayload());
+                index = bindHeader(statement, index, write.getHeader());
+                break;
+            case UPDATE_WITH_LOCK:
+                statement.setBytes(index++, write.getPayload());
+                statement.setLong(index++, write.getVersion() + 1);
+                index = bindHeader(statement, index, write.getHeader());
+                break;
+            default:
+                break;
+        }
+        statement.setString(index++, write.getProcessId());
+        statement.setString(index++, write.getId().toString());
+        if (write.getOperation() == Operation.UPDATE_WITH_LOCK) {
+            statement.setLong(index++, write.getVersion());
+        }
+        if (write.getProcessVersion() != null) {
+            statement.setString(index, write.getProcessVersion());
+        }
+    }
+
+    private static int bindHeader(PreparedStatement statement, int index, ProcessInstanceHeader header) throws SQLException {
+        statement.setInt(index++, header.status());
+        statement.setString(index++, header.businessKey());
+        if (header.startDate() != null) {
+            setTimestamp(statement, index++, header.startDate());
+        } else {
+            statement.setNull(index++, Types.TIMESTAMP);
+        }
+        return index;
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, Date date) throws SQLException {
+        // start_date is a timestamp without time zone, stored in UTC
+        statement.setTimestamp(index, new Timestamp(date.getTime()), Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+    }
+
+    private static void replaceEventTypes(Connection connection, JDBCBatch batch, Set<Write> notUpdated) throws SQLException {
+        // only the event types of the last write of every stored instance are kept, rows of removed ones are deleted in cascade
+        Map<UUID, Collection<String>> eventTypes = new LinkedHashMap<>();
+        for (Write write : batch.writes()) {
+            if (write.getOperation() == Operation.DELETE || notUpdated.contains(write)) {
+                eventTypes.remove(write.getId());
+            } else {
+                eventTypes.put(write.getId(), write.getEventTypes());
+            }
+        }
+        if (eventTypes.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_EVENT_TYPES)) {
+            for (UUID id : eventTypes.keySet()) {
+                statement.setString(1, id.toString());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT_TYPE)) {
+            boolean empty = true;
+            for (Map.Entry<UUID, Collection<String>> entry : eventTypes.entrySet()) {
+                for (String eventType : entry.getValue()) {
+                    statement.setString(1, entry.getKey().toString());
+                    statement.setString(2, eventType);
+                    statement.addBatch();
+                    empty = false;
+                }
+            }
+            if (!empty) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private static void replaceEventTypes(Connection connection, UUID id, Collection<String> eventTypes) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_EVENT_TYPES)) {
+            statement.setString(1, id.toString());
+            statement.executeUpdate();
+        }
+        insertEventTypes(connection, id, eventTypes);
+    }
+
+    private static void insertEventTypes(Connection connection, UUID id, Collection<String> eventTypes) throws SQLException {
+        if (eventTypes.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT_TYPE)) {
+            for (String eventType : eventTypes) {
+                statement.setString(1, id.toString());
+                statement.setString(2, eventType);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Reads the header out of the header columns, null if the row was stored before they were added
+     */
+    private static ProcessInstanceHeader header(ResultSet resultSet, String id, long version) throws SQLException {
+        int state = resultSet.getInt(STATE);
+        if (resultSet.wasNull()) {
+            return null;
+        }
+        Timestamp startDate = resultSet.getTimestamp(START_DATE, Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+        return new ProcessInstanceHeader(id, state, resultSet.getString(BUSINESS_KEY), version, startDate == null ? null : new Date(startDate.getTime()));
+    }
+
     private Record from(ResultSet rs) throws SQLException {
         return new Record(rs.getBytes(PAYLOAD), rs.getLong(VERSION));
     }
@@ -137,6 +408,104 @@ public class GenericRepository extends Repository {
         return Optional.empty();
     }
 
+    @Override
+    Optional<Record> findHeaderByIdInternal(String processId, String processVersion, UUID id) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(FIND_HEADER_BY_ID, processVersion))) {
+            statement.setString(1, processId);
+            statement.setString(2, id.toString());
+            if (processVersion != null) {
+                statement.setString(3, processVersion);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                ProcessInstanceHeader header = header(resultSet, id.toString(), resultSet.getLong(VERSION));
+                if (header != null) {
+                    return Optional.of(new Record(header, header.version()));
+                }
+            }
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding process instance header %s", id);
+        }
+        // stored before the header columns were added
+        return findByIdInternal(processId, processVersion, id);
+    }
+
+    @Override
+    boolean existsInternal(String processId, String processVersion, UUID id) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(EXISTS, processVersion))) {
+            statement.setString(1, processId);
+            statement.setString(2, id.toString());
+            if (processVersion != null) {
+                statement.setString(3, processVersion);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error checking process instance %s", id);
+        }
+    }
+
+    @Override
+    List<Record> findPageInternal(String processId, String processVersion, ProcessInstanceFilter filter, UUID after, int limit) {
+        StringBuilder sql = new StringBuilder(FIND_PAGE);
+        if (after != null) {
+            sql.append(' ').append(ID_AFTER);
+        }
+        if (filter.state() != null) {
+            sql.append(' ').append(STATE_EQUALS_TO);
+        }
+        if (filter.businessKey() != null) {
+            sql.append(' ').append(BUSINESS_KEY_EQUALS_TO);
+        }
+        if (filter.startedFrom() != null) {
+            sql.append(' ').append(STARTED_FROM);
+        }
+        if (filter.startedTo() != null) {
+            sql.append(' ').append(STARTED_TO);
+        }
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(sql.toString(), processVersion) + " " + ORDER_BY_ID)) {
+            int index = 1;
+            statement.setString(index++, processId);
+            if (after != null) {
+                statement.setString(index++, after.toString());
+            }
+            if (filter.state() != null) {
+                statement.setInt(index++, filter.state());
+            }
+            if (filter.businessKey() != null) {
+                statement.setString(index++, filter.businessKey());
+            }
+            if (filter.startedFrom() != null) {
+                setTimestamp(statement, index++, filter.startedFrom());
+            }
+            if (filter.startedTo() != null) {
+                setTimestamp(statement, index++, filter.startedTo());
+            }
+            if (processVersion != null) {
+                statement.setString(index, processVersion);
+            }
+            // portable way of limiting the rows, the driver does not fetch more than needed
+            statement.setMaxRows(limit);
+            statement.setFetchSize(limit);
+            List<Record> records = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long version = resultSet.getLong(VERSION);
+                    records.add(new Record(resultSet.getBytes(PAYLOAD), version, header(resultSet, resultSet.getString(ID), version)));
+                }
+            }
+            return records;
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding process instances page, for processId %s", processId);
+        }
+    }
+
     private static class CloseableWrapper implements Runnable {
 
         private Deque<AutoCloseable> wrapped = new ArrayDeque<>();
@@ -175,13 +544,26 @@ public class GenericRepository extends Repository {
 
     @Override
     Stream<Record> findAllInternal(String processId, String processVersion) {
+        return streamRecords(FIND_ALL, processId, processVersion);
+    }
+
+    @Override
+    Stream<Record> findAllWaitingForEventTypeInternal(String processId, String processVersion, String eventType) {
+        return streamRecords(FIND_ALL_WAITING_FOR_EVENT_TYPE, processId, processVersion, eventType, ANY_EVENT_TYPE);
+    }
+
+    private Stream<Record> streamRecords(String sql, String processId, String processVersion, String... parameters) {
         CloseableWrapper close = new CloseableWrapper();
         try {
             Connection connection = close.nest(dataSource.getConnection());
-            PreparedStatement statement = close.nest(connection.prepareStatement(sqlIncludingVersion(FIND_ALL, processVersion)));
-            statement.setString(1, processId);
+            PreparedStatement statement = close.nest(connection.prepareStatement(sqlIncludingVersion(sql, processVersion)));
+            int index = 1;
+            statement.setString(index++, processId);
+            for (String parameter : parameters) {
+                statement.setString(index++, parameter);
+            }
             if (processVersion != null) {
-                statement.setString(2, processVersion);
+                statement.setString(index, processVersion);
             }
             ResultSet resultSet = close.nest(statement.executeQuery());
             return StreamSupport.stream(new Spliterators.AbstractSpliterator<Record>(
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.kie.kogito.process.ProcessInstanceHeader;
+
+/**
+ * Process instance writes collected during a unit of work, to be flushed all together on a single connection.
+ */
+class JDBCBatch {
+
+    enum Operation {
+        INSERT,
+        UPDATE,
+        UPDATE_WITH_LOCK,
+        DELETE
+    }
+
+    static class Write {
+        private final Operation operation;
+        private final String processId;
+        private final String processVersion;
+        private final UUID id;
+        private final byte[] payload;
+        private final ProcessInstanceHeader header;
+        private final long version;
+        private final Collection<String> eventTypes;
+
+        Write(Operation operation, String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, long version, Collection<String> eventTypes) {
+            this.operation = operation;
+            this.processId = processId;
+            this.processVersion = processVersion;
+            this.id = id;
+            this.payload = payload;
+            this.header = header;
+            this.version = version;
+            this.eventTypes = eventTypes;
+        }
+
+        Operation getOperation() {
+            return operation;
+        }
+
+        String getProcessId() {
+            return processId;
+        }
+
+        String getProcessVersion() {
+            return processVersion;
+        }
+
+        UUID getId() {
+            return id;
+        }
+
+        byte[] getPayload() {
+            return payload;
+        }
+
+        ProcessInstanceHeader getHeader() {
+            return header;
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        Collection<String> getEventTypes() {
+            return eventTypes;
+        }
+
+        /**
+         * Version stored for the process instance once this write is applied
+         */
+        long getStoredVersion() {
+            return operation == Operation.UPDATE_WITH_LOCK ? version + 1 : version;
+        }
+    }
+
+    private final List<Write> writes = new ArrayList<>();
+
+    void insert(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, Collection<String> eventTypes) {
+        writes.add(new Write(Operation.INSERT, processId, processVersion, id, payload, header, 0L, eventTypes));
+    }
+
+    void update(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, long version, Collection<String> eventTypes) {
+        writes.add(new Write(Operation.UPDATE, processId, processVersion, id, payload, header, version, eventTypes));
+    }
+
+    void updateWithLock(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, long version, Collection<String> eventTypes) {
+        writes.add(new Write(Operation.UPDATE_WITH_LOCK, processId, processVersion, id, payload, header, version, eventTypes));
+    }
+
+    void delete(String processId, String processVersion, UUID id) {
+        writes.add(new Write(Operation.DELETE, processId, processVersion, id, null, null, 0L, null));
+    }
+
+    /**
+     * Returns the last pending write for the given process instance, so reads performed before the flush
+     * see the state the unit of work is going to store.
+     */
+    Optional<Write> lastWrite(String processId, String processVersion, UUID id) {
+        for (int i = writes.size() - 1; i >= 0; i--) {
+            Write write = writes.get(i);
+            if (write.id.equals(id) && write.processId.equals(processId)
+                    && (processVersion == null ? write.processVersion == null : processVersion.equals(write.processVersion))) {
+                return Optional.of(write);
+            }
+        }
+        return Optional.empty();
+    }
+
+    List<Write> writes() {
+        return writes;
+    }
+
+    boolean isEmpty() {
+        return writes.isEmpty();
+    }
+}
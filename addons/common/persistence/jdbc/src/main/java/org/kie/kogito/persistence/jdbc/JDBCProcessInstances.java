@@ -15,7 +15,10 @@
  */
 package org.kie.kogito.persistence.jdbc;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -24,7 +27,10 @@ import javax.sql.DataSource;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
@@ -39,17 +45,28 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     private final ProcessInstanceMarshallerService marshaller;
     private final boolean lock;
     private final Repository repository;
+    private final AbstractTransactionManager transactionManager;
 
     public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean lock) {
+        this(process, dataSource, lock, null);
+    }
+
+    public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean lock, AbstractTransactionManager transactionManager) {
         this.process = process;
         this.lock = lock;
         this.marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
         this.repository = new GenericRepository(dataSource);
+        this.transactionManager = transactionManager;
     }
 
     @Override
     public boolean exists(String id) {
-        return findById(id).isPresent();
+        UUID uuid = UUID.fromString(id);
+        Optional<JDBCBatch.Write> pending = pendingWrite(uuid);
+        if (pending.isPresent()) {
+            return pending.get().getOperation() != JDBCBatch.Operation.DELETE;
+        }
+        return repository.existsInternal(process.id(), process.version(), uuid);
     }
 
     @SuppressWarnings("unchecked")
@@ -57,7 +74,13 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     public void create(String id, ProcessInstance instance) {
         LOGGER.debug("Creating process instance id: {}, processId: {}, processVersion: {}", id, process.id(), process.version());
         if (isActive(instance)) {
-            repository.insertInternal(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance));
+            JDBCBatch batch = currentBatch();
+            if (batch != null) {
+                batch.insert(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance), eventTypes(instance));
+            } else {
+                repository.insertInternal(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance),
+                        eventTypes(instance));
+            }
         } else {
             LOGGER.warn("Skipping create of process instance id: {}, state: {}", id, instance.status());
         }
@@ -69,13 +92,25 @@ public class JDBCProcessInstances implements MutableProcessInstances {
         LOGGER.debug("Updating process instance id: {}, processId: {}, processVersion: {}", id, process.id(), process.version());
         try {
             if (isActive(instance)) {
-                if (lock) {
-                    boolean isUpdated = repository.updateWithLock(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), instance.version());
+                JDBCBatch batch = currentBatch();
+                if (batch != null) {
+                    // optimistic lock is checked when the batch is flushed
+                    if (lock) {
+                        batch.updateWithLock(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance),
+                                instance.version(), eventTypes(instance));
+                    } else {
+                        batch.update(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance),
+                                instance.version(), eventTypes(instance));
+                    }
+                } else if (lock) {
+                    boolean isUpdated = repository.updateWithLock(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance),
+                            ProcessInstanceHeader.of(instance), instance.version(), eventTypes(instance));
                     if (!isUpdated) {
                         throw new ProcessInstanceOptimisticLockingException(id);
                     }
                 } else {
-                    repository.updateInternal(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance));
+                    repository.updateInternal(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance),
+                            eventTypes(instance));
                 }
             } else {
                 LOGGER.warn("Process instance id: {}, state: {} is not active, skipping update", id, instance.status());
@@ -88,6 +123,11 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     @Override
     public void remove(String id) {
         LOGGER.debug("Removing process instance id: {}, processId: {}", id, process.id());
+        JDBCBatch batch = currentBatch();
+        if (batch != null) {
+            batch.delete(process.id(), process.version(), UUID.fromString(id));
+            return;
+        }
         boolean isDeleted = repository.deleteInternal(process.id(), process.version(), UUID.fromString(id));
         LOGGER.debug("Deleted: {}", isDeleted);
     }
@@ -95,7 +135,42 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     @Override
     public Optional<ProcessInstance<?>> findById(String id, ProcessInstanceReadMode mode) {
         LOGGER.debug("Find process instance id: {}, mode: {}", id, mode);
-        return repository.findByIdInternal(process.id(), process.version(), UUID.fromString(id)).map(r -> unmarshall(r, mode));
+        return findRecord(UUID.fromString(id)).map(r -> unmarshall(r, mode));
+    }
+
+    @Override
+    public Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        LOGGER.debug("Find process instance header id: {}", id);
+        UUID uuid = UUID.fromString(id);
+        Optional<JDBCBatch.Write> pending = pendingWrite(uuid);
+        if (pending.isPresent()) {
+            JDBCBatch.Write write = pending.get();
+            return write.getOperation() == JDBCBatch.Operation.DELETE ? Optional.empty() : Optional.of(withVersion(write.getHeader(), write.getStoredVersion()));
+        }
+        return repository.findHeaderByIdInternal(process.id(), process.version(), uuid)
+                .map(r -> r.getHeader() != null ? r.getHeader() : marshaller.unmarshallProcessInstanceHeader(r.getPayload(), r.getVersion()));
+    }
+
+    private static ProcessInstanceHeader withVersion(ProcessInstanceHeader header, long version) {
+        return new ProcessInstanceHeader(header.id(), header.status(), header.businessKey(), version, header.startDate());
+    }
+
+    private Optional<Repository.Record> findRecord(UUID id) {
+        Optional<JDBCBatch.Write> pending = pendingWrite(id);
+        if (pending.isPresent()) {
+            JDBCBatch.Write write = pending.get();
+            return write.getOperation() == JDBCBatch.Operation.DELETE ? Optional.empty() : Optional.of(new Repository.Record(write.getPayload(), write.getStoredVersion()));
+        }
+        return repository.findByIdInternal(process.id(), process.version(), id);
+    }
+
+    private Optional<JDBCBatch.Write> pendingWrite(UUID id) {
+        JDBCBatch batch = currentBatch();
+        return batch == null ? Optional.empty() : batch.lastWrite(process.id(), process.version(), id);
+    }
+
+    private JDBCBatch currentBatch() {
+        return transactionManager == null ? null : transactionManager.currentBatch();
     }
 
     @Override
@@ -105,6 +180,38 @@ public class JDBCProcessInstances implements MutableProcessInstances {
                 .map(r -> unmarshall(r, mode));
     }
 
+    @Override
+    public ProcessInstancePage<ProcessInstance<?>> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        LOGGER.debug("Find process instance page after cursor: {}, filter: {}, size: {}, using mode: {}", cursor, filter, pageSize, mode);
+        String after = ProcessInstancePage.idOf(cursor);
+        List<Repository.Record> records = repository.findPageInternal(process.id(), process.version(), filter, after == null ? null : UUID.fromString(after), pageSize + 1);
+        List<ProcessInstance<?>> items = new ArrayList<>();
+        String lastId = null;
+        for (Repository.Record record : records.subList(0, Math.min(pageSize, records.size()))) {
+            // rows are filtered on the header columns, the header is unmarshalled only for the ones stored before they were populated
+            ProcessInstanceHeader header = record.getHeader();
+            if (header == null) {
+                header = marshaller.unmarshallProcessInstanceHeader(record.getPayload(), record.getVersion());
+            }
+            lastId = header.id();
+            if (filter.test(header)) {
+                items.add(unmarshall(record, mode));
+            }
+        }
+        return new ProcessInstancePage<>(items, records.size() > pageSize && lastId != null ? ProcessInstancePage.cursorOf(lastId) : null);
+    }
+
+    @Override
+    public Stream<ProcessInstance<?>> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
+        LOGGER.debug("Find process instance values waiting for event type: {}, using mode: {}", eventType, mode);
+        return repository.findAllWaitingForEventTypeInternal(process.id(), process.version(), eventType)
+                .map(r -> unmarshall(r, mode));
+    }
+
+    private static Set<String> eventTypes(ProcessInstance<?> instance) {
+        return ((AbstractProcessInstance<?>) instance).eventTypes();
+    }
+
     private ProcessInstance<?> unmarshall(Repository.Record record, ProcessInstanceReadMode mode) {
         ProcessInstance<?> instance = marshaller.unmarshallProcessInstance(record.getPayload(), process, mode);
         ((AbstractProcessInstance<?>) instance).setVersion(record.getVersion());
@@ -118,7 +225,7 @@ public class JDBCProcessInstances implements MutableProcessInstances {
 
     private void disconnect(ProcessInstance<?> instance) {
         ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(marshaller.createdReloadFunction(() -> {
-            Repository.Record r = repository.findByIdInternal(process.id(), process.version(), UUID.fromString(instance.id())).orElseThrow();
+            Repository.Record r = findRecord(UUID.fromString(instance.id())).orElseThrow();
             ((AbstractProcessInstance<?>) instance).setVersion(r.getVersion());
             return r.getPayload();
         }));
@@ -15,24 +15,46 @@
  */
 package org.kie.kogito.persistence.jdbc;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
+
 abstract class Repository {
 
-    static final String INSERT = "INSERT INTO process_instances (id, payload, process_id, process_version, version) VALUES (?, ?, ?, ?, ?)";
+    static final String INSERT = "INSERT INTO process_instances (id, payload, process_id, process_version, version, state, business_key, start_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
     static final String FIND_ALL = "SELECT payload, version FROM process_instances WHERE process_id = ?";
     static final String FIND_BY_ID = "SELECT payload, version FROM process_instances WHERE process_id = ? and id = ?";
-    static final String UPDATE = "UPDATE process_instances SET payload = ? WHERE process_id = ? and id = ?";
-    static final String UPDATE_WITH_LOCK = "UPDATE process_instances SET payload = ?, version = ? WHERE process_id = ? and id = ? and version = ?";
+    static final String EXISTS = "SELECT 1 FROM process_instances WHERE process_id = ? and id = ?";
+    static final String FIND_HEADER_BY_ID = "SELECT state, business_key, start_date, version FROM process_instances WHERE process_id = ? and id = ?";
+    static final String UPDATE = "UPDATE process_instances SET payload = ?, state = ?, business_key = ?, start_date = ? WHERE process_id = ? and id = ?";
+    static final String UPDATE_WITH_LOCK =
+            "UPDATE process_instances SET payload = ?, version = ?, state = ?, business_key = ?, start_date = ? WHERE process_id = ? and id = ? and version = ?";
     static final String DELETE = "DELETE FROM process_instances WHERE process_id = ? and id = ?";
+    static final String FIND_ALL_WAITING_FOR_EVENT_TYPE = "SELECT payload, version FROM process_instances WHERE process_id = ? and id IN " +
+            "(SELECT process_instance_id FROM process_instance_event_types WHERE event_type IN (?, ?))";
+    static final String INSERT_EVENT_TYPE = "INSERT INTO process_instance_event_types (process_instance_id, event_type) VALUES (?, ?)";
+    static final String DELETE_EVENT_TYPES = "DELETE FROM process_instance_event_types WHERE process_instance_id = ?";
+    static final String ANY_EVENT_TYPE = "*";
     static final String PROCESS_VERSION_EQUALS_TO = "and process_version = ?";
     static final String PROCESS_VERSION_IS_NULL = "and process_version is null";
+    // rows stored before the header columns were added have a null state and are filtered once their header is unmarshalled
+    static final String FIND_PAGE = "SELECT id, payload, version, state, business_key, start_date FROM process_instances WHERE process_id = ?";
+    static final String ID_AFTER = "and id > ?";
+    static final String STATE_EQUALS_TO = "and (state = ? or state is null)";
+    static final String BUSINESS_KEY_EQUALS_TO = "and (business_key = ? or state is null)";
+    static final String STARTED_FROM = "and (start_date >= ? or state is null)";
+    static final String STARTED_TO = "and (start_date < ? or state is null)";
+    static final String ORDER_BY_ID = "ORDER BY id";
 
     static class Record {
         private final byte[] payload;
         private final long version;
+        private final ProcessInstanceHeader header;
 
         public byte[] getPayload() {
             return payload;
@@ -42,24 +64,66 @@ abstract class Repository {
             return version;
         }
 
+        /**
+         * Header read out of the header columns, null when they were not read or the record was stored before they were added
+         */
+        public ProcessInstanceHeader getHeader() {
+            return header;
+        }
+
         public Record(byte[] payload, long version) {
+            this(payload, version, null);
+        }
+
+        public Record(ProcessInstanceHeader header, long version) {
+            this(null, version, header);
+        }
+
+        public Record(byte[] payload, long version, ProcessInstanceHeader header) {
             this.payload = payload;
             this.version = version;
+            this.header = header;
         }
     }
 
-    abstract void insertInternal(String processId, String processVersion, UUID id, byte[] payload);
+    abstract void insertInternal(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, Collection<String> eventTypes);
 
-    abstract void updateInternal(String processId, String processVersion, UUID id, byte[] payload);
+    abstract void updateInternal(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, Collection<String> eventTypes);
 
-    abstract boolean updateWithLock(String processId, String processVersion, UUID id, byte[] payload, long version);
+    abstract boolean updateWithLock(String processId, String processVersion, UUID id, byte[] payload, ProcessInstanceHeader header, long version, Collection<String> eventTypes);
 
     abstract boolean deleteInternal(String processId, String processVersion, UUID id);
 
     abstract Optional<Record> findByIdInternal(String processId, String processVersion, UUID id);
 
+    /**
+     * Returns a record holding the header read from the header columns.
+     * For records stored before the header columns were added, the returned record holds the payload.
+     */
+    abstract Optional<Record> findHeaderByIdInternal(String processId, String processVersion, UUID id);
+
+    abstract boolean existsInternal(String processId, String processVersion, UUID id);
+
     abstract Stream<Record> findAllInternal(String processId, String processVersion);
 
+    /**
+     * Returns, sorted by id, up to <code>limit</code> records following the given id whose header columns match the filter.
+     * Records hold both the payload and the header read from the header columns. Records stored without header columns
+     * have no header and are always returned, the caller is expected to filter them.
+     */
+    abstract List<Record> findPageInternal(String processId, String processVersion, ProcessInstanceFilter filter, UUID after, int limit);
+
+    abstract Stream<Record> findAllWaitingForEventTypeInternal(String processId, String processVersion, String eventType);
+
+    /**
+     * Applies all the writes of the batch, in order, in a single transaction. When the connection already takes part
+     * of a transaction, that transaction is joined and left in charge.
+     *
+     * @return ids of the process instances whose optimistic lock check failed, if not empty the transaction started here
+     *         has been rolled back, while an enclosing one must be rolled back by the caller
+     */
+    abstract Collection<UUID> flushInternal(JDBCBatch batch);
+
     protected RuntimeException uncheckedException(Exception ex, String message, Object... param) {
         return new RuntimeException(String.format(message, param), ex);
     }
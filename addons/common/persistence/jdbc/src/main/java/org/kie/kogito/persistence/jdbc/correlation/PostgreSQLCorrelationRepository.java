@@ -18,7 +18,6 @@ package org.kie.kogito.persistence.jdbc.correlation;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.util.UUID;
 
 import javax.sql.DataSource;
 
@@ -26,6 +25,7 @@ import org.kie.kogito.correlation.CompositeCorrelation;
 import org.kie.kogito.correlation.Correlation;
 import org.kie.kogito.correlation.CorrelationInstance;
 import org.kie.kogito.correlation.SimpleCorrelation;
+import org.kie.kogito.id.IdGenerators;
 import org.kie.kogito.jackson.utils.ObjectMapperFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,7 +54,7 @@ public class PostgreSQLCorrelationRepository {
         try (Connection connection = dataSource.getConnection();
                 PreparedStatement statement = connection.prepareStatement(INSERT)) {
             String correlationJson = objectMapper.writeValueAsString(correlation);
-            String id = UUID.randomUUID().toString();
+            String id = IdGenerators.generate();
             statement.setString(1, id);
             statement.setString(2, encodedCorrelationId);
             statement.setString(3, correlatedId);
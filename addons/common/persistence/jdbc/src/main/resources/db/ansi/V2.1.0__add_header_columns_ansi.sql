@@ -0,0 +1,5 @@
+ALTER TABLE process_instances ADD COLUMN state INTEGER;
+ALTER TABLE process_instances ADD COLUMN business_key VARCHAR(4000);
+ALTER TABLE process_instances ADD COLUMN start_date TIMESTAMP;
+CREATE INDEX idx_process_instances_state ON process_instances (process_id, state, id);
+CREATE INDEX idx_process_instances_business_key ON process_instances (process_id, business_key, id);
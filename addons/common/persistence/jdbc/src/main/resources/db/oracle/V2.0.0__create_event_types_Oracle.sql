@@ -0,0 +1,10 @@
+CREATE TABLE process_instance_event_types
+(
+    process_instance_id char(36)       NOT NULL,
+    event_type          varchar2(3000) NOT NULL,
+    CONSTRAINT proc_inst_event_types_pkey PRIMARY KEY (process_instance_id, event_type),
+    CONSTRAINT fk_proc_inst_event_types_id FOREIGN KEY (process_instance_id) REFERENCES process_instances (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_proc_inst_event_types_type ON process_instance_event_types (event_type, process_instance_id);
+
+INSERT INTO process_instance_event_types (process_instance_id, event_type) SELECT id, '*' FROM process_instances;
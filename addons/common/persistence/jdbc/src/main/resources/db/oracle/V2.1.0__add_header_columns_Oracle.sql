@@ -0,0 +1,3 @@
+ALTER TABLE process_instances ADD (state number(10), business_key varchar2(3000), start_date timestamp);
+CREATE INDEX idx_proc_inst_state ON process_instances (process_id, state, id);
+CREATE INDEX idx_proc_inst_business_key ON process_instances (process_id, business_key, id);
@@ -0,0 +1,12 @@
+-- Event types every process instance is listening for, used to route broadcast signals
+CREATE TABLE process_instance_event_types
+(
+    process_instance_id character(36)     NOT NULL,
+    event_type          character varying NOT NULL,
+    CONSTRAINT process_instance_event_types_pkey PRIMARY KEY (process_instance_id, event_type),
+    CONSTRAINT fk_process_instance_event_types_id FOREIGN KEY (process_instance_id) REFERENCES process_instances (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_process_instance_event_types_type ON process_instance_event_types (event_type, process_instance_id);
+
+-- Instances persisted before this migration are flagged as candidates for any event type until they are updated
+INSERT INTO process_instance_event_types (process_instance_id, event_type) SELECT id, '*' FROM process_instances;
@@ -0,0 +1,7 @@
+-- Header of every process instance, used to filter and paginate listings without reading the payload
+-- Instances persisted before this migration keep a null state until they are updated and are filtered once read
+ALTER TABLE process_instances ADD COLUMN state integer;
+ALTER TABLE process_instances ADD COLUMN business_key character varying;
+ALTER TABLE process_instances ADD COLUMN start_date timestamp;
+CREATE INDEX idx_process_instances_state ON process_instances (process_id, state, id);
+CREATE INDEX idx_process_instances_business_key ON process_instances (process_id, business_key, id);
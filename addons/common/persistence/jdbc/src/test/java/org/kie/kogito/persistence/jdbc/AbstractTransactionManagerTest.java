@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.jdbc;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AbstractTransactionManagerTest {
+
+    private AbstractTransactionManager transactionManager;
+    private UnitOfWorkManager unitOfWorkManager;
+
+    @BeforeEach
+    void setup() {
+        transactionManager = new AbstractTransactionManager(mock(DataSource.class), true) {
+        };
+        unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        unitOfWorkManager.register(transactionManager);
+    }
+
+    @Test
+    void testNestedUnitOfWorkKeepsOuterBatch() {
+        UnitOfWork outer = unitOfWorkManager.newUnitOfWork();
+        outer.start();
+        JDBCBatch outerBatch = transactionManager.currentBatch();
+        assertThat(outerBatch).isNotNull();
+
+        UnitOfWork inner = unitOfWorkManager.newUnitOfWork();
+        inner.start();
+        JDBCBatch innerBatch = transactionManager.currentBatch();
+        assertThat(innerBatch).isNotNull().isNotSameAs(outerBatch);
+        inner.end();
+
+        assertThat(transactionManager.currentBatch()).isSameAs(outerBatch);
+        outer.end();
+        assertThat(transactionManager.currentBatch()).isNull();
+    }
+
+    @Test
+    void testNestedUnitOfWorkAbortKeepsOuterBatch() {
+        UnitOfWork outer = unitOfWorkManager.newUnitOfWork();
+        outer.start();
+        JDBCBatch outerBatch = transactionManager.currentBatch();
+
+        UnitOfWork inner = unitOfWorkManager.newUnitOfWork();
+        inner.start();
+        inner.abort();
+
+        assertThat(transactionManager.currentBatch()).isSameAs(outerBatch);
+        outer.abort();
+        assertThat(transactionManager.currentBatch()).isNull();
+    }
+
+    @Test
+    void testNoBatchWhenDisabled() {
+        unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        AbstractTransactionManager disabled = new AbstractTransactionManager(mock(DataSource.class), false) {
+        };
+        unitOfWorkManager.register(disabled);
+        UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        assertThat(disabled.currentBatch()).isNull();
+        unitOfWork.end();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GenericRepositoryTest {
+
+    private static final String PROCESS_ID = "process";
+    private static final UUID ID = UUID.randomUUID();
+    private static final ProcessInstanceHeader HEADER = new ProcessInstanceHeader(ID.toString(), 1, null, 0L, new Date());
+
+    private Connection connection;
+    private PreparedStatement processInstanceStatement;
+    private PreparedStatement eventTypesStatement;
+    private GenericRepository repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        processInstanceStatement = mock(PreparedStatement.class);
+        eventTypesStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        when(connection.prepareStatement(startsWith("INSERT INTO process_instances "))).thenReturn(processInstanceStatement);
+        when(connection.prepareStatement(startsWith("UPDATE process_instances "))).thenReturn(processInstanceStatement);
+        when(connection.prepareStatement(Repository.INSERT_EVENT_TYPE)).thenReturn(eventTypesStatement);
+        when(processInstanceStatement.executeUpdate()).thenReturn(1);
+        when(eventTypesStatement.executeBatch()).thenThrow(new SQLException("event types write failure"));
+        repository = new GenericRepository(dataSource);
+    }
+
+    @Test
+    void testInsertRolledBackWhenEventTypesFail() throws SQLException {
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> repository.insertInternal(PROCESS_ID, null, ID, new byte[0], HEADER, Collections.singleton("signal")));
+        verify(processInstanceStatement).executeUpdate();
+        verify(connection).setAutoCommit(false);
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void testUpdateWithLockRolledBackWhenEventTypesFail() throws SQLException {
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> repository.updateWithLock(PROCESS_ID, null, ID, new byte[0], HEADER, 0L, Collections.singleton("signal")));
+        verify(processInstanceStatement).executeUpdate();
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+    }
+
+    @Test
+    void testInsertCommitted() throws SQLException {
+        repository.insertInternal(PROCESS_ID, null, ID, new byte[0], HEADER, Collections.emptySet());
+        verify(connection).commit();
+        verify(connection, never()).rollback();
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void testExistingTransactionLeftInCharge() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(false);
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> repository.updateInternal(PROCESS_ID, null, ID, new byte[0], HEADER, Collections.singleton("signal")));
+        verify(connection, never()).setAutoCommit(false);
+        verify(connection, never()).commit();
+        verify(connection, never()).rollback();
+    }
+
+    @Test
+    void testFlushKeepsWriteOrder() throws SQLException {
+        PreparedStatement deleteStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("DELETE FROM process_instances "))).thenReturn(deleteStatement);
+        when(processInstanceStatement.executeBatch()).thenReturn(new int[] { 1 });
+        when(deleteStatement.executeBatch()).thenReturn(new int[] { 1 });
+        JDBCBatch batch = new JDBCBatch();
+        batch.insert(PROCESS_ID, null, ID, new byte[0], HEADER, Collections.emptySet());
+        batch.delete(PROCESS_ID, null, ID);
+
+        assertThat(repository.flushInternal(batch)).isEmpty();
+        InOrder inOrder = inOrder(processInstanceStatement, deleteStatement, connection);
+        inOrder.verify(processInstanceStatement).executeBatch();
+        inOrder.verify(deleteStatement).executeBatch();
+        inOrder.verify(connection).commit();
+        verify(connection, never()).rollback();
+    }
+
+    @Test
+    void testFlushLockFailureRolledBack() throws SQLException {
+        when(processInstanceStatement.executeBatch()).thenReturn(new int[] { 0 });
+        JDBCBatch batch = new JDBCBatch();
+        batch.updateWithLock(PROCESS_ID, null, ID, new byte[0], HEADER, 0L, Collections.emptySet());
+
+        Collection<UUID> lockFailures = repository.flushInternal(batch);
+        assertThat(lockFailures).containsExactly(ID);
+        verify(connection).setAutoCommit(false);
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void testFlushJoinsExistingTransaction() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(processInstanceStatement.executeBatch()).thenReturn(new int[] { 0 });
+        JDBCBatch batch = new JDBCBatch();
+        batch.updateWithLock(PROCESS_ID, null, ID, new byte[0], HEADER, 0L, Collections.emptySet());
+
+        assertThat(repository.flushInternal(batch)).containsExactly(ID);
+        verify(connection, never()).setAutoCommit(false);
+        verify(connection, never()).commit();
+        verify(connection, never()).rollback();
+    }
+
+    @Test
+    void testFindPageReadsHeaderColumns() throws SQLException {
+        PreparedStatement pageStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        UUID legacyId = UUID.randomUUID();
+        when(connection.prepareStatement(startsWith(Repository.FIND_PAGE))).thenReturn(pageStatement);
+        when(pageStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("id")).thenReturn(ID.toString(), legacyId.toString());
+        when(resultSet.getBytes("payload")).thenReturn(new byte[] { 1 }, new byte[] { 2 });
+        when(resultSet.getLong("version")).thenReturn(3L, 0L);
+        when(resultSet.getInt("state")).thenReturn(1, 0);
+        // the second row is stored before the header columns were added
+        when(resultSet.wasNull()).thenReturn(false, true);
+        when(resultSet.getString("business_key")).thenReturn("key");
+        when(resultSet.getTimestamp(eq("start_date"), any())).thenReturn(null);
+
+        List<Repository.Record> records = repository.findPageInternal(PROCESS_ID, null, ProcessInstanceFilter.ALL, null, 10);
+        assertThat(records).hasSize(2);
+        ProcessInstanceHeader header = records.get(0).getHeader();
+        assertThat(header.id()).isEqualTo(ID.toString());
+        assertThat(header.status()).isEqualTo(1);
+        assertThat(header.businessKey()).isEqualTo("key");
+        assertThat(header.version()).isEqualTo(3L);
+        assertThat(records.get(0).getPayload()).containsExactly(1);
+        assertThat(records.get(1).getHeader()).isNull();
+        assertThat(records.get(1).getPayload()).containsExactly(2);
+    }
+}
@@ -15,6 +15,10 @@
  */
 package org.kie.persistence.jdbc;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import javax.sql.DataSource;
@@ -26,10 +30,21 @@ import org.kie.kogito.auth.IdentityProviders;
 import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.persistence.jdbc.JDBCProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.ProcessInstancePage;
+import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
 import org.kie.kogito.process.bpmn2.BpmnProcessInstance;
 import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.impl.DefaultProcessEventListenerConfig;
+import org.kie.kogito.process.impl.DefaultWorkItemHandlerConfig;
+import org.kie.kogito.process.impl.StaticProcessConfig;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.services.uow.UnitOfWorkExecutor;
+import org.kie.kogito.uow.UnitOfWorkManager;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 
 import static java.util.Collections.singletonMap;
@@ -41,6 +56,7 @@ import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STAT
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.abort;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.assertEmpty;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.assertOne;
+import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.assertWaitingForEventType;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.getFirst;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -93,6 +109,12 @@ abstract class AbstractProcessInstancesIT {
         JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
         assertThat(processInstances.exists(processInstance.id())).isTrue();
         verify(processInstances).create(any(), any());
+        assertThat(processInstances.findHeaderById(processInstance.id())).hasValueSatisfying(header -> {
+            assertThat(header.id()).isEqualTo(processInstance.id());
+            assertThat(header.status()).isEqualTo(STATE_ACTIVE);
+            assertThat(header.businessKey()).isNull();
+            assertThat(header.startDate()).isEqualTo(processInstance.startDate());
+        });
 
         String testVar = (String) processInstance.variables().get("test");
         assertThat(testVar).isEqualTo("test");
@@ -112,6 +134,107 @@ abstract class AbstractProcessInstancesIT {
         assertEmpty(process.instances());
     }
 
+    @Test
+    void testWaitingForEventType() {
+        var factory = new TestProcessInstancesFactory(getDataSource(), lock());
+        BpmnProcess process = createProcess(factory, "BPMN2-IntermediateCatchEventSignal.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create());
+        processInstance.start();
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        assertWaitingForEventType(processInstances, "MyMessage", 0);
+
+        WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(processInstance.status()).isEqualTo(STATE_ACTIVE);
+        assertWaitingForEventType(processInstances, "MyMessage", 1);
+        assertWaitingForEventType(processInstances, "OtherMessage", 0);
+
+        processInstances.remove(processInstance.id());
+        assertWaitingForEventType(processInstances, "MyMessage", 0);
+    }
+
+    @Test
+    void testFindPage() {
+        var factory = new TestProcessInstancesFactory(getDataSource(), lock());
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ProcessInstance<BpmnVariables> processInstance = process.createInstance("key" + i, BpmnVariables.create(singletonMap("test", "test")));
+            processInstance.start();
+            ids.add(processInstance.id());
+        }
+        Collections.sort(ids);
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        List<String> found = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProcessInstancePage<ProcessInstance<?>> page = processInstances.findPage(ProcessInstanceFilter.ALL, cursor, 2, ProcessInstanceReadMode.READ_ONLY);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().forEach(instance -> found.add(instance.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertThat(found).isEqualTo(ids);
+
+        assertThat(processInstances.findPage(new ProcessInstanceFilter(STATE_ACTIVE, null, null, null), null, 10, ProcessInstanceReadMode.READ_ONLY).items()).hasSize(5);
+        assertThat(processInstances.findPage(new ProcessInstanceFilter(STATE_COMPLETED, null, null, null), null, 10, ProcessInstanceReadMode.READ_ONLY).items()).isEmpty();
+        assertThat(processInstances.findPage(new ProcessInstanceFilter(null, "key3", null, null), null, 10, ProcessInstanceReadMode.READ_ONLY).items())
+                .singleElement().satisfies(instance -> assertThat(instance.businessKey()).isEqualTo("key3"));
+        Date later = new Date(System.currentTimeMillis() + 60000L);
+        assertThat(processInstances.findPage(new ProcessInstanceFilter(null, null, null, later), null, 10, ProcessInstanceReadMode.READ_ONLY).items()).hasSize(5);
+        assertThat(processInstances.findPage(new ProcessInstanceFilter(null, null, later, null), null, 10, ProcessInstanceReadMode.READ_ONLY).items()).isEmpty();
+
+        abort(processInstances);
+        assertEmpty(processInstances);
+    }
+
+    @Test
+    void testUnitOfWorkBatch() {
+        UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        TestTransactionManager transactionManager = new TestTransactionManager(getDataSource());
+        unitOfWorkManager.register(transactionManager);
+        var factory = new TestProcessInstancesFactory(getDataSource(), lock(), transactionManager);
+        BpmnProcess process = BpmnProcess.from(new StaticProcessConfig(new DefaultWorkItemHandlerConfig(), new DefaultProcessEventListenerConfig(), unitOfWorkManager),
+                new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        process.setProcessInstancesFactory(factory);
+        process.configure();
+        abort(process.instances());
+
+        List<String> ids = UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+            ProcessInstance<BpmnVariables> first = process.createInstance(BpmnVariables.create(singletonMap("test", "first")));
+            first.start();
+            ProcessInstance<BpmnVariables> second = process.createInstance(BpmnVariables.create(singletonMap("test", "second")));
+            second.start();
+            return List.of(first.id(), second.id());
+        });
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        ids.forEach(id -> assertThat(processInstances.exists(id)).isTrue());
+
+        if (lock()) {
+            List<ProcessInstance<?>> stale = List.of(processInstances.findById(ids.get(0)).orElseThrow(), processInstances.findById(ids.get(1)).orElseThrow());
+            ids.forEach(id -> ((BpmnProcessInstance) processInstances.findById(id).orElseThrow()).updateVariables(BpmnVariables.create(singletonMap("test", "updated"))));
+            assertThatExceptionOfType(ProcessInstanceOptimisticLockingException.class)
+                    .isThrownBy(() -> UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+                        stale.forEach(instance -> ((BpmnProcessInstance) instance).updateVariables(BpmnVariables.create(singletonMap("test", "stale"))));
+                        return null;
+                    }))
+                    .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1).allMatch(ProcessInstanceOptimisticLockingException.class::isInstance));
+            ids.forEach(id -> assertThat(((BpmnVariables) processInstances.findById(id).orElseThrow().variables()).get("test")).isEqualTo("updated"));
+        }
+
+        UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+            for (String id : ids) {
+                ProcessInstance<?> instance = processInstances.findById(id).orElseThrow();
+                WorkItem workItem = instance.workItems(securityPolicy).get(0);
+                instance.completeWorkItem(workItem.getId(), null, securityPolicy);
+            }
+            return null;
+        });
+        assertEmpty(process.instances());
+    }
+
     @Test
     void testMultipleProcesses() {
         var factory = new TestProcessInstancesFactory(getDataSource(), lock());
@@ -162,6 +285,7 @@ abstract class AbstractProcessInstancesIT {
         assertThat(processInstances.exists(TEST_ID)).isFalse();
         Optional<?> foundTwo = processInstances.findById(TEST_ID);
         assertThat(foundTwo).isEmpty();
+        assertThat(processInstances.findHeaderById(TEST_ID)).isEmpty();
 
         processInstances.remove(processInstance.id());
         assertEmpty(process.instances());
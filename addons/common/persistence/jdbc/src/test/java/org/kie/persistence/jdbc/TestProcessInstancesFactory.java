@@ -18,6 +18,7 @@ package org.kie.persistence.jdbc;
 import javax.sql.DataSource;
 
 import org.kie.kogito.persistence.jdbc.AbstractProcessInstancesFactory;
+import org.kie.kogito.persistence.jdbc.AbstractTransactionManager;
 import org.kie.kogito.persistence.jdbc.JDBCProcessInstances;
 import org.kie.kogito.process.Process;
 
@@ -29,6 +30,10 @@ public class TestProcessInstancesFactory extends AbstractProcessInstancesFactory
         super(dataSource, lock);
     }
 
+    public TestProcessInstancesFactory(DataSource dataSource, boolean lock, AbstractTransactionManager transactionManager) {
+        super(dataSource, lock, transactionManager);
+    }
+
     @Override
     public JDBCProcessInstances createProcessInstances(Process<?> process) {
         return spy(super.createProcessInstances(process));
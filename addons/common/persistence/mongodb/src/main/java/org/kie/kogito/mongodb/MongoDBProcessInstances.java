@@ -15,6 +15,8 @@
  */
 package org.kie.kogito.mongodb;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterator;
@@ -22,6 +24,7 @@ import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.bson.BsonType;
 import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -31,7 +34,10 @@ import org.kie.kogito.mongodb.transaction.AbstractTransactionManager;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.MarshallerContextName;
@@ -39,6 +45,7 @@ import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
 
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
@@ -46,15 +53,28 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.result.UpdateResult;
 
 import static java.util.Collections.singletonMap;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.BUSINESS_KEY;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.BUSINESS_KEY_INDEX;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.EVENT_TYPES;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.EVENT_TYPES_INDEX;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID_INDEX;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.START_DATE;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.STATE;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.STATE_INDEX;
 
 public class MongoDBProcessInstances<T extends Model> implements MutableProcessInstances<T> {
 
     private static final String VERSION = "version";
+    // only the fields read by the header, named as in the json format of the process instance
+    private static final Bson HEADER_PROJECTION = Projections.fields(Projections.excludeId(),
+            Projections.include(PROCESS_INSTANCE_ID, STATE, BUSINESS_KEY, START_DATE, VERSION));
+    private static final Bson ID_PROJECTION = Projections.fields(Projections.excludeId(), Projections.include(PROCESS_INSTANCE_ID));
     private org.kie.kogito.process.Process<?> process;
     private ProcessInstanceMarshallerService marshaller;
     private final MongoCollection<Document> collection;
@@ -84,6 +104,62 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(docs, Spliterator.ORDERED), false).map(doc -> unmarshall(doc, mode)).onClose(docs::close);
     }
 
+    @Override
+    public ProcessInstancePage<ProcessInstance<T>> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        List<Bson> filters = new ArrayList<>();
+        if (after != null) {
+            filters.add(Filters.gt(PROCESS_INSTANCE_ID, after));
+        }
+        if (filter.state() != null) {
+            // default values are not written by the json format
+            filters.add(filter.state() == 0 ? Filters.or(Filters.eq(STATE, 0), Filters.exists(STATE, false)) : Filters.eq(STATE, filter.state()));
+        }
+        if (filter.businessKey() != null) {
+            filters.add(Filters.eq(BUSINESS_KEY, filter.businessKey()));
+        }
+        if (filter.startedFrom() != null || filter.startedTo() != null) {
+            List<Bson> range = new ArrayList<>();
+            if (filter.startedFrom() != null) {
+                range.add(Filters.gte(START_DATE, filter.startedFrom().getTime()));
+            }
+            if (filter.startedTo() != null) {
+                range.add(Filters.lt(START_DATE, filter.startedTo().getTime()));
+            }
+            // documents stored before the start date was kept as a number are filtered once unmarshalled
+            filters.add(Filters.or(Filters.and(range), Filters.type(START_DATE, BsonType.STRING)));
+        }
+        Bson query = filters.isEmpty() ? new Document() : Filters.and(filters);
+        ClientSession clientSession = transactionManager.getClientSession();
+        List<ProcessInstance<T>> items = new ArrayList<>();
+        String lastId = null;
+        int count = 0;
+        try (MongoCursor<Document> docs = (clientSession == null ? collection.find(query) : collection.find(clientSession, query))
+                .sort(Sorts.ascending(PROCESS_INSTANCE_ID)).limit(pageSize + 1).iterator()) {
+            while (docs.hasNext()) {
+                Document doc = docs.next();
+                if (++count > pageSize) {
+                    break;
+                }
+                lastId = doc.getString(PROCESS_INSTANCE_ID);
+                ProcessInstance<T> instance = unmarshall(doc, mode);
+                if (filter.test(ProcessInstanceHeader.of(instance))) {
+                    items.add(instance);
+                }
+            }
+        }
+        return new ProcessInstancePage<>(items, count > pageSize && lastId != null ? ProcessInstancePage.cursorOf(lastId) : null);
+    }
+
+    @Override
+    public Stream<ProcessInstance<T>> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
+        ClientSession clientSession = transactionManager.getClientSession();
+        // documents stored before the event types were indexed do not have the field and must be considered as well
+        Bson filter = Filters.or(Filters.eq(EVENT_TYPES, eventType), Filters.exists(EVENT_TYPES, false));
+        MongoCursor<Document> docs = (clientSession == null ? collection.find(filter) : collection.find(clientSession, filter)).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(docs, Spliterator.ORDERED), false).map(doc -> unmarshall(doc, mode)).onClose(docs::close);
+    }
+
     private ProcessInstance<T> unmarshall(Document document, ProcessInstanceReadMode mode) {
         ProcessInstance<T> instance = (ProcessInstance<T>) marshaller.unmarshallProcessInstance(document.toJson().getBytes(), process, mode);
         setVersion(instance, document.getLong(VERSION));
@@ -106,6 +182,12 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
     protected void updateStorage(String id, ProcessInstance<T> instance, boolean checkDuplicates) {
         ClientSession clientSession = transactionManager.getClientSession();
         Document doc = Document.parse(new String(marshaller.marshallProcessInstance(instance)));
+        doc.put(EVENT_TYPES, new ArrayList<>(((AbstractProcessInstance<?>) instance).eventTypes()));
+        // the json format writes int64 values as strings, the start date is kept as a number so it can be queried by range
+        Object startDate = doc.get(START_DATE);
+        if (startDate instanceof String) {
+            doc.put(START_DATE, Long.parseLong((String) startDate));
+        }
         if (checkDuplicates) {
             createInternal(id, clientSession, doc);
         } else {
@@ -144,13 +226,26 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
     }
 
     private Optional<Document> find(String id) {
+        return find(id, null);
+    }
+
+    private Optional<Document> find(String id, Bson projection) {
         ClientSession clientSession = transactionManager.getClientSession();
-        return Optional.ofNullable((clientSession != null ? collection.find(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id)) : collection.find(Filters.eq(PROCESS_INSTANCE_ID, id))).first());
+        FindIterable<Document> docs = clientSession != null ? collection.find(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id)) : collection.find(Filters.eq(PROCESS_INSTANCE_ID, id));
+        return Optional.ofNullable(projection == null ? docs.first() : docs.projection(projection).first());
     }
 
     @Override
     public boolean exists(String id) {
-        return find(id).isPresent();
+        return find(id, ID_PROJECTION).isPresent();
+    }
+
+    @Override
+    public Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        return find(id, HEADER_PROJECTION).map(doc -> {
+            Long version = doc.getLong(VERSION);
+            return marshaller.unmarshallProcessInstanceHeader(doc.toJson().getBytes(), version == null ? 0L : version);
+        });
     }
 
     @Override
@@ -190,6 +285,9 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         //Index creation (if the index already exists it is a no-op)
         collection.createIndex(Indexes.ascending(PROCESS_INSTANCE_ID),
                 new IndexOptions().unique(true).name(PROCESS_INSTANCE_ID_INDEX).background(true));
+        collection.createIndex(Indexes.ascending(EVENT_TYPES), new IndexOptions().name(EVENT_TYPES_INDEX).background(true));
+        collection.createIndex(Indexes.ascending(STATE, PROCESS_INSTANCE_ID), new IndexOptions().name(STATE_INDEX).background(true));
+        collection.createIndex(Indexes.ascending(BUSINESS_KEY, PROCESS_INSTANCE_ID), new IndexOptions().name(BUSINESS_KEY_INDEX).background(true));
         return collection;
     }
 }
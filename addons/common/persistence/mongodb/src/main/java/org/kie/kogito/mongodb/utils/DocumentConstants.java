@@ -22,6 +22,13 @@ public class DocumentConstants {
     public static final String DOCUMENT_ID = "_id";
     public static final String PROCESS_INSTANCE_ID = "id";
     public static final String PROCESS_INSTANCE_ID_INDEX = "index_process_instance_id";
+    public static final String EVENT_TYPES = "eventTypes";
+    public static final String EVENT_TYPES_INDEX = "index_event_types";
+    public static final String STATE = "state";
+    public static final String STATE_INDEX = "index_state";
+    public static final String BUSINESS_KEY = "businessKey";
+    public static final String BUSINESS_KEY_INDEX = "index_business_key";
+    public static final String START_DATE = "startDate";
     public static final String STRATEGIES = "strategies";
     public static final String NAME = "name";
     public static final String PROCESS_INSTANCE = "processInstance";
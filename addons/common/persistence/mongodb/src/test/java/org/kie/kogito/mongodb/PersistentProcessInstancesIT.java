@@ -81,6 +81,12 @@ class PersistentProcessInstancesIT extends TestHelper {
         assertThat(found.description()).isEqualTo("User Task");
         assertThat(found.variables().toMap()).containsExactly(entry("test", "test"));
         assertThat(mongodbInstance.exists(processInstance.id())).isTrue();
+        assertThat(mongodbInstance.findHeaderById(processInstance.id())).hasValueSatisfying(header -> {
+            assertThat(header.id()).isEqualTo(processInstance.id());
+            assertThat(header.status()).isEqualTo(STATE_ACTIVE);
+            assertThat(header.startDate()).isEqualTo(processInstance.startDate());
+            assertThat(header.version()).isZero();
+        });
         assertOne(mongodbInstance);
 
         ProcessInstance<?> readOnlyPI = mongodbInstance.findById(processInstance.id(), ProcessInstanceReadMode.READ_ONLY).get();
@@ -89,6 +95,7 @@ class PersistentProcessInstancesIT extends TestHelper {
 
         mongodbInstance.remove(processInstance.id());
         assertThat(mongodbInstance.exists(processInstance.id())).isFalse();
+        assertThat(mongodbInstance.findHeaderById(processInstance.id())).isEmpty();
         assertEmpty(mongodbInstance);
     }
 
@@ -110,6 +117,7 @@ class PersistentProcessInstancesIT extends TestHelper {
         when(cursor.hasNext()).thenReturn(false);
         FindIterable<Document> results = mock(FindIterable.class);
         when(results.first()).thenReturn(null);
+        when(results.projection(any())).thenReturn(results);
         when(results.iterator()).thenReturn(cursor);
         when(mongoCollection.find(eq(clientSession), any(Bson.class))).thenReturn(results);
         when(mongoCollection.find(eq(clientSession))).thenReturn(results);
@@ -15,18 +15,29 @@
  */
 package org.kie.kogito.persistence.postgresql;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
@@ -36,6 +47,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.pgclient.PgPool;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 
 @SuppressWarnings({ "rawtypes" })
@@ -43,14 +55,33 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
 
     private static final String VERSION = "version";
     private static final String PAYLOAD = "payload";
+    private static final String STATE = "state";
+    private static final String BUSINESS_KEY = "business_key";
+    private static final String START_DATE = "start_date";
 
     private static final String IS_NULL = "is null";
-    private static final String INSERT = "INSERT INTO process_instances (id, payload, process_id, process_version, version) VALUES ($1, $2, $3, $4, $5)";
-    private static final String UPDATE = "UPDATE process_instances SET payload = $1 WHERE process_id = $2 and id = $3 and process_version ";
+    private static final String INSERT =
+            "INSERT INTO process_instances (id, payload, process_id, process_version, version, state, business_key, start_date) VALUES ($1, $2, $3, $4, $5, $6, $7, $8)";
+    private static final String UPDATE = "UPDATE process_instances SET payload = $1, state = $2, business_key = $3, start_date = $4 WHERE process_id = $5 and id = $6 and process_version ";
     private static final String DELETE = "DELETE FROM process_instances WHERE process_id = $1 and id = $2 and process_version ";
     private static final String FIND_BY_ID = "SELECT payload, version FROM process_instances WHERE process_id = $1 and id = $2 and process_version ";
+    private static final String FIND_HEADER_BY_ID = "SELECT state, business_key, start_date, version FROM process_instances WHERE process_id = $1 and id = $2 and process_version ";
+    private static final String EXISTS = "SELECT 1 FROM process_instances WHERE process_id = $1 and id = $2 and process_version ";
     private static final String FIND_ALL = "SELECT payload, version FROM process_instances WHERE process_id = $1 and process_version ";
-    private static final String UPDATE_WITH_LOCK = "UPDATE process_instances SET payload = $1, version = $2 WHERE process_id = $3 and id = $4 and version = $5 and process_version ";
+    private static final String FIND_ALL_WAITING_FOR_EVENT_TYPE = "SELECT payload, version FROM process_instances WHERE process_id = $1 and id IN " +
+            "(SELECT process_instance_id FROM process_instance_event_types WHERE event_type IN ($2, $3)) and process_version ";
+    private static final String INSERT_EVENT_TYPE = "INSERT INTO process_instance_event_types (process_instance_id, event_type) VALUES ($1, $2)";
+    private static final String DELETE_EVENT_TYPES = "DELETE FROM process_instance_event_types WHERE process_instance_id = $1";
+    private static final String ANY_EVENT_TYPE = "*";
+    private static final String UPDATE_WITH_LOCK =
+            "UPDATE process_instances SET payload = $1, version = $2, state = $3, business_key = $4, start_date = $5 WHERE process_id = $6 and id = $7 and version = $8 and process_version ";
+    // rows stored before the header columns were added have a null state and are filtered once unmarshalled
+    private static final String FIND_PAGE = "SELECT payload, version FROM process_instances WHERE process_id = $1";
+    private static final String ID_AFTER = " and id > $";
+    private static final String STATE_EQUALS_TO = " and (state = $%d or state is null)";
+    private static final String BUSINESS_KEY_EQUALS_TO = " and (business_key = $%d or state is null)";
+    private static final String STARTED_FROM = " and (start_date >= $%d or state is null)";
+    private static final String STARTED_TO = " and (start_date < $%d or state is null)";
 
     private final Process<?> process;
     private final PgPool client;
@@ -68,7 +99,17 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
 
     @Override
     public boolean exists(String id) {
-        return findById(id).isPresent();
+        try {
+            Future<RowSet<Row>> future =
+                    client.preparedQuery(EXISTS + (process.version() == null ? IS_NULL : "= $3"))
+                            .execute(tuple(process.id(), id));
+            return getResultFromFuture(future).map(RowSet::iterator).filter(Iterator::hasNext).isPresent();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error checking process instance %s", id);
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error checking process instance %s", id);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -78,7 +119,7 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
             disconnect(instance);
             return;
         }
-        insertInternal(id, marshaller.marshallProcessInstance(instance));
+        insertInternal(id, marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance), eventTypes(instance));
     }
 
     @SuppressWarnings("unchecked")
@@ -90,9 +131,9 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }
         try {
             if (lock) {
-                updateWithLock(id, marshaller.marshallProcessInstance(instance), instance.version());
+                updateWithLock(id, marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance), instance.version(), eventTypes(instance));
             } else {
-                updateInternal(id, marshaller.marshallProcessInstance(instance));
+                updateInternal(id, marshaller.marshallProcessInstance(instance), ProcessInstanceHeader.of(instance), eventTypes(instance));
             }
         } finally {
             disconnect(instance);
@@ -109,6 +150,25 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         return findByIdInternal(id).map(r -> unmarshall(r, mode));
     }
 
+    @Override
+    public Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        Optional<Row> header;
+        try {
+            Future<RowSet<Row>> future = client.preparedQuery(FIND_HEADER_BY_ID + (process.version() == null ? IS_NULL : "= $3")).execute(tuple(process.id(), id));
+            header = getResultFromFuture(future).map(RowSet::iterator).filter(Iterator::hasNext).map(Iterator::next);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error finding process instance header %s", id);
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding process instance header %s", id);
+        }
+        if (header.isPresent() && header.get().getInteger(STATE) == null) {
+            // stored before the header columns were added
+            return findByIdInternal(id).map(r -> marshaller.unmarshallProcessInstanceHeader(r.getBuffer(PAYLOAD).getBytes(), r.getLong(VERSION)));
+        }
+        return header.map(r -> new ProcessInstanceHeader(id, r.getInteger(STATE), r.getString(BUSINESS_KEY), r.getLong(VERSION), toDate(r.getLocalDateTime(START_DATE))));
+    }
+
     @Override
     public Stream<ProcessInstance> stream(ProcessInstanceReadMode mode) {
         try {
@@ -123,6 +183,75 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }
     }
 
+    @Override
+    public ProcessInstancePage<ProcessInstance> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        StringBuilder sql = new StringBuilder(FIND_PAGE);
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(process.id());
+        if (after != null) {
+            parameters.add(after);
+            sql.append(ID_AFTER).append(parameters.size());
+        }
+        if (filter.state() != null) {
+            parameters.add(filter.state());
+            sql.append(String.format(STATE_EQUALS_TO, parameters.size()));
+        }
+        if (filter.businessKey() != null) {
+            parameters.add(filter.businessKey());
+            sql.append(String.format(BUSINESS_KEY_EQUALS_TO, parameters.size()));
+        }
+        if (filter.startedFrom() != null) {
+            parameters.add(toLocalDateTime(filter.startedFrom()));
+            sql.append(String.format(STARTED_FROM, parameters.size()));
+        }
+        if (filter.startedTo() != null) {
+            parameters.add(toLocalDateTime(filter.startedTo()));
+            sql.append(String.format(STARTED_TO, parameters.size()));
+        }
+        sql.append(" and process_version ").append(process.version() == null ? IS_NULL : "= $" + (parameters.size() + 1));
+        sql.append(" ORDER BY id LIMIT ").append(pageSize + 1);
+        try {
+            List<Row> rows = getResultFromFuture(client.preparedQuery(sql.toString()).execute(tuple(parameters.toArray())))
+                    .map(r -> StreamSupport.stream(r.spliterator(), false).collect(Collectors.toList())).orElse(Collections.emptyList());
+            List<ProcessInstance> items = new ArrayList<>();
+            String lastId = null;
+            for (Row row : rows.subList(0, Math.min(pageSize, rows.size()))) {
+                // the header check only discards rows stored before the header columns were populated
+                ProcessInstanceHeader header = marshaller.unmarshallProcessInstanceHeader(row.getBuffer(PAYLOAD).getBytes(), row.getLong(VERSION));
+                lastId = header.id();
+                if (filter.test(header)) {
+                    items.add(unmarshall(row, mode));
+                }
+            }
+            return new ProcessInstancePage<>(items, rows.size() > pageSize && lastId != null ? ProcessInstancePage.cursorOf(lastId) : null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error finding process instances page, for processId %s", process.id());
+        } catch (ExecutionException | TimeoutException e) {
+            throw uncheckedException(e, "Error finding process instances page, for processId %s", process.id());
+        }
+    }
+
+    @Override
+    public Stream<ProcessInstance> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
+        try {
+            return getResultFromFuture(client.preparedQuery(FIND_ALL_WAITING_FOR_EVENT_TYPE + (process.version() == null ? IS_NULL : "= $4"))
+                    .execute(tuple(process.id(), eventType, ANY_EVENT_TYPE)))
+                    .map(r -> StreamSupport.stream(r.spliterator(), false)).orElse(Stream.empty())
+                    .map(row -> unmarshall(row, mode));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error finding process instances waiting for event type %s, for processId %s", eventType, process.id());
+        } catch (ExecutionException | TimeoutException e) {
+            throw uncheckedException(e, "Error finding process instances waiting for event type %s, for processId %s", eventType, process.id());
+        }
+    }
+
+    private static Collection<String> eventTypes(ProcessInstance instance) {
+        return ((AbstractProcessInstance<?>) instance).eventTypes();
+    }
+
     private ProcessInstance<?> unmarshall(Row r, ProcessInstanceReadMode mode) {
         AbstractProcessInstance instance = (AbstractProcessInstance) marshaller.unmarshallProcessInstance(r.getBuffer(PAYLOAD).getBytes(), process, mode);
         instance.setVersion(r.getLong(VERSION));
@@ -141,10 +270,11 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }).orElseThrow()));
     }
 
-    private boolean insertInternal(String id, byte[] payload) {
+    private boolean insertInternal(String id, byte[] payload, ProcessInstanceHeader header, Collection<String> eventTypes) {
         try {
-            Future<RowSet<Row>> future = client.preparedQuery(INSERT)
-                    .execute(Tuple.of(id, Buffer.buffer(payload), process.id(), process.version(), 0L));
+            Future<RowSet<Row>> future = writeWithEventTypes(INSERT,
+                    Tuple.of(id, Buffer.buffer(payload), process.id(), process.version(), 0L, header.status(), header.businessKey()).addValue(toLocalDateTime(header.startDate())), id, eventTypes,
+                    false);
             return getExecutedResult(future);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -154,15 +284,31 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }
     }
 
+    /**
+     * Writes the process instance row and, when it was written, its event type rows within the same transaction
+     */
+    private Future<RowSet<Row>> writeWithEventTypes(String sql, Tuple parameters, String id, Collection<String> eventTypes, boolean replace) {
+        return client.withTransaction(connection -> connection.preparedQuery(sql).execute(parameters)
+                .compose(rows -> rows.rowCount() == 1 ? writeEventTypes(connection, id, eventTypes, replace).map(rows) : Future.succeededFuture(rows)));
+    }
+
+    private static Future<?> writeEventTypes(SqlConnection connection, String id, Collection<String> eventTypes, boolean replace) {
+        Future<?> deleted = replace ? connection.preparedQuery(DELETE_EVENT_TYPES).execute(Tuple.of(id)) : Future.succeededFuture();
+        if (eventTypes.isEmpty()) {
+            return deleted;
+        }
+        return deleted.compose(r -> connection.preparedQuery(INSERT_EVENT_TYPE)
+                .executeBatch(eventTypes.stream().map(eventType -> Tuple.of(id, eventType)).collect(Collectors.toList())));
+    }
+
     private RuntimeException uncheckedException(Exception ex, String message, Object... param) {
         return new RuntimeException(String.format(message, param), ex);
     }
 
-    private boolean updateInternal(String id, byte[] payload) {
+    private boolean updateInternal(String id, byte[] payload, ProcessInstanceHeader header, Collection<String> eventTypes) {
         try {
-            Future<RowSet<Row>> future =
-                    client.preparedQuery(UPDATE + (process.version() == null ? IS_NULL : "= $4"))
-                            .execute(tuple(Buffer.buffer(payload), process.id(), id));
+            Future<RowSet<Row>> future = writeWithEventTypes(UPDATE + (process.version() == null ? IS_NULL : "= $7"),
+                    tuple(Buffer.buffer(payload), header.status(), header.businessKey(), toLocalDateTime(header.startDate()), process.id(), id), id, eventTypes, true);
             return getExecutedResult(future);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -217,6 +363,15 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }
     }
 
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime == null ? null : Date.from(dateTime.toInstant(ZoneOffset.UTC));
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        // start_date is a timestamp without time zone, stored in UTC
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC);
+    }
+
     private Tuple tuple(Object... parameters) {
         Tuple tuple = Tuple.from(parameters);
         if (process.version() != null) {
@@ -225,10 +380,10 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         return tuple;
     }
 
-    private boolean updateWithLock(String id, byte[] payload, long version) {
+    private boolean updateWithLock(String id, byte[] payload, ProcessInstanceHeader header, long version, Collection<String> eventTypes) {
         try {
-            Future<RowSet<Row>> future = client.preparedQuery(UPDATE_WITH_LOCK + (process.version() == null ? IS_NULL : "= $6"))
-                    .execute(tuple(Buffer.buffer(payload), version + 1, process.id(), id, version));
+            Future<RowSet<Row>> future = writeWithEventTypes(UPDATE_WITH_LOCK + (process.version() == null ? IS_NULL : "= $9"),
+                    tuple(Buffer.buffer(payload), version + 1, header.status(), header.businessKey(), toLocalDateTime(header.startDate()), process.id(), id, version), id, eventTypes, true);
             boolean result = getExecutedResult(future);
             if (!result) {
                 throw new ProcessInstanceOptimisticLockingException(id);
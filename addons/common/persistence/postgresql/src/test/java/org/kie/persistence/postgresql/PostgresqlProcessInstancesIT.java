@@ -104,6 +104,12 @@ class PostgresqlProcessInstancesIT {
         PostgresqlProcessInstances processInstances = (PostgresqlProcessInstances) process.instances();
         assertOne(processInstances);
         assertThat(processInstances.exists(processInstance.id())).isTrue();
+        assertThat(processInstances.findHeaderById(processInstance.id())).hasValueSatisfying(header -> {
+            assertThat(header.id()).isEqualTo(processInstance.id());
+            assertThat(header.status()).isEqualTo(STATE_ACTIVE);
+            assertThat(header.businessKey()).isNull();
+            assertThat(header.startDate()).isEqualTo(processInstance.startDate());
+        });
 
         ProcessInstance<?> readOnlyPI = process.instances().findById(processInstance.id(), ProcessInstanceReadMode.READ_ONLY).get();
         assertThat(readOnlyPI.status()).isEqualTo(STATE_ACTIVE);
@@ -16,6 +16,9 @@
 package org.kie.kogito.persistence.rocksdb;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.Spliterators.AbstractSpliterator;
 import java.util.function.Consumer;
@@ -25,8 +28,12 @@ import java.util.stream.StreamSupport;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
+import org.rocksdb.Holder;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
@@ -86,10 +93,54 @@ public class RocksDBProcessInstances<T> implements MutableProcessInstances<T> {
         return StreamSupport.stream(iterator, false).onClose(iterator::close);
     }
 
+    @Override
+    public ProcessInstancePage<ProcessInstance<T>> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        List<ProcessInstance<T>> items = new ArrayList<>();
+        String lastId = null;
+        // keys are the ids, so the iterator already visits the instances in id order
+        try (RocksIterator iterator = db.newIterator()) {
+            if (after == null) {
+                iterator.seekToFirst();
+            } else {
+                iterator.seek(after.getBytes());
+                if (iterator.isValid() && Arrays.equals(iterator.key(), after.getBytes())) {
+                    iterator.next();
+                }
+            }
+            // there is no secondary index, headers are cheap to read so the scan goes on until the page is full
+            while (iterator.isValid() && items.size() < pageSize) {
+                ProcessInstanceHeader header = marshaller.unmarshallProcessInstanceHeader(iterator.value());
+                lastId = header.id();
+                if (filter.test(header)) {
+                    items.add(unmarshall(iterator.value(), mode));
+                }
+                iterator.next();
+            }
+            return new ProcessInstancePage<>(items, iterator.isValid() && lastId != null ? ProcessInstancePage.cursorOf(lastId) : null);
+        }
+    }
+
     @Override
     public boolean exists(String id) {
+        byte[] key = id.getBytes();
+        Holder<byte[]> value = new Holder<>();
+        // a negative answer from the bloom filters and memtables is definitive, a positive one has to be confirmed
+        if (!db.keyMayExist(key, value)) {
+            return false;
+        }
         try {
-            return db.get(id.getBytes()) != null;
+            return value.getValue() != null || db.get(key) != null;
+        } catch (RocksDBException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        try {
+            byte[] data = db.get(id.getBytes());
+            return data == null ? Optional.empty() : Optional.of(marshaller.unmarshallProcessInstanceHeader(data));
         } catch (RocksDBException ex) {
             throw new IllegalStateException(ex);
         }
@@ -122,4 +173,9 @@ public class RocksDBProcessInstances<T> implements MutableProcessInstances<T> {
     private ProcessInstance<T> unmarshall(byte[] data) {
         return (ProcessInstance<T>) marshaller.unmarshallProcessInstance(data, process);
     }
+
+    @SuppressWarnings("unchecked")
+    private ProcessInstance<T> unmarshall(byte[] data, ProcessInstanceReadMode mode) {
+        return (ProcessInstance<T>) marshaller.unmarshallProcessInstance(data, process, mode);
+    }
 }
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -37,6 +38,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstancePage;
+import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
 import org.kie.kogito.process.bpmn2.BpmnVariables;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
@@ -103,6 +107,32 @@ class RockDBProcessInstancesTest {
         }
     }
 
+    @Test
+    void testFindPage() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(createProcessInstance().getId());
+        }
+        Collections.sort(ids);
+
+        List<String> found = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ProcessInstancePage<ProcessInstance<?>> page = pi.findPage(ProcessInstanceFilter.ALL, cursor, 2, ProcessInstanceReadMode.READ_ONLY);
+            page.items().forEach(instance -> found.add(instance.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+        assertThat(found).isEqualTo(ids);
+        assertThat(pages).isEqualTo(3);
+
+        assertThat(pi.findPage(new ProcessInstanceFilter(ProcessInstance.STATE_PENDING, null, null, null), null, 10, ProcessInstanceReadMode.READ_ONLY).items()).hasSize(5);
+        ProcessInstancePage<ProcessInstance<?>> active = pi.findPage(new ProcessInstanceFilter(ProcessInstance.STATE_ACTIVE, null, null, null), null, 10, ProcessInstanceReadMode.READ_ONLY);
+        assertThat(active.items()).isEmpty();
+        assertThat(active.hasNext()).isFalse();
+    }
+
     @Test
     void testMultiThread() throws InterruptedException, ExecutionException {
         int numConcurrent = 10;
@@ -30,6 +30,7 @@ import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessError;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceExecutionException;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.impl.AbstractProcess;
@@ -187,6 +188,14 @@ public abstract class BaseProcessInstanceManagementResource<T> implements Proces
         }
 
         return UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+            // instances that do not exist or are not in error are answered from the header, without loading them
+            Optional<ProcessInstanceHeader> header = process.instances().findHeaderById(processInstanceId);
+            if (header.isEmpty()) {
+                return notFoundResponse(String.format(PROCESS_INSTANCE_NOT_FOUND, processInstanceId));
+            }
+            if (header.get().status() != ProcessInstance.STATE_ERROR) {
+                return badRequestResponse(String.format(PROCESS_INSTANCE_NOT_IN_ERROR, processInstanceId));
+            }
             Optional<? extends ProcessInstance<?>> processInstanceFound = process.instances().findById(processInstanceId);
             if (processInstanceFound.isPresent()) {
                 ProcessInstance<?> processInstance = processInstanceFound.get();
@@ -28,6 +28,7 @@ import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
 import org.kie.kogito.process.ProcessError;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.ProcessInstances;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.WorkItem;
@@ -45,6 +46,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -99,6 +101,8 @@ class BaseProcessInstanceManagementResourceTest {
         lenient().when(processes.processById(anyString())).thenReturn(process);
         lenient().when(process.instances()).thenReturn(instances);
         lenient().when(instances.findById(anyString())).thenReturn(Optional.of(processInstance));
+        lenient().when(instances.findHeaderById(anyString()))
+                .thenReturn(Optional.of(new ProcessInstanceHeader(PROCESS_INSTANCE_ID, ProcessInstance.STATE_ERROR, null, 0L, null)));
         lenient().when(processInstance.error()).thenReturn(Optional.of(error));
         lenient().when(processInstance.variables()).thenReturn(variables);
         lenient().when(processInstance.id()).thenReturn(PROCESS_INSTANCE_ID);
@@ -200,6 +204,23 @@ class BaseProcessInstanceManagementResourceTest {
         assertThat(responseMap.get("failedNodeId")).isEqualTo(NODE_ID_ERROR);
     }
 
+    @Test
+    void testDoGetInstanceNotInErrorAnsweredFromHeader() {
+        when(instances.findHeaderById(PROCESS_INSTANCE_ID)).thenReturn(Optional.of(new ProcessInstanceHeader(PROCESS_INSTANCE_ID, ProcessInstance.STATE_ACTIVE, null, 0L, null)));
+        Object response = tested.doGetInstanceInError(PROCESS_ID, PROCESS_INSTANCE_ID);
+        verify(instances, never()).findById(anyString());
+        verify(tested).badRequestResponse(any());
+        assertThat(response).isEqualTo("Process instance with id " + PROCESS_INSTANCE_ID + " is not in error state");
+    }
+
+    @Test
+    void testDoGetInstanceInErrorNotFound() {
+        when(instances.findHeaderById(PROCESS_INSTANCE_ID)).thenReturn(Optional.empty());
+        tested.doGetInstanceInError(PROCESS_ID, PROCESS_INSTANCE_ID);
+        verify(instances, never()).findById(anyString());
+        verify(tested).notFoundResponse(any());
+    }
+
     @Test
     void testDoGetWorkItemsInProcessInstance(@Mock WorkItem workItem) {
         when(processInstance.workItems(any(SecurityPolicy.class))).thenReturn(singletonList(workItem));
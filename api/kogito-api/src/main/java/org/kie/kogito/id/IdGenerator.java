@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.id;
+
+/**
+ * Generates the identifiers of runtime entities such as process instances, node instances, work items and correlations.
+ * <p>
+ * Implementations are discovered through {@link java.util.ServiceLoader}, see {@link IdGenerators}, and must be thread safe.
+ */
+public interface IdGenerator {
+
+    /**
+     * @return a new unique identifier
+     */
+    String generate();
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.id;
+
+import java.util.ServiceLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entry point to the {@link IdGenerator} in use.
+ * <p>
+ * The generator is selected on first use, in this order:
+ * <ol>
+ * <li>the <code>kogito.id.generator</code> system property, either <code>time-ordered</code>, <code>random</code>
+ * or the fully qualified name of an {@link IdGenerator} implementation</li>
+ * <li>the first {@link IdGenerator} registered through {@link ServiceLoader}</li>
+ * <li>{@link TimeOrderedIdGenerator}</li>
+ * </ol>
+ * Quarkus and Spring Boot applications set the same <code>kogito.id.generator</code> property in their configuration,
+ * which is applied through {@link #configure(String)} when they start.
+ */
+public final class IdGenerators {
+
+    public static final String ID_GENERATOR_PROPERTY = "kogito.id.generator";
+    public static final String TIME_ORDERED = "time-ordered";
+    public static final String RANDOM = "random";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdGenerators.class);
+
+    private static volatile IdGenerator generator;
+
+    private IdGenerators() {
+    }
+
+    public static IdGenerator get() {
+        IdGenerator current = generator;
+        if (current == null) {
+            synchronized (IdGenerators.class) {
+                if (generator == null) {
+                    generator = create(System.getProperty(ID_GENERATOR_PROPERTY));
+                }
+                current = generator;
+            }
+        }
+        return current;
+    }
+
+    public static String generate() {
+        return get().generate();
+    }
+
+    /**
+     * Replaces the generator in use with the one identified by the given value of {@value #ID_GENERATOR_PROPERTY},
+     * null meaning discovery. Identifiers generated so far are not affected.
+     */
+    public static void configure(String configured) {
+        generator = create(configured);
+    }
+
+    /**
+     * Creates the generator identified by the given value of {@value #ID_GENERATOR_PROPERTY}, null meaning discovery.
+     */
+    public static IdGenerator create(String configured) {
+        IdGenerator generator;
+        if (configured == null) {
+            generator = ServiceLoader.load(IdGenerator.class).findFirst().orElseGet(TimeOrderedIdGenerator::new);
+        } else if (TIME_ORDERED.equals(configured)) {
+            generator = new TimeOrderedIdGenerator();
+        } else if (RANDOM.equals(configured)) {
+            generator = new RandomIdGenerator();
+        } else {
+            try {
+                generator = (IdGenerator) Class.forName(configured, true, Thread.currentThread().getContextClassLoader()).getConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalArgumentException("Invalid value " + configured + " for property " + ID_GENERATOR_PROPERTY, e);
+            }
+        }
+        LOGGER.debug("Using id generator {}", generator.getClass().getName());
+        return generator;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.id;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time ordered (version 7) UUIDs.
+ * <p>
+ * The 48 most significant bits hold the Unix timestamp in milliseconds, followed by a 12 bits counter and 62 random bits.
+ * The counter starts at a random value in the lower half of its range on every new millisecond and is incremented for
+ * identifiers generated within the same millisecond; when it overflows it carries into the timestamp, so identifiers
+ * produced by one generator are strictly increasing.
+ * Consecutive identifiers therefore land next to each other in B-tree indexes, instead of being scattered across them as
+ * random UUIDs are. The 62 random bits come from a {@link SecureRandom}, as the ones of {@link UUID#randomUUID()} do, so
+ * identifiers cannot be guessed out of previous ones; the counter start only spreads identifiers and is not part of that.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long TIMESTAMP_MASK = 0xFFFFFFFFFFFFL;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // timestamp << COUNTER_BITS | counter of the last generated identifier
+    private final AtomicLong last = new AtomicLong();
+    private final Random random;
+
+    public TimeOrderedIdGenerator() {
+        this(new SecureRandom());
+    }
+
+    TimeOrderedIdGenerator(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public String generate() {
+        return nextUUID().toString();
+    }
+
+    public UUID nextUUID() {
+        long millis = System.currentTimeMillis();
+        long current = last.updateAndGet(previous -> (previous >>> COUNTER_BITS) < millis
+                ? millis << COUNTER_BITS | ThreadLocalRandom.current().nextLong(COUNTER_MASK >>> 1)
+                : previous + 1);
+        long mostSigBits = ((current >>> COUNTER_BITS) & TIMESTAMP_MASK) << 16 | VERSION | (current & COUNTER_MASK);
+        long leastSigBits = random.nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
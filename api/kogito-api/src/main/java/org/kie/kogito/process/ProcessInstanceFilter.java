@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Simple filter applied when listing process instances. Every criteria is optional (null), an instance
+ * matches when it satisfies all the criteria that are set. The start date range includes its lower bound
+ * and excludes its upper bound.
+ */
+public class ProcessInstanceFilter implements Predicate<ProcessInstanceHeader> {
+
+    public static final ProcessInstanceFilter ALL = new ProcessInstanceFilter(null, null, null, null);
+
+    private final Integer state;
+    private final String businessKey;
+    private final Date startedFrom;
+    private final Date startedTo;
+
+    public ProcessInstanceFilter(Integer state, String businessKey, Date startedFrom, Date startedTo) {
+        this.state = state;
+        this.businessKey = businessKey;
+        this.startedFrom = startedFrom;
+        this.startedTo = startedTo;
+    }
+
+    /**
+     * Creates a filter from its textual representation, as received by the REST endpoints.
+     * Dates must be ISO-8601 date times with offset, for instance <code>2023-03-01T10:15:30+01:00</code>
+     *
+     * @throws IllegalArgumentException if any of the dates cannot be parsed
+     */
+    public static ProcessInstanceFilter of(Integer state, String businessKey, String startedFrom, String startedTo) {
+        return new ProcessInstanceFilter(state, businessKey, parseDate("startedFrom", startedFrom), parseDate("startedTo", startedTo));
+    }
+
+    private static Date parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Date.from(OffsetDateTime.parse(value).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + " date " + value + ", expected an ISO-8601 date time with offset", e);
+        }
+    }
+
+    public Integer state() {
+        return state;
+    }
+
+    public String businessKey() {
+        return businessKey;
+    }
+
+    public Date startedFrom() {
+        return startedFrom;
+    }
+
+    public Date startedTo() {
+        return startedTo;
+    }
+
+    public boolean isEmpty() {
+        return state == null && businessKey == null && startedFrom == null && startedTo == null;
+    }
+
+    @Override
+    public boolean test(ProcessInstanceHeader header) {
+        return (state == null || state == header.status())
+                && (businessKey == null || businessKey.equals(header.businessKey()))
+                && (startedFrom == null || (header.startDate() != null && !header.startDate().before(startedFrom)))
+                && (startedTo == null || (header.startDate() != null && header.startDate().before(startedTo)));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, businessKey, startedFrom, startedTo);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ProcessInstanceFilter other = (ProcessInstanceFilter) obj;
+        return Objects.equals(state, other.state) && Objects.equals(businessKey, other.businessKey) && Objects.equals(startedFrom, other.startedFrom)
+                && Objects.equals(startedTo, other.startedTo);
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstanceFilter [state=" + state + ", businessKey=" + businessKey + ", startedFrom=" + startedFrom + ", startedTo=" + startedTo + "]";
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Header of a process instance: the few fields needed to know which instance it is and in which state it is,
+ * read without rebuilding the whole instance (node instances, variables, work items).
+ */
+public class ProcessInstanceHeader {
+
+    private final String id;
+    private final int status;
+    private final String businessKey;
+    private final long version;
+    private final Date startDate;
+
+    public ProcessInstanceHeader(String id, int status, String businessKey, long version, Date startDate) {
+        this.id = id;
+        this.status = status;
+        this.businessKey = businessKey;
+        this.version = version;
+        this.startDate = startDate;
+    }
+
+    public static ProcessInstanceHeader of(ProcessInstance<?> processInstance) {
+        return new ProcessInstanceHeader(processInstance.id(), processInstance.status(), processInstance.businessKey(), processInstance.version(), processInstance.startDate());
+    }
+
+    /**
+     * Returns process instance id
+     *
+     * @return process instance id
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Returns status of the process instance, one of the <code>ProcessInstance.STATE_*</code> constants
+     *
+     * @return status of the process instance
+     */
+    public int status() {
+        return status;
+    }
+
+    /**
+     * Returns business key of the process instance, null if it was not set
+     *
+     * @return business key of the process instance
+     */
+    public String businessKey() {
+        return businessKey;
+    }
+
+    /**
+     * Returns version of the process instance, as used by optimistic locking
+     *
+     * @return version of the process instance
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns start date of the process instance, null if it was not started
+     *
+     * @return start date of the process instance
+     */
+    public Date startDate() {
+        return startDate;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, businessKey, version, startDate);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ProcessInstanceHeader other = (ProcessInstanceHeader) obj;
+        return status == other.status && version == other.version && Objects.equals(id, other.id) && Objects.equals(businessKey, other.businessKey)
+                && Objects.equals(startDate, other.startDate);
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstanceHeader [id=" + id + ", status=" + status + ", businessKey=" + businessKey + ", version=" + version + ", startDate=" + startDate + "]";
+    }
+}
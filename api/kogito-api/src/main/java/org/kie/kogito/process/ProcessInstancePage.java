@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A page of a keyset paginated listing. Instances are listed by ascending id and the cursor is an opaque
+ * token encoding the last id visited, so the next page starts right after it no matter how many instances
+ * were created or removed in the meantime.
+ * <p>
+ * A page holds at most the requested number of items but it might hold less, even none, while there are
+ * still more instances to visit. Callers should keep requesting pages until {@link #nextCursor()} is null.
+ *
+ * @param <T> type of the items
+ */
+public class ProcessInstancePage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public ProcessInstancePage(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page out of the first <code>pageSize + 1</code> candidates sorted by id. The extra candidate, if present,
+     * only tells there is a next page and is not part of it.
+     */
+    public static <T> ProcessInstancePage<T> of(List<T> candidates, int pageSize, Function<T, String> idFunction) {
+        if (candidates.size() <= pageSize) {
+            return new ProcessInstancePage<>(candidates, null);
+        }
+        List<T> items = candidates.subList(0, pageSize);
+        return new ProcessInstancePage<>(items, items.isEmpty() ? null : cursorOf(idFunction.apply(items.get(items.size() - 1))));
+    }
+
+    public List<T> items() {
+        return items;
+    }
+
+    /**
+     * Returns the cursor to request the next page with, null if this is the last page
+     *
+     * @return cursor of the next page
+     */
+    public String nextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> ProcessInstancePage<R> map(Function<T, R> mapper) {
+        return new ProcessInstancePage<>(items.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * Encodes the id of the last visited process instance as a cursor
+     */
+    public static String cursorOf(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the id of the last visited process instance out of a cursor
+     *
+     * @return the id, null if the cursor is null or empty (first page)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static String idOf(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+}
@@ -15,7 +15,9 @@
  */
 package org.kie.kogito.process;
 
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public interface ProcessInstances<T> {
@@ -28,7 +30,65 @@ public interface ProcessInstances<T> {
 
     Stream<ProcessInstance<T>> stream(ProcessInstanceReadMode mode);
 
+    /**
+     * Returns the header (id, status, business key, version and start date) of the given process instance.
+     * <p>
+     * Implementations should override this method to read the header without unmarshalling the whole instance,
+     * so callers only interested in the status of an instance do not pay for its full hydration.
+     * The default implementation loads the instance in read only mode.
+     *
+     * @param id process instance id
+     * @return header of the process instance, empty if it does not exist
+     */
+    default Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        return findById(id, ProcessInstanceReadMode.READ_ONLY).map(ProcessInstanceHeader::of);
+    }
+
+    /**
+     * Returns a page of the process instances matching the given filter, sorted by id.
+     * <p>
+     * Implementations should override this method to push the filter and the keyset condition down to the storage,
+     * or at least to visit instances by ascending id, so listing does not load every instance.
+     * The default implementation filters and sorts the whole stream and is only meant as a fallback.
+     *
+     * @param filter criteria instances must match
+     * @param cursor cursor returned by the previous page, null to get the first one
+     * @param pageSize maximum number of instances returned
+     * @param mode read mode used to load the instances
+     * @return page of instances, see {@link ProcessInstancePage} for its contract
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    default ProcessInstancePage<ProcessInstance<T>> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        try (Stream<ProcessInstance<T>> stream = stream(mode)) {
+            return ProcessInstancePage.of(stream.filter(pi -> after == null || pi.id().compareTo(after) > 0)
+                    .filter(pi -> filter.test(ProcessInstanceHeader.of(pi)))
+                    .sorted(Comparator.comparing(ProcessInstance::id))
+                    .limit(pageSize + 1L)
+                    .collect(Collectors.toList()), pageSize, ProcessInstance::id);
+        }
+    }
+
     default Stream<ProcessInstance<T>> stream() {
         return stream(ProcessInstanceReadMode.READ_ONLY);
     }
+
+    /**
+     * Returns the process instances that are listening for the given event type.
+     * <p>
+     * Implementations that keep an index of the event types every instance is subscribed to
+     * should override this method so broadcast signals only load the interested instances.
+     * The default implementation returns all instances, which is always a valid (though expensive) superset.
+     *
+     * @param eventType the event type (signal name) to look for
+     * @param mode read mode used to load the instances
+     * @return stream of instances waiting for the given event type
+     */
+    default Stream<ProcessInstance<T>> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
+        return stream(mode);
+    }
+
+    default Stream<ProcessInstance<T>> waitingForEventType(String eventType) {
+        return waitingForEventType(eventType, ProcessInstanceReadMode.READ_ONLY);
+    }
 }
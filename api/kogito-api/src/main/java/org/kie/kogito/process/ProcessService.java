@@ -51,6 +51,13 @@ public interface ProcessService {
 
     <T extends MappableToModel<R>, R> List<R> getProcessInstanceOutput(Process<T> process);
 
+    /**
+     * Returns a page of the outputs of the process instances matching the given filter, see {@link ProcessInstances#findPage}
+     *
+     * @param pageSize maximum number of items, null or greater than the configured process instance limit means the limit
+     */
+    <T extends MappableToModel<R>, R> ProcessInstancePage<R> getProcessInstanceOutput(Process<T> process, ProcessInstanceFilter filter, String cursor, Integer pageSize);
+
     <T extends MappableToModel<R>, R> Optional<R> findById(Process<T> process, String id);
 
     <T extends MappableToModel<R>, R> Optional<R> delete(Process<T> process, String id);
@@ -146,6 +153,15 @@ public interface ProcessService {
 
     <T extends MappableToModel<R>, R> Optional<R> signalProcessInstance(Process<T> process, String id, Object data, String signalName);
 
+    /**
+     * Sends the given signals, in order, to a process instance within a single unit of work, so the instance is loaded
+     * and persisted once. If any of them fails, none is applied. Sending stops at the first signal after which the
+     * instance is no longer active, the signals following it are not sent.
+     *
+     * @return the signaled process instance with the number of signals sent to it, empty if not found
+     */
+    <T extends Model> Optional<SignaledProcessInstance<T>> signalProcessInstance(Process<T> process, String id, List<Signal<?>> signals);
+
     //Schema
     <T extends Model> Map<String, Object> getSchemaAndPhases(Process<T> process,
             String id,
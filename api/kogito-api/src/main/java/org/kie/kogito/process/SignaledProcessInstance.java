@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+import org.kie.kogito.Model;
+
+/**
+ * Outcome of sending several signals to a process instance at once: the instance and how many of the signals,
+ * taken in order, were sent to it. Signals are no longer sent once the instance is not active anymore, so the
+ * remaining ones are left to the caller.
+ *
+ * @param <T> model of the process instance
+ */
+public class SignaledProcessInstance<T extends Model> {
+
+    private final ProcessInstance<T> processInstance;
+    private final int signalsSent;
+
+    public SignaledProcessInstance(ProcessInstance<T> processInstance, int signalsSent) {
+        this.processInstance = processInstance;
+        this.signalsSent = signalsSent;
+    }
+
+    public ProcessInstance<T> processInstance() {
+        return processInstance;
+    }
+
+    public int signalsSent() {
+        return signalsSent;
+    }
+}
@@ -26,6 +26,12 @@ public interface WorkUnit<T> {
     int HIGH_PRIORITY = 10;
     int DEFAULT_PRIORITY = 100;
     int LOW_PRIORITY = 1000;
+    /**
+     * Work units with this priority are performed once the unit of work has ended and its listeners
+     * (for instance the ones committing the transaction) have been notified, so they only see committed state.
+     * They are meant for side effects towards other systems, their failures do not affect the unit of work.
+     */
+    int AFTER_END_PRIORITY = Integer.MAX_VALUE;
 
     /**
      * Returns data attached to the work unit
@@ -22,6 +22,13 @@ public interface UnitOfWorkEventListener {
         //NO-OP
     }
 
+    /**
+     * Invoked once the unit of work is started, so work can already be intercepted on it
+     */
+    default void onAfterStartEvent(UnitOfWorkStartEvent event) {
+        //NO-OP
+    }
+
     default void onAfterEndEvent(UnitOfWorkEndEvent event) {
         //NO-OP
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void testVersionAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = new TimeOrderedIdGenerator().nextUUID();
+        long after = System.currentTimeMillis();
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // the counter might borrow from the following milliseconds, never from the previous ones
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1);
+    }
+
+    @Test
+    void testMonotonic() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(generator.generate());
+        }
+        // string representation sorts as the UUID bits do, which is what database indexes on text columns see
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testUniqueAcrossThreads() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(generator.generate()));
+        assertThat(ids).hasSize(200_000);
+    }
+
+    @Test
+    void testRandomBitsFromSource() {
+        Random random = new Random() {
+            @Override
+            public long nextLong() {
+                return -1L;
+            }
+        };
+        UUID uuid = new TimeOrderedIdGenerator(random).nextUUID();
+        assertThat(uuid.getLeastSignificantBits()).isEqualTo(0xBFFFFFFFFFFFFFFFL);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void testConfigure() {
+        IdGenerator previous = IdGenerators.get();
+        try {
+            IdGenerators.configure(IdGenerators.RANDOM);
+            assertThat(IdGenerators.get()).isInstanceOf(RandomIdGenerator.class);
+            assertThat(UUID.fromString(IdGenerators.generate()).version()).isEqualTo(4);
+        } finally {
+            IdGenerators.configure(previous.getClass().getName());
+        }
+    }
+
+    @Test
+    void testCreate() {
+        assertThat(IdGenerators.create(null)).isInstanceOf(TimeOrderedIdGenerator.class);
+        assertThat(IdGenerators.create(IdGenerators.TIME_ORDERED)).isInstanceOf(TimeOrderedIdGenerator.class);
+        assertThat(IdGenerators.create(IdGenerators.RANDOM)).isInstanceOf(RandomIdGenerator.class);
+        assertThat(IdGenerators.create(RandomIdGenerator.class.getName())).isInstanceOf(RandomIdGenerator.class);
+        assertThatIllegalArgumentException().isThrownBy(() -> IdGenerators.create(String.class.getName()));
+    }
+}
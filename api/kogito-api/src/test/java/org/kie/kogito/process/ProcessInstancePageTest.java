@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ProcessInstancePageTest {
+
+    @Test
+    void testCursorRoundTrip() {
+        String id = "02ac3854-46ee-42b7-8b63-5186c9889d96";
+        assertThat(ProcessInstancePage.idOf(ProcessInstancePage.cursorOf(id))).isEqualTo(id);
+        assertThat(ProcessInstancePage.idOf(null)).isNull();
+        assertThat(ProcessInstancePage.idOf("")).isNull();
+        assertThatIllegalArgumentException().isThrownBy(() -> ProcessInstancePage.idOf("not a cursor"));
+    }
+
+    @Test
+    void testPageOf() {
+        ProcessInstancePage<String> page = ProcessInstancePage.of(Arrays.asList("a", "b", "c"), 2, s -> s);
+        assertThat(page.items()).containsExactly("a", "b");
+        assertThat(ProcessInstancePage.idOf(page.nextCursor())).isEqualTo("b");
+
+        ProcessInstancePage<String> last = ProcessInstancePage.of(Arrays.asList("c"), 2, s -> s);
+        assertThat(last.items()).containsExactly("c");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void testFilter() {
+        ProcessInstanceHeader header = new ProcessInstanceHeader("id", ProcessInstance.STATE_ACTIVE, "key", 0L, new Date(1000L));
+        assertThat(ProcessInstanceFilter.ALL.test(header)).isTrue();
+        assertThat(new ProcessInstanceFilter(ProcessInstance.STATE_ACTIVE, "key", null, null).test(header)).isTrue();
+        assertThat(new ProcessInstanceFilter(ProcessInstance.STATE_COMPLETED, null, null, null).test(header)).isFalse();
+        assertThat(new ProcessInstanceFilter(null, "other", null, null).test(header)).isFalse();
+        assertThat(new ProcessInstanceFilter(null, null, new Date(1000L), new Date(2000L)).test(header)).isTrue();
+        assertThat(new ProcessInstanceFilter(null, null, null, new Date(1000L)).test(header)).isFalse();
+        assertThat(new ProcessInstanceFilter(null, null, new Date(1001L), null).test(header)).isFalse();
+    }
+
+    @Test
+    void testFilterOf() {
+        assertThat(ProcessInstanceFilter.of(null, null, null, "")).isEqualTo(ProcessInstanceFilter.ALL);
+        assertThat(ProcessInstanceFilter.of(1, "key", "1970-01-01T00:00:01Z", "1970-01-01T01:00:02+01:00"))
+                .isEqualTo(new ProcessInstanceFilter(1, "key", new Date(1000L), new Date(2000L)));
+        assertThatIllegalArgumentException().isThrownBy(() -> ProcessInstanceFilter.of(null, null, "yesterday", null));
+    }
+}
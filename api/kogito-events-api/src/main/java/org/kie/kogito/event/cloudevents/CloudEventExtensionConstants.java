@@ -38,6 +38,8 @@ public final class CloudEventExtensionConstants {
     public static final String PROCESS_ROOT_PROCESS_INSTANCE_ID = "kogitorootprociid";
     public static final String PROCESS_ROOT_PROCESS_ID = "kogitorootprocid";
     public static final String PROCESS_START_FROM_NODE = "kogitoprocstartfrom";
+    public static final String PROCESS_INSTANCE_SEQUENCE = "kogitoprocseq";
+    public static final String PROCESS_EVENT_FORMAT = "kogitoprocformat";
     public static final String PROCESS_USER_TASK_INSTANCE_ID = "kogitousertaskiid";
     public static final String PROCESS_USER_TASK_INSTANCE_STATE = "kogitousertaskist";
     public static final String RULE_UNIT_ID = "kogitoruleunitid";
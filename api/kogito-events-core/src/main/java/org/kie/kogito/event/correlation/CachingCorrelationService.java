@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.correlation;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.kie.kogito.correlation.Correlation;
+import org.kie.kogito.correlation.CorrelationInstance;
+import org.kie.kogito.correlation.CorrelationService;
+
+/**
+ * Bounded near-cache in front of a (usually remote) {@link CorrelationService}.
+ * <p>
+ * Results of {@link #find(Correlation)} are cached, including the absence of a correlation, keyed by
+ * {@link CorrelationHash} so hits never pay for the delegate encoding. Entries keep their correlation, which must be
+ * equal to the one looked up for a hit, so correlations sharing a hash never get each other's instance. Creations and deletions going through this
+ * instance update the cache immediately; changes made by other nodes become visible once the entry expires, after
+ * <code>ttl</code>. When the cache is full, expired entries are purged and, if still full, arbitrary entries are evicted.
+ */
+public class CachingCorrelationService implements CorrelationService {
+
+    public static final String CACHE_SIZE_PROPERTY = "kogito.persistence.correlation.cache.size";
+    public static final String CACHE_TTL_PROPERTY = "kogito.persistence.correlation.cache.ttl-ms";
+    // caching is opt-in, a node might not see correlations created by other nodes until its entries expire
+    public static final String DEFAULT_CACHE_SIZE = "0";
+    public static final String DEFAULT_CACHE_TTL = "1000";
+
+    private final CorrelationService delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<CorrelationHash, Entry> cache = new ConcurrentHashMap<>();
+    // orders writes, so a lookup started before a create or delete never overrides its result
+    private final AtomicLong stamps = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param delegate service holding the correlations
+     * @param maxSize maximum number of cached entries. Zero or negative disables caching
+     * @param ttlMillis time, in milliseconds, entries are considered fresh
+     */
+    public CachingCorrelationService(CorrelationService delegate, int maxSize, long ttlMillis) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    @Override
+    public CorrelationInstance create(Correlation correlation, String correlatedId) {
+        CorrelationInstance instance = delegate.create(correlation, correlatedId);
+        store(correlation, instance, stamps.incrementAndGet());
+        return instance;
+    }
+
+    @Override
+    public Optional<CorrelationInstance> find(Correlation correlation) {
+        Entry entry = cache.get(CorrelationHash.of(correlation));
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0 && entry.correlation.equals(correlation)) {
+            if (entry.instance == null) {
+                negativeHits.increment();
+            } else {
+                hits.increment();
+            }
+            return Optional.ofNullable(entry.instance);
+        }
+        misses.increment();
+        long stamp = stamps.get();
+        Optional<CorrelationInstance> instance = delegate.find(correlation);
+        store(correlation, instance.orElse(null), stamp);
+        return instance;
+    }
+
+    @Override
+    public Optional<CorrelationInstance> findByCorrelatedId(String correlatedId) {
+        return delegate.findByCorrelatedId(correlatedId);
+    }
+
+    @Override
+    public void delete(Correlation correlation) {
+        delegate.delete(correlation);
+        store(correlation, null, stamps.incrementAndGet());
+    }
+
+    private void store(Correlation<?> correlation, CorrelationInstance instance, long stamp) {
+        if (maxSize <= 0) {
+            return;
+        }
+        CorrelationHash hash = CorrelationHash.of(correlation);
+        if (cache.size() >= maxSize && !cache.containsKey(hash)) {
+            evict();
+        }
+        Entry entry = new Entry(correlation, instance, stamp, System.nanoTime() + ttlNanos);
+        cache.merge(hash, entry, (previous, current) -> previous.stamp > current.stamp ? previous : current);
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        cache.values().removeIf(entry -> entry.expiresAt - now <= 0);
+        Iterator<Entry> iterator = cache.values().iterator();
+        // leave some room, so eviction does not run on every insertion
+        int toEvict = cache.size() - maxSize + Math.max(1, maxSize / 10);
+        while (toEvict-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int getSize() {
+        return cache.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getNegativeHits() {
+        return negativeHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private static final class Entry {
+        private final Correlation<?> correlation;
+        private final CorrelationInstance instance;
+        private final long stamp;
+        private final long expiresAt;
+
+        private Entry(Correlation<?> correlation, CorrelationInstance instance, long stamp, long expiresAt) {
+            this.correlation = correlation;
+            this.instance = instance;
+            this.stamp = stamp;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
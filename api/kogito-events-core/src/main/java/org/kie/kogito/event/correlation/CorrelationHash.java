@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.correlation;
+
+import org.kie.kogito.correlation.CompositeCorrelation;
+import org.kie.kogito.correlation.Correlation;
+
+/**
+ * 128 bits, non cryptographic, hash of a {@link Correlation}.
+ * <p>
+ * It is computed directly over the characters of keys and values, without building an intermediate string or digest,
+ * and is independent of the iteration order of the correlations composing a {@link CompositeCorrelation}.
+ * Correlations with the same keys and the same string values have the same hash.
+ */
+public final class CorrelationHash {
+
+    private static final long SEED_1 = 0x84222325CBF29CE4L;
+    private static final long SEED_2 = 0x9E3779B97F4A7C15L;
+    private static final long PRIME_1 = 0x100000001B3L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+
+    // markers are outside the char range so they never collide with content
+    private static final int SEPARATOR = 0x10000;
+    private static final int NULL = 0x10001;
+    private static final int COMPOSITE = 0x10002;
+
+    private long high = SEED_1;
+    private long low = SEED_2;
+
+    private CorrelationHash() {
+    }
+
+    public static CorrelationHash of(Correlation<?> correlation) {
+        CorrelationHash hash = new CorrelationHash();
+        hash.add(correlation);
+        hash.high = mix(hash.high);
+        hash.low = mix(hash.low);
+        return hash;
+    }
+
+    private void add(Correlation<?> correlation) {
+        if (correlation instanceof CompositeCorrelation) {
+            // composite correlations are backed by sets sorted by key, so iteration order is stable
+            add(COMPOSITE);
+            for (Correlation<?> child : ((CompositeCorrelation) correlation).getValue()) {
+                add(child);
+            }
+            add(COMPOSITE);
+        } else {
+            add(correlation.getKey());
+            add(correlation.asString());
+        }
+    }
+
+    private void add(String value) {
+        if (value == null) {
+            add(NULL);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                add(value.charAt(i));
+            }
+        }
+        add(SEPARATOR);
+    }
+
+    private void add(int value) {
+        high = (high ^ value) * PRIME_1;
+        low = Long.rotateLeft(low + value, 27) * PRIME_2;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CorrelationHash)) {
+            return false;
+        }
+        CorrelationHash that = (CorrelationHash) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[32];
+        toHex(high, chars, 0);
+        toHex(low, chars, 16);
+        return new String(chars);
+    }
+
+    private static void toHex(long value, char[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = Character.forDigit((int) (value & 0xF), 16);
+            value >>>= 4;
+        }
+    }
+}
@@ -26,23 +26,25 @@ import org.kie.kogito.correlation.CorrelationService;
 
 public class DefaultCorrelationService implements CorrelationService {
 
-    private static final Map<String, CorrelationInstance> correlationRepository = new ConcurrentHashMap<>();
+    // keyed by the correlation itself, an encoding might be shared by different correlations
+    private static final Map<Correlation<?>, CorrelationInstance> correlationRepository = new ConcurrentHashMap<>();
     private static final Map<String, CorrelationInstance> correlatedRepository = new ConcurrentHashMap<>();
 
-    private CorrelationEncoder correlationEncoder = new MD5CorrelationEncoder();
+    // correlations are not persisted, so the cheaper encoder can be used
+    private CorrelationEncoder correlationEncoder = new HashCorrelationEncoder();
 
     @Override
     public CorrelationInstance create(Correlation correlation, String correlatedId) {
         String encodedCorrelationId = correlationEncoder.encode(correlation);
         CorrelationInstance correlationInstance = new CorrelationInstance(encodedCorrelationId, correlatedId, correlation);
-        correlationRepository.put(encodedCorrelationId, correlationInstance);
+        correlationRepository.put(correlation, correlationInstance);
         correlatedRepository.put(correlatedId, correlationInstance);
         return correlationInstance;
     }
 
     @Override
     public Optional<CorrelationInstance> find(Correlation correlation) {
-        return Optional.ofNullable(correlationRepository.get(correlationEncoder.encode(correlation)));
+        return Optional.ofNullable(correlationRepository.get(correlation));
     }
 
     @Override
@@ -52,7 +54,7 @@ public class DefaultCorrelationService implements CorrelationService {
 
     @Override
     public void delete(Correlation correlation) {
-        CorrelationInstance removed = correlationRepository.remove(correlationEncoder.encode(correlation));
+        CorrelationInstance removed = correlationRepository.remove(correlation);
         correlatedRepository.remove(removed.getCorrelatedId());
     }
 
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.correlation;
+
+import org.kie.kogito.correlation.Correlation;
+import org.kie.kogito.correlation.CorrelationEncoder;
+
+/**
+ * Encodes correlations as the hexadecimal representation of their {@link CorrelationHash}.
+ * <p>
+ * Much cheaper than {@link MD5CorrelationEncoder}, but it produces different values, so it must not replace it for
+ * correlations already stored by a persistent {@link org.kie.kogito.correlation.CorrelationService}. The hash is not
+ * collision resistant, different correlations might get the same encoding, so it identifies correlations but must
+ * not be the only thing lookups are keyed by.
+ */
+public class HashCorrelationEncoder implements CorrelationEncoder {
+
+    @Override
+    public String encode(Correlation<?> correlation) {
+        return CorrelationHash.of(correlation).toString();
+    }
+}
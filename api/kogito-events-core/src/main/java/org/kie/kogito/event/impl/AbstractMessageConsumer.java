@@ -46,8 +46,20 @@ public abstract class AbstractMessageConsumer<M extends Model, D> {
             ProcessService processService,
             ExecutorService executorService,
             Set<String> correlations) {
+        init(application, process, trigger, eventReceiver, dataClass, processService, executorService, correlations, null);
+    }
+
+    protected void init(Application application,
+            Process<M> process,
+            String trigger,
+            EventReceiver eventReceiver,
+            Class<D> dataClass,
+            ProcessService processService,
+            ExecutorService executorService,
+            Set<String> correlations,
+            ProcessEventMailboxes mailboxes) {
         this.trigger = trigger;
-        this.eventDispatcher = new ProcessEventDispatcher<>(process, getModelConverter(), processService, executorService, correlations, getDataResolver());
+        this.eventDispatcher = new ProcessEventDispatcher<>(process, getModelConverter(), processService, executorService, correlations, getDataResolver(), mailboxes);
         eventReceiver.subscribe(this::consume, dataClass);
         logger.info("Consumer for {} started", trigger);
     }
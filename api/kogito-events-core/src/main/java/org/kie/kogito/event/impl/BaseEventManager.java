@@ -30,10 +30,11 @@ public class BaseEventManager implements EventManager {
     private String service;
     private Addons addons;
     private Set<EventPublisher> publishers = new LinkedHashSet<>();
+    private ProcessInstanceDeltaTracker deltaTracker;
 
     @Override
     public EventBatch newBatch() {
-        return new ProcessInstanceEventBatch(service, addons);
+        return new ProcessInstanceEventBatch(service, addons, deltaTracker);
     }
 
     @Override
@@ -62,4 +63,11 @@ public class BaseEventManager implements EventManager {
         this.addons = addons;
     }
 
+    /**
+     * @param deltaTracker tracker used to publish process instance events as deltas, null to always publish full events
+     */
+    public void setDeltaTracker(ProcessInstanceDeltaTracker deltaTracker) {
+        this.deltaTracker = deltaTracker;
+    }
+
 }
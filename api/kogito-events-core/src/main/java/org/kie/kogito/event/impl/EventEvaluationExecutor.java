@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.kie.kogito.event.KogitoThreadPoolFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the evaluations triggered by incoming events.
+ * <p>
+ * In synchronous mode (the default) evaluations run on the calling consumer thread, as they always did.
+ * In concurrent mode they run on a bounded worker pool (or on virtual threads when requested and the JVM supports them)
+ * and the returned stage completes once the evaluation is done. At most <code>maxInFlight</code> evaluations are
+ * accepted at a time; further submissions block the consumer thread, which is the backpressure signal for the broker.
+ * When ordering by subject is enabled, evaluations sharing the same key are executed one after the other in
+ * submission order.
+ */
+public class EventEvaluationExecutor implements AutoCloseable {
+
+    public static final String CONCURRENT_PROPERTY = "kogito.events.evaluation.concurrent";
+    public static final String MAX_IN_FLIGHT_PROPERTY = "kogito.events.evaluation.maxInFlight";
+    public static final String ORDERED_BY_SUBJECT_PROPERTY = "kogito.events.evaluation.orderedBySubject";
+    public static final String VIRTUAL_THREADS_PROPERTY = "kogito.events.evaluation.virtualThreads";
+    public static final String DEFAULT_CONCURRENT = "false";
+    public static final String DEFAULT_MAX_IN_FLIGHT = "10";
+    public static final String DEFAULT_ORDERED_BY_SUBJECT = "false";
+    public static final String DEFAULT_VIRTUAL_THREADS = "false";
+    public static final String THREAD_NAME = "kogito-event-evaluation";
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventEvaluationExecutor.class);
+
+    private final Executor executor;
+    private final boolean concurrent;
+    private final boolean orderedBySubject;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+
+    public static EventEvaluationExecutor synchronous() {
+        return new EventEvaluationExecutor(Runnable::run, false, Integer.MAX_VALUE, false);
+    }
+
+    public static EventEvaluationExecutor of(boolean concurrent, int maxInFlight, boolean orderedBySubject, boolean virtualThreads) {
+        return concurrent ? new EventEvaluationExecutor(virtualThreads ? virtualThreadExecutor(maxInFlight) : boundedExecutor(maxInFlight), true, maxInFlight, orderedBySubject)
+                : synchronous();
+    }
+
+    public EventEvaluationExecutor(Executor executor, boolean concurrent, int maxInFlight, boolean orderedBySubject) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Maximum number of in flight evaluations must be positive, but was " + maxInFlight);
+        }
+        this.executor = executor;
+        this.concurrent = concurrent;
+        this.orderedBySubject = concurrent && orderedBySubject;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Submits an evaluation.
+     *
+     * @param subject ordering key, usually the CloudEvent subject. Might be null, in which case no ordering is applied
+     * @param evaluation the evaluation, including the emission of its response
+     * @return stage completed when the evaluation finishes
+     */
+    public CompletionStage<Void> submit(String subject, Runnable evaluation) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        long submitted = System.nanoTime();
+        queueDepth.incrementAndGet();
+        Runnable measured = () -> {
+            queueDepth.decrementAndGet();
+            long started = System.nanoTime();
+            queueNanos.add(started - submitted);
+            try {
+                evaluation.run();
+            } finally {
+                evaluationNanos.add(System.nanoTime() - started);
+                completed.increment();
+            }
+        };
+        CompletableFuture<Void> future;
+        try {
+            if (orderedBySubject && subject != null) {
+                future = tails.compute(subject, (k, tail) -> tail == null ? CompletableFuture.runAsync(measured, executor) : tail.handle((v, e) -> null).thenRunAsync(measured, executor));
+                CompletableFuture<Void> tail = future;
+                future.whenComplete((v, e) -> tails.remove(subject, tail));
+            } else {
+                future = CompletableFuture.runAsync(measured, executor);
+            }
+        } catch (RuntimeException e) {
+            queueDepth.decrementAndGet();
+            inFlight.release();
+            throw e;
+        }
+        future.whenComplete((v, e) -> inFlight.release());
+        return future;
+    }
+
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * @return number of evaluations accepted but not started yet
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return number of evaluations accepted and not finished yet
+     */
+    public int getInFlight() {
+        return concurrent ? maxInFlight - inFlight.availablePermits() : 0;
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return average time, in milliseconds, an evaluation waited between submission and start
+     */
+    public double getAverageQueueLatencyMillis() {
+        return average(queueNanos);
+    }
+
+    /**
+     * @return average evaluation time, in milliseconds
+     */
+    public double getAverageEvaluationLatencyMillis() {
+        return average(evaluationNanos);
+    }
+
+    private double average(LongAdder nanos) {
+        long count = completed.sum();
+        return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(nanos.sum()) / count / 1000;
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private static ExecutorService boundedExecutor(int maxInFlight) {
+        // in flight evaluations are limited by the semaphore, so the queue never grows beyond maxInFlight
+        return Executors.newFixedThreadPool(maxInFlight, new KogitoThreadPoolFactory(THREAD_NAME));
+    }
+
+    private static ExecutorService virtualThreadExecutor(int maxInFlight) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Virtual threads are not available in this JVM, using a pool of {} threads for event evaluation", maxInFlight);
+            return boundedExecutor(maxInFlight);
+        }
+    }
+}
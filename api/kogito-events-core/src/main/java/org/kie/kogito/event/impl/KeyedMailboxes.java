@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.kie.kogito.event.KogitoThreadPoolFactory;
+
+/**
+ * Ordered, per key, mailboxes served by a fixed set of workers.
+ * <p>
+ * Keys are sharded over the workers, each of them being a single thread, so items sharing a key are handled one after
+ * the other in submission order. Items submitted for a key while its previous batch is still waiting for the worker are
+ * appended to that batch (up to <code>maxBatchSize</code>), so the handler can process them together.
+ * <p>
+ * Each worker queues at most <code>queueSize</code> batches, once it is full <code>submit</code> blocks until the worker catches up.
+ */
+public class KeyedMailboxes<E> implements AutoCloseable {
+
+    public static final String THREAD_NAME = "kogito-event-mailbox";
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    // waiting for room in the queue (rather than running the batch on the caller) keeps the batches of a key in order
+    private static final RejectedExecutionHandler WAIT_FOR_QUEUE = (task, executor) -> {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Mailboxes are closed");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the mailbox queue", e);
+        }
+    };
+
+    private final List<Shard> shards;
+    private final int maxBatchSize;
+    private final Consumer<List<E>> handler;
+
+    public KeyedMailboxes(int workers, int maxBatchSize, Consumer<List<E>> handler) {
+        this(workers, maxBatchSize, DEFAULT_QUEUE_SIZE, handler);
+    }
+
+    public KeyedMailboxes(int workers, int maxBatchSize, int queueSize, Consumer<List<E>> handler) {
+        if (workers <= 0 || maxBatchSize <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException("Number of workers, batch size and queue size must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.handler = handler;
+        this.shards = new ArrayList<>(workers);
+        KogitoThreadPoolFactory threadFactory = new KogitoThreadPoolFactory(THREAD_NAME);
+        for (int i = 0; i < workers; i++) {
+            shards.add(new Shard(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), threadFactory, WAIT_FOR_QUEUE)));
+        }
+    }
+
+    public void submit(String key, E item) {
+        shards.get(Math.floorMod(key.hashCode(), shards.size())).submit(key, item);
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+    }
+
+    private class Shard {
+
+        private final ThreadPoolExecutor executor;
+        private final Map<String, Batch> pending = new ConcurrentHashMap<>();
+
+        private Shard(ThreadPoolExecutor executor) {
+            this.executor = executor;
+        }
+
+        // the worker never takes this lock, so it keeps draining while a submitter waits for room in the queue
+        private synchronized void submit(String key, E item) {
+            Batch batch = pending.get(key);
+            if (batch == null || !batch.add(item)) {
+                Batch newBatch = new Batch(item);
+                pending.put(key, newBatch);
+                executor.execute(() -> drain(key, newBatch));
+            }
+        }
+
+        private void drain(String key, Batch batch) {
+            pending.remove(key, batch);
+            handler.accept(batch.close());
+        }
+    }
+
+    private class Batch {
+        private final List<E> items = new ArrayList<>();
+        private boolean closed;
+
+        private Batch(E item) {
+            items.add(item);
+        }
+
+        private synchronized boolean add(E item) {
+            if (closed || items.size() >= maxBatchSize) {
+                return false;
+            }
+            items.add(item);
+            return true;
+        }
+
+        private synchronized List<E> close() {
+            closed = true;
+            return items;
+        }
+    }
+}
@@ -15,11 +15,14 @@
  */
 package org.kie.kogito.event.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,10 +32,13 @@ import org.kie.kogito.correlation.CorrelationInstance;
 import org.kie.kogito.correlation.SimpleCorrelation;
 import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.EventDispatcher;
+import org.kie.kogito.event.correlation.CorrelationHash;
 import org.kie.kogito.internal.utils.ConversionUtils;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessService;
+import org.kie.kogito.process.Signal;
+import org.kie.kogito.process.SignaledProcessInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,15 +53,28 @@ public class ProcessEventDispatcher<M extends Model, D> implements EventDispatch
     private final Process<M> process;
     private final ExecutorService executor;
     private final Function<DataEvent<D>, D> dataResolver;
+    private final ProcessEventMailboxes mailboxes;
+    private final Consumer<List<PendingEvent>> batchHandler = this::handleBatch;
 
     public ProcessEventDispatcher(Process<M> process, Optional<Function<D, M>> modelConverter, ProcessService processService, ExecutorService executor, Set<String> correlationKeys,
             Function<DataEvent<D>, D> dataResolver) {
+        this(process, modelConverter, processService, executor, correlationKeys, dataResolver, null);
+    }
+
+    /**
+     * @param mailboxes when enabled, events targeting an existing process instance (by reference id or correlation) are
+     *        queued per target in these application wide mailboxes and events for the same instance are coalesced into a single
+     *        unit of work, instead of being handled concurrently on <code>executor</code>
+     */
+    public ProcessEventDispatcher(Process<M> process, Optional<Function<D, M>> modelConverter, ProcessService processService, ExecutorService executor, Set<String> correlationKeys,
+            Function<DataEvent<D>, D> dataResolver, ProcessEventMailboxes mailboxes) {
         this.process = process;
         this.modelConverter = modelConverter;
         this.processService = processService;
         this.executor = executor;
         this.correlationKeys = correlationKeys;
         this.dataResolver = dataResolver;
+        this.mailboxes = mailboxes != null && mailboxes.isEnabled() ? mailboxes : null;
     }
 
     @Override
@@ -67,6 +86,15 @@ public class ProcessEventDispatcher<M extends Model, D> implements EventDispatch
             return CompletableFuture.completedFuture(null);
         }
 
+        if (mailboxes != null) {
+            String key = mailboxKey(event);
+            if (key != null) {
+                PendingEvent pending = new PendingEvent(trigger, event);
+                mailboxes.submit(process.id(), key, pending, batchHandler);
+                return pending.future;
+            }
+        }
+
         final String kogitoReferenceId = resolveCorrelationId(event);
         if (!ConversionUtils.isEmpty(kogitoReferenceId)) {
             return CompletableFuture.supplyAsync(() -> handleMessageWithReference(trigger, event, kogitoReferenceId), executor);
@@ -82,6 +110,77 @@ public class ProcessEventDispatcher<M extends Model, D> implements EventDispatch
         return CompletableFuture.completedFuture(null);
     }
 
+    private String mailboxKey(DataEvent<?> event) {
+        // with correlation keys the target is only known after the lookup, which must then happen in the mailbox
+        Optional<CompositeCorrelation> correlation = compositeCorrelation(event);
+        if (correlation.isPresent()) {
+            return CorrelationHash.of(correlation.get()).toString();
+        }
+        return ConversionUtils.isEmpty(event.getKogitoReferenceId()) ? null : event.getKogitoReferenceId();
+    }
+
+    private void handleBatch(List<PendingEvent> batch) {
+        int index = 0;
+        while (index < batch.size()) {
+            PendingEvent first = batch.get(index);
+            try {
+                String instanceId = resolveCorrelationId(first.event);
+                if (!ConversionUtils.isEmpty(instanceId)) {
+                    int handled = signalAll(instanceId, batch.subList(index, batch.size()));
+                    if (handled > 0) {
+                        // events left over were not sent because the instance ended, they go through the lookup again
+                        index += handled;
+                        continue;
+                    }
+                    LOGGER.info("Process instance with id '{}' not found for triggering signal '{}'", instanceId, first.trigger);
+                }
+                // no target instance, it might be created by this event and found by the following ones
+                first.future.complete(startNewInstance(first.trigger, first.event));
+            } catch (RuntimeException e) {
+                // a failing event must not fail the ones queued after it
+                first.future.completeExceptionally(e);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * @return number of events handled, starting from the first one, 0 if the instance was not found
+     */
+    private int signalAll(String instanceId, List<PendingEvent> events) {
+        LOGGER.debug("Sending {} coalesced messages to process instance '{}'", events.size(), instanceId);
+        List<Signal<?>> signals = new ArrayList<>(events.size());
+        for (PendingEvent pending : events) {
+            signals.add(new MessageSignal("Message-" + pending.trigger, dataResolver.apply(pending.event)));
+        }
+        Optional<SignaledProcessInstance<M>> instance;
+        try {
+            instance = processService.signalProcessInstance((Process) process, instanceId, signals);
+        } catch (RuntimeException e) {
+            if (events.size() == 1) {
+                throw e;
+            }
+            LOGGER.warn("Coalesced messages for process instance '{}' failed, sending them one by one", instanceId, e);
+            for (PendingEvent pending : events) {
+                try {
+                    pending.future.complete(handleMessageWithReference(pending.trigger, pending.event, instanceId));
+                } catch (RuntimeException ex) {
+                    pending.future.completeExceptionally(ex);
+                }
+            }
+            return events.size();
+        }
+        return instance.map(signaled -> {
+            for (PendingEvent pending : events.subList(0, signaled.signalsSent())) {
+                pending.future.complete(signaled.processInstance());
+            }
+            if (signaled.signalsSent() < events.size()) {
+                LOGGER.debug("Process instance '{}' is no longer active, {} coalesced messages were not sent to it", instanceId, events.size() - signaled.signalsSent());
+            }
+            return signaled.signalsSent();
+        }).orElse(0);
+    }
+
     private Optional<CompositeCorrelation> compositeCorrelation(DataEvent<?> event) {
         return correlationKeys != null && !correlationKeys.isEmpty() ? Optional.of(new CompositeCorrelation(
                 correlationKeys.stream().map(k -> new SimpleCorrelation<>(k, resolve(event, k))).collect(Collectors.toSet()))) : Optional.empty();
@@ -146,4 +245,40 @@ public class ProcessEventDispatcher<M extends Model, D> implements EventDispatch
     private boolean shouldSkipMessage(String trigger, DataEvent<?> event) {
         return isEventTypeNotMatched(trigger, event) && isSourceNotMatched(trigger, event);
     }
+
+    private class PendingEvent {
+        private final String trigger;
+        private final DataEvent<D> event;
+        private final CompletableFuture<ProcessInstance<M>> future = new CompletableFuture<>();
+
+        private PendingEvent(String trigger, DataEvent<D> event) {
+            this.trigger = trigger;
+            this.event = event;
+        }
+    }
+
+    private static class MessageSignal implements Signal<Object> {
+        private final String channel;
+        private final Object payload;
+
+        private MessageSignal(String channel, Object payload) {
+            this.channel = channel;
+            this.payload = payload;
+        }
+
+        @Override
+        public String channel() {
+            return channel;
+        }
+
+        @Override
+        public Object payload() {
+            return payload;
+        }
+
+        @Override
+        public String referenceId() {
+            return null;
+        }
+    }
 }
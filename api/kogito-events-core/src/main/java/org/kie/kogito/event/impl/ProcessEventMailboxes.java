@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Ordered mailboxes shared by all the event dispatchers of an application.
+ * <p>
+ * Events are keyed by process id and target instance, so the events for one instance are handled one after the other
+ * whatever trigger or consumer they come from. Each event carries the handler of the dispatcher that submitted it,
+ * consecutive events of the same handler are passed to it together.
+ */
+public class ProcessEventMailboxes implements AutoCloseable {
+
+    public static final String ORDERED_WORKERS_PROPERTY = "kogito.events.dispatch.orderedWorkers";
+    public static final String DEFAULT_ORDERED_WORKERS = "0";
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final KeyedMailboxes<Entry<?>> mailboxes;
+
+    /**
+     * @param workers number of workers serving the mailboxes, ordered dispatch is disabled when not positive
+     */
+    public ProcessEventMailboxes(int workers) {
+        this.mailboxes = workers > 0 ? new KeyedMailboxes<>(workers, MAX_BATCH_SIZE, ProcessEventMailboxes::handle) : null;
+    }
+
+    public boolean isEnabled() {
+        return mailboxes != null;
+    }
+
+    public <E> void submit(String processId, String key, E item, Consumer<List<E>> handler) {
+        mailboxes.submit(processId + ':' + key, new Entry<>(item, handler));
+    }
+
+    @Override
+    public void close() {
+        if (mailboxes != null) {
+            mailboxes.close();
+        }
+    }
+
+    private static void handle(List<Entry<?>> batch) {
+        int start = 0;
+        for (int index = 1; index <= batch.size(); index++) {
+            if (index == batch.size() || batch.get(index).handler != batch.get(start).handler) {
+                batch.get(start).handle(batch.subList(start, index));
+                start = index;
+            }
+        }
+    }
+
+    private static class Entry<E> {
+        private final E item;
+        private final Consumer<List<E>> handler;
+
+        private Entry(E item, Consumer<List<E>> handler) {
+            this.item = item;
+            this.handler = handler;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void handle(List<Entry<?>> entries) {
+            List<E> items = new ArrayList<>(entries.size());
+            for (Entry<?> entry : entries) {
+                items.add(((Entry<E>) entry).item);
+            }
+            handler.accept(items);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Keeps track, per process instance, of what was last published, so {@link ProcessInstanceEventBatch} can publish deltas
+ * instead of full snapshots.
+ * <p>
+ * Every unit of work touching an instance gets the next sequence number for that instance. The sequence follows the
+ * persisted version of the instance when the storage keeps one, so it carries on across restarts and runtimes, otherwise
+ * it is counted by this runtime from zero. A full snapshot is published the first time an instance is seen by this
+ * runtime, every <code>snapshotInterval</code> units of work and when the instance completes or is aborted.
+ * In a delta only the variables changed in the unit of work are published, while milestones and user task inputs,
+ * outputs, comments and attachments are null when their content is unchanged since the previous event. Node instances
+ * are, as always, the ones triggered or left in the unit of work.
+ */
+public class ProcessInstanceDeltaTracker {
+
+    public static final String DELTA_PROPERTY = "kogito.events.processinstances.delta";
+    public static final String SNAPSHOT_INTERVAL_PROPERTY = "kogito.events.processinstances.delta.snapshotInterval";
+    public static final String MAX_INSTANCES_PROPERTY = "kogito.events.processinstances.delta.maxInstances";
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 20;
+    public static final int DEFAULT_MAX_INSTANCES = 10000;
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String DELTA = "delta";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstanceDeltaTracker.class);
+
+    // map entries sorted by key, so equal contents always give the same digest
+    private static final ObjectMapper DIGEST_MAPPER = ObjectMapperFactory.get().copy()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+    private final int snapshotInterval;
+    private final Map<String, InstanceState> instances;
+
+    public ProcessInstanceDeltaTracker(int snapshotInterval, int maxInstances) {
+        if (snapshotInterval <= 0 || maxInstances <= 0) {
+            throw new IllegalArgumentException("Snapshot interval and maximum number of instances must be positive");
+        }
+        this.snapshotInterval = snapshotInterval;
+        // evicted instances simply get a snapshot on their next unit of work
+        this.instances = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, InstanceState> eldest) {
+                return size() > maxInstances;
+            }
+        };
+    }
+
+    /**
+     * Starts a new revision of the given instance.
+     *
+     * @param version persisted version of the instance, zero when the storage does not keep one
+     * @param terminal whether the instance reached a final state, after which it is no longer tracked
+     */
+    public Revision next(String processInstanceId, long version, boolean terminal) {
+        InstanceState state;
+        boolean unknown = false;
+        synchronized (instances) {
+            state = terminal ? instances.remove(processInstanceId) : instances.get(processInstanceId);
+            if (state == null) {
+                unknown = true;
+                state = new InstanceState();
+                if (!terminal) {
+                    instances.put(processInstanceId, state);
+                }
+            }
+        }
+        synchronized (state) {
+            long sequence = Math.max(version, state.sequence);
+            state.sequence = sequence + 1;
+            return new Revision(state, sequence, unknown || terminal || sequence % snapshotInterval == 0);
+        }
+    }
+
+    public int size() {
+        synchronized (instances) {
+            return instances.size();
+        }
+    }
+
+    private static byte[] digest(Object value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(DIGEST_MAPPER.writeValueAsBytes(value));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            LOGGER.debug("Cannot digest value of type {}, it will be always published", value.getClass(), e);
+            return null;
+        }
+    }
+
+    private static class InstanceState {
+        private long sequence;
+        private final Map<String, byte[]> digests = new HashMap<>();
+    }
+
+    public static class Revision {
+
+        private final InstanceState state;
+        private final long sequence;
+        private final boolean snapshot;
+
+        private Revision(InstanceState state, long sequence, boolean snapshot) {
+            this.state = state;
+            this.sequence = sequence;
+            this.snapshot = snapshot;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public boolean isSnapshot() {
+            return snapshot;
+        }
+
+        public String getFormat() {
+            return snapshot ? SNAPSHOT : DELTA;
+        }
+
+        /**
+         * Records the current content of a tracked field.
+         *
+         * @return whether it has to be published, because this is a snapshot or its content changed since the last revision
+         */
+        public boolean changed(String field, Object value) {
+            // the digest is taken from the serialized content, so values mutated in place are detected too
+            byte[] digest = value == null ? new byte[0] : digest(value);
+            byte[] previous;
+            synchronized (state) {
+                previous = state.digests.put(field, digest);
+            }
+            return snapshot || digest == null || previous == null || !Arrays.equals(digest, previous);
+        }
+    }
+}
@@ -18,6 +18,8 @@ package org.kie.kogito.event.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -33,8 +35,10 @@ import org.kie.api.event.process.ProcessNodeLeftEvent;
 import org.kie.api.event.process.ProcessNodeTriggeredEvent;
 import org.kie.api.event.process.ProcessVariableChangedEvent;
 import org.kie.kogito.Addons;
+import org.kie.kogito.event.AbstractDataEvent;
 import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.EventBatch;
+import org.kie.kogito.event.cloudevents.CloudEventExtensionConstants;
 import org.kie.kogito.event.process.AttachmentEventBody;
 import org.kie.kogito.event.process.CommentEventBody;
 import org.kie.kogito.event.process.MilestoneEventBody;
@@ -65,11 +69,21 @@ public class ProcessInstanceEventBatch implements EventBatch {
 
     private final String service;
     private Addons addons;
+    private final ProcessInstanceDeltaTracker deltaTracker;
     private List<ProcessEvent> rawEvents = new ArrayList<>();
 
     public ProcessInstanceEventBatch(String service, Addons addons) {
+        this(service, addons, null);
+    }
+
+    /**
+     * @param deltaTracker when not null, process instance and user task events are published as deltas, see
+     *        {@link ProcessInstanceDeltaTracker}
+     */
+    public ProcessInstanceEventBatch(String service, Addons addons, ProcessInstanceDeltaTracker deltaTracker) {
         this.service = service;
         this.addons = addons;
+        this.deltaTracker = deltaTracker;
     }
 
     @Override
@@ -84,10 +98,18 @@ public class ProcessInstanceEventBatch implements EventBatch {
         Map<String, ProcessInstanceEventBody> processInstances = new LinkedHashMap<>();
         Map<String, UserTaskInstanceEventBody> userTaskInstances = new LinkedHashMap<>();
         Set<VariableInstanceEventBody> variables = new LinkedHashSet<>();
+        Map<String, Set<String>> changedVariables = new HashMap<>();
+        Map<String, Long> versions = new HashMap<>();
 
         Collection<DataEvent<?>> processedEvents = new ArrayList<>();
         for (ProcessEvent event : rawEvents) {
             ProcessInstanceEventBody body = processInstances.computeIfAbsent(((KogitoProcessInstance) event.getProcessInstance()).getStringId(), key -> create(event));
+            if (deltaTracker != null) {
+                versions.computeIfAbsent(body.getId(), key -> version((KogitoProcessInstance) event.getProcessInstance()));
+            }
+            if (deltaTracker != null && event instanceof ProcessVariableChangedEvent) {
+                changedVariables.computeIfAbsent(body.getId(), key -> new HashSet<>()).add(((ProcessVariableChangedEvent) event).getVariableId());
+            }
 
             if (event instanceof ProcessNodeTriggeredEvent) {
                 handleProcessNodeTriggeredEvent((ProcessNodeTriggeredEvent) event, body);
@@ -103,12 +125,79 @@ public class ProcessInstanceEventBatch implements EventBatch {
                 processedEvents.add(buildUserTaskDeadlineEvent((HumanTaskDeadlineEvent) event));
             }
         }
+        if (deltaTracker != null) {
+            return toDeltaEvents(processedEvents, processInstances, userTaskInstances, variables, changedVariables, versions);
+        }
         processInstances.values().stream().map(pi -> new ProcessInstanceDataEvent(extractRuntimeSource(pi.metaData()), addons.toString(), pi.metaData(), pi)).forEach(processedEvents::add);
         userTaskInstances.values().stream().map(pi -> new UserTaskInstanceDataEvent(extractRuntimeSource(pi.metaData()), addons.toString(), pi.metaData(), pi)).forEach(processedEvents::add);
         variables.stream().map(pi -> new VariableInstanceDataEvent(extractRuntimeSource(pi.metaData()), addons.toString(), pi.metaData(), pi)).forEach(processedEvents::add);
         return processedEvents;
     }
 
+    private Collection<DataEvent<?>> toDeltaEvents(Collection<DataEvent<?>> processedEvents, Map<String, ProcessInstanceEventBody> processInstances,
+            Map<String, UserTaskInstanceEventBody> userTaskInstances, Set<VariableInstanceEventBody> variables, Map<String, Set<String>> changedVariables,
+            Map<String, Long> versions) {
+        Map<String, ProcessInstanceDeltaTracker.Revision> revisions = new HashMap<>();
+        for (ProcessInstanceEventBody pi : processInstances.values()) {
+            boolean terminal = pi.getState() != null && (pi.getState() == KogitoProcessInstance.STATE_COMPLETED || pi.getState() == KogitoProcessInstance.STATE_ABORTED);
+            ProcessInstanceDeltaTracker.Revision revision = deltaTracker.next(pi.getId(), versions.getOrDefault(pi.getId(), 0L), terminal);
+            revisions.put(pi.getId(), revision);
+            if (!revision.isSnapshot()) {
+                Set<String> changed = changedVariables.getOrDefault(pi.getId(), Collections.emptySet());
+                Map<String, Object> delta = new HashMap<>();
+                if (pi.getVariables() != null) {
+                    pi.getVariables().forEach((name, value) -> {
+                        if (changed.contains(name)) {
+                            delta.put(name, value);
+                        }
+                    });
+                }
+                pi.update().variables(delta);
+            }
+            if (!revision.changed("milestones", pi.getMilestones())) {
+                pi.update().milestones(null);
+            }
+            processedEvents.add(sequenced(new ProcessInstanceDataEvent(extractRuntimeSource(pi.metaData()), addons.toString(), pi.metaData(), pi), revision));
+        }
+        for (UserTaskInstanceEventBody ut : userTaskInstances.values()) {
+            ProcessInstanceDeltaTracker.Revision revision = revisions.get(ut.getProcessInstanceId());
+            if (revision != null) {
+                String prefix = "task:" + ut.getId() + ":";
+                if (!revision.changed(prefix + "inputs", ut.getInputs())) {
+                    ut.update().inputs(null);
+                }
+                if (!revision.changed(prefix + "outputs", ut.getOutputs())) {
+                    ut.update().outputs(null);
+                }
+                if (!revision.changed(prefix + "comments", ut.getComments())) {
+                    ut.update().comments(null);
+                }
+                if (!revision.changed(prefix + "attachments", ut.getAttachments())) {
+                    ut.update().attachments(null);
+                }
+            }
+            processedEvents.add(sequenced(new UserTaskInstanceDataEvent(extractRuntimeSource(ut.metaData()), addons.toString(), ut.metaData(), ut), revision));
+        }
+        for (VariableInstanceEventBody variable : variables) {
+            processedEvents.add(sequenced(new VariableInstanceDataEvent(extractRuntimeSource(variable.metaData()), addons.toString(), variable.metaData(), variable),
+                    revisions.get(variable.getProcessInstanceId())));
+        }
+        return processedEvents;
+    }
+
+    private static long version(KogitoProcessInstance pi) {
+        org.kie.kogito.process.ProcessInstance<?> instance = pi.unwrap();
+        return instance == null ? 0L : instance.version();
+    }
+
+    private static DataEvent<?> sequenced(AbstractDataEvent<?> event, ProcessInstanceDeltaTracker.Revision revision) {
+        if (revision != null) {
+            event.addExtensionAttribute(CloudEventExtensionConstants.PROCESS_INSTANCE_SEQUENCE, revision.getSequence());
+            event.addExtensionAttribute(CloudEventExtensionConstants.PROCESS_EVENT_FORMAT, revision.getFormat());
+        }
+        return event;
+    }
+
     private DataEvent<?> buildUserTaskDeadlineEvent(HumanTaskDeadlineEvent event) {
 
         HumanTaskWorkItem workItem = event.getWorkItem();
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.correlation;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.correlation.CompositeCorrelation;
+import org.kie.kogito.correlation.Correlation;
+import org.kie.kogito.correlation.CorrelationInstance;
+import org.kie.kogito.correlation.CorrelationService;
+import org.kie.kogito.correlation.SimpleCorrelation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingCorrelationServiceTest {
+
+    private static final Correlation<?> CORRELATION = new CompositeCorrelation(Set.of(new SimpleCorrelation<>("a", "1"), new SimpleCorrelation<>("b", "2")));
+    private static final Correlation<?> SAME_CORRELATION = new CompositeCorrelation(Set.of(new SimpleCorrelation<>("b", "2"), new SimpleCorrelation<>("a", "1")));
+
+    @Test
+    void testNegativeEntries() {
+        CorrelationService delegate = mock(CorrelationService.class);
+        when(delegate.find(any())).thenReturn(Optional.empty());
+        CachingCorrelationService service = new CachingCorrelationService(delegate, 10, 60000);
+
+        assertThat(service.find(CORRELATION)).isEmpty();
+        assertThat(service.find(SAME_CORRELATION)).isEmpty();
+
+        verify(delegate, times(1)).find(any());
+        assertThat(service.getMisses()).isEqualTo(1);
+        assertThat(service.getNegativeHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testCreateAndDeleteUpdateCache() {
+        CorrelationService delegate = mock(CorrelationService.class);
+        CorrelationInstance instance = new CorrelationInstance("encoded", "processInstanceId", CORRELATION);
+        when(delegate.find(any())).thenReturn(Optional.empty());
+        when(delegate.create(any(), any())).thenReturn(instance);
+        CachingCorrelationService service = new CachingCorrelationService(delegate, 10, 60000);
+
+        assertThat(service.find(CORRELATION)).isEmpty();
+        service.create(CORRELATION, "processInstanceId");
+        assertThat(service.find(SAME_CORRELATION)).contains(instance);
+        assertThat(service.getHits()).isEqualTo(1);
+
+        service.delete(CORRELATION);
+        assertThat(service.find(CORRELATION)).isEmpty();
+        verify(delegate, times(1)).find(any());
+    }
+
+    @Test
+    void testSameHashDifferentCorrelation() {
+        // same string representation, so same hash, but different correlations
+        Correlation<?> numeric = new SimpleCorrelation<>("key", 1);
+        Correlation<?> text = new SimpleCorrelation<>("key", "1");
+        assertThat(CorrelationHash.of(numeric)).isEqualTo(CorrelationHash.of(text));
+        CorrelationService delegate = mock(CorrelationService.class);
+        CorrelationInstance instance = new CorrelationInstance("encoded", "processInstanceId", numeric);
+        when(delegate.find(any())).thenReturn(Optional.empty());
+        when(delegate.create(any(), any())).thenReturn(instance);
+        CachingCorrelationService service = new CachingCorrelationService(delegate, 10, 60000);
+
+        service.create(numeric, "processInstanceId");
+        assertThat(service.find(text)).isEmpty();
+        verify(delegate).find(text);
+        assertThat(service.getMisses()).isEqualTo(1);
+        assertThat(service.getHits()).isZero();
+    }
+
+    @Test
+    void testDefaultServiceSameHashDifferentCorrelation() {
+        Correlation<?> numeric = new SimpleCorrelation<>("key", 1);
+        Correlation<?> text = new SimpleCorrelation<>("key", "1");
+        DefaultCorrelationService service = new DefaultCorrelationService();
+        try {
+            service.create(numeric, "numericInstance");
+            assertThat(service.find(text)).isEmpty();
+            service.create(text, "textInstance");
+            assertThat(service.find(numeric)).map(CorrelationInstance::getCorrelatedId).contains("numericInstance");
+            assertThat(service.find(text)).map(CorrelationInstance::getCorrelatedId).contains("textInstance");
+        } finally {
+            service.clear();
+        }
+    }
+
+    @Test
+    void testExpiration() {
+        CorrelationService delegate = mock(CorrelationService.class);
+        when(delegate.find(any())).thenReturn(Optional.empty());
+        CachingCorrelationService service = new CachingCorrelationService(delegate, 10, 0);
+
+        service.find(CORRELATION);
+        service.find(CORRELATION);
+
+        verify(delegate, times(2)).find(any());
+    }
+
+    @Test
+    void testBounded() {
+        CorrelationService delegate = mock(CorrelationService.class);
+        when(delegate.find(any())).thenReturn(Optional.empty());
+        CachingCorrelationService service = new CachingCorrelationService(delegate, 10, 60000);
+
+        for (int i = 0; i < 100; i++) {
+            service.find(new SimpleCorrelation<>("key", i));
+        }
+
+        assertThat(service.getSize()).isLessThanOrEqualTo(10);
+        assertThat(service.getEvictions()).isPositive();
+    }
+
+    @Test
+    void testHash() {
+        assertThat(CorrelationHash.of(CORRELATION)).isEqualTo(CorrelationHash.of(SAME_CORRELATION))
+                .isNotEqualTo(CorrelationHash.of(new SimpleCorrelation<>("a", "1")));
+        assertThat(CorrelationHash.of(new SimpleCorrelation<>("ab", "c"))).isNotEqualTo(CorrelationHash.of(new SimpleCorrelation<>("a", "bc")));
+        assertThat(new HashCorrelationEncoder().encode(CORRELATION)).hasSize(32).isEqualTo(CorrelationHash.of(SAME_CORRELATION).toString());
+    }
+}
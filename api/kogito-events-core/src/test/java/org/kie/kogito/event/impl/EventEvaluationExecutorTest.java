@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventEvaluationExecutorTest {
+
+    @Test
+    void testSynchronousRunsOnCallerThread() {
+        EventEvaluationExecutor executor = EventEvaluationExecutor.synchronous();
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+        assertThat(executor.submit("subject", () -> threads.add(Thread.currentThread())).toCompletableFuture()).isCompleted();
+        assertThat(threads).containsExactly(caller);
+        assertThat(executor.getCompletedCount()).isEqualTo(1);
+        assertThat(executor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void testMaxInFlight() throws InterruptedException {
+        try (EventEvaluationExecutor executor = EventEvaluationExecutor.of(true, 2, false, false)) {
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            Runnable evaluation = () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            };
+            executor.submit(null, evaluation);
+            executor.submit(null, evaluation);
+            CompletableFuture<Void> third = CompletableFuture.runAsync(() -> executor.submit(null, evaluation));
+            Thread.sleep(100);
+            assertThat(third).isNotDone();
+            assertThat(executor.getInFlight()).isEqualTo(2);
+            release.countDown();
+            third.join();
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void testOrderedBySubject() {
+        try (EventEvaluationExecutor executor = EventEvaluationExecutor.of(true, 8, true, false)) {
+            List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+            List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                int value = i;
+                futures.add(executor.submit("first", () -> first.add(value)).toCompletableFuture());
+                futures.add(executor.submit("second", () -> second.add(value)).toCompletableFuture());
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            assertThat(first).isSorted().hasSize(50);
+            assertThat(second).isSorted().hasSize(50);
+            assertThat(executor.getCompletedCount()).isEqualTo(100);
+        }
+    }
+}
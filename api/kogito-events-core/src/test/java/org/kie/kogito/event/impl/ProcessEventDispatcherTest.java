@@ -15,13 +15,21 @@
  */
 package org.kie.kogito.event.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -37,10 +45,13 @@ import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstances;
 import org.kie.kogito.process.ProcessService;
+import org.kie.kogito.process.Signal;
+import org.kie.kogito.process.SignaledProcessInstance;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -244,4 +255,134 @@ class ProcessEventDispatcherTest {
         assertThat(processInstanceId.getValue()).isEqualTo("1");
         assertThat(processInstance).isEqualTo(instance);
     }
+
+    @Test
+    void testOrderedSignalsToSameInstance() throws Exception {
+        when(processService.signalProcessInstance(eq(process), eq("1"), Mockito.<List<Signal<?>>> any()))
+                .thenAnswer(invocation -> Optional.of(new SignaledProcessInstance<>(processInstance, invocation.<List<?>> getArgument(2).size())));
+        ProcessEventMailboxes mailboxes = new ProcessEventMailboxes(1);
+        ProcessEventDispatcher<DummyModel, TestEvent> dispatcher = new ProcessEventDispatcher<>(process, modelConverter(), processService, executor, null, o -> o.getData(), mailboxes);
+        try {
+            List<CompletableFuture<ProcessInstance<DummyModel>>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("event" + i), DUMMY_TOPIC, "source", "1")).toCompletableFuture());
+            }
+            for (CompletableFuture<ProcessInstance<DummyModel>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            }
+
+            ArgumentCaptor<List<Signal<?>>> signals = ArgumentCaptor.forClass(List.class);
+            verify(processService, Mockito.atLeastOnce()).signalProcessInstance(eq(process), eq("1"), signals.capture());
+            verify(processService, never()).signalProcessInstance(eq(process), any(), any(), any());
+            List<Signal<?>> sent = signals.getAllValues().stream().flatMap(List::stream).collect(Collectors.toList());
+            assertThat(sent).extracting(Signal::channel).containsOnly("Message-" + DUMMY_TOPIC);
+            assertThat(sent).extracting(s -> ((TestEvent) s.payload()).getDummyField())
+                    .containsExactly(IntStream.range(0, 10).mapToObj(i -> "event" + i).toArray(String[]::new));
+        } finally {
+            mailboxes.close();
+        }
+    }
+
+    @Test
+    void testFailingStartDoesNotFailQueuedEvents() throws Exception {
+        CountDownLatch queued = new CountDownLatch(1);
+        AtomicInteger starts = new AtomicInteger();
+        when(processService.createProcessInstance(eq(process), any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            switch (starts.incrementAndGet()) {
+                case 1:
+                    // hold the worker so the following events are coalesced into one batch
+                    queued.await(5, TimeUnit.SECONDS);
+                    return processInstance;
+                case 2:
+                    throw new IllegalStateException("start failed");
+                default:
+                    return processInstance;
+            }
+        });
+        ProcessEventMailboxes mailboxes = new ProcessEventMailboxes(1);
+        ProcessEventDispatcher<DummyModel, TestEvent> dispatcher = new ProcessEventDispatcher<>(process, modelConverter(), processService, executor, null, o -> o.getData(), mailboxes);
+        try {
+            List<CompletableFuture<ProcessInstance<DummyModel>>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("event" + i), DUMMY_TOPIC, "source", "invalidReference")));
+            }
+            queued.countDown();
+
+            assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            assertThatThrownBy(() -> futures.get(1).get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+            for (CompletableFuture<ProcessInstance<DummyModel>> future : futures.subList(2, futures.size())) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            }
+            verify(processService, times(5)).createProcessInstance(eq(process), any(), any(DummyModel.class), any(), any(), any(), isNull());
+        } finally {
+            mailboxes.close();
+        }
+    }
+
+    @Test
+    void testSignalsAfterInstanceEndedStartNewInstances() throws Exception {
+        // the instance ends after receiving two messages, whatever the way they are coalesced
+        List<Object> delivered = new ArrayList<>();
+        when(processService.signalProcessInstance(eq(process), eq("1"), Mockito.<List<Signal<?>>> any())).thenAnswer(invocation -> {
+            List<Signal<?>> signals = invocation.getArgument(2);
+            if (delivered.size() == 2) {
+                return Optional.empty();
+            }
+            int sent = Math.min(signals.size(), 2 - delivered.size());
+            signals.subList(0, sent).forEach(signal -> delivered.add(((TestEvent) signal.payload()).getDummyField()));
+            return Optional.of(new SignaledProcessInstance<>(processInstance, sent));
+        });
+        ProcessInstance<DummyModel> newInstance = mock(ProcessInstance.class);
+        when(processService.createProcessInstance(eq(process), any(), any(), any(), any(), any(), any())).thenReturn(newInstance);
+        ProcessEventMailboxes mailboxes = new ProcessEventMailboxes(1);
+        ProcessEventDispatcher<DummyModel, TestEvent> dispatcher = new ProcessEventDispatcher<>(process, modelConverter(), processService, executor, null, o -> o.getData(), mailboxes);
+        try {
+            List<CompletableFuture<ProcessInstance<DummyModel>>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("event" + i), DUMMY_TOPIC, "source", "1")));
+            }
+            assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            assertThat(futures.get(1).get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            for (CompletableFuture<ProcessInstance<DummyModel>> future : futures.subList(2, futures.size())) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(newInstance);
+            }
+            assertThat(delivered).containsExactly("event0", "event1");
+            verify(processService, times(3)).createProcessInstance(eq(process), any(), any(DummyModel.class), any(), any(), any(), isNull());
+        } finally {
+            mailboxes.close();
+        }
+    }
+
+    @Test
+    void testMailboxesAreSharedByDispatchers() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Object> payloads = new ArrayList<>();
+        when(processService.signalProcessInstance(eq(process), eq("1"), Mockito.<List<Signal<?>>> any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            List<Signal<?>> signals = invocation.getArgument(2);
+            Thread.sleep(5);
+            signals.forEach(signal -> payloads.add(((TestEvent) signal.payload()).getDummyField()));
+            running.decrementAndGet();
+            return Optional.of(new SignaledProcessInstance<>(processInstance, signals.size()));
+        });
+        ProcessEventMailboxes mailboxes = new ProcessEventMailboxes(4);
+        ProcessEventDispatcher<DummyModel, TestEvent> first = new ProcessEventDispatcher<>(process, modelConverter(), processService, executor, null, o -> o.getData(), mailboxes);
+        ProcessEventDispatcher<DummyModel, TestEvent> second = new ProcessEventDispatcher<>(process, modelConverter(), processService, executor, null, o -> o.getData(), mailboxes);
+        try {
+            List<CompletableFuture<ProcessInstance<DummyModel>>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ProcessEventDispatcher<DummyModel, TestEvent> dispatcher = i % 2 == 0 ? first : second;
+                String trigger = i % 2 == 0 ? "trigger1" : "trigger2";
+                futures.add(dispatcher.dispatch(trigger, new TestCloudEvent<>(new TestEvent("event" + i), trigger, "source", "1")));
+            }
+            for (CompletableFuture<ProcessInstance<DummyModel>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            }
+            assertThat(maxRunning).hasValue(1);
+            assertThat(payloads).containsExactly(IntStream.range(0, 20).mapToObj(i -> "event" + i).toArray());
+        } finally {
+            mailboxes.close();
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.definition.process.Process;
+import org.kie.kogito.Addons;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.cloudevents.CloudEventExtensionConstants;
+import org.kie.kogito.event.process.ProcessInstanceDataEvent;
+import org.kie.kogito.event.process.ProcessInstanceEventBody;
+import org.kie.kogito.internal.process.event.KogitoProcessVariableChangedEvent;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcessInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProcessInstanceDeltaTrackerTest {
+
+    @Test
+    void testSequenceAndSnapshots() {
+        ProcessInstanceDeltaTracker tracker = new ProcessInstanceDeltaTracker(3, 10);
+
+        assertThat(tracker.next("1", 0, false)).satisfies(r -> {
+            assertThat(r.getSequence()).isZero();
+            assertThat(r.isSnapshot()).isTrue();
+        });
+        assertThat(tracker.next("1", 0, false).isSnapshot()).isFalse();
+        assertThat(tracker.next("1", 0, false).isSnapshot()).isFalse();
+        assertThat(tracker.next("1", 0, false)).satisfies(r -> {
+            assertThat(r.getSequence()).isEqualTo(3);
+            assertThat(r.isSnapshot()).isTrue();
+        });
+        assertThat(tracker.next("1", 0, true)).satisfies(r -> {
+            assertThat(r.getSequence()).isEqualTo(4);
+            assertThat(r.getFormat()).isEqualTo(ProcessInstanceDeltaTracker.SNAPSHOT);
+        });
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    void testEvictedInstanceRestartsWithSnapshot() {
+        ProcessInstanceDeltaTracker tracker = new ProcessInstanceDeltaTracker(100, 1);
+        tracker.next("1", 0, false);
+        tracker.next("1", 0, false);
+        tracker.next("2", 0, false);
+
+        assertThat(tracker.size()).isEqualTo(1);
+        assertThat(tracker.next("1", 0, false)).satisfies(r -> {
+            assertThat(r.getSequence()).isZero();
+            assertThat(r.isSnapshot()).isTrue();
+        });
+    }
+
+    @Test
+    void testSequenceFollowsPersistedVersion() {
+        ProcessInstanceDeltaTracker tracker = new ProcessInstanceDeltaTracker(100, 1);
+        // first seen by this runtime, for instance after a restart
+        assertThat(tracker.next("1", 5, false)).satisfies(r -> {
+            assertThat(r.getSequence()).isEqualTo(5);
+            assertThat(r.isSnapshot()).isTrue();
+        });
+        assertThat(tracker.next("1", 6, false)).satisfies(r -> {
+            assertThat(r.getSequence()).isEqualTo(6);
+            assertThat(r.isSnapshot()).isFalse();
+        });
+        // storages not bumping the version still get increasing sequences
+        assertThat(tracker.next("1", 6, false).getSequence()).isEqualTo(7);
+
+        tracker.next("2", 0, false);
+        assertThat(tracker.next("1", 9, false)).satisfies(r -> {
+            assertThat(r.getSequence()).isEqualTo(9);
+            assertThat(r.isSnapshot()).isTrue();
+        });
+    }
+
+    @Test
+    void testChangedFields() {
+        ProcessInstanceDeltaTracker tracker = new ProcessInstanceDeltaTracker(100, 10);
+        assertThat(tracker.next("1", 0, false).changed("field", "a")).isTrue();
+        assertThat(tracker.next("1", 0, false).changed("field", "a")).isFalse();
+        assertThat(tracker.next("1", 0, false).changed("field", "b")).isTrue();
+        assertThat(tracker.next("1", 0, false).changed("other", null)).isTrue();
+        assertThat(tracker.next("1", 0, false).changed("other", null)).isFalse();
+    }
+
+    @Test
+    void testChangedComparesContent() {
+        ProcessInstanceDeltaTracker tracker = new ProcessInstanceDeltaTracker(100, 10);
+        // same hash code, different content
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(tracker.next("1", 0, false).changed("field", "Aa")).isTrue();
+        assertThat(tracker.next("1", 0, false).changed("field", "BB")).isTrue();
+
+        Map<String, Object> inputs = new HashMap<>();
+        inputs.put("name", "pepe");
+        assertThat(tracker.next("1", 0, false).changed("inputs", inputs)).isTrue();
+        assertThat(tracker.next("1", 0, false).changed("inputs", new HashMap<>(inputs))).isFalse();
+        inputs.put("name", "paco");
+        assertThat(tracker.next("1", 0, false).changed("inputs", inputs)).isTrue();
+    }
+
+    @Test
+    void testBatchPublishesChangedVariablesOnly() {
+        ProcessInstanceDeltaTracker tracker = new ProcessInstanceDeltaTracker(100, 10);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("small", 1);
+        variables.put("large", "a very large value");
+        KogitoWorkflowProcessInstance pi = mockProcessInstance(variables);
+
+        ProcessInstanceEventBody first = processInstanceBody(batchWithVariableChange(tracker, pi, "small").events());
+        assertThat(first.getVariables()).containsOnlyKeys("small", "large");
+        assertThat(first.getMilestones()).isEmpty();
+
+        Collection<DataEvent<?>> events = batchWithVariableChange(tracker, pi, "small").events();
+        ProcessInstanceEventBody second = processInstanceBody(events);
+        assertThat(second.getVariables()).containsOnlyKeys("small");
+        assertThat(second.getMilestones()).isNull();
+        assertThat(events).filteredOn(ProcessInstanceDataEvent.class::isInstance).allSatisfy(e -> {
+            assertThat(e.getExtension(CloudEventExtensionConstants.PROCESS_INSTANCE_SEQUENCE)).isEqualTo(1L);
+            assertThat(e.getExtension(CloudEventExtensionConstants.PROCESS_EVENT_FORMAT)).isEqualTo(ProcessInstanceDeltaTracker.DELTA);
+        });
+    }
+
+    private ProcessInstanceEventBatch batchWithVariableChange(ProcessInstanceDeltaTracker tracker, KogitoWorkflowProcessInstance pi, String variable) {
+        KogitoProcessVariableChangedEvent event = mock(KogitoProcessVariableChangedEvent.class);
+        when(event.getProcessInstance()).thenReturn(pi);
+        when(event.getVariableId()).thenReturn(variable);
+        when(event.getEventDate()).thenReturn(new Date());
+        ProcessInstanceEventBatch batch = new ProcessInstanceEventBatch("http://localhost:8080", Addons.EMTPY, tracker);
+        batch.append(event);
+        return batch;
+    }
+
+    private static ProcessInstanceEventBody processInstanceBody(Collection<DataEvent<?>> events) {
+        return events.stream().filter(ProcessInstanceDataEvent.class::isInstance).map(e -> ((ProcessInstanceDataEvent) e).getData()).findFirst().orElseThrow();
+    }
+
+    private static KogitoWorkflowProcessInstance mockProcessInstance(Map<String, Object> variables) {
+        Process process = mock(Process.class);
+        when(process.getVersion()).thenReturn("1.0");
+        when(process.getMetaData()).thenReturn(new HashMap<>());
+        KogitoWorkflowProcessInstance pi = mock(KogitoWorkflowProcessInstance.class);
+        when(pi.getStringId()).thenReturn("1");
+        when(pi.getProcessId()).thenReturn("travels");
+        when(pi.getProcess()).thenReturn(process);
+        when(pi.getState()).thenReturn(KogitoProcessInstance.STATE_ACTIVE);
+        when(pi.getVariables()).thenReturn(variables);
+        return pi;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append only, line based, {@link JobJournal} stored in a local file.
+ * <p>
+ * Every change is appended and flushed to the operating system (and forced to disk when <code>sync</code> is set). The
+ * file is compacted to the live jobs when loaded and whenever stale lines outnumber them.
+ */
+public class FileJobJournal implements JobJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileJobJournal.class);
+
+    private static final String SCHEDULED = "S";
+    private static final String REMOVED = "R";
+    private static final String SEPARATOR = "\t";
+    private static final int MIN_COMPACTION_LINES = 1000;
+
+    private final Path path;
+    private final boolean sync;
+    private final Map<String, Record> live = new LinkedHashMap<>();
+    private FileOutputStream output;
+    private Writer writer;
+    private long lines;
+
+    public FileJobJournal(Path path, boolean sync) {
+        this.path = path;
+        this.sync = sync;
+    }
+
+    @Override
+    public synchronized Collection<Record> load() {
+        live.clear();
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    replay(line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read job journal " + path, e);
+            }
+        }
+        compact();
+        return new ArrayList<>(live.values());
+    }
+
+    @Override
+    public synchronized void scheduled(Record job) {
+        live.put(job.getId(), job);
+        append(format(job));
+    }
+
+    @Override
+    public synchronized void removed(String id) {
+        if (live.remove(id) != null) {
+            append(String.join(SEPARATOR, REMOVED, id));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error closing job journal {}", path, e);
+            }
+            writer = null;
+        }
+    }
+
+    private void replay(String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        try {
+            if (SCHEDULED.equals(fields[0]) && fields.length == 7) {
+                live.put(fields[1], new Record(fields[1], emptyToNull(fields[2]), emptyToNull(fields[3]), Long.parseLong(fields[4]),
+                        fields[5].isEmpty() ? null : Long.valueOf(fields[5]), Integer.parseInt(fields[6])));
+            } else if (REMOVED.equals(fields[0]) && fields.length == 2) {
+                live.remove(fields[1]);
+            } else {
+                LOGGER.warn("Ignoring malformed line '{}' in job journal {}", line, path);
+            }
+        } catch (NumberFormatException e) {
+            // most likely the last line, partially written when the process died
+            LOGGER.warn("Ignoring malformed line '{}' in job journal {}", line, path);
+        }
+    }
+
+    private void append(String line) {
+        try {
+            if (writer == null) {
+                open();
+            }
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+            if (sync) {
+                output.getChannel().force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write job journal " + path, e);
+        }
+        if (++lines > Math.max(MIN_COMPACTION_LINES, 2L * live.size())) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        close();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileOutputStream tmpOutput = new FileOutputStream(tmp.toFile());
+                    Writer compacted = new BufferedWriter(new OutputStreamWriter(tmpOutput, StandardCharsets.UTF_8))) {
+                for (Record job : live.values()) {
+                    compacted.write(format(job));
+                    compacted.write('\n');
+                }
+                compacted.flush();
+                if (sync) {
+                    // the compacted journal must be on disk before it replaces the current one
+                    tmpOutput.getChannel().force(true);
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lines = live.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact job journal " + path, e);
+        }
+    }
+
+    private void open() throws IOException {
+        output = new FileOutputStream(path.toFile(), true);
+        writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    private static String format(Record job) {
+        return String.join(SEPARATOR, SCHEDULED, job.getId(), nullToEmpty(job.getProcessInstanceId()), nullToEmpty(job.getProcessId()), Long.toString(job.getExpiration()),
+                job.getRepeatInterval() == null ? "" : job.getRepeatInterval().toString(), Integer.toString(job.getLimit()));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
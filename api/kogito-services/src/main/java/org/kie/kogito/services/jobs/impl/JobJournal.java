@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.util.Collection;
+
+/**
+ * Durable record of the pending process instance jobs of a {@link TimingWheelJobService}, so they survive restarts.
+ */
+public interface JobJournal extends AutoCloseable {
+
+    /**
+     * @return the pending jobs, as left by the last run
+     */
+    Collection<Record> load();
+
+    /**
+     * Records a job, replacing any previous record with the same id.
+     */
+    void scheduled(Record job);
+
+    void removed(String id);
+
+    @Override
+    void close();
+
+    class Record {
+
+        private final String id;
+        private final String processInstanceId;
+        private final String processId;
+        private final long expiration;
+        private final Long repeatInterval;
+        private final int limit;
+
+        public Record(String id, String processInstanceId, String processId, long expiration, Long repeatInterval, int limit) {
+            this.id = id;
+            this.processInstanceId = processInstanceId;
+            this.processId = processId;
+            this.expiration = expiration;
+            this.repeatInterval = repeatInterval;
+            this.limit = limit;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getProcessInstanceId() {
+            return processInstanceId;
+        }
+
+        public String getProcessId() {
+            return processId;
+        }
+
+        public long getExpiration() {
+            return expiration;
+        }
+
+        public Long getRepeatInterval() {
+            return repeatInterval;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public String toString() {
+            return "Record [id=" + id + ", processInstanceId=" + processInstanceId + ", processId=" + processId + ", expiration=" + expiration + ", repeatInterval=" + repeatInterval
+                    + ", limit=" + limit + "]";
+        }
+    }
+}
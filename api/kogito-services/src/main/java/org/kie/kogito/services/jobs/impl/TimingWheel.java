@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel.
+ * <p>
+ * Each level is a circular array of buckets covering <code>tickMs * wheelSize</code> milliseconds, entries beyond that
+ * range go to a coarser overflow level created on demand. Adding and removing an entry is O(1), only non empty buckets are
+ * put in the shared {@link DelayQueue}, which is what the driving thread waits on. When a bucket expires its entries are
+ * re-added, so they either move down to a finer level or are reported as expired.
+ * <p>
+ * Not thread safe for adding and advancing, callers must synchronize on the wheel. Entries can be removed concurrently.
+ */
+class TimingWheel {
+
+    abstract static class Entry {
+
+        protected long expiration;
+
+        private Bucket bucket;
+        private Entry prev;
+        private Entry next;
+
+        protected Entry(long expiration) {
+            this.expiration = expiration;
+        }
+
+        public long getExpiration() {
+            return expiration;
+        }
+
+        void remove() {
+            Bucket current = bucket;
+            while (current != null) {
+                current.remove(this);
+                current = bucket;
+            }
+        }
+    }
+
+    static class Bucket implements Delayed {
+
+        private final Entry root = new Entry(-1) {
+        };
+        private final AtomicLong expiration = new AtomicLong(-1);
+
+        Bucket() {
+            root.next = root;
+            root.prev = root;
+        }
+
+        synchronized void add(Entry entry) {
+            entry.remove();
+            Entry tail = root.prev;
+            entry.next = root;
+            entry.prev = tail;
+            tail.next = entry;
+            root.prev = entry;
+            entry.bucket = this;
+        }
+
+        synchronized void remove(Entry entry) {
+            if (entry.bucket == this) {
+                entry.next.prev = entry.prev;
+                entry.prev.next = entry.next;
+                entry.next = null;
+                entry.prev = null;
+                entry.bucket = null;
+            }
+        }
+
+        synchronized void flush(Consumer<Entry> consumer) {
+            Entry head = root.next;
+            while (head != root) {
+                remove(head);
+                consumer.accept(head);
+                head = root.next;
+            }
+            expiration.set(-1);
+        }
+
+        boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket[] buckets;
+    private final DelayQueue<Bucket> queue;
+    private long currentTime;
+    private TimingWheel overflow;
+
+    TimingWheel(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket> queue) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.queue = queue;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * @return false if the entry is already expired and must be fired by the caller
+     */
+    boolean add(Entry entry) {
+        long expiration = entry.expiration;
+        if (expiration < currentTime + tickMs) {
+            return false;
+        }
+        if (expiration < currentTime + interval) {
+            long virtualId = expiration / tickMs;
+            Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.add(entry);
+            // a bucket is only queued once per round, when it goes from empty to holding entries
+            if (bucket.setExpiration(virtualId * tickMs)) {
+                queue.offer(bucket);
+            }
+            return true;
+        }
+        if (overflow == null) {
+            overflow = new TimingWheel(interval, wheelSize, currentTime, queue);
+        }
+        return overflow.add(entry);
+    }
+
+    void advanceClock(long timeMs) {
+        if (timeMs >= currentTime + tickMs) {
+            currentTime = timeMs - (timeMs % tickMs);
+            if (overflow != null) {
+                overflow.advanceClock(currentTime);
+            }
+        }
+    }
+}
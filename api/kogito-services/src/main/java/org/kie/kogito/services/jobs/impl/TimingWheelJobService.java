@@ -0,0 +1,394 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.Model;
+import org.kie.kogito.jobs.ExpirationTime;
+import org.kie.kogito.jobs.JobsService;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+import org.kie.kogito.jobs.ProcessJobDescription;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.Processes;
+import org.kie.kogito.services.uow.BaseWorkUnit;
+import org.kie.kogito.services.uow.UnitOfWorkExecutor;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.WorkUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Embedded jobs service for single node deployments, an alternative to {@link InMemoryJobService} able to hold a large
+ * number of timers.
+ * <p>
+ * Timers are kept in a {@link TimingWheel}, so scheduling and cancelling is O(1), and driven by a single thread. Expired
+ * jobs are fired in batches, jobs of the same process instance being executed one after the other so they do not
+ * conflict with each other. Jobs failing because the process instance was concurrently updated, or because its process is
+ * not registered yet, are retried with an exponential backoff bounded by <code>retry.max-ms</code>.
+ * <p>
+ * When a journal is configured, process instance jobs are recorded on it and reloaded on startup, jobs expired while
+ * the application was down being fired right away. Changes made within a unit of work are only recorded once it ends,
+ * so a rolled back unit of work leaves no job in the journal. Process jobs (start timers) are not recorded, since they are
+ * scheduled again when processes are activated.
+ */
+public class TimingWheelJobService implements JobsService, AutoCloseable {
+
+    public static final String ENABLED_PROPERTY = "kogito.in-memory.job-service.timing-wheel.enabled";
+    public static final String JOURNAL_PROPERTY = "kogito.in-memory.job-service.journal";
+    public static final String JOURNAL_SYNC_PROPERTY = "kogito.in-memory.job-service.journal.sync";
+    public static final String TICK_PROPERTY = "kogito.in-memory.job-service.tick-ms";
+    public static final String WHEEL_SIZE_PROPERTY = "kogito.in-memory.job-service.wheel-size";
+    public static final String RETRY_BASE_PROPERTY = "kogito.in-memory.job-service.retry.base-ms";
+    public static final String RETRY_MAX_PROPERTY = "kogito.in-memory.job-service.retry.max-ms";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelJobService.class);
+    private static final String THREAD_NAME = "kogito-job-timer";
+
+    private static final ConcurrentHashMap<Processes, TimingWheelJobService> INSTANCE = new ConcurrentHashMap<>();
+
+    private final Processes processes;
+    private final UnitOfWorkManager unitOfWorkManager;
+    private final JobJournal journal;
+    private final long tickMs;
+    private final long retryBaseMs;
+    private final long retryMaxMs;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final DelayQueue<TimingWheel.Bucket> buckets = new DelayQueue<>();
+    private final TimingWheel wheel;
+    private final ExecutorService executor;
+    private final Thread timer;
+    private volatile boolean running = true;
+
+    public TimingWheelJobService(Processes processes, UnitOfWorkManager unitOfWorkManager, JobJournal journal, long tickMs, int wheelSize, int poolSize, long retryBaseMs,
+            long retryMaxMs) {
+        this.processes = processes;
+        this.unitOfWorkManager = unitOfWorkManager;
+        this.journal = journal;
+        this.tickMs = tickMs;
+        this.retryBaseMs = retryBaseMs;
+        this.retryMaxMs = retryMaxMs;
+        this.wheel = new TimingWheel(tickMs, wheelSize, System.currentTimeMillis(), buckets);
+        this.executor = Executors.newFixedThreadPool(poolSize);
+        if (journal != null) {
+            List<Job> expired = new ArrayList<>();
+            for (JobJournal.Record record : journal.load()) {
+                Job job = new ProcessInstanceJob(record.getId(), record.getProcessInstanceId(), record.getProcessId(), record.getExpiration(), record.getRepeatInterval(),
+                        record.getLimit());
+                jobs.put(job.id, job);
+                synchronized (wheel) {
+                    if (!wheel.add(job)) {
+                        expired.add(job);
+                    }
+                }
+            }
+            LOGGER.info("Reloaded {} pending jobs, {} of them expired", jobs.size(), expired.size());
+            fire(expired);
+        }
+        this.timer = new Thread(this::advance, THREAD_NAME);
+        this.timer.setDaemon(true);
+        this.timer.start();
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY) || System.getProperty(JOURNAL_PROPERTY) != null;
+    }
+
+    public static TimingWheelJobService get(final Processes processes, final UnitOfWorkManager unitOfWorkManager) {
+        Objects.requireNonNull(processes);
+        Objects.requireNonNull(unitOfWorkManager);
+        return INSTANCE.computeIfAbsent(processes, k -> {
+            String journalPath = System.getProperty(JOURNAL_PROPERTY);
+            JobJournal journal = journalPath == null ? null : new FileJobJournal(Paths.get(journalPath), Boolean.getBoolean(JOURNAL_SYNC_PROPERTY));
+            return new TimingWheelJobService(processes, unitOfWorkManager, journal,
+                    Long.getLong(TICK_PROPERTY, 10),
+                    Integer.getInteger(WHEEL_SIZE_PROPERTY, 512),
+                    Integer.parseInt(System.getProperty(InMemoryJobService.IN_MEMORY_JOB_SERVICE_POOL_SIZE_PROPERTY, "10")),
+                    Long.getLong(RETRY_BASE_PROPERTY, 100),
+                    Long.getLong(RETRY_MAX_PROPERTY, 30000));
+        });
+    }
+
+    @Override
+    public String scheduleProcessJob(ProcessJobDescription description) {
+        LOGGER.debug("ScheduleProcessJob: {}", description);
+        ExpirationTime expirationTime = description.expirationTime();
+        Process<?> process = description.process();
+        schedule(new ProcessJob(description.id(), process != null ? process.id() : description.processId(), process, expiration(expirationTime), expirationTime.repeatInterval(),
+                expirationTime.repeatInterval() != null ? expirationTime.repeatLimit() : -1));
+        return description.id();
+    }
+
+    @Override
+    public String scheduleProcessInstanceJob(ProcessInstanceJobDescription description) {
+        LOGGER.debug("ScheduleProcessInstanceJob: {}", description);
+        ExpirationTime expirationTime = description.expirationTime();
+        schedule(new ProcessInstanceJob(description.id(), description.processInstanceId(), description.processId(), expiration(expirationTime), expirationTime.repeatInterval(),
+                expirationTime.repeatInterval() != null ? expirationTime.repeatLimit() : 1));
+        return description.id();
+    }
+
+    @Override
+    public boolean cancelJob(String id) {
+        LOGGER.debug("Cancel Job: {}", id);
+        Job job = jobs.remove(id);
+        if (job == null) {
+            return false;
+        }
+        job.remove();
+        if (job.toRecord().isPresent()) {
+            afterUnitOfWork(id, () -> journal.removed(id));
+        }
+        return true;
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    private static long expiration(ExpirationTime expirationTime) {
+        return expirationTime.get().toInstant().toEpochMilli();
+    }
+
+    private void schedule(Job job) {
+        Job previous = jobs.put(job.id, job);
+        if (previous != null && previous != job) {
+            previous.remove();
+        }
+        job.toRecord().ifPresent(record -> afterUnitOfWork(job.id, () -> {
+            if (jobs.get(job.id) == job) {
+                journal.scheduled(record);
+            }
+        }));
+        boolean added;
+        synchronized (wheel) {
+            added = wheel.add(job);
+        }
+        if (!added) {
+            fire(Collections.singletonList(job));
+        }
+    }
+
+    private void afterUnitOfWork(String id, Runnable journalChange) {
+        // performed right away when there is no unit of work in progress
+        unitOfWorkManager.currentUnitOfWork().intercept(new BaseWorkUnit<>(id, i -> journalChange.run(), i -> {
+        }, WorkUnit.AFTER_END_PRIORITY));
+    }
+
+    private void advance() {
+        while (running) {
+            try {
+                TimingWheel.Bucket bucket = buckets.poll(Math.max(tickMs, 100), TimeUnit.MILLISECONDS);
+                if (bucket != null) {
+                    List<Job> expired = new ArrayList<>();
+                    synchronized (wheel) {
+                        while (bucket != null) {
+                            wheel.advanceClock(bucket.getExpiration());
+                            bucket.flush(entry -> {
+                                if (!wheel.add(entry)) {
+                                    expired.add((Job) entry);
+                                }
+                            });
+                            bucket = buckets.poll();
+                        }
+                    }
+                    fire(expired);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Unexpected error advancing job timers", e);
+            }
+        }
+    }
+
+    private void fire(List<Job> expired) {
+        if (expired.isEmpty() || !running) {
+            return;
+        }
+        // jobs of the same process instance run in order, on the same thread
+        Map<String, List<Job>> batches = new LinkedHashMap<>();
+        for (Job job : expired) {
+            batches.computeIfAbsent(job.batchKey(), k -> new ArrayList<>()).add(job);
+        }
+        for (List<Job> batch : batches.values()) {
+            executor.execute(() -> batch.forEach(this::execute));
+        }
+    }
+
+    private void execute(Job job) {
+        if (jobs.get(job.id) != job) {
+            // cancelled or rescheduled meanwhile
+            return;
+        }
+        try {
+            LOGGER.debug("Job {} started", job.id);
+            boolean repeat = job.execute();
+            job.attempts = 0;
+            if (repeat && jobs.get(job.id) == job) {
+                job.expiration += job.repeatInterval;
+                schedule(job);
+            } else if (jobs.remove(job.id, job) && job.toRecord().isPresent()) {
+                journal.removed(job.id);
+            }
+            LOGGER.debug("Job {} completed", job.id);
+        } catch (ProcessInstanceOptimisticLockingException | ProcessNotAvailableException ex) {
+            long delay = Math.min(retryMaxMs, retryBaseMs << Math.min(job.attempts++, 20));
+            LOGGER.info("Retrying Job {} in {} ms due to: {}", job.id, delay, ex.getMessage());
+            job.expiration = System.currentTimeMillis() + delay;
+            if (jobs.get(job.id) == job) {
+                schedule(job);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("Job {} failed", job.id, ex);
+            cancelJob(job.id);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        timer.interrupt();
+        executor.shutdown();
+        INSTANCE.remove(processes, this);
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private static class ProcessNotAvailableException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private ProcessNotAvailableException(String processId) {
+            super("Process " + processId + " is not available");
+        }
+    }
+
+    private abstract static class Job extends TimingWheel.Entry {
+
+        protected final String id;
+        protected final String processId;
+        protected final Long repeatInterval;
+        protected int limit;
+        private int attempts;
+
+        private Job(String id, String processId, long expiration, Long repeatInterval, int limit) {
+            super(expiration);
+            this.id = id;
+            this.processId = processId;
+            this.repeatInterval = repeatInterval;
+            this.limit = limit;
+        }
+
+        protected abstract String batchKey();
+
+        /**
+         * @return whether the job has to be scheduled again
+         */
+        protected abstract boolean execute();
+
+        /**
+         * @return the journal record of the job, empty if the job is not recorded
+         */
+        protected abstract Optional<JobJournal.Record> toRecord();
+    }
+
+    private class ProcessInstanceJob extends Job {
+
+        private final String processInstanceId;
+
+        private ProcessInstanceJob(String id, String processInstanceId, String processId, long expiration, Long repeatInterval, int limit) {
+            super(id, processId, expiration, repeatInterval, limit);
+            this.processInstanceId = processInstanceId;
+        }
+
+        @Override
+        protected String batchKey() {
+            return processInstanceId;
+        }
+
+        @Override
+        protected Optional<JobJournal.Record> toRecord() {
+            return journal == null ? Optional.empty() : Optional.of(new JobJournal.Record(id, processInstanceId, processId, expiration, repeatInterval, limit));
+        }
+
+        @Override
+        protected boolean execute() {
+            Process<? extends Model> process = processes.processById(processId);
+            if (process == null) {
+                throw new ProcessNotAvailableException(processId);
+            }
+            int remaining = limit - 1;
+            boolean executed = new TriggerJobCommand(processInstanceId, id, remaining, process, unitOfWorkManager).execute();
+            limit = remaining;
+            return executed && repeatInterval != null && limit != 0;
+        }
+    }
+
+    private class ProcessJob extends Job {
+
+        private final Process<?> process;
+
+        private ProcessJob(String id, String processId, Process<?> process, long expiration, Long repeatInterval, int limit) {
+            super(id, processId, expiration, repeatInterval, limit);
+            this.process = process;
+        }
+
+        @Override
+        protected String batchKey() {
+            return id;
+        }
+
+        @Override
+        protected Optional<JobJournal.Record> toRecord() {
+            return Optional.empty();
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        protected boolean execute() {
+            Process target = process != null ? process : processes.processById(processId);
+            if (target == null) {
+                throw new ProcessNotAvailableException(processId);
+            }
+            UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+                org.kie.kogito.process.ProcessInstance<?> pi = target.createInstance(target.createModel());
+                if (pi != null) {
+                    pi.start(InMemoryJobService.TRIGGER, null);
+                }
+                return null;
+            });
+            limit--;
+            return repeatInterval != null && limit != 0;
+        }
+    }
+}
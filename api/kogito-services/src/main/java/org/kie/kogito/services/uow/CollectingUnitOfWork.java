@@ -26,17 +26,24 @@ import org.kie.kogito.event.EventBatch;
 import org.kie.kogito.event.EventManager;
 import org.kie.kogito.uow.UnitOfWork;
 import org.kie.kogito.uow.WorkUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Simple unit of work that collects work elements
  * throughout the life of the unit and invokes all of them at the end
  * when end method is invoked. It does not invoke the work
  * when abort is invoked, only clears the collected items.
+ * Work with {@link WorkUnit#AFTER_END_PRIORITY} is kept aside on end and only invoked
+ * by {@link #performAfterEndWork()}, once the end listeners have been notified.
  *
  */
 public class CollectingUnitOfWork implements UnitOfWork {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CollectingUnitOfWork.class);
+
     private Set<WorkUnit<?>> collectedWork;
+    private List<WorkUnit<?>> afterEndWork = new ArrayList<>();
     private boolean done;
 
     private final EventManager eventManager;
@@ -59,6 +66,10 @@ public class CollectingUnitOfWork implements UnitOfWork {
         EventBatch batch = eventManager.newBatch();
 
         for (WorkUnit<?> work : sorted()) {
+            if (work.priority() == WorkUnit.AFTER_END_PRIORITY) {
+                afterEndWork.add(work);
+                continue;
+            }
             batch.append(work.data());
             work.perform();
         }
@@ -66,6 +77,22 @@ public class CollectingUnitOfWork implements UnitOfWork {
         done();
     }
 
+    /**
+     * Performs the work that was kept aside on end because of its {@link WorkUnit#AFTER_END_PRIORITY}.
+     * The unit of work is already ended at this point, so failures are only logged.
+     */
+    public void performAfterEndWork() {
+        List<WorkUnit<?>> work = afterEndWork;
+        afterEndWork = new ArrayList<>();
+        for (WorkUnit<?> unit : work) {
+            try {
+                unit.perform();
+            } catch (RuntimeException e) {
+                LOGGER.error("Error performing work {} after the unit of work ended", unit, e);
+            }
+        }
+    }
+
     @Override
     public void abort() {
         checkStarted();
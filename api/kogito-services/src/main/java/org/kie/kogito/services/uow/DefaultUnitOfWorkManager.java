@@ -68,7 +68,7 @@ public class DefaultUnitOfWorkManager implements UnitOfWorkManager {
 
     @Override
     public UnitOfWork newUnitOfWork() {
-        return new ManagedUnitOfWork(factory.create(eventManager), this::onStart, this::onEnd, this::onAbort);
+        return new ManagedUnitOfWork(factory.create(eventManager), this::onStart, this::onStarted, this::onEnd, this::onAbort);
     }
 
     protected void onStart(UnitOfWork unit) {
@@ -76,6 +76,10 @@ public class DefaultUnitOfWorkManager implements UnitOfWorkManager {
         listeners.forEach(l -> l.onBeforeStartEvent(new UnitOfWorkStartEvent(unit)));
     }
 
+    protected void onStarted(UnitOfWork unit) {
+        listeners.forEach(l -> l.onAfterStartEvent(new UnitOfWorkStartEvent(unit)));
+    }
+
     protected void onEnd(UnitOfWork unit) {
         this.dissociate(unit);
         listeners.forEach(l -> l.onAfterEndEvent(new UnitOfWorkEndEvent(unit)));
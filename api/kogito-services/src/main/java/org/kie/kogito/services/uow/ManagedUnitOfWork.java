@@ -29,13 +29,20 @@ public class ManagedUnitOfWork implements UnitOfWork {
 
     private UnitOfWork delegate;
     private Consumer<UnitOfWork> onStart;
+    private Consumer<UnitOfWork> onStarted;
     private Consumer<UnitOfWork> onEnd;
     private Consumer<UnitOfWork> onAbort;
 
     public ManagedUnitOfWork(UnitOfWork delegate, Consumer<UnitOfWork> onStart, Consumer<UnitOfWork> onEnd, Consumer<UnitOfWork> onAbort) {
+        this(delegate, onStart, unit -> {
+        }, onEnd, onAbort);
+    }
+
+    public ManagedUnitOfWork(UnitOfWork delegate, Consumer<UnitOfWork> onStart, Consumer<UnitOfWork> onStarted, Consumer<UnitOfWork> onEnd, Consumer<UnitOfWork> onAbort) {
         super();
         this.delegate = delegate;
         this.onStart = onStart;
+        this.onStarted = onStarted;
         this.onEnd = onEnd;
         this.onAbort = onAbort;
     }
@@ -44,12 +51,16 @@ public class ManagedUnitOfWork implements UnitOfWork {
     public void start() {
         onStart.accept(delegate);
         delegate.start();
+        onStarted.accept(delegate);
     }
 
     @Override
     public void end() {
         delegate.end();
         onEnd.accept(delegate);
+        if (delegate instanceof CollectingUnitOfWork) {
+            ((CollectingUnitOfWork) delegate).performAfterEndWork();
+        }
     }
 
     @Override
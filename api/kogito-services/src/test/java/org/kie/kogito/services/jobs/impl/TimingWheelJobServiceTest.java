@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.kogito.jobs.ExactExpirationTime;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.ProcessInstances;
+import org.kie.kogito.process.Processes;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.services.uow.PassThroughUnitOfWork;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TimingWheelJobServiceTest {
+
+    private static final String PROCESS_ID = "processId";
+    private static final String PROCESS_INSTANCE_ID = "processInstanceId";
+
+    @TempDir
+    Path tempDir;
+
+    private Processes processes;
+    private UnitOfWorkManager unitOfWorkManager;
+    private ProcessInstance<?> processInstance;
+
+    @BeforeEach
+    void setUp() {
+        processes = mock(Processes.class);
+        unitOfWorkManager = mock(UnitOfWorkManager.class);
+        doReturn(mock(UnitOfWork.class)).when(unitOfWorkManager).newUnitOfWork();
+        doReturn(new PassThroughUnitOfWork()).when(unitOfWorkManager).currentUnitOfWork();
+        Process<?> process = mock(Process.class);
+        ProcessInstances<?> instances = mock(ProcessInstances.class);
+        processInstance = mock(ProcessInstance.class);
+        doReturn(process).when(processes).processById(PROCESS_ID);
+        doReturn(instances).when(process).instances();
+        doReturn(Optional.of(processInstance)).when(instances).findById(PROCESS_INSTANCE_ID);
+    }
+
+    @Test
+    void testFireAndCancel() {
+        try (TimingWheelJobService service = newService(null)) {
+            service.scheduleProcessInstanceJob(job("fired", ZonedDateTime.now().plus(50, ChronoUnit.MILLIS)));
+            service.scheduleProcessInstanceJob(job("cancelled", ZonedDateTime.now().plus(100, ChronoUnit.MILLIS)));
+            assertThat(service.cancelJob("cancelled")).isTrue();
+            assertThat(service.cancelJob("unknown")).isFalse();
+
+            verify(processInstance, timeout(5000)).send(any());
+            assertThat(service.size()).isZero();
+        }
+        verify(processInstance, times(1)).send(any());
+    }
+
+    @Test
+    void testJobsReloadedFromJournal() {
+        Path journalPath = tempDir.resolve("jobs.journal");
+        try (TimingWheelJobService service = newService(new FileJobJournal(journalPath, false))) {
+            service.scheduleProcessInstanceJob(job("late", ZonedDateTime.now().plus(1, ChronoUnit.DAYS)));
+            service.scheduleProcessInstanceJob(job("soon", ZonedDateTime.now().plus(300, ChronoUnit.MILLIS)));
+            service.scheduleProcessInstanceJob(job("cancelled", ZonedDateTime.now().plus(1, ChronoUnit.DAYS)));
+            service.cancelJob("cancelled");
+        }
+        verify(processInstance, never()).send(any());
+
+        try (TimingWheelJobService service = newService(new FileJobJournal(journalPath, false))) {
+            verify(processInstance, timeout(5000)).send(any());
+            assertThat(service.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testJournalFollowsUnitOfWork() {
+        JobJournal journal = mock(JobJournal.class);
+        unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        try (TimingWheelJobService service = newService(journal)) {
+            UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+            unitOfWork.start();
+            service.scheduleProcessInstanceJob(job("committed", ZonedDateTime.now().plus(1, ChronoUnit.DAYS)));
+            verify(journal, never()).scheduled(any());
+            unitOfWork.end();
+            verify(journal).scheduled(any());
+
+            unitOfWork = unitOfWorkManager.newUnitOfWork();
+            unitOfWork.start();
+            service.scheduleProcessInstanceJob(job("rolledBack", ZonedDateTime.now().plus(1, ChronoUnit.DAYS)));
+            service.cancelJob("committed");
+            unitOfWork.abort();
+            verify(journal, times(1)).scheduled(any());
+            verify(journal, never()).removed(any());
+        }
+    }
+
+    @Test
+    void testSyncedJournalCompaction() throws Exception {
+        Path journalPath = tempDir.resolve("jobs.journal");
+        FileJobJournal journal = new FileJobJournal(journalPath, true);
+        journal.load();
+        JobJournal.Record live = new JobJournal.Record("live", PROCESS_INSTANCE_ID, PROCESS_ID, 1L, null, 1);
+        journal.scheduled(live);
+        for (int i = 0; i < 600; i++) {
+            journal.scheduled(new JobJournal.Record("stale", PROCESS_INSTANCE_ID, PROCESS_ID, 1L, null, 1));
+            journal.removed("stale");
+        }
+        journal.close();
+
+        assertThat(Files.readAllLines(journalPath).size()).isLessThan(1000);
+        assertThat(Files.exists(journalPath.resolveSibling("jobs.journal.tmp"))).isFalse();
+        assertThat(new FileJobJournal(journalPath, true).load()).extracting(JobJournal.Record::getId).containsExactly("live");
+    }
+
+    @Test
+    void testRetryOnOptimisticLocking() {
+        doThrow(new ProcessInstanceOptimisticLockingException(PROCESS_INSTANCE_ID)).doNothing().when(processInstance).send(any());
+        try (TimingWheelJobService service = newService(null)) {
+            service.scheduleProcessInstanceJob(job("retried", ZonedDateTime.now()));
+            verify(processInstance, timeout(5000).times(2)).send(any());
+        }
+    }
+
+    private TimingWheelJobService newService(JobJournal journal) {
+        return new TimingWheelJobService(processes, unitOfWorkManager, journal, 10, 8, 2, 10, 100);
+    }
+
+    private static ProcessInstanceJobDescription job(String id, ZonedDateTime expiration) {
+        return ProcessInstanceJobDescription.builder()
+                .timerId(id)
+                .expirationTime(ExactExpirationTime.of(expiration))
+                .processInstanceId(PROCESS_INSTANCE_ID)
+                .processId(PROCESS_ID)
+                .build();
+    }
+}
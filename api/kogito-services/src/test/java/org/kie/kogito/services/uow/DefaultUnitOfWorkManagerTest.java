@@ -22,7 +22,9 @@ import org.junit.jupiter.api.Test;
 import org.kie.kogito.uow.UnitOfWork;
 import org.kie.kogito.uow.UnitOfWorkManager;
 import org.kie.kogito.uow.WorkUnit;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
 import org.kie.kogito.uow.events.UnitOfWorkEventListener;
+import org.kie.kogito.uow.events.UnitOfWorkStartEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -146,4 +148,71 @@ public class DefaultUnitOfWorkManagerTest {
         assertThat(counter).hasValue(1);
         assertThat(picounter).hasValue(0);
     }
+
+    @Test
+    public void testListenerInterceptsWorkOnStart() {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final AtomicInteger started = new AtomicInteger(0);
+        unitOfWorkManager.register(new UnitOfWorkEventListener() {
+            @Override
+            public void onBeforeStartEvent(UnitOfWorkStartEvent event) {
+                // notified before the unit of work is started
+                assertThrows(IllegalStateException.class, () -> event.getUnitOfWork().intercept(new BaseWorkUnit(counter, (d) -> {
+                })));
+            }
+
+            @Override
+            public void onAfterStartEvent(UnitOfWorkStartEvent event) {
+                assertThat(unitOfWorkManager.currentUnitOfWork()).isSameAs(event.getUnitOfWork());
+                started.incrementAndGet();
+                event.getUnitOfWork().intercept(new BaseWorkUnit(counter, (d) -> ((AtomicInteger) d).incrementAndGet()));
+            }
+        });
+
+        UnitOfWork unit = unitOfWorkManager.newUnitOfWork();
+        unit.start();
+        assertThat(started).hasValue(1);
+        assertThat(counter).hasValue(0);
+        unit.end();
+
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    public void testAfterEndWorkPerformedAfterEndListeners() {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final AtomicInteger counterOnEnd = new AtomicInteger(-1);
+        unitOfWorkManager.register(new UnitOfWorkEventListener() {
+            @Override
+            public void onAfterEndEvent(UnitOfWorkEndEvent event) {
+                counterOnEnd.set(counter.get());
+            }
+        });
+
+        UnitOfWork unit = unitOfWorkManager.newUnitOfWork();
+        unit.start();
+        unit.intercept(new BaseWorkUnit<>(counter, AtomicInteger::incrementAndGet, d -> {
+        }, WorkUnit.AFTER_END_PRIORITY));
+        unit.intercept(new BaseWorkUnit<>(counter, d -> {
+            throw new IllegalStateException("failure after end must not affect the unit of work");
+        }, d -> {
+        }, WorkUnit.AFTER_END_PRIORITY));
+        unit.end();
+
+        assertThat(counterOnEnd).hasValue(0);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    public void testAfterEndWorkNotPerformedOnAbort() {
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        UnitOfWork unit = unitOfWorkManager.newUnitOfWork();
+        unit.start();
+        unit.intercept(new BaseWorkUnit<>(counter, AtomicInteger::incrementAndGet, d -> {
+        }, WorkUnit.AFTER_END_PRIORITY));
+        unit.abort();
+
+        assertThat(counter).hasValue(0);
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.timer.impl;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Compiled form of a {@link CronExpression}: every field is a bit mask and the next fire time is found walking
+ * primitive local date and time fields, without <code>Calendar</code>, <code>TreeSet</code> or boxing.
+ * <p>
+ * Expressions using the <code>L</code>, <code>W</code> or <code>#</code> day rules, and searches crossing a zone
+ * offset transition, are delegated to {@link CronExpression#getTimeAfter(Date, TimeZone)} so the fire times are
+ * always the same as the ones computed by the expression itself.
+ * </p>
+ */
+public final class CompiledCronExpression {
+
+    public static final long NO_FIRE_TIME = -1L;
+
+    private static final int FIRST_YEAR = 1969;
+    private static final int LAST_YEAR = CronTrigger.YEAR_TO_GIVEUP_SCHEDULING_AT;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final long NO_MATCH = Long.MIN_VALUE;
+
+    private final CronExpression expression;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final long[] years;
+    private final boolean byDayOfWeek;
+    private final boolean calendarRules;
+
+    public CompiledCronExpression(CronExpression expression) {
+        this.expression = expression;
+        this.seconds = mask(expression.seconds, 0, 59);
+        this.minutes = mask(expression.minutes, 0, 59);
+        this.hours = mask(expression.hours, 0, 23);
+        this.daysOfMonth = mask(expression.daysOfMonth, 1, 31);
+        this.months = mask(expression.months, 1, 12);
+        this.daysOfWeek = mask(expression.daysOfWeek, 1, 7);
+        this.years = new long[((LAST_YEAR - FIRST_YEAR) >> 6) + 1];
+        for (Object value : expression.years) {
+            int year = (Integer) value;
+            if (year >= FIRST_YEAR && year <= LAST_YEAR) {
+                years[(year - FIRST_YEAR) >> 6] |= 1L << (year - FIRST_YEAR);
+            }
+        }
+        this.byDayOfWeek = expression.daysOfMonth.contains(CronExpression.NO_SPEC);
+        this.calendarRules = expression.lastdayOfWeek || expression.nthdayOfWeek != 0 || expression.lastdayOfMonth || expression.nearestWeekday;
+    }
+
+    public CronExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * Returns the first time, in epoch milliseconds, strictly after the given one (milliseconds are ignored) that
+     * satisfies the expression in the given zone, or {@link #NO_FIRE_TIME} if there is none.
+     */
+    public long nextAfter(long epochMillis, ZoneId zone) {
+        long start = Math.floorDiv(epochMillis, 1000L) + 1;
+        if (calendarRules || start < SECONDS_PER_DAY) {
+            return calendarNextAfter(epochMillis, zone);
+        }
+        ZoneRules rules = null;
+        int offset;
+        if (zone instanceof ZoneOffset) {
+            offset = ((ZoneOffset) zone).getTotalSeconds();
+        } else {
+            rules = zone.getRules();
+            offset = rules.getOffset(Instant.ofEpochSecond(start)).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                rules = null;
+            }
+        }
+        long local = nextLocal(start + offset);
+        if (local == NO_MATCH) {
+            return NO_FIRE_TIME;
+        }
+        long next = local - offset;
+        if (rules != null) {
+            // wall clock times around an offset change are resolved as java.util.Calendar does
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(start));
+            if (transition != null && transition.toEpochSecond() <= next + SECONDS_PER_DAY) {
+                return calendarNextAfter(epochMillis, zone);
+            }
+        }
+        return next * 1000L;
+    }
+
+    private long calendarNextAfter(long epochMillis, ZoneId zone) {
+        Date next = expression.getTimeAfter(new Date(epochMillis), TimeZone.getTimeZone(zone));
+        return next == null ? NO_FIRE_TIME : next.getTime();
+    }
+
+    /**
+     * @return first local epoch second not before the given one matching all fields, {@link #NO_MATCH} if none
+     */
+    private long nextLocal(long local) {
+        while (true) {
+            long epochDay = Math.floorDiv(local, SECONDS_PER_DAY);
+            int secondOfDay = (int) (local - epochDay * SECONDS_PER_DAY);
+            long yearMonthDay = civilFromDays(epochDay);
+            int year = (int) (yearMonthDay >> 9);
+            int month = (int) (yearMonthDay >> 5) & 0xF;
+            int day = (int) yearMonthDay & 0x1F;
+            int hour = secondOfDay / 3600;
+            int minute = secondOfDay / 60 % 60;
+            int second = secondOfDay % 60;
+
+            // when a field does not match, move to the start of its next candidate value and check again
+            if (year > LAST_YEAR) {
+                return NO_MATCH;
+            }
+            int next = nextYear(year);
+            if (next < 0) {
+                return NO_MATCH;
+            }
+            if (next != year) {
+                local = daysFromCivil(next, 1, 1) * SECONDS_PER_DAY;
+                continue;
+            }
+            next = nextBit(months, month);
+            if (next != month) {
+                local = (next < 0 ? daysFromCivil(year + 1, 1, 1) : daysFromCivil(year, next, 1)) * SECONDS_PER_DAY;
+                continue;
+            }
+            next = nextDay(year, month, day);
+            if (next != day) {
+                local = (next < 0 ? daysFromCivil(year, month, 1) + expression.getLastDayOfMonth(month, year) : epochDay + next - day) * SECONDS_PER_DAY;
+                continue;
+            }
+            long dayStart = epochDay * SECONDS_PER_DAY;
+            next = nextBit(hours, hour);
+            if (next != hour) {
+                local = next < 0 ? dayStart + SECONDS_PER_DAY : dayStart + next * 3600;
+                continue;
+            }
+            long hourStart = dayStart + hour * 3600;
+            next = nextBit(minutes, minute);
+            if (next != minute) {
+                local = next < 0 ? hourStart + 3600 : hourStart + next * 60;
+                continue;
+            }
+            next = nextBit(seconds, second);
+            if (next < 0) {
+                local = hourStart + minute * 60 + 60;
+                continue;
+            }
+            return hourStart + minute * 60 + next;
+        }
+    }
+
+    private int nextDay(int year, int month, int day) {
+        int lastDay = expression.getLastDayOfMonth(month, year);
+        if (!byDayOfWeek) {
+            int next = nextBit(daysOfMonth, day);
+            return next <= lastDay ? next : -1;
+        }
+        // java.util.Calendar numbering, 1970-01-01 was a thursday
+        int dayOfWeek = (int) Math.floorMod(daysFromCivil(year, month, day) + 4, 7L) + 1;
+        for (int i = 0; i < 7 && day + i <= lastDay; i++) {
+            if ((daysOfWeek & (1L << ((dayOfWeek + i - 1) % 7 + 1))) != 0) {
+                return day + i;
+            }
+        }
+        return -1;
+    }
+
+    private int nextYear(int year) {
+        int bit = year - FIRST_YEAR;
+        for (int word = bit >> 6; word < years.length; word++) {
+            long bits = years[word] & (-1L << bit);
+            if (bits != 0) {
+                return FIRST_YEAR + (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            bit = 0;
+        }
+        return -1;
+    }
+
+    private static int nextBit(long mask, int from) {
+        if (from > 63) {
+            return -1;
+        }
+        long bits = mask & (-1L << from);
+        return bits == 0 ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    private static long mask(Set<?> values, int min, int max) {
+        long mask = 0;
+        for (Object value : values) {
+            int v = (Integer) value;
+            if (v >= min && v <= max) {
+                mask |= 1L << v;
+            }
+        }
+        return mask;
+    }
+
+    // proleptic gregorian conversions between epoch days and year/month/day, packed as year << 9 | month << 5 | day
+    private static long civilFromDays(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
@@ -244,6 +244,7 @@ public class CronExpression implements Serializable, Cloneable {
     protected transient boolean lastdayOfMonth = false;
     protected transient boolean nearestWeekday = false;
     protected transient boolean expressionParsed = false;
+    private transient CronFireTimes fireTimes;
 
     /**
      * Constructs a new <CODE>CronExpression</CODE> based on the specified
@@ -296,7 +297,13 @@ public class CronExpression implements Serializable, Cloneable {
      * @return the next valid date/time
      */
     public Date getNextValidTimeAfter(Date date) {
-        return getTimeAfter(date);
+        CronFireTimes current = fireTimes;
+        if (current == null) {
+            current = CronFireTimes.of(this);
+            fireTimes = current;
+        }
+        long next = current.nextAfter(date.getTime());
+        return next == CompiledCronExpression.NO_FIRE_TIME ? null : new Date(next);
     }
 
     /**
@@ -354,6 +361,7 @@ public class CronExpression implements Serializable, Cloneable {
      */
     public void setTimeZone(TimeZone timeZone) {
         this.timeZone = timeZone;
+        this.fireTimes = null;
     }
 
     /**
@@ -1113,8 +1121,12 @@ public class CronExpression implements Serializable, Cloneable {
     ////////////////////////////////////////////////////////////////////////////
 
     protected Date getTimeAfter(Date afterTime) {
+        return getTimeAfter(afterTime, getTimeZone());
+    }
+
+    protected Date getTimeAfter(Date afterTime, TimeZone zone) {
 
-        Calendar cl = Calendar.getInstance(getTimeZone());
+        Calendar cl = Calendar.getInstance(zone);
 
         // move ahead one second, since we're computing the time *after* the
         // given time
@@ -1211,7 +1223,7 @@ public class CronExpression implements Serializable, Cloneable {
                         t = day;
                         day = getLastDayOfMonth(mon, cl.get(Calendar.YEAR));
 
-                        Calendar tcal = Calendar.getInstance(getTimeZone());
+                        Calendar tcal = Calendar.getInstance(zone);
                         tcal.set(Calendar.SECOND, 0);
                         tcal.set(Calendar.MINUTE, 0);
                         tcal.set(Calendar.HOUR_OF_DAY, 0);
@@ -1247,7 +1259,7 @@ public class CronExpression implements Serializable, Cloneable {
                     t = day;
                     day = (Integer) daysOfMonth.first();
 
-                    Calendar tcal = Calendar.getInstance(getTimeZone());
+                    Calendar tcal = Calendar.getInstance(zone);
                     tcal.set(Calendar.SECOND, 0);
                     tcal.set(Calendar.MINUTE, 0);
                     tcal.set(Calendar.HOUR_OF_DAY, 0);
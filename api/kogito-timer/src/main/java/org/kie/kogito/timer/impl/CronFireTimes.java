@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.timer.impl;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Upcoming fire times of a cron expression in a time zone, shared by all the triggers using the same expression and
+ * zone. A window of consecutive fire times is computed at once and queries falling within it are answered with a
+ * binary search; the window is recomputed only when a query goes past it.
+ */
+public final class CronFireTimes {
+
+    public static final String WINDOW_SIZE_PROPERTY = "kogito.timer.cron.fire-times.window";
+    public static final String MAX_SHARED_PROPERTY = "kogito.timer.cron.fire-times.max-shared";
+
+    private static final int WINDOW_SIZE = Math.max(1, Integer.getInteger(WINDOW_SIZE_PROPERTY, 16));
+    private static final int MAX_SHARED = Integer.getInteger(MAX_SHARED_PROPERTY, 256);
+
+    private static final Map<String, CronFireTimes> SHARED = new ConcurrentHashMap<>();
+
+    private final CompiledCronExpression compiled;
+    private final ZoneId zone;
+    private volatile Window window;
+
+    CronFireTimes(CompiledCronExpression compiled, ZoneId zone) {
+        this.compiled = compiled;
+        this.zone = zone;
+    }
+
+    /**
+     * Returns the fire times shared by the expressions with the same definition and time zone as the given one.
+     */
+    public static CronFireTimes of(CronExpression expression) {
+        ZoneId zone = expression.getTimeZone().toZoneId();
+        String key = zone.getId() + ' ' + expression.getCronExpression();
+        CronFireTimes fireTimes = SHARED.get(key);
+        if (fireTimes == null) {
+            if (SHARED.size() >= MAX_SHARED) {
+                return new CronFireTimes(new CompiledCronExpression(expression), zone);
+            }
+            fireTimes = SHARED.computeIfAbsent(key, k -> new CronFireTimes(new CompiledCronExpression(expression), zone));
+        }
+        return fireTimes;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns the first fire time, in epoch milliseconds, after the given one or {@link CompiledCronExpression#NO_FIRE_TIME}.
+     */
+    public long nextAfter(long epochMillis) {
+        // fire times are whole seconds, the next one is the first not before the following second
+        long from = Math.floorDiv(epochMillis, 1000L) * 1000L + 1000L;
+        Window current = window;
+        if (current != null && from >= current.from) {
+            int index = Arrays.binarySearch(current.fireTimes, 0, current.size, from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            if (index < current.size) {
+                return current.fireTimes[index];
+            }
+            if (current.exhausted) {
+                return CompiledCronExpression.NO_FIRE_TIME;
+            }
+        }
+        current = computeWindow(from);
+        window = current;
+        return current.size > 0 ? current.fireTimes[0] : CompiledCronExpression.NO_FIRE_TIME;
+    }
+
+    private Window computeWindow(long from) {
+        long[] fireTimes = new long[WINDOW_SIZE];
+        int size = 0;
+        long next = compiled.nextAfter(from - 1000L, zone);
+        while (next != CompiledCronExpression.NO_FIRE_TIME) {
+            fireTimes[size++] = next;
+            if (size == fireTimes.length) {
+                break;
+            }
+            next = compiled.nextAfter(next, zone);
+        }
+        return new Window(from, fireTimes, size, size < fireTimes.length);
+    }
+
+    private static class Window {
+        private final long from;
+        private final long[] fireTimes;
+        private final int size;
+        private final boolean exhausted;
+
+        private Window(long from, long[] fireTimes, int size, boolean exhausted) {
+            this.from = from;
+            this.fireTimes = fireTimes;
+            this.size = size;
+            this.exhausted = exhausted;
+        }
+    }
+}
@@ -335,7 +335,7 @@ public class CronTrigger
 
     protected Date getTimeAfter(Date afterTime) {
         this.repeatCount++;
-        return (this.cronEx == null) ? null : this.cronEx.getTimeAfter(afterTime);
+        return (this.cronEx == null) ? null : this.cronEx.getNextValidTimeAfter(afterTime);
     }
 
     public void updateToNextIncludeDate() {
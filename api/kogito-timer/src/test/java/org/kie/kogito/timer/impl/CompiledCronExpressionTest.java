@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.timer.impl;
+
+import java.text.ParseException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledCronExpressionTest {
+
+    private static final String[] SECONDS = { "*", "0", "*/15", "5-20/5", "10,40", "50-10" };
+    private static final String[] MINUTES = { "*", "0", "*/20", "30", "0,15,45", "55-5" };
+    private static final String[] HOURS = { "*", "0", "2", "9-17", "*/6", "22-2", "1,2,3" };
+    private static final String[] DAYS_OF_MONTH = { "*", "1", "15", "29", "31", "1-10/3", "L", "LW", "15W" };
+    private static final String[] DAYS_OF_WEEK = { "*", "MON-FRI", "SUN", "SAT,SUN", "2#3", "6L", "L" };
+    private static final String[] MONTHS = { "*", "JAN", "2", "*/3", "NOV-FEB", "3,10" };
+    private static final String[] YEARS = { "", "", "", " 2030", " 2025-2035", " 2000-2010" };
+    private static final ZoneId[] ZONES = { ZoneOffset.UTC, ZoneOffset.ofHours(5), ZoneId.of("America/New_York"),
+            ZoneId.of("Europe/Warsaw"), ZoneId.of("Australia/Lord_Howe"), ZoneId.of("Asia/Kolkata") };
+
+    private static final long FROM = 946684800000L; // 2000-01-01T00:00:00Z
+    private static final long RANGE = 40L * 365 * 24 * 60 * 60 * 1000;
+
+    @Test
+    void sameFireTimesAsCalendarEvaluation() throws ParseException {
+        Random random = new Random(20230306L);
+        for (int i = 0; i < 2000; i++) {
+            CronExpression expression = new CronExpression(randomExpression(random));
+            CompiledCronExpression compiled = new CompiledCronExpression(expression);
+            ZoneId zone = ZONES[random.nextInt(ZONES.length)];
+            long time = FROM + (long) (random.nextDouble() * RANGE);
+            for (int j = 0; j < 10; j++) {
+                Date expected = expression.getTimeAfter(new Date(time), TimeZone.getTimeZone(zone));
+                long next = compiled.nextAfter(time, zone);
+                assertThat(next == CompiledCronExpression.NO_FIRE_TIME ? null : new Date(next))
+                        .as("%s in %s after %s", expression, zone, new Date(time))
+                        .isEqualTo(expected);
+                if (expected == null) {
+                    break;
+                }
+                time = expected.getTime() + random.nextInt(3) * 500L;
+            }
+        }
+    }
+
+    @Test
+    void sameFireTimesAcrossDaylightSavingChanges() throws ParseException {
+        ZoneId zone = ZoneId.of("America/New_York");
+        CronExpression expression = new CronExpression("0 */30 * * * ?");
+        CompiledCronExpression compiled = new CompiledCronExpression(expression);
+        // spring forward and fall back of 2023
+        for (long start : new long[] { 1678510800000L, 1699070400000L }) {
+            long time = start;
+            for (int i = 0; i < 24; i++) {
+                Date expected = expression.getTimeAfter(new Date(time), TimeZone.getTimeZone(zone));
+                assertThat(compiled.nextAfter(time, zone)).isEqualTo(expected.getTime());
+                time = expected.getTime();
+            }
+        }
+    }
+
+    @Test
+    void sharedFireTimes() throws ParseException {
+        CronExpression first = new CronExpression("0 0/5 * * * ?");
+        first.setTimeZone(TimeZone.getTimeZone("Europe/Warsaw"));
+        CronExpression second = new CronExpression("0 0/5 * * * ?");
+        second.setTimeZone(TimeZone.getTimeZone("Europe/Warsaw"));
+        CronExpression other = new CronExpression("0 0/5 * * * ?");
+        other.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        assertThat(CronFireTimes.of(first)).isSameAs(CronFireTimes.of(second)).isNotSameAs(CronFireTimes.of(other));
+
+        CronFireTimes fireTimes = CronFireTimes.of(first);
+        long time = FROM;
+        for (int i = 0; i < 100; i++) {
+            long next = fireTimes.nextAfter(time);
+            assertThat(new Date(next)).isEqualTo(first.getTimeAfter(new Date(time)));
+            // going back within the window is answered as well
+            assertThat(fireTimes.nextAfter(time)).isEqualTo(next);
+            time = next + (i % 2) * 1500L;
+        }
+    }
+
+    @Test
+    void triggersUseSharedFireTimes() {
+        Date start = new Date(FROM);
+        CronTrigger trigger = new CronTrigger(FROM, start, null, -1, "0 0 9 ? * MON-FRI", null, null);
+        CronExpression reference = CronTrigger.determineCronExpression("0 0 9 ? * MON-FRI");
+        Date expected = new Date(FROM);
+        for (int i = 0; i < 20; i++) {
+            expected = reference.getTimeAfter(expected);
+            assertThat(trigger.hasNextFireTime()).isEqualTo(expected);
+            trigger.nextFireTime();
+        }
+    }
+
+    private static String randomExpression(Random random) {
+        String dayOfMonth = "?";
+        String dayOfWeek = "?";
+        if (random.nextBoolean()) {
+            dayOfMonth = pick(random, DAYS_OF_MONTH);
+        } else {
+            dayOfWeek = pick(random, DAYS_OF_WEEK);
+        }
+        return pick(random, SECONDS) + " " + pick(random, MINUTES) + " " + pick(random, HOURS) + " " + dayOfMonth + " "
+                + pick(random, MONTHS) + " " + dayOfWeek + pick(random, YEARS);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
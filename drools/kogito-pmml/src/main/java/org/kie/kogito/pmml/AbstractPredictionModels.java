@@ -15,9 +15,14 @@
  */
 package org.kie.kogito.pmml;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import org.kie.kogito.prediction.PredictionModel;
 import org.kie.kogito.prediction.PredictionModelNotFoundException;
 import org.kie.kogito.prediction.PredictionModels;
 import org.kie.pmml.api.runtime.PMMLRuntime;
@@ -35,6 +40,9 @@ public abstract class AbstractPredictionModels implements PredictionModels {
     private static final AtomicReference<Function<String, PMMLRuntime>> functionReference = new AtomicReference<>();
     public static final Function<String, PMMLRuntime> pmmlRuntimeRetrieverFunction = s -> functionReference.get().apply(s);
 
+    // evaluation handles, resolved on first request of each (file, model) and shared afterwards
+    private static final Map<List<String>, PredictionModel> predictionModels = new ConcurrentHashMap<>();
+
     protected static void init(String... pmmlFiles) {
         final java.util.Map<String, PMMLRuntime> pmmlRuntimes = PMMLKogito.createPMMLRuntimes(pmmlFiles);
         final Function<String, PMMLRuntime> function = s -> pmmlRuntimes.keySet().stream()
@@ -43,10 +51,11 @@ public abstract class AbstractPredictionModels implements PredictionModels {
                 .findFirst()
                 .orElseThrow(() -> new PredictionModelNotFoundException("Failed to find PMMLRuntime for model " + s));
         functionReference.set(function);
+        predictionModels.clear();
     }
 
     public org.kie.kogito.prediction.PredictionModel getPredictionModel(String fileName, java.lang.String modelName) {
-        return new org.kie.kogito.pmml.PmmlPredictionModel(getPMMLRuntime(fileName), fileName, modelName);
+        return predictionModels.computeIfAbsent(Arrays.asList(fileName, modelName), k -> new org.kie.kogito.pmml.PmmlPredictionModel(getPMMLRuntime(fileName), fileName, modelName));
     }
 
     private org.kie.pmml.api.runtime.PMMLRuntime getPMMLRuntime(String fileName) {
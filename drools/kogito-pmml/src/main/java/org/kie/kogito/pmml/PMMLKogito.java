@@ -63,9 +63,13 @@ public class PMMLKogito {
     }
 
     public static PMMLModel modelByName(PMMLRuntime pmmlRuntime, String fileName, String modelName) {
+        return modelByName(pmmlRuntime, fileName, modelName, newMemoryCompilerClassLoader());
+    }
+
+    public static PMMLModel modelByName(PMMLRuntime pmmlRuntime, String fileName, String modelName, KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader) {
         logger.debug("modelByName {} {} {}", pmmlRuntime, fileName, modelName);
         final PMMLRequestData pmmlRequestData = getPMMLRequestData(modelName);
-        final PMMLRuntimeContext runtimeContext = getPMMLRuntimeContext(pmmlRequestData, fileName);
+        final PMMLRuntimeContext runtimeContext = getPMMLRuntimeContext(pmmlRequestData, fileName, memoryCompilerClassLoader);
         List<PMMLModel> allPmmlModels = pmmlRuntime.getPMMLModels(runtimeContext);
         logger.debug("allPmmlModels {}", allPmmlModels);
         List<PMMLModel> modelsWithName = allPmmlModels.stream().filter(m -> modelName.equals(m.getName())).collect(Collectors.toList());
@@ -80,14 +84,20 @@ public class PMMLKogito {
         }
     }
 
+    /**
+     * Evaluates a model with a dedicated classloader.
+     * Prefer {@link org.kie.kogito.prediction.PredictionModel}, which reuses it across evaluations.
+     */
     public static PMML4Result evaluate(PMMLRuntime pmmlRuntime, String fileName, String modelName, Map<String, Object> pmmlInputData) {
         final PMMLRequestData pmmlRequestData = getPMMLRequestData(modelName, pmmlInputData);
-        return pmmlRuntime.evaluate(modelName, getPMMLRuntimeContext(pmmlRequestData, fileName));
+        return pmmlRuntime.evaluate(modelName, getPMMLRuntimeContext(pmmlRequestData, fileName, newMemoryCompilerClassLoader()));
+    }
+
+    public static KieMemoryCompiler.MemoryCompilerClassLoader newMemoryCompilerClassLoader() {
+        return new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
     }
 
-    private static PMMLRuntimeContext getPMMLRuntimeContext(PMMLRequestData pmmlRequestData, String fileName) {
-        KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader =
-                new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
+    public static PMMLRuntimeContext getPMMLRuntimeContext(PMMLRequestData pmmlRequestData, String fileName, KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader) {
         return new PMMLRuntimeContextImpl(pmmlRequestData, fileName, memoryCompilerClassLoader);
     }
 
@@ -24,19 +24,25 @@ import org.kie.memorycompiler.KieMemoryCompiler;
 import org.kie.pmml.api.models.PMMLModel;
 import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
-import org.kie.pmml.evaluator.core.PMMLRuntimeContextImpl;
 
+import static org.kie.kogito.pmml.PMMLKogito.getPMMLRuntimeContext;
 import static org.kie.kogito.pmml.PMMLKogito.modelByName;
+import static org.kie.kogito.pmml.PMMLKogito.newMemoryCompilerClassLoader;
 import static org.kie.kogito.pmml.utils.PMMLUtils.getPMMLRequestData;
 
+/**
+ * Evaluation handle of a PMML model: the model is resolved once and the classloader is shared by all the evaluations
+ */
 public class PmmlPredictionModel implements PredictionModel {
 
     private final PMMLRuntime pmmlRuntime;
+    private final KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader;
     private final PMMLModel pmmlModel;
 
     public PmmlPredictionModel(PMMLRuntime pmmlRuntime, String fileName, String modelName) {
         this.pmmlRuntime = pmmlRuntime;
-        this.pmmlModel = modelByName(pmmlRuntime, fileName, modelName);
+        this.memoryCompilerClassLoader = newMemoryCompilerClassLoader();
+        this.pmmlModel = modelByName(pmmlRuntime, fileName, modelName, memoryCompilerClassLoader);
         if (this.pmmlModel == null) {
             String exceptionString = String.format("PMML model %s@%s not found in the inherent " +
                     "PMMLRuntime.", modelName, fileName);
@@ -47,9 +53,7 @@ public class PmmlPredictionModel implements PredictionModel {
     @Override
     public PMMLRuntimeContext newContext(Map<String, Object> variables) {
         final PMMLRequestData pmmlRequestData = getPMMLRequestData(pmmlModel.getName(), variables);
-        KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader =
-                new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
-        return new PMMLRuntimeContextImpl(pmmlRequestData, pmmlModel.getFileName(), memoryCompilerClassLoader);
+        return getPMMLRuntimeContext(pmmlRequestData, pmmlModel.getFileName(), memoryCompilerClassLoader);
     }
 
     @Override
@@ -15,6 +15,8 @@
  */
 package org.kie.kogito.prediction;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.kie.api.pmml.PMML4Result;
@@ -27,6 +29,20 @@ public interface PredictionModel {
 
     PMML4Result evaluateAll(PMMLRuntimeContext context);
 
+    /**
+     * Evaluates the model once for each input set
+     *
+     * @param inputSets the input sets to evaluate
+     * @return the results, in the same order as the input sets
+     */
+    default List<PMML4Result> evaluate(List<Map<String, Object>> inputSets) {
+        List<PMML4Result> results = new ArrayList<>(inputSets.size());
+        for (Map<String, Object> inputSet : inputSets) {
+            results.add(evaluateAll(newContext(inputSet)));
+        }
+        return results;
+    }
+
     PMMLModel getPMMLModel();
 
 }
@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.pmml;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -81,6 +82,13 @@ class PmmlPredictionModelTest {
         assertThat(pmmlPredictionModel.evaluateAll(context)).isEqualTo(PMML_4_RESULT);
     }
 
+    @Test
+    void evaluate() {
+        final List<Map<String, Object>> inputSets = Arrays.asList(getParameters(), getParameters(), getParameters());
+        assertThat(pmmlPredictionModel.evaluate(inputSets)).hasSize(3).containsOnly(PMML_4_RESULT);
+        assertThat(pmmlPredictionModel.evaluate(Collections.emptyList())).isEmpty();
+    }
+
     @Test
     void getKiePMMLModel() {
         assertThat(pmmlPredictionModel.getPMMLModel()).isEqualTo(PMML_MODEL);
@@ -27,6 +27,7 @@ public class ExpressionReturnValueSupplier extends ExpressionReturnValueEvaluato
 
     public ExpressionReturnValueSupplier(String lang, String expr, String rootName) {
         super(lang, expr, rootName);
+        ExpressionUtils.checkValid(lang, expr);
         expression = ExpressionUtils.getObjectCreationExpr(ExpressionReturnValueEvaluator.class, lang, expr, rootName);
     }
 
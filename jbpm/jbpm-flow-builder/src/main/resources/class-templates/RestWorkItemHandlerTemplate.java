@@ -15,19 +15,26 @@
  */
 package org.jbpm.process.codegen;
 
+import java.util.Optional;
+
 import io.vertx.mutiny.ext.web.client.WebClient;
 import io.vertx.mutiny.core.Vertx;
 import org.kogito.workitem.rest.RestWorkItemHandler;
 import static org.kogito.workitem.rest.RestWorkItemHandlerUtils.vertx;
+import static org.kogito.workitem.rest.RestWorkItemHandlerUtils.webClientOptions;
 
 public class xxxRestWorkItemHandler extends RestWorkItemHandler {
 
     public xxxRestWorkItemHandler() {
-        this(Vertx.vertx());
+        this(Vertx.vertx(), Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    public xxxRestWorkItemHandler(Vertx vertx) {
-        super(WebClient.create(vertx(vertx)));
+    // the ConfigProperty annotations are replaced by the config injection of the target platform
+    public xxxRestWorkItemHandler(Vertx vertx,
+            @ConfigProperty(name = "kogito.rest.client.max-pool-size") Optional<Integer> maxPoolSize,
+            @ConfigProperty(name = "kogito.rest.client.connect-timeout") Optional<Integer> connectTimeout,
+            @ConfigProperty(name = "kogito.rest.client.idle-timeout") Optional<Integer> idleTimeout) {
+        super(WebClient.create(vertx(vertx), webClientOptions(maxPoolSize.orElse(null), connectTimeout.orElse(null), idleTimeout.orElse(null))));
     }
     
     @Override
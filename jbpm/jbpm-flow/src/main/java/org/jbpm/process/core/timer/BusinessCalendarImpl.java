@@ -19,17 +19,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
+import java.util.stream.LongStream;
 
 import org.jbpm.util.PatternConstants;
 import org.kie.kogito.timer.SessionClock;
@@ -64,6 +72,8 @@ import org.slf4j.LoggerFactory;
  * Weekend days should be given as integer that corresponds to <code>java.util.Calendar</code> constants.
  * <br/>
  * 
+ * Calculations are done with <code>java.time</code>: holidays are compiled at initialization into sorted boundaries so
+ * the holiday containing a given instant is found with a binary search, and parsed time expressions are cached.
  */
 public class BusinessCalendarImpl implements BusinessCalendar {
 
@@ -83,6 +93,18 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     private List<Integer> weekendDays = new ArrayList<>();
     private SessionClock clock;
 
+    private ZoneId zoneId;
+    private final boolean[] weekend = new boolean[Calendar.SATURDAY + 1];
+    // sorted distinct holiday boundaries, with the index of the holiday containing an instant equal to each boundary
+    // and the one containing instants between a boundary and the next one (-1 if none)
+    private long[] holidayBoundaries = new long[0];
+    private int[] holidayAtBoundary = new int[0];
+    private int[] holidayAfterBoundary = new int[0];
+    private long[] holidayEnds = new long[0];
+    private final Map<String, BusinessDuration> parsedExpressions = new ConcurrentHashMap<>();
+
+    private static final int MAX_CACHED_EXPRESSIONS = 1024;
+
     private static final int SIM_WEEK = 3;
     private static final int SIM_DAY = 5;
     private static final int SIM_HOU = 7;
@@ -144,9 +166,57 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         hoursInDay = getPropertyAsInt(HOURS_PER_DAY, "8");
         startHour = getPropertyAsInt(START_HOUR, "9");
         endHour = getPropertyAsInt(END_HOUR, "17");
+        // holidays are parsed in the configured time zone
+        this.timezone = businessCalendarConfiguration.getProperty(TIMEZONE);
+        this.zoneId = timezone != null ? TimeZone.getTimeZone(timezone).toZoneId() : null;
         holidays = parseHolidays();
         parseWeekendDays();
-        this.timezone = businessCalendarConfiguration.getProperty(TIMEZONE);
+        Arrays.fill(weekend, false);
+        for (Integer day : weekendDays) {
+            if (day >= 0 && day < weekend.length) {
+                weekend[day] = true;
+            }
+        }
+        compileHolidays();
+    }
+
+    private void compileHolidays() {
+        long[] boundaries = holidays.stream().flatMapToLong(h -> LongStream.of(h.getFrom().getTime(), h.getTo().getTime())).sorted().distinct().toArray();
+        int[] atBoundary = new int[boundaries.length];
+        int[] afterBoundary = new int[boundaries.length];
+        Arrays.fill(atBoundary, -1);
+        Arrays.fill(afterBoundary, -1);
+        long[] ends = new long[holidays.size()];
+        // when holidays overlap the first one in definition order wins, as it always did
+        for (int h = 0; h < holidays.size(); h++) {
+            long from = holidays.get(h).getFrom().getTime();
+            long to = holidays.get(h).getTo().getTime();
+            ends[h] = to;
+            for (int i = Arrays.binarySearch(boundaries, from); i < boundaries.length && boundaries[i] < to; i++) {
+                if (boundaries[i] > from && atBoundary[i] < 0) {
+                    atBoundary[i] = h;
+                }
+                if (afterBoundary[i] < 0) {
+                    afterBoundary[i] = h;
+                }
+            }
+        }
+        this.holidayBoundaries = boundaries;
+        this.holidayAtBoundary = atBoundary;
+        this.holidayAfterBoundary = afterBoundary;
+        this.holidayEnds = ends;
+    }
+
+    /**
+     * @return index of the holiday strictly containing the given instant, -1 if none
+     */
+    private int holidayAt(long time) {
+        int index = Arrays.binarySearch(holidayBoundaries, time);
+        if (index >= 0) {
+            return holidayAtBoundary[index];
+        }
+        int previous = -index - 2;
+        return previous >= 0 ? holidayAfterBoundary[previous] : -1;
     }
 
     protected String adoptISOFormat(String timeExpression) {
@@ -200,139 +270,111 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     }
 
     public Date calculateBusinessTimeAsDate(String timeExpression) {
-        timeExpression = adoptISOFormat(timeExpression);
-
-        String trimmed = timeExpression.trim();
-        int weeks = 0;
-        int days = 0;
-        int hours = 0;
-        int min = 0;
-        int sec = 0;
-
-        if (trimmed.length() > 0) {
-            Matcher mat = PatternConstants.SIMPLE_TIME_DATE_MATCHER.matcher(trimmed);
-            if (mat.matches()) {
-                weeks = (mat.group(SIM_WEEK) != null) ? Integer.parseInt(mat.group(SIM_WEEK)) : 0;
-                days = (mat.group(SIM_DAY) != null) ? Integer.parseInt(mat.group(SIM_DAY)) : 0;
-                hours = (mat.group(SIM_HOU) != null) ? Integer.parseInt(mat.group(SIM_HOU)) : 0;
-                min = (mat.group(SIM_MIN) != null) ? Integer.parseInt(mat.group(SIM_MIN)) : 0;
-                sec = (mat.group(SIM_SEC) != null) ? Integer.parseInt(mat.group(SIM_SEC)) : 0;
-            }
-        }
+        BusinessDuration duration = parseTimeExpression(timeExpression);
+        int weeks = duration.weeks;
+        int days = duration.days;
+        int hours = duration.hours;
+        int min = duration.minutes;
+        int sec = duration.seconds;
         int time = 0;
 
-        Calendar c = new GregorianCalendar();
-        if (timezone != null) {
-            c.setTimeZone(TimeZone.getTimeZone(timezone));
-        }
-        if (this.clock != null) {
-            c.setTimeInMillis(this.clock.getCurrentTime());
-        }
+        ZonedDateTime c = ZonedDateTime.ofInstant(Instant.ofEpochMilli(getCurrentTime()), zoneId != null ? zoneId : ZoneId.systemDefault());
 
         // calculate number of weeks
         int numberOfWeeks = days / daysPerWeek + weeks;
         if (numberOfWeeks > 0) {
-            c.add(Calendar.WEEK_OF_YEAR, numberOfWeeks);
+            c = plusDays(c, numberOfWeeks * 7L);
         }
-        handleWeekend(c, hours > 0 || min > 0);
+        c = handleWeekend(c, hours > 0 || min > 0);
         hours += (days - (numberOfWeeks * daysPerWeek)) * hoursInDay;
 
         // calculate number of days
         int numberOfDays = hours / hoursInDay;
-        if (numberOfDays > 0) {
-            for (int i = 0; i < numberOfDays; i++) {
-                c.add(Calendar.DAY_OF_YEAR, 1);
-                handleWeekend(c, false);
-                handleHoliday(c, hours > 0 || min > 0);
-            }
+        for (int i = 0; i < numberOfDays; i++) {
+            c = plusDays(c, 1);
+            c = handleWeekend(c, false);
+            c = handleHoliday(c, hours > 0 || min > 0);
         }
 
-        int currentCalHour = c.get(Calendar.HOUR_OF_DAY);
+        int currentCalHour = c.getHour();
         if (currentCalHour >= endHour) {
-            c.add(Calendar.DAY_OF_YEAR, 1);
-            c.add(Calendar.HOUR_OF_DAY, startHour - currentCalHour);
-            c.set(Calendar.MINUTE, 0);
-            c.set(Calendar.SECOND, 0);
+            c = plusDays(c, 1).plusHours(startHour - currentCalHour);
+            c = atLocal(c.toLocalDateTime().withMinute(0).withSecond(0), c.getZone());
         } else if (currentCalHour < startHour) {
-            c.add(Calendar.HOUR_OF_DAY, startHour);
+            c = c.plusHours(startHour);
         }
 
         // calculate remaining hours
         time = hours - (numberOfDays * hoursInDay);
-        c.add(Calendar.HOUR, time);
-        handleWeekend(c, true);
-        handleHoliday(c, hours > 0 || min > 0);
-
-        currentCalHour = c.get(Calendar.HOUR_OF_DAY);
-        if (currentCalHour >= endHour) {
-            c.add(Calendar.DAY_OF_YEAR, 1);
-            // set hour to the starting one
-            c.set(Calendar.HOUR_OF_DAY, startHour);
-            c.add(Calendar.HOUR_OF_DAY, currentCalHour - endHour);
-        } else if (currentCalHour < startHour) {
-            c.add(Calendar.HOUR_OF_DAY, startHour);
-        }
+        c = c.plusHours(time);
+        c = handleWeekend(c, true);
+        c = handleHoliday(c, hours > 0 || min > 0);
+        c = moveToWorkingHours(c);
 
         // calculate minutes
         int numberOfHours = min / 60;
         if (numberOfHours > 0) {
-            c.add(Calendar.HOUR, numberOfHours);
+            c = c.plusHours(numberOfHours);
             min = min - (numberOfHours * 60);
         }
-        c.add(Calendar.MINUTE, min);
+        c = c.plusMinutes(min);
 
         // calculate seconds
         int numberOfMinutes = sec / 60;
         if (numberOfMinutes > 0) {
-            c.add(Calendar.MINUTE, numberOfMinutes);
+            c = c.plusMinutes(numberOfMinutes);
             sec = sec - (numberOfMinutes * 60);
         }
-        c.add(Calendar.SECOND, sec);
+        c = c.plusSeconds(sec);
 
-        currentCalHour = c.get(Calendar.HOUR_OF_DAY);
-        if (currentCalHour >= endHour) {
-            c.add(Calendar.DAY_OF_YEAR, 1);
-            // set hour to the starting one
-            c.set(Calendar.HOUR_OF_DAY, startHour);
-            c.add(Calendar.HOUR_OF_DAY, currentCalHour - endHour);
-        } else if (currentCalHour < startHour) {
-            c.add(Calendar.HOUR_OF_DAY, startHour);
-        }
+        c = moveToWorkingHours(c);
         // take under consideration weekend
-        handleWeekend(c, false);
+        c = handleWeekend(c, false);
         // take under consideration holidays
-        handleHoliday(c, false);
+        c = handleHoliday(c, false);
 
-        return c.getTime();
+        return Date.from(c.toInstant());
     }
 
-    protected void handleHoliday(Calendar c, boolean resetTime) {
-        if (!holidays.isEmpty()) {
-            Date current = c.getTime();
-            for (TimePeriod holiday : holidays) {
-                // check each holiday if it overlaps current date and break after first match
-                if (current.after(holiday.getFrom()) && current.before(holiday.getTo())) {
-
-                    Calendar tmp = new GregorianCalendar();
-                    tmp.setTime(holiday.getTo());
-
-                    Calendar tmp2 = new GregorianCalendar();
-                    tmp2.setTime(current);
-                    tmp2.set(Calendar.HOUR_OF_DAY, 0);
-                    tmp2.set(Calendar.MINUTE, 0);
-                    tmp2.set(Calendar.SECOND, 0);
-                    tmp2.set(Calendar.MILLISECOND, 0);
-
-                    long difference = tmp.getTimeInMillis() - tmp2.getTimeInMillis();
-
-                    c.add(Calendar.HOUR_OF_DAY, (int) (difference / HOUR_IN_MILLIS));
+    private ZonedDateTime moveToWorkingHours(ZonedDateTime c) {
+        int currentCalHour = c.getHour();
+        if (currentCalHour >= endHour) {
+            // next day, keeping the hours done after the end of the working day
+            c = plusDays(c, 1);
+            return atLocal(c.toLocalDateTime().withHour(startHour), c.getZone()).plusHours(currentCalHour - endHour);
+        } else if (currentCalHour < startHour) {
+            return c.plusHours(startHour);
+        }
+        return c;
+    }
 
-                    handleWeekend(c, resetTime);
-                    break;
-                }
+    private BusinessDuration parseTimeExpression(String timeExpression) {
+        BusinessDuration duration = parsedExpressions.get(timeExpression);
+        if (duration == null) {
+            duration = BusinessDuration.parse(adoptISOFormat(timeExpression));
+            // absolute date times are relative to now, so they cannot be cached
+            if ((DateTimeUtils.isPeriod(timeExpression) || DateTimeUtils.isNumeric(timeExpression) || PatternConstants.SIMPLE_TIME_DATE_MATCHER.matcher(timeExpression.trim()).matches())
+                    && parsedExpressions.size() < MAX_CACHED_EXPRESSIONS) {
+                parsedExpressions.put(timeExpression, duration);
             }
         }
+        return duration;
+    }
 
+    protected void handleHoliday(Calendar c, boolean resetTime) {
+        c.setTimeInMillis(handleHoliday(toZonedDateTime(c), resetTime).toInstant().toEpochMilli());
+    }
+
+    private ZonedDateTime handleHoliday(ZonedDateTime c, boolean resetTime) {
+        int holiday = holidayAt(c.toInstant().toEpochMilli());
+        if (holiday >= 0) {
+            // move forward the time between the start of the current day, in the calendar zone, and the end of the holiday
+            long startOfDay = atLocal(c.toLocalDateTime().truncatedTo(ChronoUnit.DAYS), c.getZone()).toInstant().toEpochMilli();
+            long difference = holidayEnds[holiday] - startOfDay;
+            c = c.plusHours((int) (difference / HOUR_IN_MILLIS));
+            c = handleWeekend(c, resetTime);
+        }
+        return c;
     }
 
     protected int getPropertyAsInt(String propertyName, String defaultValue) {
@@ -344,10 +386,14 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     protected List<TimePeriod> parseHolidays() {
         String holidaysString = businessCalendarConfiguration.getProperty(HOLIDAYS);
         List<TimePeriod> holidays = new ArrayList<>();
-        int currentYear = Calendar.getInstance().get(Calendar.YEAR);
+        int currentYear = newCalendar().get(Calendar.YEAR);
         if (holidaysString != null) {
             String[] hPeriods = holidaysString.split(",");
             SimpleDateFormat sdf = new SimpleDateFormat(businessCalendarConfiguration.getProperty(HOLIDAY_DATE_FORMAT, "yyyy-MM-dd"));
+            // holidays are days of the calendar zone
+            if (timezone != null) {
+                sdf.setTimeZone(TimeZone.getTimeZone(timezone));
+            }
             for (String hPeriod : hPeriods) {
                 boolean addNextYearHolidays = false;
 
@@ -359,10 +405,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
                 }
                 try {
                     if (fromTo.length == 2) {
-                        Calendar tmpFrom = new GregorianCalendar();
-                        if (timezone != null) {
-                            tmpFrom.setTimeZone(TimeZone.getTimeZone(timezone));
-                        }
+                        Calendar tmpFrom = newCalendar();
                         tmpFrom.setTime(sdf.parse(fromTo[0]));
 
                         if (fromTo[1].startsWith("*")) {
@@ -370,10 +413,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
                             fromTo[1] = fromTo[1].replaceFirst("\\*", currentYear + "");
                         }
 
-                        Calendar tmpTo = new GregorianCalendar();
-                        if (timezone != null) {
-                            tmpTo.setTimeZone(TimeZone.getTimeZone(timezone));
-                        }
+                        Calendar tmpTo = newCalendar();
                         tmpTo.setTime(sdf.parse(fromTo[1]));
                         Date from = tmpFrom.getTime();
 
@@ -388,18 +428,12 @@ public class BusinessCalendarImpl implements BusinessCalendar {
 
                         holidays.add(new TimePeriod(from, to));
                         if (addNextYearHolidays) {
-                            tmpFrom = new GregorianCalendar();
-                            if (timezone != null) {
-                                tmpFrom.setTimeZone(TimeZone.getTimeZone(timezone));
-                            }
+                            tmpFrom = newCalendar();
                             tmpFrom.setTime(sdf.parse(fromTo[0]));
                             tmpFrom.add(Calendar.YEAR, 1);
 
                             from = tmpFrom.getTime();
-                            tmpTo = new GregorianCalendar();
-                            if (timezone != null) {
-                                tmpTo.setTimeZone(TimeZone.getTimeZone(timezone));
-                            }
+                            tmpTo = newCalendar();
                             tmpTo.setTime(sdf.parse(fromTo[1]));
                             tmpTo.add(Calendar.YEAR, 1);
                             tmpTo.add(Calendar.DAY_OF_YEAR, 1);
@@ -413,13 +447,13 @@ public class BusinessCalendarImpl implements BusinessCalendar {
                         }
                     } else {
 
-                        Calendar c = new GregorianCalendar();
+                        Calendar c = newCalendar();
                         c.setTime(sdf.parse(fromTo[0]));
                         c.add(Calendar.DAY_OF_YEAR, 1);
                         // handle one day holiday
                         holidays.add(new TimePeriod(sdf.parse(fromTo[0]), c.getTime()));
                         if (addNextYearHolidays) {
-                            Calendar tmp = Calendar.getInstance();
+                            Calendar tmp = newCalendar();
                             tmp.setTime(sdf.parse(fromTo[0]));
                             tmp.add(Calendar.YEAR, 1);
 
@@ -436,6 +470,10 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         return holidays;
     }
 
+    private Calendar newCalendar() {
+        return timezone != null ? new GregorianCalendar(TimeZone.getTimeZone(timezone)) : new GregorianCalendar();
+    }
+
     protected void parseWeekendDays() {
         String weekendDays = businessCalendarConfiguration.getProperty(WEEKEND_DAYS);
 
@@ -477,24 +515,78 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     }
 
     protected boolean isWorkingDay(int day) {
-        if (weekendDays.contains(day)) {
-            return false;
-        }
-
-        return true;
+        return day < 0 || day >= weekend.length || !weekend[day];
     }
 
     protected void handleWeekend(Calendar c, boolean resetTime) {
-        int dayOfTheWeek = c.get(Calendar.DAY_OF_WEEK);
-        while (!isWorkingDay(dayOfTheWeek)) {
-            c.add(Calendar.DAY_OF_YEAR, 1);
+        c.setTimeInMillis(handleWeekend(toZonedDateTime(c), resetTime).toInstant().toEpochMilli());
+    }
+
+    private ZonedDateTime handleWeekend(ZonedDateTime c, boolean resetTime) {
+        while (!isWorkingDay(c.getDayOfWeek().getValue() % 7 + 1)) {
+            c = plusDays(c, 1);
             if (resetTime) {
-                c.set(Calendar.HOUR_OF_DAY, 0);
-                c.set(Calendar.MINUTE, 0);
-                c.set(Calendar.SECOND, 0);
-                c.set(Calendar.MILLISECOND, 0);
+                c = atLocal(c.toLocalDateTime().truncatedTo(ChronoUnit.DAYS), c.getZone());
+            }
+        }
+        return c;
+    }
+
+    /*
+     * Day based arithmetic and wall time adjustments follow java.util.GregorianCalendar rules around daylight saving
+     * transitions, so calculated dates do not depend on which of the two APIs is used: a day is added keeping the
+     * previous offset unless that changes the date, and wall times within an overlap resolve to the later offset.
+     */
+    private static ZonedDateTime plusDays(ZonedDateTime c, long days) {
+        LocalDateTime target = c.toLocalDateTime().plusDays(days);
+        Instant instant = target.toInstant(c.getOffset());
+        int difference = c.getOffset().getTotalSeconds() - c.getZone().getRules().getOffset(instant).getTotalSeconds();
+        if (difference != 0) {
+            Instant adjusted = instant.plusSeconds(difference);
+            if (LocalDateTime.ofInstant(adjusted, c.getZone()).toLocalDate().equals(target.toLocalDate())) {
+                instant = adjusted;
+            }
+        }
+        return ZonedDateTime.ofInstant(instant, c.getZone());
+    }
+
+    private static ZonedDateTime atLocal(LocalDateTime dateTime, ZoneId zone) {
+        return ZonedDateTime.ofLocal(dateTime, zone, null).withLaterOffsetAtOverlap();
+    }
+
+    private static ZonedDateTime toZonedDateTime(Calendar c) {
+        return ZonedDateTime.ofInstant(c.toInstant(), c.getTimeZone().toZoneId());
+    }
+
+    private static class BusinessDuration {
+        private final int weeks;
+        private final int days;
+        private final int hours;
+        private final int minutes;
+        private final int seconds;
+
+        private BusinessDuration(int weeks, int days, int hours, int minutes, int seconds) {
+            this.weeks = weeks;
+            this.days = days;
+            this.hours = hours;
+            this.minutes = minutes;
+            this.seconds = seconds;
+        }
+
+        private static BusinessDuration parse(String timeExpression) {
+            String trimmed = timeExpression.trim();
+            if (trimmed.length() > 0) {
+                Matcher mat = PatternConstants.SIMPLE_TIME_DATE_MATCHER.matcher(trimmed);
+                if (mat.matches()) {
+                    return new BusinessDuration(
+                            (mat.group(SIM_WEEK) != null) ? Integer.parseInt(mat.group(SIM_WEEK)) : 0,
+                            (mat.group(SIM_DAY) != null) ? Integer.parseInt(mat.group(SIM_DAY)) : 0,
+                            (mat.group(SIM_HOU) != null) ? Integer.parseInt(mat.group(SIM_HOU)) : 0,
+                            (mat.group(SIM_MIN) != null) ? Integer.parseInt(mat.group(SIM_MIN)) : 0,
+                            (mat.group(SIM_SEC) != null) ? Integer.parseInt(mat.group(SIM_SEC)) : 0);
+                }
             }
-            dayOfTheWeek = c.get(Calendar.DAY_OF_WEEK);
+            return new BusinessDuration(0, 0, 0, 0, 0);
         }
     }
 }
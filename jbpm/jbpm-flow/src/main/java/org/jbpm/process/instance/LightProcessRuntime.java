@@ -58,6 +58,7 @@ import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.jobs.ProcessJobDescription;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.services.jobs.impl.InMemoryJobService;
+import org.kie.kogito.services.jobs.impl.TimingWheelJobService;
 import org.kie.kogito.signal.SignalManager;
 import org.kie.kogito.uow.UnitOfWorkManager;
 
@@ -88,7 +89,7 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
         this.runtimeContext = runtimeContext;
         this.processInstanceManager = services.getProcessInstanceManager();
         this.signalManager = services.getSignalManager();
-        this.jobService = services.getJobsService() == null ? InMemoryJobService.get(application.get(Processes.class), this.unitOfWorkManager) : services.getJobsService();
+        this.jobService = services.getJobsService() == null ? defaultJobsService(application.get(Processes.class)) : services.getJobsService();
         this.processEventSupport = services.getEventSupport();
         this.workItemManager = services.getKogitoWorkItemManager();
         if (isActive()) {
@@ -98,6 +99,10 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
         initProcessActivationListener();
     }
 
+    private JobsService defaultJobsService(Processes processes) {
+        return TimingWheelJobService.isEnabled() ? TimingWheelJobService.get(processes, unitOfWorkManager) : InMemoryJobService.get(processes, unitOfWorkManager);
+    }
+
     public void initStartTimers() {
         Collection<Process> processes = runtimeContext.getProcesses();
         for (Process process : processes) {
@@ -19,10 +19,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.jbpm.process.instance.ProcessInstanceManager;
+import org.kie.kogito.id.IdGenerators;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 
 public class DefaultProcessInstanceManager implements ProcessInstanceManager {
@@ -33,7 +33,7 @@ public class DefaultProcessInstanceManager implements ProcessInstanceManager {
 
     public void addProcessInstance(KogitoProcessInstance processInstance) {
         if (Objects.isNull(processInstance.getStringId())) {
-            ((org.jbpm.process.instance.ProcessInstance) processInstance).setId(UUID.randomUUID().toString());
+            ((org.jbpm.process.instance.ProcessInstance) processInstance).setId(IdGenerators.generate());
         }
         internalAddProcessInstance(processInstance);
     }
@@ -19,10 +19,10 @@ import java.io.Serializable;
 import java.nio.file.Paths;
 import java.util.Date;
 import java.util.Map;
-import java.util.UUID;
 
 import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
 import org.kie.kogito.MapOutput;
+import org.kie.kogito.id.IdGenerators;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.internal.process.runtime.WorkItemNotFoundException;
@@ -153,6 +153,6 @@ public class HumanTaskHelper {
     }
 
     private static String getNewId() {
-        return UUID.randomUUID().toString();
+        return IdGenerators.generate();
     }
 }
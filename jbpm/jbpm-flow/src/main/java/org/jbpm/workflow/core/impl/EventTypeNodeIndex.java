@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbpm.process.core.event.BroadcastEventTypeFilter;
+import org.jbpm.process.core.event.EventFilter;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.process.core.event.NonAcceptingEventTypeFilter;
+import org.jbpm.util.PatternConstants;
+import org.jbpm.workflow.core.node.BoundaryEventNode;
+import org.jbpm.workflow.core.node.CompositeNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.EventNodeInterface;
+import org.jbpm.workflow.core.node.EventSubProcessNode;
+import org.kie.api.definition.process.Node;
+
+/**
+ * Index of the event nodes of a node container by the event types they might accept.
+ * <p>
+ * Candidates are computed statically from the event type filters of the nodes. Nodes whose event type
+ * depends on a variable expression (<code>#{...}</code>) or cannot be determined are kept apart and are
+ * returned as candidates for every event type. The index never discards a node that could accept an event,
+ * so callers must still check each candidate with {@link EventNodeInterface#acceptsEvent}.
+ */
+public class EventTypeNodeIndex {
+
+    private static final Set<String> ANY_TYPE = null;
+
+    private final Map<String, List<Node>> nodesByType;
+    private final List<Node> anyTypeNodes;
+
+    private EventTypeNodeIndex(Map<String, List<Node>> nodesByType, List<Node> anyTypeNodes) {
+        this.nodesByType = nodesByType;
+        this.anyTypeNodes = anyTypeNodes;
+    }
+
+    public static EventTypeNodeIndex of(Node[] nodes) {
+        Map<String, Set<Node>> candidates = new HashMap<>();
+        List<Node> anyTypeNodes = new ArrayList<>();
+        for (Node node : nodes) {
+            if (!(node instanceof EventNodeInterface)) {
+                continue;
+            }
+            Set<String> types = acceptedTypes(node);
+            if (types == ANY_TYPE) {
+                anyTypeNodes.add(node);
+            } else {
+                for (String type : types) {
+                    candidates.computeIfAbsent(type, k -> new LinkedHashSet<>()).add(node);
+                }
+            }
+        }
+        // keep the definition order of the nodes, merging the ones that might accept any type
+        Set<Node> anyTypeCandidates = new HashSet<>(anyTypeNodes);
+        Map<String, List<Node>> nodesByType = new HashMap<>();
+        for (Map.Entry<String, Set<Node>> entry : candidates.entrySet()) {
+            List<Node> typeNodes = new ArrayList<>();
+            for (Node node : nodes) {
+                if (entry.getValue().contains(node) || anyTypeCandidates.contains(node)) {
+                    typeNodes.add(node);
+                }
+            }
+            nodesByType.put(entry.getKey(), Collections.unmodifiableList(typeNodes));
+        }
+        return new EventTypeNodeIndex(nodesByType, Collections.unmodifiableList(anyTypeNodes));
+    }
+
+    /**
+     * Returns, in definition order, the nodes that might accept an event of the given type
+     */
+    public List<Node> getNodes(String type) {
+        return nodesByType.getOrDefault(type, anyTypeNodes);
+    }
+
+    private static Set<String> acceptedTypes(Node node) {
+        if (node instanceof EventSubProcessNode) {
+            Set<String> types = new LinkedHashSet<>();
+            for (EventTypeFilter filter : ((EventSubProcessNode) node).getEventTypeFilters()) {
+                if (!addFilterType(types, filter)) {
+                    return ANY_TYPE;
+                }
+            }
+            return addChildrenTypes(types, (CompositeNode) node);
+        } else if (node instanceof BoundaryEventNode) {
+            // any of the filters is enough for a boundary event
+            List<EventFilter> filters = ((BoundaryEventNode) node).getEventFilters();
+            if (filters.isEmpty()) {
+                return ANY_TYPE;
+            }
+            Set<String> types = new LinkedHashSet<>();
+            for (EventFilter filter : filters) {
+                if (!addFilterType(types, filter)) {
+                    return ANY_TYPE;
+                }
+            }
+            return types;
+        } else if (node instanceof EventNode) {
+            // all the filters must accept the event, so a single static type is enough to narrow it
+            List<EventFilter> filters = ((EventNode) node).getEventFilters();
+            for (EventFilter filter : filters) {
+                if (filter instanceof NonAcceptingEventTypeFilter) {
+                    return Collections.emptySet();
+                }
+            }
+            for (EventFilter filter : filters) {
+                Set<String> types = new LinkedHashSet<>();
+                if (addFilterType(types, filter)) {
+                    return types;
+                }
+            }
+            return ANY_TYPE;
+        } else if (node instanceof CompositeNode) {
+            return addChildrenTypes(new LinkedHashSet<>(), (CompositeNode) node);
+        }
+        return ANY_TYPE;
+    }
+
+    private static Set<String> addChildrenTypes(Set<String> types, CompositeNode compositeNode) {
+        for (Node child : compositeNode.internalGetNodes()) {
+            if (child instanceof EventNodeInterface) {
+                Set<String> childTypes = acceptedTypes(child);
+                if (childTypes == ANY_TYPE) {
+                    return ANY_TYPE;
+                }
+                types.addAll(childTypes);
+            }
+        }
+        return types;
+    }
+
+    private static boolean addFilterType(Set<String> types, EventFilter filter) {
+        if (filter instanceof NonAcceptingEventTypeFilter) {
+            return true;
+        }
+        if (filter.getClass() != EventTypeFilter.class && filter.getClass() != BroadcastEventTypeFilter.class) {
+            return false;
+        }
+        String type = ((EventTypeFilter) filter).getType();
+        if (type == null || PatternConstants.PARAMETER_MATCHER.matcher(type).find()) {
+            return false;
+        }
+        types.add(type);
+        return true;
+    }
+}
@@ -52,6 +52,7 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     private WorkflowModelValidator inputValidator;
     private WorkflowModelValidator outputValidator;
     private org.jbpm.workflow.core.NodeContainer nodeContainer;
+    private transient volatile EventTypeNodeIndex eventTypeNodeIndex;
 
     private transient BiFunction<String, ProcessInstance, String> expressionEvaluator = (expression, p) -> {
 
@@ -124,12 +125,27 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     public void removeNode(final org.kie.api.definition.process.Node node) {
         nodeContainer.removeNode(node);
         ((Node) node).setParentContainer(null);
+        eventTypeNodeIndex = null;
     }
 
     @Override
     public void addNode(final org.kie.api.definition.process.Node node) {
         nodeContainer.addNode(node);
         ((Node) node).setParentContainer(this);
+        eventTypeNodeIndex = null;
+    }
+
+    /**
+     * Returns the top level nodes that might accept an event of the given type, in definition order.
+     * The index is built on first use, once the process definition is complete.
+     */
+    public List<org.kie.api.definition.process.Node> getEventNodes(String type) {
+        EventTypeNodeIndex index = eventTypeNodeIndex;
+        if (index == null) {
+            index = EventTypeNodeIndex.of(getNodes());
+            eventTypeNodeIndex = index;
+        }
+        return index.getNodes(type);
     }
 
     @Override
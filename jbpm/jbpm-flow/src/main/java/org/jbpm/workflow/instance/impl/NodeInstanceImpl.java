@@ -104,7 +104,12 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
     }
 
     public void setNodeId(final long nodeId) {
+        long previousNodeId = this.nodeId;
         this.nodeId = nodeId;
+        if (previousNodeId != nodeId && this.nodeInstanceContainer instanceof WorkflowProcessInstanceImpl) {
+            // keep the node id index of the process instance in sync, e.g. on migration
+            ((WorkflowProcessInstanceImpl) this.nodeInstanceContainer).updateNodeId(this, previousNodeId);
+        }
     }
 
     @Override
@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -52,6 +51,7 @@ import org.jbpm.util.PatternConstants;
 import org.jbpm.workflow.core.DroolsAction;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.impl.NodeImpl;
+import org.jbpm.workflow.core.impl.WorkflowProcessImpl;
 import org.jbpm.workflow.core.node.BoundaryEventNode;
 import org.jbpm.workflow.core.node.CompositeNode;
 import org.jbpm.workflow.core.node.DynamicNode;
@@ -74,6 +74,7 @@ import org.jbpm.workflow.instance.node.StateBasedNodeInstance;
 import org.kie.api.definition.process.NodeContainer;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.internal.process.CorrelationKey;
+import org.kie.kogito.id.IdGenerators;
 import org.kie.kogito.internal.process.event.KogitoEventListener;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstanceContainer;
@@ -117,6 +118,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
     private static final Logger logger = LoggerFactory.getLogger(WorkflowProcessInstanceImpl.class);
 
     private final List<NodeInstance> nodeInstances = new ArrayList<>();
+    private final Map<Long, List<NodeInstance>> nodeInstancesByNodeId = new HashMap<>();
 
     private Map<String, List<KogitoEventListener>> eventListeners = new HashMap<>();
     private Map<String, List<KogitoEventListener>> externalEventListeners = new HashMap<>();
@@ -161,9 +163,27 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         if (nodeInstance.getStringId() == null) {
             // assign new id only if it does not exist as it might already be set by marshalling
             // it's important to keep same ids of node instances as they might be references e.g. exclusive group
-            ((NodeInstanceImpl) nodeInstance).setId(UUID.randomUUID().toString());
+            ((NodeInstanceImpl) nodeInstance).setId(IdGenerators.generate());
         }
         this.nodeInstances.add(nodeInstance);
+        this.nodeInstancesByNodeId.computeIfAbsent(nodeInstance.getNodeId(), k -> new ArrayList<>()).add(nodeInstance);
+    }
+
+    void updateNodeId(NodeInstance nodeInstance, long previousNodeId) {
+        if (removeFromNodeIdIndex(nodeInstance, previousNodeId)) {
+            this.nodeInstancesByNodeId.computeIfAbsent(nodeInstance.getNodeId(), k -> new ArrayList<>()).add(nodeInstance);
+        }
+    }
+
+    private boolean removeFromNodeIdIndex(NodeInstance nodeInstance, long nodeId) {
+        List<NodeInstance> instances = this.nodeInstancesByNodeId.get(nodeId);
+        if (instances == null || !instances.remove(nodeInstance)) {
+            return false;
+        }
+        if (instances.isEmpty()) {
+            this.nodeInstancesByNodeId.remove(nodeId);
+        }
+        return true;
     }
 
     @Override
@@ -191,7 +211,9 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
             getKnowledgeRuntime().delete(
                     getKnowledgeRuntime().getFactHandle(nodeInstance));
         }
-        this.nodeInstances.remove(nodeInstance);
+        if (this.nodeInstances.remove(nodeInstance)) {
+            removeFromNodeIdIndex(nodeInstance, nodeInstance.getNodeId());
+        }
     }
 
     @Override
@@ -264,8 +286,8 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public NodeInstance getFirstNodeInstance(final long nodeId) {
-        for (final NodeInstance nodeInstance : this.nodeInstances) {
-            if (nodeInstance.getNodeId() == nodeId && nodeInstance.getLevel() == getCurrentLevel()) {
+        for (final NodeInstance nodeInstance : this.nodeInstancesByNodeId.getOrDefault(nodeId, Collections.emptyList())) {
+            if (nodeInstance.getLevel() == getCurrentLevel()) {
                 return nodeInstance;
             }
         }
@@ -273,13 +295,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
     }
 
     public List<NodeInstance> getNodeInstances(final long nodeId) {
-        List<NodeInstance> result = new ArrayList<>();
-        for (final NodeInstance nodeInstance : this.nodeInstances) {
-            if (nodeInstance.getNodeId() == nodeId) {
-                result.add(nodeInstance);
-            }
-        }
-        return result;
+        return new ArrayList<>(this.nodeInstancesByNodeId.getOrDefault(nodeId, Collections.emptyList()));
     }
 
     public List<NodeInstance> getNodeInstances(final long nodeId, final List<NodeInstance> currentView) {
@@ -559,7 +575,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     private TimerInstance createDurationTimer(long duration) {
         TimerInstance timerInstance = new TimerInstance();
-        timerInstance.setId(UUID.randomUUID().toString());
+        timerInstance.setId(IdGenerators.generate());
         timerInstance.setDelay(duration);
         timerInstance.setPeriod(0);
         return timerInstance;
@@ -646,7 +662,12 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                 return;
             }
 
-            List<NodeInstance> currentView = new ArrayList<>(this.nodeInstances);
+            List<org.kie.api.definition.process.Node> eventNodes = getEventNodes(type);
+            // node instances existing before the signal, per candidate node, as later ones must not receive it
+            Map<Long, List<NodeInstance>> currentView = new HashMap<>();
+            for (org.kie.api.definition.process.Node node : eventNodes) {
+                currentView.put(node.getId(), getNodeInstances(node.getId()));
+            }
 
             try {
                 this.activatingNodeIds = new ArrayList<>();
@@ -662,22 +683,19 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                         listener.signalEvent(type, event);
                     }
                 }
-                for (org.kie.api.definition.process.Node node : getWorkflowProcess().getNodes()) {
-                    if (node instanceof EventNodeInterface
-                            && ((EventNodeInterface) node).acceptsEvent(type, event, getResolver(node, currentView))) {
+                for (org.kie.api.definition.process.Node node : eventNodes) {
+                    List<NodeInstance> nodeInstances = currentView.get(node.getId());
+                    if (((EventNodeInterface) node).acceptsEvent(type, event, getResolver(node, nodeInstances))) {
                         if (node instanceof EventNode && ((EventNode) node).getFrom() == null) {
                             EventNodeInstance eventNodeInstance = (EventNodeInstance) getNodeInstance(node);
-                            eventNodeInstance.signalEvent(type, event, getResolver(node, currentView));
+                            eventNodeInstance.signalEvent(type, event, getResolver(node, nodeInstances));
                         } else {
                             if (node instanceof EventSubProcessNode && (resolveVariables(((EventSubProcessNode) node).getEvents()).contains(type))) {
                                 EventSubProcessNodeInstance eventNodeInstance = (EventSubProcessNodeInstance) getNodeInstance(node);
                                 eventNodeInstance.signalEvent(type, event);
                             } else {
-                                List<NodeInstance> nodeInstances = getNodeInstances(node.getId(), currentView);
-                                if (nodeInstances != null && !nodeInstances.isEmpty()) {
-                                    for (NodeInstance nodeInstance : nodeInstances) {
-                                        ((EventNodeInstanceInterface) nodeInstance).signalEvent(type, event, getResolver(node, currentView));
-                                    }
+                                for (NodeInstance nodeInstance : nodeInstances) {
+                                    ((EventNodeInstanceInterface) nodeInstance).signalEvent(type, event, getResolver(node, nodeInstances));
                                 }
                             }
                         }
@@ -699,8 +717,10 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                             }
                             nodeInstance.trigger(null, Node.CONNECTION_DEFAULT_TYPE);
                         } else if (node instanceof CompositeNode) {
-                            Optional<NodeInstance> instance = this.nodeInstances.stream().filter(ni -> ni.getNodeId() == node.getId()).findFirst();
-                            instance.ifPresent(n -> ((CompositeNodeInstance) n).signalEvent(type, event));
+                            List<NodeInstance> instances = this.nodeInstancesByNodeId.get(node.getId());
+                            if (instances != null && !instances.isEmpty()) {
+                                ((CompositeNodeInstance) instances.get(0)).signalEvent(type, event);
+                            }
                         }
                     }
                 }
@@ -713,13 +733,26 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         }
     }
 
-    private Function<String, Object> getResolver(org.kie.api.definition.process.Node node, List<NodeInstance> currentView) {
+    private List<org.kie.api.definition.process.Node> getEventNodes(String type) {
+        KogitoWorkflowProcess process = getWorkflowProcess();
+        if (process instanceof WorkflowProcessImpl) {
+            return ((WorkflowProcessImpl) process).getEventNodes(type);
+        }
+        List<org.kie.api.definition.process.Node> eventNodes = new ArrayList<>();
+        for (org.kie.api.definition.process.Node node : process.getNodes()) {
+            if (node instanceof EventNodeInterface) {
+                eventNodes.add(node);
+            }
+        }
+        return eventNodes;
+    }
+
+    private Function<String, Object> getResolver(org.kie.api.definition.process.Node node, List<NodeInstance> nodeInstances) {
         if (node instanceof DynamicNode) {
             // special handling for dynamic node to allow to resolve variables from individual node instances of the dynamic node
             // instead of just relying on process instance's variables
             return e -> {
-                List<NodeInstance> nodeInstances = getNodeInstances(node.getId(), currentView);
-                if (nodeInstances != null && !nodeInstances.isEmpty()) {
+                if (!nodeInstances.isEmpty()) {
                     StringBuilder st = new StringBuilder();
                     for (NodeInstance ni : nodeInstances) {
                         String result = resolveVariable(e, new NodeInstanceResolverFactory(ni));
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.instance.node;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.jbpm.process.instance.InternalProcessRuntime;
+import org.jbpm.process.instance.ProcessInstance;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.workitem.WorkItemExecutionException;
+import org.kie.kogito.services.uow.BaseWorkUnit;
+import org.kie.kogito.services.uow.UnitOfWorkExecutor;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.WorkUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Completes a work item whose handler returned without waiting for the result of the external call.
+ * <p>
+ * When the work item belongs to a process instance, the call is started once the current unit of work has ended and
+ * committed (so the instance is already stored in its waiting state) and the outcome is applied
+ * in a new unit of work on a freshly loaded instance.
+ */
+public class AsyncWorkItemCompletion {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncWorkItemCompletion.class);
+
+    private final KogitoWorkItem workItem;
+    private final String workItemId;
+    private final KogitoWorkItemManager manager;
+    private final UnitOfWorkManager unitOfWorkManager;
+    private final Process<?> process;
+    private final String processInstanceId;
+
+    public AsyncWorkItemCompletion(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+        this.workItem = workItem;
+        this.workItemId = workItem.getStringId();
+        this.manager = manager;
+        org.kie.kogito.process.ProcessInstance<?> processInstance = workItem.getProcessInstance() instanceof WorkflowProcessInstanceImpl
+                ? ((WorkflowProcessInstanceImpl) workItem.getProcessInstance()).unwrap()
+                : null;
+        if (processInstance != null) {
+            this.unitOfWorkManager = ((InternalProcessRuntime) ((ProcessInstance) workItem.getProcessInstance()).getKnowledgeRuntime().getProcessRuntime()).getUnitOfWorkManager();
+            this.process = processInstance.process();
+            this.processInstanceId = processInstance.id();
+        } else {
+            this.unitOfWorkManager = null;
+            this.process = null;
+            this.processInstanceId = null;
+        }
+    }
+
+    /**
+     * Starts the external call, once the current unit of work has ended if there is one,
+     * and completes or fails the work item with its outcome
+     *
+     * @param call starts the call and returns the results of the work item once it is done
+     */
+    public void start(Supplier<? extends CompletionStage<? extends Map<String, Object>>> call) {
+        Runnable guarded = () -> {
+            try {
+                call.get().whenComplete((results, error) -> {
+                    if (error == null) {
+                        complete(results);
+                    } else {
+                        fail(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                    }
+                });
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        };
+        if (unitOfWorkManager == null) {
+            guarded.run();
+        } else {
+            unitOfWorkManager.currentUnitOfWork().intercept(new BaseWorkUnit<>(workItem, w -> guarded.run(), w -> {
+            }, WorkUnit.AFTER_END_PRIORITY));
+        }
+    }
+
+    public void complete(Map<String, Object> results) {
+        if (process == null) {
+            manager.completeWorkItem(workItemId, results);
+        } else {
+            UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> process.instances().findById(processInstanceId)
+                    .map(pi -> {
+                        pi.completeWorkItem(workItemId, results);
+                        return pi;
+                    })
+                    .orElseGet(() -> {
+                        logger.warn("Process instance {} not found, cannot complete work item {}", processInstanceId, workItemId);
+                        return null;
+                    }));
+        }
+    }
+
+    public void fail(Throwable ex) {
+        logger.debug("Asynchronous execution of work item {} failed", workItemId, ex);
+        RuntimeException exception = ex instanceof RuntimeException ? (RuntimeException) ex : new WorkItemExecutionException(ex.getClass().getName(), ex.getMessage(), ex);
+        if (process == null) {
+            ((WorkItemNodeInstance) workItem.getNodeInstance()).workItemFailed(exception);
+        } else {
+            UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> process.instances().findById(processInstanceId)
+                    .map(pi -> pi.updateWorkItem(workItemId, wi -> {
+                        ((WorkItemNodeInstance) wi.getNodeInstance()).workItemFailed(exception);
+                        return pi;
+                    }))
+                    .orElse(null));
+        }
+    }
+}
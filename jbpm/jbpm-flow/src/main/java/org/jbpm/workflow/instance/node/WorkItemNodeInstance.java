@@ -188,6 +188,16 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
         }
     }
 
+    /**
+     * Handles a failure reported by a work item handler once <code>executeWorkItem</code> has returned, as asynchronous
+     * handlers do, the same way an exception thrown while executing the work item is handled.
+     */
+    public void workItemFailed(RuntimeException e) {
+        processWorkItemHandler(() -> {
+            throw e;
+        });
+    }
+
     protected void handleException(String exceptionName, Exception e) {
         getExceptionScopeInstance(exceptionName, e).handleException(exceptionName, getProcessContext(e));
     }
@@ -15,8 +15,10 @@
  */
 package org.kie.kogito.process.expr;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ExpressionHandlerFactory {
 
@@ -24,6 +26,8 @@ public class ExpressionHandlerFactory {
     }
 
     private static final ServiceLoader<ExpressionHandler> serviceLoader = ServiceLoader.load(ExpressionHandler.class);
+    // handlers are looked up once per language, service loader streams instantiate a new provider on every get
+    private static final Map<String, Optional<ExpressionHandler>> handlers = new ConcurrentHashMap<>();
 
     public static Expression get(String lang, String expr) {
         return getExpressionHandler(lang).orElseThrow(
@@ -31,10 +35,16 @@ public class ExpressionHandlerFactory {
     }
 
     public static boolean isSupported(String lang) {
-        return serviceLoader.stream().anyMatch(p -> p.get().lang().equals(lang));
+        return getExpressionHandler(lang).isPresent();
     }
 
     private static Optional<ExpressionHandler> getExpressionHandler(String lang) {
-        return serviceLoader.stream().filter(p -> p.get().lang().equals(lang)).findFirst().map(p -> p.get());
+        return lang == null ? Optional.empty() : handlers.computeIfAbsent(lang, ExpressionHandlerFactory::loadExpressionHandler);
+    }
+
+    private static Optional<ExpressionHandler> loadExpressionHandler(String lang) {
+        synchronized (serviceLoader) {
+            return serviceLoader.stream().map(ServiceLoader.Provider::get).filter(h -> h.lang().equals(lang)).findFirst();
+        }
     }
 }
@@ -167,11 +167,19 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     @Override
     public <S> void send(Signal<S> signal) {
-        try (Stream<ProcessInstance<T>> stream = instances.stream()) {
+        try (Stream<ProcessInstance<T>> stream = signalCandidates(signal)) {
             stream.forEach(pi -> pi.send(signal));
         }
     }
 
+    private <S> Stream<ProcessInstance<T>> signalCandidates(Signal<S> signal) {
+        // dynamic processes might trigger nodes by name, which are not part of the event types instances are subscribed to
+        if (((WorkflowProcessImpl) get()).isDynamic()) {
+            return instances.stream();
+        }
+        return instances.waitingForEventType(signal.channel());
+    }
+
     public Process<T> configure() {
         registerListeners();
         if (isProcessFactorySet()) {
@@ -24,7 +24,10 @@ import java.util.stream.StreamSupport;
 
 import org.kie.api.event.process.ProcessEventListener;
 import org.kie.kogito.Addons;
+import org.kie.kogito.event.EventManager;
 import org.kie.kogito.event.EventPublisher;
+import org.kie.kogito.event.impl.BaseEventManager;
+import org.kie.kogito.event.impl.ProcessInstanceDeltaTracker;
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.process.ProcessConfig;
 import org.kie.kogito.process.ProcessEventListenerConfig;
@@ -70,6 +73,16 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
         unitOfWorkManager().eventManager().setService(kogitoService);
     }
 
+    /**
+     * Publishes process instance events as deltas, see {@link ProcessInstanceDeltaTracker}
+     */
+    protected void enableDeltaEvents(int snapshotInterval, int maxInstances) {
+        EventManager eventManager = unitOfWorkManager().eventManager();
+        if (eventManager instanceof BaseEventManager) {
+            ((BaseEventManager) eventManager).setDeltaTracker(new ProcessInstanceDeltaTracker(snapshotInterval, maxInstances));
+        }
+    }
+
     private static WorkItemHandlerConfig mergeWorkItemHandler(Iterable<WorkItemHandlerConfig> workItemHandlerConfigs,
             Supplier<WorkItemHandlerConfig> supplier) {
         Iterator<WorkItemHandlerConfig> iterator = workItemHandlerConfigs.iterator();
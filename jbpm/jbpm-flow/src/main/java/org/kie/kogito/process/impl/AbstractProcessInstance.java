@@ -17,10 +17,12 @@ package org.kie.kogito.process.impl;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -569,6 +571,18 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         return processInstance().getEventDescriptions();
     }
 
+    /**
+     * Returns the event types this process instance is currently listening for.
+     * Persistence implementations use it to maintain the event type subscription index
+     * queried by {@link org.kie.kogito.process.ProcessInstances#waitingForEventType(String, org.kie.kogito.process.ProcessInstanceReadMode)}.
+     */
+    public Set<String> eventTypes() {
+        if (status() != STATE_ACTIVE && status() != STATE_ERROR) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(Arrays.asList(processInstance().getEventTypes()));
+    }
+
     @Override
     public Collection<Milestone> milestones() {
         return processInstance.milestones();
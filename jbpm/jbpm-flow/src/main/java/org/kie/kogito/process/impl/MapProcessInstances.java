@@ -16,17 +16,22 @@
 package org.kie.kogito.process.impl;
 
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 
 class MapProcessInstances<T> implements MutableProcessInstances<T> {
 
-    private final ConcurrentHashMap<String, ProcessInstance<T>> instances = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, ProcessInstance<T>> instances = new ConcurrentSkipListMap<>();
 
     @Override
     public Optional<ProcessInstance<T>> findById(String id, ProcessInstanceReadMode mode) {
@@ -64,4 +69,14 @@ class MapProcessInstances<T> implements MutableProcessInstances<T> {
     public Stream<ProcessInstance<T>> stream(ProcessInstanceReadMode mode) {
         return instances.values().stream();
     }
+
+    @Override
+    public ProcessInstancePage<ProcessInstance<T>> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        ConcurrentNavigableMap<String, ProcessInstance<T>> tail = after == null ? instances : instances.tailMap(after, false);
+        return ProcessInstancePage.of(tail.values().stream()
+                .filter(pi -> filter.test(ProcessInstanceHeader.of(pi)))
+                .limit(pageSize + 1L)
+                .collect(Collectors.toList()), pageSize, ProcessInstance::id);
+    }
 }
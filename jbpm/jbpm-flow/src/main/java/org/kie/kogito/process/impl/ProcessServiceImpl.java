@@ -21,8 +21,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jbpm.process.instance.impl.humantask.HumanTaskHelper;
 import org.jbpm.process.instance.impl.humantask.HumanTaskTransition;
@@ -40,8 +38,12 @@ import org.kie.kogito.internal.process.runtime.KogitoNode;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessConfig;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.ProcessService;
+import org.kie.kogito.process.Signal;
+import org.kie.kogito.process.SignaledProcessInstance;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.workitem.Attachment;
 import org.kie.kogito.process.workitem.AttachmentInfo;
@@ -96,11 +98,18 @@ public class ProcessServiceImpl implements ProcessService {
 
     @Override
     public <T extends MappableToModel<R>, R> List<R> getProcessInstanceOutput(Process<T> process) {
-        try (Stream<ProcessInstance<T>> stream = process.instances().stream().limit(processInstanceLimit)) {
-            return stream.map(ProcessInstance::variables)
-                    .map(MappableToModel::toModel)
-                    .collect(Collectors.toList());
+        return getProcessInstanceOutput(process, ProcessInstanceFilter.ALL, null, null).items();
+    }
+
+    @Override
+    public <T extends MappableToModel<R>, R> ProcessInstancePage<R> getProcessInstanceOutput(Process<T> process, ProcessInstanceFilter filter, String cursor, Integer pageSize) {
+        if (pageSize != null && pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero, it was " + pageSize);
         }
+        int size = pageSize == null ? processInstanceLimit : Math.min(pageSize, processInstanceLimit);
+        return process.instances().findPage(filter, cursor, size, ProcessInstanceReadMode.READ_ONLY)
+                .map(ProcessInstance::variables)
+                .map(MappableToModel::toModel);
     }
 
     @Override
@@ -382,6 +391,24 @@ public class ProcessServiceImpl implements ProcessService {
                         }));
     }
 
+    @Override
+    public <T extends Model> Optional<SignaledProcessInstance<T>> signalProcessInstance(Process<T> process, String id, List<Signal<?>> signals) {
+        return UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(),
+                () -> process.instances().findById(id)
+                        .map(pi -> {
+                            int sent = 0;
+                            while (sent < signals.size()) {
+                                pi.send(signals.get(sent++));
+                                pi.checkError();
+                                if (pi.status() != ProcessInstance.STATE_ACTIVE) {
+                                    // later signals would be lost on an ended instance, leave them to the caller
+                                    break;
+                                }
+                            }
+                            return new SignaledProcessInstance<>(pi, sent);
+                        }));
+    }
+
     //Schema
     @Override
     public <T extends Model> Map<String, Object> getSchemaAndPhases(Process<T> process,
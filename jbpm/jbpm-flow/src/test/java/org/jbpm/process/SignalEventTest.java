@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.process.instance.impl.Action;
+import org.jbpm.process.test.NodeCreator;
+import org.jbpm.process.test.TestWorkItemHandler;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.DroolsAction;
+import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.NodeContainer;
+import org.jbpm.workflow.core.impl.DroolsConsequenceAction;
+import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.core.node.BoundaryEventNode;
+import org.jbpm.workflow.core.node.CompositeContextNode;
+import org.jbpm.workflow.core.node.EndNode;
+import org.jbpm.workflow.core.node.EventSubProcessNode;
+import org.jbpm.workflow.core.node.StartNode;
+import org.jbpm.workflow.core.node.WorkItemNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jbpm.process.test.NodeCreator.connect;
+
+/**
+ * Checks signals are delivered to the event nodes of a process instance, whatever their container is.
+ */
+public class SignalEventTest extends AbstractBaseTest {
+
+    public void addLogger() {
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+
+    private KogitoProcessRuntime kruntime;
+
+    @AfterEach
+    public void cleanUp() {
+        if (kruntime != null && kruntime.getKieSession() != null) {
+            kruntime.getKieSession().dispose();
+            kruntime = null;
+        }
+    }
+
+    @Test
+    public void testSignalBoundaryEvent() throws Exception {
+        List<String> eventList = new ArrayList<>();
+        RuleFlowProcess process = createProcess("org.jbpm.process.signal.boundary");
+        WorkItemNode workItemNode = createWorkItemFlow(process, "work");
+        createBoundaryEvent(process, workItemNode, "boundarySignal", eventList);
+
+        KogitoProcessInstance processInstance = start(process);
+        kruntime.signalEvent("otherSignal", null, processInstance.getStringId());
+        assertThat(eventList).isEmpty();
+
+        kruntime.signalEvent("boundarySignal", null, processInstance.getStringId());
+        assertThat(eventList).containsExactly("boundarySignal");
+    }
+
+    @Test
+    public void testSignalEventSubProcess() throws Exception {
+        List<String> eventList = new ArrayList<>();
+        RuleFlowProcess process = createProcess("org.jbpm.process.signal.eventsubprocess");
+        createWorkItemFlow(process, "work");
+        createEventSubProcess(process, "subProcessSignal", eventList);
+
+        KogitoProcessInstance processInstance = start(process);
+        kruntime.signalEvent("otherSignal", null, processInstance.getStringId());
+        assertThat(eventList).isEmpty();
+
+        kruntime.signalEvent("subProcessSignal", null, processInstance.getStringId());
+        assertThat(eventList).containsExactly("subProcessSignal");
+    }
+
+    @Test
+    public void testSignalEventsNestedInCompositeNode() throws Exception {
+        List<String> eventList = new ArrayList<>();
+        RuleFlowProcess process = createProcess("org.jbpm.process.signal.composite");
+        StartNode startNode = new NodeCreator<>(process, StartNode.class).createNode("start");
+        CompositeContextNode compositeNode = new NodeCreator<>(process, CompositeContextNode.class).createNode("composite");
+        EndNode endNode = new NodeCreator<>(process, EndNode.class).createNode("end");
+        connect(startNode, compositeNode);
+        connect(compositeNode, endNode);
+        WorkItemNode workItemNode = createWorkItemFlow(compositeNode, "nestedWork");
+        createBoundaryEvent(compositeNode, workItemNode, "nestedBoundarySignal", eventList);
+        createEventSubProcess(compositeNode, "nestedSubProcessSignal", eventList);
+
+        KogitoProcessInstance processInstance = start(process);
+        kruntime.signalEvent("nestedSubProcessSignal", null, processInstance.getStringId());
+        assertThat(eventList).containsExactly("nestedSubProcessSignal");
+
+        // the boundary event cancels the nested work item, completing the composite node
+        kruntime.signalEvent("nestedBoundarySignal", null, processInstance.getStringId());
+        assertThat(eventList).containsExactly("nestedSubProcessSignal", "nestedBoundarySignal");
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+    }
+
+    private KogitoProcessInstance start(RuleFlowProcess process) {
+        kruntime = createKogitoProcessRuntime(process);
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Human Task", new TestWorkItemHandler());
+        KogitoProcessInstance processInstance = kruntime.startProcess(process.getId());
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_ACTIVE);
+        return processInstance;
+    }
+
+    private RuleFlowProcess createProcess(String processId) {
+        RuleFlowProcess process = new RuleFlowProcess();
+        process.setAutoComplete(true);
+        process.setId(processId);
+        process.setName("Signal Process");
+        return process;
+    }
+
+    private WorkItemNode createWorkItemFlow(NodeContainer container, String name) throws Exception {
+        StartNode startNode = new NodeCreator<>(container, StartNode.class).createNode(name + "-start");
+        WorkItemNode workItemNode = new NodeCreator<>(container, WorkItemNode.class).createNode(name);
+        workItemNode.getWork().setName("Human Task");
+        EndNode endNode = new NodeCreator<>(container, EndNode.class).createNode(name + "-end");
+        connect(startNode, workItemNode);
+        connect(workItemNode, endNode);
+        return workItemNode;
+    }
+
+    private void createBoundaryEvent(NodeContainer container, Node attachedToNode, String signal, List<String> eventList) throws Exception {
+        BoundaryEventNode boundaryNode = new NodeCreator<>(container, BoundaryEventNode.class).createNode(signal + "-boundary");
+        String attachedTo = (String) attachedToNode.getMetaData().get("UniqueId");
+        boundaryNode.setMetaData("AttachedTo", attachedTo);
+        boundaryNode.setAttachedToNodeId(attachedTo);
+        boundaryNode.addEventFilter(filter(signal));
+        ActionNode actionNode = createAction(container, signal, eventList);
+        connect(boundaryNode, actionNode);
+        connect(actionNode, new NodeCreator<>(container, EndNode.class).createNode(signal + "-end"));
+    }
+
+    private void createEventSubProcess(NodeContainer container, String signal, List<String> eventList) throws Exception {
+        EventSubProcessNode eventSubProcessNode = new NodeCreator<>(container, EventSubProcessNode.class).createNode(signal + "-subprocess");
+        eventSubProcessNode.addEvent(filter(signal));
+        StartNode startNode = new NodeCreator<>(eventSubProcessNode, StartNode.class).createNode(signal + "-start");
+        startNode.setInterrupting(false);
+        ActionNode actionNode = createAction(eventSubProcessNode, signal, eventList);
+        connect(startNode, actionNode);
+        connect(actionNode, new NodeCreator<>(eventSubProcessNode, EndNode.class).createNode(signal + "-end"));
+    }
+
+    private ActionNode createAction(NodeContainer container, String signal, List<String> eventList) throws Exception {
+        ActionNode actionNode = new NodeCreator<>(container, ActionNode.class).createNode(signal + "-action");
+        DroolsAction action = new DroolsConsequenceAction("java", null);
+        action.setMetaData("Action", (Action) context -> eventList.add(signal));
+        actionNode.setAction(action);
+        return actionNode;
+    }
+
+    private static EventTypeFilter filter(String type) {
+        EventTypeFilter filter = new EventTypeFilter();
+        filter.setType(type);
+        return filter;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core.timer;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.timer.SessionClock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BusinessCalendarEquivalenceTest {
+
+    private static final String[] TIMEZONES = { null, "UTC", "America/New_York", "Europe/Warsaw", "Australia/Sydney" };
+    private static final String[] DEFAULT_TIMEZONES = { "UTC", "America/New_York", "Europe/Warsaw" };
+
+    private static final long FROM = 1325376000000L; // 2012-01-01T00:00:00Z
+    private static final long RANGE = 2L * 366 * 24 * 60 * 60 * 1000;
+
+    @Test
+    public void testSameResultsAsReferenceImplementation() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            Random random = new Random(20121205L);
+            for (String defaultZone : DEFAULT_TIMEZONES) {
+                TimeZone.setDefault(TimeZone.getTimeZone(defaultZone));
+                for (int i = 0; i < 300; i++) {
+                    Properties config = randomConfiguration(random);
+                    long now = FROM + (long) (random.nextDouble() * RANGE);
+                    SessionClock clock = () -> now;
+                    BusinessCalendarImpl calendar = new BusinessCalendarImpl(config, clock);
+                    ReferenceBusinessCalendar reference = new ReferenceBusinessCalendar(config, clock);
+                    for (int j = 0; j < 20; j++) {
+                        String expression = randomExpression(random);
+                        assertThat(calendar.calculateBusinessTimeAsDate(expression))
+                                .as("expression %s at %s with %s (default zone %s)", expression, new Date(now), config, defaultZone)
+                                .isEqualTo(reference.calculateBusinessTimeAsDate(expression));
+                        // second evaluation goes through the parsed expression cache
+                        assertThat(calendar.calculateBusinessTimeAsDuration(expression)).isEqualTo(reference.calculateBusinessTimeAsDuration(expression));
+                    }
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    private static Properties randomConfiguration(Random random) {
+        Properties config = new Properties();
+        int startHour = random.nextInt(12);
+        int endHour = startHour + 1 + random.nextInt(24 - startHour - 1);
+        config.setProperty(BusinessCalendarImpl.START_HOUR, Integer.toString(startHour));
+        config.setProperty(BusinessCalendarImpl.END_HOUR, Integer.toString(endHour));
+        config.setProperty(BusinessCalendarImpl.HOURS_PER_DAY, Integer.toString(1 + random.nextInt(endHour - startHour)));
+        config.setProperty(BusinessCalendarImpl.DAYS_PER_WEEK, Integer.toString(1 + random.nextInt(7)));
+
+        List<Integer> days = new ArrayList<>();
+        for (int day = Calendar.SUNDAY; day <= Calendar.SATURDAY; day++) {
+            days.add(day);
+        }
+        Collections.shuffle(days, random);
+        List<String> weekend = new ArrayList<>();
+        for (Integer day : days.subList(0, random.nextInt(4))) {
+            weekend.add(day.toString());
+        }
+        if (!weekend.isEmpty()) {
+            config.setProperty(BusinessCalendarImpl.WEEKEND_DAYS, String.join(",", weekend));
+        }
+
+        String timezone = TIMEZONES[random.nextInt(TIMEZONES.length)];
+        if (timezone != null) {
+            config.setProperty(BusinessCalendarImpl.TIMEZONE, timezone);
+        }
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        List<String> holidays = new ArrayList<>();
+        int numberOfHolidays = random.nextInt(12);
+        for (int i = 0; i < numberOfHolidays; i++) {
+            long day = FROM + (long) (random.nextDouble() * RANGE);
+            String from = format.format(new Date(day));
+            if (random.nextInt(3) == 0) {
+                holidays.add(from);
+            } else {
+                holidays.add(from + ":" + format.format(new Date(day + random.nextInt(20) * 24L * 60 * 60 * 1000)));
+            }
+        }
+        if (!holidays.isEmpty()) {
+            config.setProperty(BusinessCalendarImpl.HOLIDAYS, String.join(",", holidays));
+        }
+        return config;
+    }
+
+    private static String randomExpression(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return "PT" + random.nextInt(100) + "H" + random.nextInt(60) + "M" + random.nextInt(60) + "S";
+            case 1:
+                return "P" + random.nextInt(30) + "DT" + random.nextInt(24) + "H";
+            case 2:
+                return Long.toString(random.nextInt(Integer.MAX_VALUE));
+            default:
+                StringBuilder expression = new StringBuilder();
+                if (random.nextBoolean()) {
+                    expression.append(random.nextInt(4)).append('w');
+                }
+                if (random.nextBoolean()) {
+                    expression.append(random.nextInt(15)).append('d');
+                }
+                if (random.nextBoolean()) {
+                    expression.append(random.nextInt(40)).append('h');
+                }
+                if (random.nextBoolean()) {
+                    expression.append(random.nextInt(200)).append('m');
+                }
+                if (random.nextBoolean() || expression.length() == 0) {
+                    expression.append(random.nextInt(200)).append('s');
+                }
+                return expression.toString();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Properties;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 import org.jbpm.test.util.AbstractBaseTest;
@@ -198,6 +199,31 @@ public class BusinessCalendarImplTest extends AbstractBaseTest {
         assertThat(formatDate("yyyy-MM-dd HH:mm", result)).isEqualTo(expectedDate);
     }
 
+    @Test
+    public void testHolidaysInConfiguredTimeZone() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            // the configured zone is 13 hours ahead of the default one, so days differ most of the time
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            Properties config = new Properties();
+            config.setProperty(BusinessCalendarImpl.TIMEZONE, "Asia/Tokyo");
+            config.setProperty(BusinessCalendarImpl.HOLIDAYS, "2012-06-12");
+            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+            format.setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+
+            SessionPseudoClock clock = new StaticPseudoClock(format.parse("2012-06-11 16:00").getTime());
+            BusinessCalendarImpl businessCal = new BusinessCalendarImpl(config, clock);
+
+            Date result = businessCal.calculateBusinessTimeAsDate("2h");
+
+            assertThat(format.format(result)).isEqualTo("2012-06-13 10:00");
+        } catch (ParseException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
     @Test
     public void testCalculateTimeDaysHoursMinutesSingleDayHolidays() {
         Properties config = new Properties();
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.core.impl;
+
+import java.util.Collections;
+
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.process.core.event.NonAcceptingEventTypeFilter;
+import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.core.node.BoundaryEventNode;
+import org.jbpm.workflow.core.node.CompositeNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.EventSubProcessNode;
+import org.junit.jupiter.api.Test;
+import org.kie.api.definition.process.Node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventTypeNodeIndexTest {
+
+    @Test
+    public void testStaticEventTypes() {
+        EventNode eventNode = eventNode(1, "signal1");
+        BoundaryEventNode boundaryNode = new BoundaryEventNode();
+        boundaryNode.setId(2);
+        boundaryNode.addEventFilter(filter("signal2"));
+        EventSubProcessNode eventSubProcessNode = new EventSubProcessNode();
+        eventSubProcessNode.setId(3);
+        eventSubProcessNode.addEvent(filter("signal1"));
+        ActionNode actionNode = new ActionNode();
+        actionNode.setId(4);
+
+        EventTypeNodeIndex index = EventTypeNodeIndex.of(new Node[] { eventNode, boundaryNode, eventSubProcessNode, actionNode });
+
+        assertThat(index.getNodes("signal1")).containsExactly(eventNode, eventSubProcessNode);
+        assertThat(index.getNodes("signal2")).containsExactly(boundaryNode);
+        assertThat(index.getNodes("other")).isEmpty();
+    }
+
+    @Test
+    public void testVariableEventTypes() {
+        EventNode eventNode = eventNode(1, "signal1");
+        EventNode variableNode = eventNode(2, "signal-#{name}");
+        EventNode noFilterNode = new EventNode();
+        noFilterNode.setId(3);
+
+        EventTypeNodeIndex index = EventTypeNodeIndex.of(new Node[] { variableNode, eventNode, noFilterNode });
+
+        assertThat(index.getNodes("signal1")).containsExactly(variableNode, eventNode, noFilterNode);
+        assertThat(index.getNodes("signal-john")).containsExactly(variableNode, noFilterNode);
+    }
+
+    @Test
+    public void testCompositeEventTypes() {
+        CompositeNode compositeNode = new CompositeNode();
+        compositeNode.setId(1);
+        compositeNode.addNode(eventNode(2, "inner"));
+        EventNode nonAccepting = new EventNode();
+        nonAccepting.setId(3);
+        nonAccepting.setEventFilters(Collections.singletonList(new NonAcceptingEventTypeFilter()));
+
+        EventTypeNodeIndex index = EventTypeNodeIndex.of(new Node[] { compositeNode, nonAccepting });
+
+        assertThat(index.getNodes("inner")).containsExactly(compositeNode);
+        assertThat(index.getNodes("other")).isEmpty();
+    }
+
+    private static EventNode eventNode(long id, String type) {
+        EventNode eventNode = new EventNode();
+        eventNode.setId(id);
+        eventNode.addEventFilter(filter(type));
+        return eventNode;
+    }
+
+    private static EventTypeFilter filter(String type) {
+        EventTypeFilter filter = new EventTypeFilter();
+        filter.setType(type);
+        return filter;
+    }
+}
@@ -18,6 +18,7 @@ package org.kie.kogito.serialization.process;
 import java.io.IOException;
 
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceHeader;
 
 /**
  * A ProcessInstanceMarshaller must contain all the write/read logic for nodes
@@ -37,4 +38,10 @@ public interface ProcessInstanceMarshaller {
 
     void reloadProcessInstance(MarshallerReaderContext context, ProcessInstance<?> processInstance) throws IOException;
 
+    /**
+     * Reads only the header of a process instance, without rebuilding its node instances and variables.
+     * The version is not part of the marshalled data and is provided by the storage.
+     */
+    ProcessInstanceHeader readProcessInstanceHeader(MarshallerReaderContext context, long version) throws IOException;
+
 }
@@ -29,6 +29,7 @@ import java.util.function.Supplier;
 
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.impl.ProtobufProcessInstanceMarshallerFactory;
@@ -127,6 +128,21 @@ public class ProcessInstanceMarshallerService {
         }
     }
 
+    public ProcessInstanceHeader unmarshallProcessInstanceHeader(byte[] data, long version) {
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
+            MarshallerReaderContext context = processInstanceMarshallerFactory.newReaderContext(bais);
+            setupEnvironment(context);
+            org.kie.kogito.serialization.process.ProcessInstanceMarshaller marshaller = processInstanceMarshallerFactory.newKogitoProcessInstanceMarshaller();
+            return marshaller.readProcessInstanceHeader(context, version);
+        } catch (Exception e) {
+            throw new ProcessInstanceMarshallerException("Error while unmarshalling process instance header", e);
+        }
+    }
+
+    public ProcessInstanceHeader unmarshallProcessInstanceHeader(byte[] data) {
+        return unmarshallProcessInstanceHeader(data, 0L);
+    }
+
     public ProcessInstance<?> unmarshallProcessInstance(byte[] data, Process<?> process) {
         return unmarshallProcessInstance(data, process, false);
     }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serialization.process.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Date;
+
+import org.kie.kogito.process.ProcessInstanceHeader;
+import org.kie.kogito.serialization.process.MarshallerContextName;
+import org.kie.kogito.serialization.process.MarshallerReaderContext;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import com.google.protobuf.util.JsonFormat;
+
+import static org.kie.kogito.serialization.process.protobuf.ProtobufTypeRegistryFactory.protobufTypeRegistryFactoryInstance;
+
+/**
+ * Reads only the header fields of a marshalled process instance. For the binary format every other field
+ * (node instances, variables, contexts) is skipped on the wire, so neither the protobuf message tree nor
+ * the runtime process instance is built.
+ */
+class ProtobufProcessInstanceHeaderReader {
+
+    private final MarshallerReaderContext context;
+
+    ProtobufProcessInstanceHeaderReader(MarshallerReaderContext context) {
+        this.context = context;
+    }
+
+    ProcessInstanceHeader read(InputStream input, long version) throws IOException {
+        String format = this.context.get(MarshallerContextName.MARSHALLER_FORMAT);
+        if (format != null && MarshallerContextName.MARSHALLER_FORMAT_JSON.equals(format)) {
+            KogitoProcessInstanceProtobuf.ProcessInstance.Builder builder = KogitoProcessInstanceProtobuf.ProcessInstance.newBuilder();
+            JsonFormat.parser().usingTypeRegistry(protobufTypeRegistryFactoryInstance().create()).ignoringUnknownFields().merge(new InputStreamReader(input), builder);
+            return new ProcessInstanceHeader(builder.getId(), builder.getState(), builder.hasBusinessKey() ? builder.getBusinessKey() : null, version,
+                    builder.hasStartDate() ? new Date(builder.getStartDate()) : null);
+        }
+        return readBinary(CodedInputStream.newInstance(input), version);
+    }
+
+    private ProcessInstanceHeader readBinary(CodedInputStream input, long version) throws IOException {
+        String id = "";
+        int state = 0;
+        String businessKey = null;
+        Date startDate = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case KogitoProcessInstanceProtobuf.ProcessInstance.ID_FIELD_NUMBER:
+                    id = input.readStringRequireUtf8();
+                    break;
+                case KogitoProcessInstanceProtobuf.ProcessInstance.BUSINESS_KEY_FIELD_NUMBER:
+                    businessKey = input.readStringRequireUtf8();
+                    break;
+                case KogitoProcessInstanceProtobuf.ProcessInstance.STATE_FIELD_NUMBER:
+                    state = input.readInt32();
+                    break;
+                case KogitoProcessInstanceProtobuf.ProcessInstance.START_DATE_FIELD_NUMBER:
+                    startDate = new Date(input.readInt64());
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        return new ProcessInstanceHeader(id, state, businessKey, version, startDate);
+    }
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 
 import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.impl.AbstractProcess;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.MarshallerContextName;
@@ -53,4 +54,9 @@ public class ProtobufProcessInstanceMarshaller implements ProcessInstanceMarshal
         ((AbstractProcessInstance<?>) processInstance).internalSetProcessInstance(reader.read(context.input()));
     }
 
+    @Override
+    public ProcessInstanceHeader readProcessInstanceHeader(MarshallerReaderContext context, long version) throws IOException {
+        return new ProtobufProcessInstanceHeaderReader(context).read(context.input(), version);
+    }
+
 }
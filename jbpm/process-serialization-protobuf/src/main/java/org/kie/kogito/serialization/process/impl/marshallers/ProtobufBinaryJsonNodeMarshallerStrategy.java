@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serialization.process.impl.marshallers;
+
+import java.io.IOException;
+
+import org.kie.kogito.serialization.process.ObjectMarshallerStrategy;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerException;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.Any;
+import com.google.protobuf.UnsafeByteOperations;
+
+/**
+ * Stores {@link JsonNode} values using the Smile binary encoding, which avoids the whitespace and
+ * text parsing overhead of {@link ProtobufJsonNodeMessageMarshaller}.
+ * Values written with the legacy text format are still readable.
+ * <p>
+ * Binary values cannot be read by versions without this strategy, nor queried as json by the storage,
+ * therefore values are only written with this encoding when the <code>kogito.serialization.jsonnode.binary</code>
+ * system property is set to true. Reading binary values is always supported.
+ */
+public class ProtobufBinaryJsonNodeMarshallerStrategy implements ObjectMarshallerStrategy {
+
+    public static final String BINARY_ENABLED_PROPERTY = "kogito.serialization.jsonnode.binary";
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder().build();
+
+    private final ProtobufJsonNodeMessageMarshaller legacyMarshaller = new ProtobufJsonNodeMessageMarshaller();
+    private final boolean marshallingEnabled;
+
+    public ProtobufBinaryJsonNodeMarshallerStrategy() {
+        this(Boolean.parseBoolean(System.getProperty(BINARY_ENABLED_PROPERTY, Boolean.FALSE.toString())));
+    }
+
+    public ProtobufBinaryJsonNodeMarshallerStrategy(boolean marshallingEnabled) {
+        this.marshallingEnabled = marshallingEnabled;
+    }
+
+    @Override
+    public Integer order() {
+        // when enabled, takes precedence over the legacy text based strategy when marshalling
+        return DEFAULT_ORDER + 1;
+    }
+
+    @Override
+    public boolean acceptForMarshalling(Object value) {
+        return marshallingEnabled && value instanceof JsonNode;
+    }
+
+    @Override
+    public boolean acceptForUnmarshalling(Any value) {
+        return value.is(KogitoTypesProtobuf.BinaryJsonNode.class) || legacyMarshaller.acceptForUnmarshalling(value);
+    }
+
+    @Override
+    public Any marshall(Object unmarshalled) {
+        try {
+            return Any.pack(KogitoTypesProtobuf.BinaryJsonNode.newBuilder()
+                    .setContent(UnsafeByteOperations.unsafeWrap(SMILE_MAPPER.writeValueAsBytes(unmarshalled)))
+                    .build());
+        } catch (IOException e) {
+            throw new ProcessInstanceMarshallerException("Error trying to marshalling a Json Node value", e);
+        }
+    }
+
+    @Override
+    public Object unmarshall(Any data) {
+        if (!data.is(KogitoTypesProtobuf.BinaryJsonNode.class)) {
+            return legacyMarshaller.unmarshall(data);
+        }
+        try {
+            KogitoTypesProtobuf.BinaryJsonNode storedValue = data.unpack(KogitoTypesProtobuf.BinaryJsonNode.class);
+            return SMILE_MAPPER.readTree(storedValue.getContent().newInput());
+        } catch (IOException e) {
+            throw new ProcessInstanceMarshallerException("Error trying to unmarshalling a Json Node value", e);
+        }
+    }
+}
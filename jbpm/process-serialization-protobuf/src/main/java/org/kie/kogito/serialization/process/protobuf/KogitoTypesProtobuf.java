@@ -595,6 +595,498 @@ public final class KogitoTypesProtobuf {
 
   }
 
+  public interface BinaryJsonNodeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.kie.kogito.serialization.process.protobuf.BinaryJsonNode)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes content = 1;</code>
+     * @return The content.
+     */
+    com.google.protobuf.ByteString getContent();
+  }
+  /**
+   * Protobuf type {@code org.kie.kogito.serialization.process.protobuf.BinaryJsonNode}
+   */
+  public static final class BinaryJsonNode extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:org.kie.kogito.serialization.process.protobuf.BinaryJsonNode)
+      BinaryJsonNodeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BinaryJsonNode.newBuilder() to construct.
+    private BinaryJsonNode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BinaryJsonNode() {
+      content_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BinaryJsonNode();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BinaryJsonNode(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              content_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode.class, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode.Builder.class);
+    }
+
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString content_;
+    /**
+     * <code>bytes content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getContent() {
+      return content_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!content_.isEmpty()) {
+        output.writeBytes(1, content_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!content_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, content_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode)) {
+        return super.equals(obj);
+      }
+      org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode other = (org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode) obj;
+
+      if (!getContent()
+          .equals(other.getContent())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+      hash = (53 * hash) + getContent().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.kie.kogito.serialization.process.protobuf.BinaryJsonNode}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.kie.kogito.serialization.process.protobuf.BinaryJsonNode)
+        org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNodeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode.class, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode.Builder.class);
+      }
+
+      // Construct using org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        content_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_descriptor;
+      }
+
+      @java.lang.Override
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode getDefaultInstanceForType() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode build() {
+        org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode buildPartial() {
+        org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode result = new org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode(this);
+        result.content_ = content_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode) {
+          return mergeFrom((org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode other) {
+        if (other == org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode.getDefaultInstance()) return this;
+        if (other.getContent() != com.google.protobuf.ByteString.EMPTY) {
+          setContent(other.getContent());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString content_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes content = 1;</code>
+       * @return The content.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getContent() {
+        return content_;
+      }
+      /**
+       * <code>bytes content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        content_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        
+        content_ = getDefaultInstance().getContent();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:org.kie.kogito.serialization.process.protobuf.BinaryJsonNode)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.kie.kogito.serialization.process.protobuf.BinaryJsonNode)
+    private static final org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode();
+    }
+
+    public static org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BinaryJsonNode>
+        PARSER = new com.google.protobuf.AbstractParser<BinaryJsonNode>() {
+      @java.lang.Override
+      public BinaryJsonNode parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BinaryJsonNode(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BinaryJsonNode> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BinaryJsonNode> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.BinaryJsonNode getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   public interface VariableOrBuilder extends
       // @@protoc_insertion_point(interface_extends:org.kie.kogito.serialization.process.protobuf.Variable)
       com.google.protobuf.MessageOrBuilder {
@@ -7620,6 +8112,11 @@ public final class KogitoTypesProtobuf {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_kie_kogito_serialization_process_protobuf_JsonNode_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_kie_kogito_serialization_process_protobuf_Variable_descriptor;
   private static final 
@@ -7668,34 +8165,35 @@ public final class KogitoTypesProtobuf {
       "rotobuf/kogito_types.proto\022-org.kie.kogi" +
       "to.serialization.process.protobuf\032\031googl" +
       "e/protobuf/any.proto\"\033\n\010JsonNode\022\017\n\007cont" +
-      "ent\030\001 \001(\t\"_\n\010Variable\022\014\n\004name\030\001 \001(\t\022\021\n\td" +
-      "ata_type\030\002 \001(\t\022(\n\005value\030\003 \001(\0132\024.google.p" +
-      "rotobuf.AnyH\000\210\001\001B\010\n\006_value\"\361\001\n\014NodeInsta" +
-      "nce\022\n\n\002id\030\001 \001(\t\022\017\n\007node_id\030\002 \001(\003\022%\n\007cont" +
-      "ent\030\003 \001(\0132\024.google.protobuf.Any\022\022\n\005level" +
-      "\030\004 \001(\005H\000\210\001\001\022\031\n\014trigger_date\030\005 \001(\003H\001\210\001\001\022K" +
-      "\n\003sla\030\006 \001(\01329.org.kie.kogito.serializati" +
-      "on.process.protobuf.SLAContextH\002\210\001\001B\010\n\006_" +
-      "levelB\017\n\r_trigger_dateB\006\n\004_sla\"\343\002\n\017Workf" +
-      "lowContext\022I\n\010variable\030\001 \003(\01327.org.kie.k" +
-      "ogito.serialization.process.protobuf.Var" +
-      "iable\022R\n\rnode_instance\030\002 \003(\0132;.org.kie.k" +
-      "ogito.serialization.process.protobuf.Nod" +
-      "eInstance\022Y\n\017exclusive_group\030\003 \003(\0132@.org" +
-      ".kie.kogito.serialization.process.protob" +
-      "uf.NodeInstanceGroup\022V\n\017iterationLevels\030" +
-      "\004 \003(\0132=.org.kie.kogito.serialization.pro" +
-      "cess.protobuf.IterationLevel\"Y\n\017Swimlane" +
-      "Context\022\025\n\010swimlane\030\001 \001(\tH\000\210\001\001\022\025\n\010actor_" +
-      "id\030\002 \001(\tH\001\210\001\001B\013\n\t_swimlaneB\013\n\t_actor_id\"" +
-      "\224\001\n\nSLAContext\022\031\n\014sla_timer_id\030\001 \001(\tH\000\210\001" +
-      "\001\022\031\n\014sla_due_date\030\002 \001(\003H\001\210\001\001\022\033\n\016sla_comp" +
-      "liance\030\003 \001(\005H\002\210\001\001B\017\n\r_sla_timer_idB\017\n\r_s" +
-      "la_due_dateB\021\n\017_sla_compliance\"F\n\016Iterat" +
-      "ionLevel\022\017\n\002id\030\001 \001(\tH\000\210\001\001\022\022\n\005level\030\002 \001(\005" +
-      "H\001\210\001\001B\005\n\003_idB\010\n\006_level\"3\n\021NodeInstanceGr" +
-      "oup\022\036\n\026group_node_instance_id\030\001 \003(\tB\025B\023K" +
-      "ogitoTypesProtobufb\006proto3"
+      "ent\030\001 \001(\t\"!\n\016BinaryJsonNode\022\017\n\007content\030\001" +
+      " \001(\014\"_\n\010Variable\022\014\n\004name\030\001 \001(\t\022\021\n\tdata_t" +
+      "ype\030\002 \001(\t\022(\n\005value\030\003 \001(\0132\024.google.protob" +
+      "uf.AnyH\000\210\001\001B\010\n\006_value\"\361\001\n\014NodeInstance\022\n" +
+      "\n\002id\030\001 \001(\t\022\017\n\007node_id\030\002 \001(\003\022%\n\007content\030\003" +
+      " \001(\0132\024.google.protobuf.Any\022\022\n\005level\030\004 \001(" +
+      "\005H\000\210\001\001\022\031\n\014trigger_date\030\005 \001(\003H\001\210\001\001\022K\n\003sla" +
+      "\030\006 \001(\01329.org.kie.kogito.serialization.pr" +
+      "ocess.protobuf.SLAContextH\002\210\001\001B\010\n\006_level" +
+      "B\017\n\r_trigger_dateB\006\n\004_sla\"\343\002\n\017WorkflowCo" +
+      "ntext\022I\n\010variable\030\001 \003(\01327.org.kie.kogito" +
+      ".serialization.process.protobuf.Variable" +
+      "\022R\n\rnode_instance\030\002 \003(\0132;.org.kie.kogito" +
+      ".serialization.process.protobuf.NodeInst" +
+      "ance\022Y\n\017exclusive_group\030\003 \003(\0132@.org.kie." +
+      "kogito.serialization.process.protobuf.No" +
+      "deInstanceGroup\022V\n\017iterationLevels\030\004 \003(\013" +
+      "2=.org.kie.kogito.serialization.process." +
+      "protobuf.IterationLevel\"Y\n\017SwimlaneConte" +
+      "xt\022\025\n\010swimlane\030\001 \001(\tH\000\210\001\001\022\025\n\010actor_id\030\002 " +
+      "\001(\tH\001\210\001\001B\013\n\t_swimlaneB\013\n\t_actor_id\"\224\001\n\nS" +
+      "LAContext\022\031\n\014sla_timer_id\030\001 \001(\tH\000\210\001\001\022\031\n\014" +
+      "sla_due_date\030\002 \001(\003H\001\210\001\001\022\033\n\016sla_complianc" +
+      "e\030\003 \001(\005H\002\210\001\001B\017\n\r_sla_timer_idB\017\n\r_sla_du" +
+      "e_dateB\021\n\017_sla_compliance\"F\n\016IterationLe" +
+      "vel\022\017\n\002id\030\001 \001(\tH\000\210\001\001\022\022\n\005level\030\002 \001(\005H\001\210\001\001" +
+      "B\005\n\003_idB\010\n\006_level\"3\n\021NodeInstanceGroup\022\036" +
+      "\n\026group_node_instance_id\030\001 \003(\tB\025B\023Kogito" +
+      "TypesProtobufb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -7708,44 +8206,50 @@ public final class KogitoTypesProtobuf {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_JsonNode_descriptor,
         new java.lang.String[] { "Content", });
-    internal_static_org_kie_kogito_serialization_process_protobuf_Variable_descriptor =
+    internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_kie_kogito_serialization_process_protobuf_BinaryJsonNode_descriptor,
+        new java.lang.String[] { "Content", });
+    internal_static_org_kie_kogito_serialization_process_protobuf_Variable_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_org_kie_kogito_serialization_process_protobuf_Variable_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_Variable_descriptor,
         new java.lang.String[] { "Name", "DataType", "Value", "Value", });
     internal_static_org_kie_kogito_serialization_process_protobuf_NodeInstance_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(3);
     internal_static_org_kie_kogito_serialization_process_protobuf_NodeInstance_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_NodeInstance_descriptor,
         new java.lang.String[] { "Id", "NodeId", "Content", "Level", "TriggerDate", "Sla", "Level", "TriggerDate", "Sla", });
     internal_static_org_kie_kogito_serialization_process_protobuf_WorkflowContext_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_org_kie_kogito_serialization_process_protobuf_WorkflowContext_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_WorkflowContext_descriptor,
         new java.lang.String[] { "Variable", "NodeInstance", "ExclusiveGroup", "IterationLevels", });
     internal_static_org_kie_kogito_serialization_process_protobuf_SwimlaneContext_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_org_kie_kogito_serialization_process_protobuf_SwimlaneContext_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_SwimlaneContext_descriptor,
         new java.lang.String[] { "Swimlane", "ActorId", "Swimlane", "ActorId", });
     internal_static_org_kie_kogito_serialization_process_protobuf_SLAContext_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_org_kie_kogito_serialization_process_protobuf_SLAContext_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_SLAContext_descriptor,
         new java.lang.String[] { "SlaTimerId", "SlaDueDate", "SlaCompliance", "SlaTimerId", "SlaDueDate", "SlaCompliance", });
     internal_static_org_kie_kogito_serialization_process_protobuf_IterationLevel_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_org_kie_kogito_serialization_process_protobuf_IterationLevel_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_IterationLevel_descriptor,
         new java.lang.String[] { "Id", "Level", "Id", "Level", });
     internal_static_org_kie_kogito_serialization_process_protobuf_NodeInstanceGroup_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_org_kie_kogito_serialization_process_protobuf_NodeInstanceGroup_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_kie_kogito_serialization_process_protobuf_NodeInstanceGroup_descriptor,
@@ -36,17 +36,22 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jbpm.process.core.context.variable.Variable;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.serialization.process.impl.ProtobufMarshallerReaderContext;
 import org.kie.kogito.serialization.process.impl.ProtobufProcessMarshallerWriteContext;
 import org.kie.kogito.serialization.process.impl.ProtobufVariableReader;
 import org.kie.kogito.serialization.process.impl.ProtobufVariableWriter;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf;
 import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.util.JsonFormat;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -126,6 +131,50 @@ public class ProcessInstanceMarshallTest {
         assertThat(unmarshalledVars.get(0).getValue()).isEqualTo(toMarshall);
     }
 
+    @Test
+    public void testReadHeader() {
+        KogitoProcessInstanceProtobuf.ProcessInstance processInstance = processInstanceProtobuf().setBusinessKey("key").build();
+        ProcessInstanceMarshallerService marshaller = ProcessInstanceMarshallerService.newBuilder().build();
+
+        ProcessInstanceHeader header = marshaller.unmarshallProcessInstanceHeader(processInstance.toByteArray(), 3L);
+        assertThat(header).isEqualTo(new ProcessInstanceHeader("instanceId", ProcessInstance.STATE_ACTIVE, "key", 3L, new Date(1000L)));
+    }
+
+    @Test
+    public void testReadHeaderWithoutOptionalFields() {
+        KogitoProcessInstanceProtobuf.ProcessInstance processInstance = processInstanceProtobuf().clearStartDate().build();
+        ProcessInstanceMarshallerService marshaller = ProcessInstanceMarshallerService.newBuilder().build();
+
+        ProcessInstanceHeader header = marshaller.unmarshallProcessInstanceHeader(processInstance.toByteArray());
+        assertThat(header).isEqualTo(new ProcessInstanceHeader("instanceId", ProcessInstance.STATE_ACTIVE, null, 0L, null));
+    }
+
+    @Test
+    public void testReadHeaderFromJson() throws Exception {
+        KogitoProcessInstanceProtobuf.ProcessInstance processInstance = processInstanceProtobuf().setBusinessKey("key").build();
+        ProcessInstanceMarshallerService marshaller = ProcessInstanceMarshallerService.newBuilder()
+                .withContextEntries(singletonMap(MarshallerContextName.MARSHALLER_FORMAT, MarshallerContextName.MARSHALLER_FORMAT_JSON))
+                .build();
+
+        ProcessInstanceHeader header = marshaller.unmarshallProcessInstanceHeader(JsonFormat.printer().print(processInstance).getBytes(), 2L);
+        assertThat(header).isEqualTo(new ProcessInstanceHeader("instanceId", ProcessInstance.STATE_ACTIVE, "key", 2L, new Date(1000L)));
+    }
+
+    private KogitoProcessInstanceProtobuf.ProcessInstance.Builder processInstanceProtobuf() {
+        return KogitoProcessInstanceProtobuf.ProcessInstance.newBuilder()
+                .setProcessType("RuleFlow")
+                .setProcessId("processId")
+                .setId("instanceId")
+                .setDescription("description")
+                .setState(ProcessInstance.STATE_ACTIVE)
+                .setStartDate(1000L)
+                .setSla(KogitoTypesProtobuf.SLAContext.newBuilder().setSlaDueDate(2000L).build())
+                .addCompletedNodeIds("node1")
+                .setContext(KogitoTypesProtobuf.WorkflowContext.newBuilder()
+                        .addNodeInstance(KogitoTypesProtobuf.NodeInstance.newBuilder().setId("nodeInstanceId").setNodeId(2L).build())
+                        .build());
+    }
+
     private ObjectMarshallerStrategy[] defaultStrategies() {
         List<ObjectMarshallerStrategy> strats = new ArrayList<>();
         ServiceLoader<ObjectMarshallerStrategy> loader = ServiceLoader.load(ObjectMarshallerStrategy.class);
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serialization.process.impl.marshallers;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.protobuf.Any;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProtobufBinaryJsonNodeMarshallerStrategyTest {
+
+    private final ProtobufBinaryJsonNodeMarshallerStrategy strategy = new ProtobufBinaryJsonNodeMarshallerStrategy(true);
+
+    @Test
+    void testTextRemainsDefaultForMarshalling() throws Exception {
+        JsonNode node = ObjectMapperFactory.get().readTree("{ \"key\" : \"value\" }");
+
+        assertThat(new ProtobufBinaryJsonNodeMarshallerStrategy().acceptForMarshalling(node)).isFalse();
+        assertThat(new ProtobufBinaryJsonNodeMarshallerStrategy().acceptForUnmarshalling(strategy.marshall(node))).isTrue();
+        assertThat(strategy.acceptForMarshalling(node)).isTrue();
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        JsonNode node = ObjectMapperFactory.get().readTree("{ \"name\" : \"javierito\", \"age\" : 35, \"salary\" : 1234.56, \"tags\" : [ \"a\", \"b\" ], \"address\" : { \"zip\" : null } }");
+        Any marshalled = strategy.marshall(node);
+
+        assertThat(marshalled.is(KogitoTypesProtobuf.BinaryJsonNode.class)).isTrue();
+        assertThat(strategy.acceptForUnmarshalling(marshalled)).isTrue();
+        assertThat(strategy.unmarshall(marshalled)).isEqualTo(node);
+    }
+
+    @Test
+    void testBinaryIsSmallerThanText() throws Exception {
+        JsonNode node = ObjectMapperFactory.get().readTree("{ \"items\" : [ { \"id\" : 1, \"value\" : 10 }, { \"id\" : 2, \"value\" : 20 }, { \"id\" : 3, \"value\" : 30 } ] }");
+        Any binary = strategy.marshall(node);
+        Any text = new ProtobufJsonNodeMessageMarshaller().marshall(node);
+
+        assertThat(binary.getValue().size()).isLessThan(text.getValue().size());
+    }
+
+    @Test
+    void testReadLegacyTextFormat() throws Exception {
+        JsonNode node = ObjectMapperFactory.get().readTree("{ \"key\" : \"value\" }");
+        Any legacy = new ProtobufJsonNodeMessageMarshaller().marshall(node);
+
+        assertThat(strategy.acceptForUnmarshalling(legacy)).isTrue();
+        assertThat(strategy.unmarshall(legacy)).isEqualTo(node);
+    }
+}
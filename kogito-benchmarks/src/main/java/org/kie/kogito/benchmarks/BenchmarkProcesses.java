@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.io.ClassPathResource;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstancesFactory;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+
+/**
+ * Fixtures shared by the benchmarks. Every instance is left waiting on a multi instance user task, so the number
+ * of node instances and work items grows with the size of the <code>list</code> variable.
+ */
+final class BenchmarkProcesses {
+
+    static final String MULTI_INSTANCE_TASK = "BPMN2-MultiInstanceLoopCharacteristicsTask.bpmn2";
+    static final String EVENT_STATE_WORKFLOW = "benchmark-event-state.sw.json";
+
+    private BenchmarkProcesses() {
+    }
+
+    static BpmnProcess multiInstanceProcess(ProcessInstancesFactory factory) {
+        BpmnProcess process = BpmnProcess.from(new ClassPathResource(MULTI_INSTANCE_TASK)).get(0);
+        if (factory != null) {
+            process.setProcessInstancesFactory(factory);
+        }
+        process.configure();
+        return process;
+    }
+
+    static ProcessInstance<BpmnVariables> startMultiInstance(BpmnProcess process, int workItems, int variables, int payloadSize) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> items = new ArrayList<>(workItems);
+        for (int i = 0; i < workItems; i++) {
+            items.add("item" + i);
+        }
+        parameters.put("list", items);
+        String payload = payload(payloadSize);
+        for (int i = 0; i < variables; i++) {
+            parameters.put("var" + i, payload);
+        }
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(parameters));
+        processInstance.start();
+        return processInstance;
+    }
+
+    static String payload(int size) {
+        StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        return sb.toString();
+    }
+}
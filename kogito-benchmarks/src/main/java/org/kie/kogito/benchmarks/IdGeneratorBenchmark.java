@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.id.IdGenerator;
+import org.kie.kogito.id.IdGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares random and time ordered identifiers: raw generation cost, alone and under contention, and the cost of inserting
+ * them into an ordered index already holding a large number of keys, which is what a database primary key does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    @Param({ IdGenerators.RANDOM, IdGenerators.TIME_ORDERED })
+    String generator;
+
+    @Param({ "1000000" })
+    int indexSize;
+
+    private IdGenerator idGenerator;
+    private TreeMap<String, Boolean> index;
+
+    @Setup
+    public void setup() {
+        idGenerator = IdGenerators.create(generator);
+    }
+
+    @Setup(Level.Iteration)
+    public void fillIndex() {
+        index = new TreeMap<>();
+        for (int i = 0; i < indexSize; i++) {
+            index.put(idGenerator.generate(), Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return idGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return idGenerator.generate();
+    }
+
+    @Benchmark
+    public Boolean insertIntoIndex() {
+        return index.put(idGenerator.generate(), Boolean.TRUE);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.kie.kogito.serialization.process.ObjectMarshallerStrategy;
+import org.kie.kogito.serialization.process.impl.marshallers.ProtobufBinaryJsonNodeMarshallerStrategy;
+import org.kie.kogito.serialization.process.impl.marshallers.ProtobufJsonNodeMessageMarshaller;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.Any;
+
+/**
+ * Compares the text and the Smile based encodings of {@link JsonNode} variables, for documents from 1KB to 1MB.
+ * The size of the stored value for every combination is reported as the <code>encodedBytes</code> secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonNodeMarshallerBenchmark {
+
+    @Param({ "text", "smile" })
+    String encoding;
+
+    @Param({ "1024", "65536", "1048576" })
+    int documentSize;
+
+    private ObjectMarshallerStrategy strategy;
+    private JsonNode document;
+    private Any data;
+
+    @Setup
+    public void setup() {
+        strategy = "smile".equals(encoding) ? new ProtobufBinaryJsonNodeMarshallerStrategy(true) : new ProtobufJsonNodeMessageMarshaller();
+        document = createDocument(documentSize);
+        data = strategy.marshall(document);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long encodedBytes;
+    }
+
+    private static JsonNode createDocument(int size) {
+        ObjectNode root = ObjectMapperFactory.get().createObjectNode();
+        ArrayNode records = root.putArray("records");
+        int approximateSize = 0;
+        for (int i = 0; approximateSize < size; i++) {
+            ObjectNode record = records.addObject()
+                    .put("id", i)
+                    .put("name", "record" + i)
+                    .put("active", i % 2 == 0)
+                    .put("amount", i * 1.5d);
+            approximateSize += record.toString().length();
+        }
+        return root;
+    }
+
+    @Benchmark
+    public Any marshall(EncodedSize size) {
+        Any marshalled = strategy.marshall(document);
+        size.encodedBytes = marshalled.getValue().size();
+        return marshalled;
+    }
+
+    @Benchmark
+    public Object unmarshall() {
+        return strategy.unmarshall(data);
+    }
+}
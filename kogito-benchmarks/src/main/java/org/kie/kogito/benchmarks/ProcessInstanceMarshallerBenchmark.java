@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the protobuf marshaller on a BPMN instance with a growing number of node instances, work items and variables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessInstanceMarshallerBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int workItems;
+
+    @Param({ "1", "10", "50" })
+    int variables;
+
+    @Param({ "16", "1024" })
+    int payloadSize;
+
+    private BpmnProcess process;
+    private ProcessInstance<BpmnVariables> processInstance;
+    private ProcessInstanceMarshallerService marshaller;
+    private byte[] data;
+    private AbstractProcessInstance<?> reloadTarget;
+    private Consumer<AbstractProcessInstance<?>> reloadFunction;
+
+    @Setup
+    public void setup() {
+        process = BenchmarkProcesses.multiInstanceProcess(null);
+        processInstance = BenchmarkProcesses.startMultiInstance(process, workItems, variables, payloadSize);
+        marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
+        data = marshaller.marshallProcessInstance(processInstance);
+        reloadTarget = (AbstractProcessInstance<?>) marshaller.unmarshallProcessInstance(data, process, ProcessInstanceReadMode.MUTABLE);
+        reloadFunction = marshaller.createdReloadFunction(() -> data);
+    }
+
+    @Benchmark
+    public byte[] marshall() {
+        return marshaller.marshallProcessInstance(processInstance);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshallMutable() {
+        return marshaller.unmarshallProcessInstance(data, process, ProcessInstanceReadMode.MUTABLE);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshallReadOnly() {
+        return marshaller.unmarshallProcessInstance(data, process, ProcessInstanceReadMode.READ_ONLY);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> reload() {
+        reloadFunction.accept(reloadTarget);
+        return reloadTarget;
+    }
+}
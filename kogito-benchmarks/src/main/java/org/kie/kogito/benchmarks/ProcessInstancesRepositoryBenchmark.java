@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.kie.kogito.persistence.filesystem.AbstractProcessInstancesFactory;
+import org.kie.kogito.persistence.rocksdb.RocksDBProcessInstancesFactory;
+import org.kie.kogito.process.MutableProcessInstances;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.ProcessInstancesFactory;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+
+/**
+ * Measures the embedded process instance repositories: the default in memory map, the file system add-on and the RocksDB add-on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessInstancesRepositoryBenchmark {
+
+    @Param({ "map", "filesystem", "rocksdb" })
+    String repository;
+
+    @Param({ "1", "10", "100" })
+    int workItems;
+
+    private Path storage;
+    private Options options;
+    private RocksDBProcessInstancesFactory rocksDBFactory;
+    private MutableProcessInstances<BpmnVariables> instances;
+    private ProcessInstance<BpmnVariables> processInstance;
+
+    @Setup
+    public void setup() throws IOException, RocksDBException {
+        storage = Files.createTempDirectory("kogito-benchmarks");
+        BpmnProcess process = BenchmarkProcesses.multiInstanceProcess(createFactory());
+        instances = (MutableProcessInstances<BpmnVariables>) process.instances();
+        processInstance = BenchmarkProcesses.startMultiInstance(process, workItems, 1, 16);
+    }
+
+    private ProcessInstancesFactory createFactory() throws RocksDBException {
+        switch (repository) {
+            case "filesystem":
+                return new AbstractProcessInstancesFactory(storage.toString()) {
+                };
+            case "rocksdb":
+                options = new Options().setCreateIfMissing(true);
+                rocksDBFactory = new RocksDBProcessInstancesFactory(options, storage.toString());
+                return rocksDBFactory;
+            default:
+                return null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (rocksDBFactory != null) {
+            rocksDBFactory.close();
+            options.close();
+        }
+        try (Stream<Path> files = Files.walk(storage)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ProcessInstance<BpmnVariables> update() {
+        instances.update(processInstance.id(), processInstance);
+        return processInstance;
+    }
+
+    @Benchmark
+    public ProcessInstance<BpmnVariables> findByIdMutable() {
+        return instances.findById(processInstance.id(), ProcessInstanceReadMode.MUTABLE).orElseThrow();
+    }
+
+    @Benchmark
+    public ProcessInstance<BpmnVariables> findByIdReadOnly() {
+        return instances.findById(processInstance.id(), ProcessInstanceReadMode.READ_ONLY).orElseThrow();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
+import org.kie.kogito.serverless.workflow.executor.StaticWorkflowApplication;
+import org.kie.kogito.serverless.workflow.models.JsonNodeModel;
+import org.kie.kogito.serverless.workflow.utils.ServerlessWorkflowUtils;
+import org.kie.kogito.serverless.workflow.utils.WorkflowFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Measures the protobuf marshaller on a serverless workflow instance waiting on an event state, with a growing workflow data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkflowMarshallerBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int variables;
+
+    @Param({ "16", "1024" })
+    int payloadSize;
+
+    private StaticWorkflowApplication application;
+    private Process<JsonNodeModel> process;
+    private ProcessInstance<JsonNodeModel> processInstance;
+    private ProcessInstanceMarshallerService marshaller;
+    private byte[] data;
+    private AbstractProcessInstance<?> reloadTarget;
+    private Consumer<AbstractProcessInstance<?>> reloadFunction;
+
+    @Setup
+    public void setup() throws IOException {
+        application = StaticWorkflowApplication.create();
+        try (Reader reader = new InputStreamReader(getClass().getClassLoader().getResourceAsStream(BenchmarkProcesses.EVENT_STATE_WORKFLOW), StandardCharsets.UTF_8)) {
+            process = application.process(ServerlessWorkflowUtils.getWorkflow(reader, WorkflowFormat.JSON));
+        }
+        ObjectNode workflowData = ObjectMapperFactory.get().createObjectNode();
+        String payload = BenchmarkProcesses.payload(payloadSize);
+        for (int i = 0; i < variables; i++) {
+            workflowData.put("var" + i, payload);
+        }
+        processInstance = process.createInstance(new JsonNodeModel(workflowData));
+        processInstance.start();
+        marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
+        data = marshaller.marshallProcessInstance(processInstance);
+        reloadTarget = (AbstractProcessInstance<?>) marshaller.unmarshallProcessInstance(data, process, ProcessInstanceReadMode.MUTABLE);
+        reloadFunction = marshaller.createdReloadFunction(() -> data);
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public byte[] marshall() {
+        return marshaller.marshallProcessInstance(processInstance);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshallMutable() {
+        return marshaller.unmarshallProcessInstance(data, process, ProcessInstanceReadMode.MUTABLE);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshallReadOnly() {
+        return marshaller.unmarshallProcessInstance(data, process, ProcessInstanceReadMode.READ_ONLY);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> reload() {
+        reloadFunction.accept(reloadTarget);
+        return reloadTarget;
+    }
+}
@@ -152,6 +152,20 @@ public class ProcessGenerator {
         return compilationUnit;
     }
 
+    private void configInjection(Parameter parameter) {
+        parameter.getAnnotationByName("ConfigProperty").ifPresent(annotation -> {
+            annotation.remove();
+            if (context.hasDI()) {
+                String configKey = annotation.asNormalAnnotationExpr().getPairs().stream()
+                        .filter(pair -> pair.getNameAsString().equals("name"))
+                        .map(pair -> pair.getValue().asStringLiteralExpr().asString())
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("Missing config key in " + annotation));
+                context.getDependencyInjectionAnnotator().withConfigInjection(parameter, configKey);
+            }
+        });
+    }
+
     private MethodDeclaration createInstanceMethod(String processInstanceFQCN) {
         MethodDeclaration methodDeclaration = new MethodDeclaration();
 
@@ -444,6 +458,8 @@ public class ProcessGenerator {
                                                             "Cannot find a non empty constructor to annotate in handler class " +
                                                                     handlerClazz)));
                 }
+                // handler templates mark the parameters taken from the application configuration
+                handlerClazz.findAll(Parameter.class).forEach(this::configInjection);
 
                 initMethodCall
                         .addArgument(
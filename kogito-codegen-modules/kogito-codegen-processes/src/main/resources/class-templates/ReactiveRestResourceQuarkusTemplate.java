@@ -36,10 +36,13 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import org.jbpm.util.JsonSchemaUtil;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.ProcessService;
 import org.kie.kogito.process.workitem.Attachment;
@@ -79,8 +82,23 @@ public class $Type$ReactiveResource {
 
     @GET()
     @Produces(MediaType.APPLICATION_JSON)
-    public CompletionStage<List<$Type$Output>> getResources_$name$() {
-        return CompletableFuture.supplyAsync(() -> processService.getProcessInstanceOutput(process));
+    public CompletionStage<Response> getResources_$name$(@QueryParam("pageSize") Integer pageSize,
+                                                         @QueryParam("cursor") String cursor,
+                                                         @QueryParam("state") Integer state,
+                                                         @QueryParam("businessKey") String businessKey,
+                                                         @QueryParam("startedFrom") String startedFrom,
+                                                         @QueryParam("startedTo") String startedTo) {
+        return CompletableFuture.supplyAsync(() -> {
+            ProcessInstancePage<$Type$Output> page = processService.getProcessInstanceOutput(process,
+                                                                                             ProcessInstanceFilter.of(state, businessKey, startedFrom, startedTo),
+                                                                                             cursor,
+                                                                                             pageSize);
+            Response.ResponseBuilder response = Response.ok(page.items());
+            if (page.hasNext()) {
+                response.header("X-KOGITO-NextCursor", page.nextCursor());
+            }
+            return response.build();
+        });
     }
 
     @GET()
@@ -43,10 +43,16 @@ import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.core.Response.Status;
 
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jbpm.util.JsonSchemaUtil;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.ProcessService;
 import org.kie.kogito.process.workitem.Attachment;
@@ -87,8 +93,22 @@ public class $Type$Resource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @Operation(summary = "$documentation$", description = "$processInstanceDescription$")
-    public List<$Type$Output> getResources_$name$() {
-        return processService.getProcessInstanceOutput(process);
+    @APIResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = $Type$Output.class)))
+    public Response getResources_$name$(@QueryParam("pageSize") Integer pageSize,
+                                        @QueryParam("cursor") String cursor,
+                                        @QueryParam("state") Integer state,
+                                        @QueryParam("businessKey") String businessKey,
+                                        @QueryParam("startedFrom") String startedFrom,
+                                        @QueryParam("startedTo") String startedTo) {
+        ProcessInstancePage<$Type$Output> page = processService.getProcessInstanceOutput(process,
+                                                                                         ProcessInstanceFilter.of(state, businessKey, startedFrom, startedTo),
+                                                                                         cursor,
+                                                                                         pageSize);
+        Response.ResponseBuilder response = Response.ok(page.items());
+        if (page.hasNext()) {
+            response.header("X-KOGITO-NextCursor", page.nextCursor());
+        }
+        return response.build();
     }
 
     @GET
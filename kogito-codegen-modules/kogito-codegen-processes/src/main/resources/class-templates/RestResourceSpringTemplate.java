@@ -25,6 +25,8 @@ import java.util.stream.Collectors;
 import org.jbpm.util.JsonSchemaUtil;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.ProcessService;
 import org.kie.kogito.process.workitem.Attachment;
@@ -85,8 +87,21 @@ public class $Type$Resource {
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "$documentation$", description = "$processInstanceDescription$")
-    public List<$Type$Output> getResources_$name$() {
-        return processService.getProcessInstanceOutput(process);
+    public ResponseEntity<List<$Type$Output>> getResources_$name$(@RequestParam(value = "pageSize", required = false) Integer pageSize,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                                  @RequestParam(value = "state", required = false) Integer state,
+                                                                  @RequestParam(value = "businessKey", required = false) String businessKey,
+                                                                  @RequestParam(value = "startedFrom", required = false) String startedFrom,
+                                                                  @RequestParam(value = "startedTo", required = false) String startedTo) {
+        ProcessInstancePage<$Type$Output> page = processService.getProcessInstanceOutput(process,
+                                                                                         ProcessInstanceFilter.of(state, businessKey, startedFrom, startedTo),
+                                                                                         cursor,
+                                                                                         pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header("X-KOGITO-NextCursor", page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @GetMapping(value = "/schema", produces = MediaType.APPLICATION_JSON_VALUE)
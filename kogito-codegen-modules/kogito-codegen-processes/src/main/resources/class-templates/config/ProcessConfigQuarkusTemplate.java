@@ -39,7 +39,10 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
             Instance<EventPublisher> eventPublishers,
             org.kie.kogito.config.ConfigBean configBean,
             Instance<UnitOfWorkEventListener> unitOfWorkEventListeners,
-            Instance<ProcessVersionResolver> versionResolver) {
+            Instance<ProcessVersionResolver> versionResolver,
+            @org.eclipse.microprofile.config.inject.ConfigProperty(name = "kogito.events.processinstances.delta", defaultValue = "false") boolean deltaEvents,
+            @org.eclipse.microprofile.config.inject.ConfigProperty(name = "kogito.events.processinstances.delta.snapshotInterval", defaultValue = "20") int deltaSnapshotInterval,
+            @org.eclipse.microprofile.config.inject.ConfigProperty(name = "kogito.events.processinstances.delta.maxInstances", defaultValue = "10000") int deltaMaxInstances) {
 
         super(workItemHandlerConfig,
                 processEventListenerConfigs,
@@ -50,6 +53,9 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
                 configBean.getServiceUrl(),
                 unitOfWorkEventListeners,
                 versionResolver);
+        if (deltaEvents) {
+            enableDeltaEvents(deltaSnapshotInterval, deltaMaxInstances);
+        }
     }
 
 }
@@ -39,7 +39,10 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
             List<EventPublisher> eventPublishers,
             org.kie.kogito.config.ConfigBean configBean,
             List<UnitOfWorkEventListener> unitOfWorkEventListeners,
-            List<ProcessVersionResolver> versionResolver) {
+            List<ProcessVersionResolver> versionResolver,
+            @org.springframework.beans.factory.annotation.Value("${kogito.events.processinstances.delta:false}") boolean deltaEvents,
+            @org.springframework.beans.factory.annotation.Value("${kogito.events.processinstances.delta.snapshotInterval:20}") int deltaSnapshotInterval,
+            @org.springframework.beans.factory.annotation.Value("${kogito.events.processinstances.delta.maxInstances:10000}") int deltaMaxInstances) {
 
         super(workItemHandlerConfig,
                 processEventListenerConfigs,
@@ -50,5 +53,8 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
                 configBean.getServiceUrl(),
                 unitOfWorkEventListeners,
                 versionResolver);
+        if (deltaEvents) {
+            enableDeltaEvents(deltaSnapshotInterval, deltaMaxInstances);
+        }
     }
 }
@@ -37,16 +37,59 @@ import net.thisptr.jackson.jq.exception.JsonQueryException;
 
 public class JqExpression implements Expression {
 
+    private static final JsonNode SECRET_NODE = new FunctionJsonNode(ExpressionHandlerUtils::getSecret);
+
+    /**
+     * Evaluation scope reused by consecutive evaluations on the same thread, so a child scope is not allocated per call.
+     */
+    private static final ThreadLocal<EvaluationScope> evaluationScope = ThreadLocal.withInitial(EvaluationScope::new);
+
     private final Supplier<Scope> scope;
     private final String expr;
     private final Version version;
-    private JsonQuery query;
-    private JsonQueryException validationError;
+    private volatile JsonQuery query;
+    private volatile JsonQueryException validationError;
 
     public JqExpression(Supplier<Scope> scope, String expr, Version version) {
         this.expr = expr;
         this.scope = scope;
         this.version = version;
+        // expressions are built once per process definition, compile them here rather than on first evaluation
+        isValid();
+    }
+
+    private static class EvaluationScope {
+        private Scope parent;
+        private Scope scope;
+        private boolean inUse;
+
+        Scope acquire(Scope parent) {
+            if (inUse) {
+                // nested evaluation while the shared scope is being used, do not overwrite its values
+                return newScope(parent);
+            }
+            if (this.parent != parent) {
+                this.parent = parent;
+                this.scope = newScope(parent);
+            }
+            inUse = true;
+            return scope;
+        }
+
+        void release(Scope scope) {
+            if (scope == this.scope) {
+                // do not keep the process context reachable from the thread once the evaluation is done
+                scope.setValue(ExpressionHandlerUtils.CONTEXT_MAGIC, null);
+                scope.setValue(ExpressionHandlerUtils.CONST_MAGIC, null);
+                inUse = false;
+            }
+        }
+
+        private static Scope newScope(Scope parent) {
+            Scope childScope = Scope.newChildScope(parent);
+            childScope.setValue(ExpressionHandlerUtils.SECRET_MAGIC, SECRET_NODE);
+            return childScope;
+        }
     }
 
     private interface TypedOutput extends Output {
@@ -139,9 +182,8 @@ public class JqExpression implements Expression {
         ExpressionHandlerUtils.assign(targetNode, eval(targetNode, JsonNode.class, context), JsonObjectUtils.fromValue(value), expr);
     }
 
-    private Scope getScope(KogitoProcessContext processInfo) {
-        Scope childScope = Scope.newChildScope(scope.get());
-        childScope.setValue(ExpressionHandlerUtils.SECRET_MAGIC, new FunctionJsonNode(ExpressionHandlerUtils::getSecret));
+    private Scope getScope(EvaluationScope holder, KogitoProcessContext processInfo) {
+        Scope childScope = holder.acquire(scope.get());
         childScope.setValue(ExpressionHandlerUtils.CONTEXT_MAGIC, new FunctionJsonNode(ExpressionHandlerUtils.getContextFunction(processInfo)));
         childScope.setValue(ExpressionHandlerUtils.CONST_MAGIC, ExpressionHandlerUtils.getConstants(processInfo));
         return childScope;
@@ -150,23 +192,40 @@ public class JqExpression implements Expression {
     private <T> T eval(JsonNode context, Class<T> returnClass, KogitoProcessContext processInfo) {
         try (JsonNodeContext jsonNode = JsonNodeContext.from(context, processInfo)) {
             TypedOutput output = output(returnClass);
-            compile();
-            query.apply(getScope(processInfo), jsonNode.getNode(), output);
-            return JsonObjectUtils.convertValue(output.getResult(), returnClass);
+            JsonQuery compiled = compile();
+            EvaluationScope holder = evaluationScope.get();
+            Scope childScope = getScope(holder, processInfo);
+            try {
+                compiled.apply(childScope, jsonNode.getNode(), output);
+            } finally {
+                holder.release(childScope);
+            }
+            Object result = output.getResult();
+            if (result == jsonNode.getNode()) {
+                // the node holding the variables is a copy, hand back the workflow data so it can be assigned into
+                result = context;
+            }
+            return JsonObjectUtils.convertValue(result, returnClass);
         } catch (JsonQueryException e) {
             throw new IllegalArgumentException("Unable to evaluate content " + context + " using expr " + expr, e);
         }
     }
 
-    private void compile() throws JsonQueryException {
-        if (this.query == null) {
+    private JsonQuery compile() throws JsonQueryException {
+        JsonQuery compiled = this.query;
+        if (compiled == null) {
+            if (validationError != null) {
+                throw validationError;
+            }
             try {
-                this.query = JsonQuery.compile(expr, version);
+                compiled = JsonQuery.compile(expr, version);
+                this.query = compiled;
             } catch (JsonQueryException ex) {
                 validationError = ex;
                 throw ex;
             }
         }
+        return compiled;
     }
 
     @Override
@@ -19,6 +19,7 @@ import java.util.function.Supplier;
 
 import org.kie.kogito.process.expr.Expression;
 import org.kie.kogito.serverless.workflow.utils.CachedExpressionHandler;
+import org.kie.kogito.serverless.workflow.utils.ExpressionCache;
 import org.slf4j.LoggerFactory;
 
 import net.thisptr.jackson.jq.BuiltinFunctionLoader;
@@ -27,10 +28,14 @@ import net.thisptr.jackson.jq.Versions;
 
 public class JqExpressionHandler extends CachedExpressionHandler {
 
+    private static final String LANG = "jq";
+
     private static Supplier<Scope> scopeSupplier = new DefaultScopeSupplier();
 
     public static void setScopeSupplier(Supplier<Scope> scopeSupplier) {
         JqExpressionHandler.scopeSupplier = scopeSupplier;
+        // cached expressions were compiled with the previous scope
+        ExpressionCache.of(LANG).clear();
     }
 
     private static class DefaultScopeSupplier implements Supplier<Scope> {
@@ -56,6 +61,6 @@ public class JqExpressionHandler extends CachedExpressionHandler {
 
     @Override
     public String lang() {
-        return "jq";
+        return LANG;
     }
 }
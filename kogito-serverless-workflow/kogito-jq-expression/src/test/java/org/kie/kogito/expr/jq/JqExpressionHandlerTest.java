@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.expr.jq;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -35,6 +36,7 @@ import org.kie.kogito.process.expr.ExpressionHandlerFactory;
 import org.kie.kogito.serverless.workflow.test.MockBuilder;
 import org.kie.kogito.serverless.workflow.utils.ConfigResolver;
 import org.kie.kogito.serverless.workflow.utils.ConfigResolverHolder;
+import org.kie.kogito.serverless.workflow.utils.ExpressionHandlerUtils;
 import org.mockito.Mockito;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -42,6 +44,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 
+import net.thisptr.jackson.jq.Scope;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -253,6 +257,42 @@ class JqExpressionHandlerTest {
         assertThat(parsedExpression.eval(ObjectMapperFactory.get().createObjectNode(), JsonNode.class, getContext())).isEqualTo(new TextNode("1111-2222-3333"));
     }
 
+    @Test
+    void testNestedEvaluation() {
+        KogitoProcessContext nestedContext = MockBuilder.kogitoProcessContext()
+                .withProcessInstanceMock(p -> Mockito.when(p.getId()).thenReturn("4444-5555-6666"))
+                .withConstants(Collections.singletonMap("someconstant", "nested"))
+                .build();
+        Expression nestedExpression = ExpressionHandlerFactory.get("jq", "$CONST.someconstant + \"-\" + $WORKFLOW.instanceId");
+        KogitoProcessContext context = MockBuilder.kogitoProcessContext()
+                .withProcessInstanceMock(p -> Mockito.when(p.getId())
+                        .thenAnswer(invocation -> nestedExpression.eval(ObjectMapperFactory.get().createObjectNode(), String.class, nestedContext)))
+                .withConstants(Collections.singletonMap("someconstant", "value"))
+                .build();
+        Expression parsedExpression = ExpressionHandlerFactory.get("jq", "{id: $WORKFLOW.instanceId, constant: $CONST.someconstant}");
+        JsonNode result = parsedExpression.eval(ObjectMapperFactory.get().createObjectNode(), JsonNode.class, context);
+        assertThat(result.get("id").asText()).isEqualTo("nested-4444-5555-6666");
+        assertThat(result.get("constant").asText()).isEqualTo("value");
+    }
+
+    @Test
+    void testNoContextRetainedAfterEvaluation() throws ReflectiveOperationException {
+        ObjectNode node = getObjectNode();
+        ObjectNode original = node.deepCopy();
+        Expression parsedExpression = ExpressionHandlerFactory.get("jq", "$WORKFLOW.instanceId");
+        assertThat(parsedExpression.eval(node, String.class, getContext())).isEqualTo("1111-2222-3333");
+        assertThat(node).isEqualTo(original);
+
+        Field threadLocalField = JqExpression.class.getDeclaredField("evaluationScope");
+        threadLocalField.setAccessible(true);
+        Object evaluationScope = ((ThreadLocal<?>) threadLocalField.get(null)).get();
+        Field scopeField = evaluationScope.getClass().getDeclaredField("scope");
+        scopeField.setAccessible(true);
+        Scope scope = (Scope) scopeField.get(evaluationScope);
+        assertThat(scope.getValue(ExpressionHandlerUtils.CONTEXT_MAGIC)).isNull();
+        assertThat(scope.getValue(ExpressionHandlerUtils.CONST_MAGIC)).isNull();
+    }
+
     @Test
     void testConstPropertyFromJsonAccessible() {
         Expression parsedExpression = ExpressionHandlerFactory.get("jq", ".CONST.property1");
@@ -15,6 +15,8 @@
  */
 package org.kie.kogito.expr.jsonpath;
 
+import java.util.regex.Pattern;
+
 import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
 import org.kie.kogito.jackson.utils.JsonObjectUtils;
 import org.kie.kogito.process.expr.Expression;
@@ -33,15 +35,53 @@ import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 
 public class JsonPathExpression implements Expression {
 
+    // valid json path is $. or $[
+    private static final Pattern STRING_PARTS = Pattern.compile("((?=\\$\\.|\\$\\[))");
+
+    /**
+     * Configuration shared by all evaluations, only the json provider, which is bound to the process context, is replaced per evaluation
+     */
+    private static final Configuration BASE_CONFIGURATION = Configuration
+            .builder()
+            .mappingProvider(new JacksonMappingProvider())
+            .jsonProvider(new WorkflowJacksonJsonNodeJsonProvider(null))
+            .build();
+
     private final String expr;
-    private Boolean isValid;
-    private Exception validationError;
+    private final String[] stringParts;
+    private final JsonPath path;
+    private final JsonPath[] stringPaths;
+    private final Exception validationError;
 
     public JsonPathExpression(String expr) {
         expr = replaceMagic(expr, ExpressionHandlerUtils.CONST_MAGIC);
         expr = replaceMagic(expr, ExpressionHandlerUtils.SECRET_MAGIC);
         expr = replaceMagic(expr, ExpressionHandlerUtils.CONTEXT_MAGIC);
         this.expr = expr;
+        this.stringParts = STRING_PARTS.split(expr);
+        JsonPath compiled = null;
+        Exception error = null;
+        try {
+            compiled = JsonPath.compile(expr);
+        } catch (JsonPathException | IllegalArgumentException ex) {
+            error = ex;
+        }
+        this.path = compiled;
+        this.validationError = error;
+        this.stringPaths = compileAll(stringParts);
+    }
+
+    private static JsonPath[] compileAll(String[] parts) {
+        JsonPath[] paths = new JsonPath[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                paths[i] = JsonPath.compile(parts[i]);
+            } catch (JsonPathException | IllegalArgumentException ex) {
+                // not compilable part, the error will be raised when evaluated
+                return null;
+            }
+        }
+        return paths;
     }
 
     private static final String replaceMagic(String expr, String magic) {
@@ -50,11 +90,7 @@ public class JsonPathExpression implements Expression {
     }
 
     private Configuration getConfiguration(KogitoProcessContext context) {
-        return Configuration
-                .builder()
-                .mappingProvider(new JacksonMappingProvider())
-                .jsonProvider(new WorkflowJacksonJsonNodeJsonProvider(context))
-                .build();
+        return BASE_CONFIGURATION.jsonProvider(new WorkflowJacksonJsonNodeJsonProvider(context));
     }
 
     private <T> T eval(JsonNode context, Class<T> returnClass, KogitoProcessContext processInfo) {
@@ -63,16 +99,20 @@ public class JsonPathExpression implements Expression {
             DocumentContext parsedContext = JsonPath.using(jsonPathConfig).parse(jsonNode.getNode());
             if (String.class.isAssignableFrom(returnClass)) {
                 StringBuilder sb = new StringBuilder();
-                // valid json path is $. or $[
-                for (String part : expr.split("((?=\\$\\.|\\$\\[))")) {
-                    JsonNode partResult = parsedContext.read(part, JsonNode.class);
+                for (int i = 0; i < stringParts.length; i++) {
+                    JsonNode partResult = stringPaths == null ? parsedContext.read(stringParts[i], JsonNode.class) : parsedContext.read(stringPaths[i], JsonNode.class);
                     sb.append(partResult.isTextual() ? partResult.asText() : partResult.toPrettyString());
                 }
                 return (T) sb.toString();
             } else {
-                Object result = parsedContext.read(expr);
-                return Boolean.class.isAssignableFrom(returnClass) && result instanceof ArrayNode ? (T) Boolean.valueOf(!((ArrayNode) result).isEmpty())
-                        : JsonObjectUtils.convertValue(jsonPathConfig.mappingProvider().map(result, returnClass, jsonPathConfig), returnClass);
+                Object result = path == null ? parsedContext.read(expr) : parsedContext.read(path);
+                if (Boolean.class.isAssignableFrom(returnClass) && result instanceof ArrayNode) {
+                    return (T) Boolean.valueOf(!((ArrayNode) result).isEmpty());
+                } else if (result instanceof JsonNode && returnClass.isInstance(result)) {
+                    // equivalent to mapping it, without serializing the tree through the mapper
+                    return returnClass.cast(((JsonNode) result).deepCopy());
+                }
+                return JsonObjectUtils.convertValue(jsonPathConfig.mappingProvider().map(result, returnClass, jsonPathConfig), returnClass);
             }
         }
     }
@@ -89,16 +129,7 @@ public class JsonPathExpression implements Expression {
 
     @Override
     public boolean isValid() {
-        if (isValid == null) {
-            try {
-                JsonPath.compile(expr);
-                isValid = true;
-            } catch (JsonPathException ex) {
-                validationError = ex;
-                isValid = false;
-            }
-        }
-        return isValid;
+        return validationError == null;
     }
 
     @Override
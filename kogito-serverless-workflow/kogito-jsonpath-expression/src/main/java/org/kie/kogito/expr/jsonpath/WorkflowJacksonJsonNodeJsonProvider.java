@@ -20,13 +20,21 @@ import java.util.function.Function;
 import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
 import org.kie.kogito.serverless.workflow.utils.ExpressionHandlerUtils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
 
 public class WorkflowJacksonJsonNodeJsonProvider extends JacksonJsonNodeJsonProvider {
 
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
     private KogitoProcessContext context;
 
     public WorkflowJacksonJsonNodeJsonProvider(KogitoProcessContext context) {
+        this(context, DEFAULT_MAPPER);
+    }
+
+    public WorkflowJacksonJsonNodeJsonProvider(KogitoProcessContext context, ObjectMapper objectMapper) {
+        super(objectMapper);
         this.context = context;
     }
 
@@ -39,8 +39,10 @@ import org.mockito.Mockito;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +72,21 @@ class JsonPathExpressionHandlerTest {
         assertThat(parsedExpression.eval(getObjectNode(), String.class, getContext())).isEqualTo("string");
     }
 
+    @Test
+    void testStringExpressionSeveralParts() {
+        Expression parsedExpression = ExpressionHandlerFactory.get("jsonpath", "$.propertyString$.nested.property1$['propertyNum']");
+        assertThat(parsedExpression.eval(getObjectNode(), String.class, getContext())).isEqualTo("stringvalue112");
+        // evaluated again through the compiled parts
+        assertThat(parsedExpression.eval(getObjectNode(), String.class, getContext())).isEqualTo("stringvalue112");
+    }
+
+    @Test
+    void testStringExpressionNotCompilablePart() {
+        // the second part does not compile, so the parts are evaluated as strings and the error is raised when evaluated
+        Expression parsedExpression = ExpressionHandlerFactory.get("jsonpath", "$.propertyString$[");
+        assertThrows(JsonPathException.class, () -> parsedExpression.eval(getObjectNode(), String.class, getContext()));
+    }
+
     @Test
     void testBooleanExpression() {
         Expression parsedExpression = ExpressionHandlerFactory.get("jsonpath", "$.propertyBoolean");
@@ -84,6 +101,19 @@ class JsonPathExpressionHandlerTest {
         assertThat(parsedExpression.eval(getObjectNode(), ObjectNode.class, getContext()).get("property1").asText()).isEqualTo("value1");
     }
 
+    @Test
+    void testJsonNodeResultIsCopy() {
+        ObjectNode objectNode = getObjectNode();
+        Expression parsedExpression = ExpressionHandlerFactory.get("jsonpath", "$.nested");
+        ObjectNode result = parsedExpression.eval(objectNode, ObjectNode.class, getContext());
+        assertThat(result).isEqualTo(objectNode.get("nested")).isNotSameAs(objectNode.get("nested"));
+        result.put("property1", "changed");
+        assertThat(objectNode.get("nested").get("property1").asText()).isEqualTo("value1");
+        ArrayNode arrayResult = ExpressionHandlerFactory.get("jsonpath", "$.arrayOfStrings").eval(objectNode, ArrayNode.class, getContext());
+        arrayResult.add("string4");
+        assertThat(objectNode.get("arrayOfStrings")).hasSize(3);
+    }
+
     @Test
     void testCollection() {
         Expression parsedExpression = ExpressionHandlerFactory.get("jsonpath", "$.arrayMixed");
@@ -233,6 +263,24 @@ class JsonPathExpressionHandlerTest {
         assertThat(parsedExpression.eval(getObjectNode(), String.class, getContext())).isEqualTo("accessible_value");
     }
 
+    @Test
+    void testMagicWordsResolvedPerEvaluation() {
+        // the json path configuration is shared by every evaluation, lookups must still go to the context of each one
+        Expression workflow = ExpressionHandlerFactory.get("jsonpath", "$WORKFLOW.instanceId");
+        Expression constant = ExpressionHandlerFactory.get("jsonpath", "$CONST.someconstant");
+        Expression secret = ExpressionHandlerFactory.get("jsonpath", "$SECRET.lettersonly");
+        KogitoProcessContext first = getContext("1111", "first");
+        KogitoProcessContext second = getContext("2222", "second");
+        for (int i = 0; i < 2; i++) {
+            assertThat(workflow.eval(getObjectNode(), String.class, first)).isEqualTo("1111");
+            assertThat(workflow.eval(getObjectNode(), String.class, second)).isEqualTo("2222");
+            assertThat(constant.eval(getObjectNode(), String.class, first)).isEqualTo("first");
+            assertThat(constant.eval(getObjectNode(), String.class, second)).isEqualTo("second");
+            assertThat(secret.eval(getObjectNode(), String.class, first)).isEqualTo("secretlettersonly");
+            assertThat(secret.eval(getObjectNode(), String.class, second)).isEqualTo("secretlettersonly");
+        }
+    }
+
     @ParameterizedTest(name = "{index} \"{0}\" is resolved to \"{1}\"")
     @MethodSource("provideMagicWordExpressionsToTest")
     void testMagicWordsExpressions(String expression, String expectedResult, KogitoProcessContext context) {
@@ -269,6 +317,13 @@ class JsonPathExpressionHandlerTest {
                 .build();
     }
 
+    private static KogitoProcessContext getContext(String instanceId, String constant) {
+        return MockBuilder.kogitoProcessContext()
+                .withProcessInstanceMock(p -> Mockito.when(p.getId()).thenReturn(instanceId))
+                .withConstants(Collections.singletonMap("someconstant", constant))
+                .build();
+    }
+
     private static ObjectNode getObjectNode() {
         ObjectMapper objectMapper = new ObjectMapper();
         ObjectNode objectNode = objectMapper.createObjectNode();
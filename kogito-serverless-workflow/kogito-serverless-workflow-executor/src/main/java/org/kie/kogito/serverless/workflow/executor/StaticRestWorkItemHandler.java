@@ -16,6 +16,7 @@
 package org.kie.kogito.serverless.workflow.executor;
 
 import org.kogito.workitem.rest.RestWorkItemHandler;
+import org.kogito.workitem.rest.RestWorkItemHandlerUtils;
 
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.ext.web.client.WebClient;
@@ -23,7 +24,7 @@ import io.vertx.mutiny.ext.web.client.WebClient;
 class StaticRestWorkItemHandler extends RestWorkItemHandler implements AutoCloseable {
 
     public StaticRestWorkItemHandler(Vertx vertx) {
-        super(WebClient.create(vertx));
+        super(WebClient.create(RestWorkItemHandlerUtils.vertx(vertx), RestWorkItemHandlerUtils.webClientOptions()));
     }
 
     @Override
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +41,7 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import com.google.protobuf.DescriptorProtos.MethodDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import com.google.protobuf.Descriptors.MethodDescriptor;
@@ -65,20 +67,29 @@ public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler {
 
     public static final String GRPC_ENUM_DEFAULT_PROPERTY = "kogito.grpc.enum.includeDefault";
     public static final String GRPC_STREAM_TIMEOUT_PROPERTY = "kogito.grpc.stream.timeout";
+    public static final String GRPC_ASYNC_PROPERTY = "kogito.grpc.async";
     public static final boolean GRPC_ENUM_DEFAULT_VALUE = false;
     public static final int GRPC_STREAM_TIMEOUT_VALUE = 20;
+    public static final boolean GRPC_ASYNC_VALUE = false;
 
     private final Collection<RPCDecorator> decorators = new ArrayList<>();
     private final int streamTimeout;
+    private final boolean async;
 
-    private Map<String, FileDescriptor> fileDescriptors = new ConcurrentHashMap<>();
+    private final Map<String, FileDescriptor> fileDescriptors = new ConcurrentHashMap<>();
+    private final Map<String, CallDescriptor> callDescriptors = new ConcurrentHashMap<>();
 
     public RPCWorkItemHandler() {
         this(GRPC_ENUM_DEFAULT_VALUE, GRPC_STREAM_TIMEOUT_VALUE);
     }
 
     public RPCWorkItemHandler(boolean enumDefault, int streamTimeout) {
+        this(enumDefault, streamTimeout, GRPC_ASYNC_VALUE);
+    }
+
+    public RPCWorkItemHandler(boolean enumDefault, int streamTimeout, boolean async) {
         this.streamTimeout = streamTimeout;
+        this.async = async;
         if (enumDefault) {
             decorators.add(new DefaultEnumRpcDecorator());
         }
@@ -86,43 +97,64 @@ public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler {
 
     @Override
     protected Object internalExecute(KogitoWorkItem workItem, Map<String, Object> parameters) {
+        CallDescriptor callDesc = getCallDescriptor(workItem);
+        return doCall(callDesc, parameters, callDesc.newCall(getChannel(callDesc.fileName, callDesc.serviceName)));
+    }
+
+    @Override
+    protected boolean isAsync(KogitoWorkItem workItem) {
+        if (async) {
+            MethodType methodType = getCallDescriptor(workItem).methodType;
+            return methodType == MethodType.UNARY || methodType == MethodType.SERVER_STREAMING;
+        }
+        return false;
+    }
+
+    @Override
+    protected CompletionStage<JsonNode> internalExecuteAsync(KogitoWorkItem workItem, Map<String, Object> parameters) {
+        CallDescriptor callDesc = getCallDescriptor(workItem);
+        ClientCall<Message, Message> call = callDesc.newCall(getChannel(callDesc.fileName, callDesc.serviceName));
+        WaitingStreamObserver responseObserver = new WaitingStreamObserver(streamTimeout);
+        if (callDesc.methodType == MethodType.SERVER_STREAMING) {
+            ClientCalls.asyncServerStreamingCall(call, callDesc.buildRequest(parameters), responseObserver);
+            return responseObserver.future(call).thenApply(messages -> JsonObjectUtils.fromValue(messages.stream().map(m -> convert(m, callDesc)).collect(Collectors.toList())));
+        } else {
+            ClientCalls.asyncUnaryCall(call, callDesc.buildRequest(parameters), responseObserver);
+            return responseObserver.future(call).thenApply(messages -> convert(messages.get(0), callDesc));
+        }
+    }
+
+    protected abstract Channel getChannel(String file, String service);
+
+    private CallDescriptor getCallDescriptor(KogitoWorkItem workItem) {
         Map<String, Object> metadata = workItem.getNodeInstance().getNode().getMetaData();
         String file = (String) metadata.get(FILE_PROP);
         String service = (String) metadata.get(SERVICE_PROP);
         String method = (String) metadata.get(METHOD_PROP);
-        return doCall(FileDescriptorHolder.get().descriptor().orElseThrow(() -> new IllegalStateException("Descriptor " + FileDescriptorHolder.DESCRIPTOR_PATH + " is not present")),
-                parameters, getChannel(file, service), file, service, method);
+        return callDescriptors.computeIfAbsent(file + '/' + service + '/' + method, k -> buildCallDescriptor(file, service, method));
     }
 
-    protected abstract Channel getChannel(String file, String service);
-
-    private JsonNode doCall(FileDescriptorSet fdSet, Map<String, Object> parameters, Channel channel, String fileName, String serviceName, String methodName) {
-        FileDescriptor descriptor = buildFileDescriptor(fdSet, fileName);
+    private CallDescriptor buildCallDescriptor(String fileName, String serviceName, String methodName) {
+        FileDescriptor descriptor = buildFileDescriptor(
+                FileDescriptorHolder.get().descriptor().orElseThrow(() -> new IllegalStateException("Descriptor " + FileDescriptorHolder.DESCRIPTOR_PATH + " is not present")), fileName);
         ServiceDescriptor serviceDesc = Objects.requireNonNull(descriptor.findServiceByName(serviceName), "Cannot find service name " + serviceName);
         MethodDescriptor methodDesc = Objects.requireNonNull(serviceDesc.findMethodByName(methodName), "Cannot find method name " + methodName);
-        MethodType methodType = getMethodType(methodDesc);
-        ClientCall<Message, Message> call = channel.newCall(io.grpc.MethodDescriptor.<Message, Message> newBuilder()
-                .setType(methodType)
-                .setFullMethodName(io.grpc.MethodDescriptor.generateFullMethodName(
-                        serviceDesc.getFullName(), methodDesc.getName()))
-                .setRequestMarshaller(ProtoUtils.marshaller(
-                        DynamicMessage.newBuilder(methodDesc.getInputType()).buildPartial()))
-                .setResponseMarshaller(ProtoUtils.marshaller(
-                        DynamicMessage.newBuilder(methodDesc.getOutputType()).buildPartial()))
-                .build(), CallOptions.DEFAULT.withWaitForReady());
-
-        if (methodType == MethodType.CLIENT_STREAMING) {
-            return asyncStreamingCall(parameters, methodDesc, responseObserver -> ClientCalls.asyncClientStreamingCall(call, responseObserver),
+        return new CallDescriptor(fileName, serviceName, methodDesc, serviceDesc);
+    }
+
+    private JsonNode doCall(CallDescriptor callDesc, Map<String, Object> parameters, ClientCall<Message, Message> call) {
+        if (callDesc.methodType == MethodType.CLIENT_STREAMING) {
+            return asyncStreamingCall(parameters, callDesc, responseObserver -> ClientCalls.asyncClientStreamingCall(call, responseObserver),
                     nodes -> nodes.isEmpty() ? NullNode.instance : nodes.get(0));
-        } else if (methodType == MethodType.BIDI_STREAMING) {
-            return asyncStreamingCall(parameters, methodDesc, responseObserver -> ClientCalls.asyncBidiStreamingCall(call, responseObserver), JsonObjectUtils::fromValue);
-        } else if (methodType == MethodType.SERVER_STREAMING) {
+        } else if (callDesc.methodType == MethodType.BIDI_STREAMING) {
+            return asyncStreamingCall(parameters, callDesc, responseObserver -> ClientCalls.asyncBidiStreamingCall(call, responseObserver), JsonObjectUtils::fromValue);
+        } else if (callDesc.methodType == MethodType.SERVER_STREAMING) {
             List<JsonNode> nodes = new ArrayList<>();
-            ClientCalls.blockingServerStreamingCall(call, RPCConverterFactory.get().buildMessage(parameters, DynamicMessage.newBuilder(methodDesc.getInputType())).build())
-                    .forEachRemaining(m -> nodes.add(convert(m, methodDesc)));
+            ClientCalls.blockingServerStreamingCall(call, callDesc.buildRequest(parameters))
+                    .forEachRemaining(m -> nodes.add(convert(m, callDesc)));
             return JsonObjectUtils.fromValue(nodes);
         } else {
-            return convert(ClientCalls.blockingUnaryCall(call, RPCConverterFactory.get().buildMessage(parameters, DynamicMessage.newBuilder(methodDesc.getInputType())).build()), methodDesc);
+            return convert(ClientCalls.blockingUnaryCall(call, callDesc.buildRequest(parameters)), callDesc);
         }
     }
 
@@ -138,22 +170,22 @@ public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler {
         });
     }
 
-    private JsonNode convert(Message m, MethodDescriptor descriptor) {
+    private JsonNode convert(Message m, CallDescriptor callDesc) {
         JsonNode node = RPCConverterFactory.get().getJsonNode(m);
         for (RPCDecorator decorator : decorators) {
-            node = decorator.decorate(node, descriptor.getOutputType());
+            node = decorator.decorate(node, callDesc.outputType);
         }
         return node;
     }
 
-    private JsonNode asyncStreamingCall(Map<String, Object> parameters, MethodDescriptor methodDesc, UnaryOperator<StreamObserver<Message>> streamObserverFunction,
+    private JsonNode asyncStreamingCall(Map<String, Object> parameters, CallDescriptor callDesc, UnaryOperator<StreamObserver<Message>> streamObserverFunction,
             Function<List<JsonNode>, JsonNode> nodesFunction) {
         WaitingStreamObserver responseObserver = new WaitingStreamObserver(streamTimeout);
         StreamObserver<Message> requestObserver = streamObserverFunction.apply(responseObserver);
 
         for (Object messageParam : Objects.requireNonNull((List<Object>) parameters.get(SWFConstants.CONTENT_DATA), "Missing streaming call parameter")) {
             try {
-                Message message = RPCConverterFactory.get().buildMessage(messageParam, DynamicMessage.newBuilder(methodDesc.getInputType())).build();
+                Message message = callDesc.buildRequest(messageParam);
                 requestObserver.onNext(message);
             } catch (Exception e) {
                 requestObserver.onError(e);
@@ -163,7 +195,7 @@ public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler {
         }
         requestObserver.onCompleted();
 
-        return nodesFunction.apply(responseObserver.get().stream().map(m -> convert(m, methodDesc)).collect(Collectors.toList()));
+        return nodesFunction.apply(responseObserver.get().stream().map(m -> convert(m, callDesc)).collect(Collectors.toList()));
     }
 
     private static MethodType getMethodType(MethodDescriptor methodDesc) {
@@ -180,6 +212,38 @@ public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler {
         }
     }
 
+    private static class CallDescriptor {
+        private final String fileName;
+        private final String serviceName;
+        private final MethodType methodType;
+        private final Descriptor outputType;
+        private final Message requestPrototype;
+        private final io.grpc.MethodDescriptor<Message, Message> grpcDescriptor;
+
+        private CallDescriptor(String fileName, String serviceName, MethodDescriptor methodDesc, ServiceDescriptor serviceDesc) {
+            this.fileName = fileName;
+            this.serviceName = serviceName;
+            this.methodType = getMethodType(methodDesc);
+            this.outputType = methodDesc.getOutputType();
+            this.requestPrototype = DynamicMessage.getDefaultInstance(methodDesc.getInputType());
+            this.grpcDescriptor = io.grpc.MethodDescriptor.<Message, Message> newBuilder()
+                    .setType(methodType)
+                    .setFullMethodName(io.grpc.MethodDescriptor.generateFullMethodName(
+                            serviceDesc.getFullName(), methodDesc.getName()))
+                    .setRequestMarshaller(ProtoUtils.marshaller(requestPrototype))
+                    .setResponseMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(outputType)))
+                    .build();
+        }
+
+        private ClientCall<Message, Message> newCall(Channel channel) {
+            return channel.newCall(grpcDescriptor, CallOptions.DEFAULT.withWaitForReady());
+        }
+
+        private Message buildRequest(Object parameters) {
+            return RPCConverterFactory.get().buildMessage(parameters, requestPrototype.newBuilderForType()).build();
+        }
+    }
+
     private static class WaitingStreamObserver implements StreamObserver<Message> {
         List<Message> responses = new ArrayList<>();
         CompletableFuture<List<Message>> responsesFuture = new CompletableFuture<>();
@@ -204,6 +268,17 @@ public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler {
             responsesFuture.complete(responses);
         }
 
+        /**
+         * Returns the responses once the call is completed, failing and cancelling the call if it takes longer than the timeout
+         */
+        public CompletableFuture<List<Message>> future(ClientCall<Message, Message> call) {
+            return responsesFuture.orTimeout(timeout, TimeUnit.SECONDS).whenComplete((responses, error) -> {
+                if (error instanceof TimeoutException) {
+                    call.cancel(String.format("gRPC call timed out after %d seconds", timeout), error);
+                }
+            });
+        }
+
         public List<Message> get() {
             try {
                 return responsesFuture.get(timeout, TimeUnit.SECONDS);
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serverless.workflow.rpc;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jbpm.workflow.core.node.WorkItemNode;
+import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
+import org.kie.kogito.process.workitem.WorkItemExecutionException;
+import org.kie.kogito.process.workitems.impl.KogitoWorkItemImpl;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Descriptors.ServiceDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RPCWorkItemHandlerTest {
+
+    private static final String SERVER_NAME = "greeter";
+
+    private Server server;
+    private ManagedChannel channel;
+    private List<MethodDescriptor<?, ?>> calledMethods = new CopyOnWriteArrayList<>();
+    private CountDownLatch cancelled = new CountDownLatch(1);
+    private KogitoWorkItemManager manager = mock(KogitoWorkItemManager.class);
+    private WorkItemNodeInstance nodeInstance = mock(WorkItemNodeInstance.class);
+
+    @BeforeEach
+    void setup() throws IOException, DescriptorValidationException {
+        ServiceDescriptor service = FileDescriptor.buildFrom(FileDescriptorHolder.get().descriptor().orElseThrow().getFile(0), new FileDescriptor[0])
+                .findServiceByName("Greeter");
+        server = InProcessServerBuilder.forName(SERVER_NAME).directExecutor()
+                .addService(ServerServiceDefinition.builder(service.getFullName())
+                        .addMethod(methodDescriptor(service, "SayHello", MethodType.UNARY), ServerCalls.asyncUnaryCall((request, observer) -> {
+                            observer.onNext(reply(service, "Hello " + name(request)));
+                            observer.onCompleted();
+                        }))
+                        .addMethod(methodDescriptor(service, "SayHellos", MethodType.SERVER_STREAMING), ServerCalls.asyncServerStreamingCall((request, observer) -> {
+                            observer.onNext(reply(service, "Hello " + name(request)));
+                            observer.onNext(reply(service, "Bye " + name(request)));
+                            observer.onCompleted();
+                        }))
+                        .addMethod(methodDescriptor(service, "SayNothing", MethodType.UNARY),
+                                ServerCalls.<Message, Message> asyncUnaryCall(
+                                        (request, observer) -> ((ServerCallStreamObserver<Message>) observer).setOnCancelHandler(cancelled::countDown)))
+                        .build())
+                .build().start();
+        channel = InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+    }
+
+    @AfterEach
+    void cleanup() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void testCallDescriptorIsReused() {
+        RPCWorkItemHandler handler = new TestRPCWorkItemHandler(false);
+
+        handler.executeWorkItem(workItem("1", "SayHello"), manager);
+        handler.executeWorkItem(workItem("2", "SayHello"), manager);
+
+        assertThat(result("1").get("message").asText()).isEqualTo("Hello pepe");
+        assertThat(result("2").get("message").asText()).isEqualTo("Hello pepe");
+        assertThat(calledMethods).hasSize(2);
+        assertThat(calledMethods.get(1)).isSameAs(calledMethods.get(0));
+    }
+
+    @Test
+    void testAsyncUnaryCall() {
+        new TestRPCWorkItemHandler(true).executeWorkItem(workItem("1", "SayHello"), manager);
+
+        assertThat(result("1").get("message").asText()).isEqualTo("Hello pepe");
+    }
+
+    @Test
+    void testAsyncServerStreamingCall() {
+        new TestRPCWorkItemHandler(true).executeWorkItem(workItem("1", "SayHellos"), manager);
+
+        JsonNode result = result("1");
+        assertThat(result.isArray()).isTrue();
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).get("message").asText()).isEqualTo("Hello pepe");
+        assertThat(result.get(1).get("message").asText()).isEqualTo("Bye pepe");
+    }
+
+    @Test
+    void testAsyncCallTimeout() throws InterruptedException {
+        new TestRPCWorkItemHandler(true).executeWorkItem(workItem("1", "SayNothing"), manager);
+
+        verify(nodeInstance, timeout(5000)).workItemFailed(any(WorkItemExecutionException.class));
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private KogitoWorkItemImpl workItem(String id, String method) {
+        WorkItemNode node = new WorkItemNode();
+        node.setMetaData(RPCWorkItemHandler.FILE_PROP, "greeter.proto");
+        node.setMetaData(RPCWorkItemHandler.SERVICE_PROP, "Greeter");
+        node.setMetaData(RPCWorkItemHandler.METHOD_PROP, method);
+        when(nodeInstance.getNode()).thenReturn(node);
+        KogitoWorkItemImpl workItem = new KogitoWorkItemImpl();
+        workItem.setId(id);
+        workItem.setNodeInstance(nodeInstance);
+        workItem.setParameter("name", "pepe");
+        return workItem;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonNode result(String workItemId) {
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(manager, timeout(5000)).completeWorkItem(eq(workItemId), captor.capture());
+        return (JsonNode) captor.getValue().get("Result");
+    }
+
+    private static MethodDescriptor<Message, Message> methodDescriptor(ServiceDescriptor service, String name, MethodType type) {
+        com.google.protobuf.Descriptors.MethodDescriptor method = service.findMethodByName(name);
+        return MethodDescriptor.<Message, Message> newBuilder()
+                .setType(type)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(service.getFullName(), name))
+                .setRequestMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(method.getInputType())))
+                .setResponseMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(method.getOutputType())))
+                .build();
+    }
+
+    private static Object name(Message request) {
+        return request.getField(request.getDescriptorForType().findFieldByName("name"));
+    }
+
+    private static Message reply(ServiceDescriptor service, String message) {
+        FieldDescriptor field = service.findMethodByName("SayHello").getOutputType().findFieldByName("message");
+        return DynamicMessage.newBuilder(field.getContainingType()).setField(field, message).build();
+    }
+
+    private class TestRPCWorkItemHandler extends RPCWorkItemHandler {
+
+        private TestRPCWorkItemHandler(boolean async) {
+            super(false, 1, async);
+        }
+
+        @Override
+        protected Channel getChannel(String file, String service) {
+            return ClientInterceptors.intercept(channel, new ClientInterceptor() {
+                @Override
+                public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                    calledMethods.add(method);
+                    return next.newCall(method, callOptions);
+                }
+            });
+        }
+    }
+}
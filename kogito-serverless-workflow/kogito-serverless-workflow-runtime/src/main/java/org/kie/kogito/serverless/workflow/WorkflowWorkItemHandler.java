@@ -18,7 +18,10 @@ package org.kie.kogito.serverless.workflow;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
+import org.jbpm.workflow.instance.node.AsyncWorkItemCompletion;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
@@ -36,12 +39,31 @@ public abstract class WorkflowWorkItemHandler implements KogitoWorkItemHandler {
         Map<String, Object> parameters = new HashMap<>(workItem.getParameters());
         parameters.remove(SWFConstants.MODEL_WORKFLOW_VAR);
         logger.debug("Workflow workitem {} will be invoked with parameters {}", workItem.getName(), parameters);
-        manager.completeWorkItem(workItem.getStringId(), Collections.singletonMap("Result",
-                JsonObjectUtils.fromValue(internalExecute(workItem, parameters))));
+        if (isAsync(workItem)) {
+            new AsyncWorkItemCompletion(workItem, manager).start(() -> internalExecuteAsync(workItem, parameters).thenApply(WorkflowWorkItemHandler::toResult));
+        } else {
+            manager.completeWorkItem(workItem.getStringId(), toResult(internalExecute(workItem, parameters)));
+        }
+    }
+
+    private static Map<String, Object> toResult(Object result) {
+        return Collections.singletonMap("Result", JsonObjectUtils.fromValue(result));
     }
 
     protected abstract Object internalExecute(KogitoWorkItem workItem, Map<String, Object> parameters);
 
+    /**
+     * Whether this work item should be completed once {@link #internalExecuteAsync(KogitoWorkItem, Map)} completes
+     * rather than synchronously with the result of {@link #internalExecute(KogitoWorkItem, Map)}
+     */
+    protected boolean isAsync(KogitoWorkItem workItem) {
+        return false;
+    }
+
+    protected CompletionStage<?> internalExecuteAsync(KogitoWorkItem workItem, Map<String, Object> parameters) {
+        return CompletableFuture.completedFuture(internalExecute(workItem, parameters));
+    }
+
     protected final <V> V buildBody(Map<String, Object> params, Class<V> clazz) {
         for (Object obj : params.values()) {
             if (obj != null && clazz.isAssignableFrom(obj.getClass())) {
@@ -40,6 +40,23 @@ public abstract class ExpressionWorkItemResolver<T> implements WorkItemParamReso
         this.language = language;
         this.expression = expression;
         this.paramName = paramName;
+        prepareExpressions();
+    }
+
+    /**
+     * Compiles the expressions of the definition when it is built, so evaluations find them in the expression cache.
+     */
+    private void prepareExpressions() {
+        if (expression != null && ExpressionHandlerFactory.isSupported(language)) {
+            try {
+                JsonNodeVisitor.transformTextNode(JsonObjectUtils.fromValue(expression), node -> {
+                    ExpressionHandlerFactory.get(language, node.asText());
+                    return node;
+                });
+            } catch (Exception ex) {
+                logger.debug("Expressions of {} will be compiled when first evaluated", paramName, ex);
+            }
+        }
     }
 
     protected final JsonNode evalExpression(KogitoWorkItem workItem) {
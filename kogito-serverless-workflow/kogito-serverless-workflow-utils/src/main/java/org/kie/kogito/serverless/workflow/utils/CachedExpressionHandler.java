@@ -15,20 +15,23 @@
  */
 package org.kie.kogito.serverless.workflow.utils;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
-
 import org.kie.kogito.process.expr.Expression;
 import org.kie.kogito.process.expr.ExpressionHandler;
 
 public abstract class CachedExpressionHandler implements ExpressionHandler {
 
-    private Map<String, Expression> expressions = Collections.synchronizedMap(new WeakHashMap<>());
+    private ExpressionCache cache;
 
     @Override
     public Expression get(String expr) {
-        return expressions.computeIfAbsent(ExpressionHandlerUtils.trimExpr(expr), this::buildExpression);
+        return getCache().get(ExpressionHandlerUtils.trimExpr(expr), this::buildExpression);
+    }
+
+    protected ExpressionCache getCache() {
+        if (cache == null) {
+            cache = ExpressionCache.of(lang());
+        }
+        return cache;
     }
 
     protected abstract Expression buildExpression(String expr);
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serverless.workflow.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.kie.kogito.process.expr.Expression;
+
+/**
+ * Compiled expressions of a language, shared by all the handler instances of that language.
+ * <p>
+ * Lookups do not lock; each expression is built once. Once the cache holds
+ * <code>kogito.sw.expression.cache.maxSize</code> expressions (10000 by default) further ones are built on every
+ * request without being stored.
+ * </p>
+ */
+public class ExpressionCache {
+
+    public static final String MAX_SIZE_PROPERTY = "kogito.sw.expression.cache.maxSize";
+
+    private static final int MAX_SIZE = Integer.getInteger(MAX_SIZE_PROPERTY, 10000);
+
+    private static final Map<String, ExpressionCache> caches = new ConcurrentHashMap<>();
+
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxSize;
+
+    ExpressionCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static ExpressionCache of(String lang) {
+        return caches.computeIfAbsent(lang, l -> new ExpressionCache(MAX_SIZE));
+    }
+
+    Expression get(String expr, Function<String, Expression> builder) {
+        Expression expression = expressions.get(expr);
+        if (expression != null) {
+            hits.increment();
+            return expression;
+        }
+        misses.increment();
+        return expressions.size() < maxSize ? expressions.computeIfAbsent(expr, builder) : builder.apply(expr);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+
+    public void clear() {
+        expressions.clear();
+    }
+}
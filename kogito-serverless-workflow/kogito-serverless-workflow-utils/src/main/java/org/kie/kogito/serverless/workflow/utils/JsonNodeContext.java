@@ -20,7 +20,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,14 +37,20 @@ import org.kie.api.runtime.process.NodeInstanceContainer;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
 import org.kie.kogito.jackson.utils.JsonObjectUtils;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+/**
+ * Node an expression is evaluated on: the workflow data plus the variables visible from the current node instance.
+ * <p>
+ * Variables are added to a shallow copy of the data (so only when there are any), the workflow data itself is never
+ * modified and nothing has to be restored once the evaluation is done.
+ */
 public class JsonNodeContext implements AutoCloseable {
 
     private final JsonNode jsonNode;
-    private final Set<String> keys;
 
     public static Stream<Variable> getEvalVariables(Node node) {
         if (node instanceof ForEachNode) {
@@ -67,21 +72,28 @@ public class JsonNodeContext implements AutoCloseable {
     }
 
     public static JsonNodeContext from(JsonNode jsonNode, KogitoProcessContext context) {
-        Map<String, JsonNode> map = new HashMap<>();
         if (jsonNode.isObject()) {
-            ObjectNode objectNode = (ObjectNode) jsonNode;
-            addVariablesFromContext(objectNode, context, map);
+            Map<String, JsonNode> variables = new HashMap<>();
+            addVariablesFromContext((ObjectNode) jsonNode, context, variables);
+            if (!variables.isEmpty()) {
+                ObjectNode overlay = ObjectMapperFactory.get().createObjectNode();
+                overlay.setAll((ObjectNode) jsonNode);
+                overlay.setAll(variables);
+                return new JsonNodeContext(overlay);
+            }
         }
-        return new JsonNodeContext(jsonNode, map.keySet());
+        return new JsonNodeContext(jsonNode);
     }
 
+    /**
+     * @return the node to evaluate the expression on, a copy of the workflow data when variables were added to it
+     */
     public JsonNode getNode() {
         return jsonNode;
     }
 
-    private JsonNodeContext(JsonNode jsonNode, Set<String> keys) {
+    private JsonNodeContext(JsonNode jsonNode) {
         this.jsonNode = jsonNode;
-        this.keys = keys;
     }
 
     private static void addVariablesFromContext(ObjectNode jsonNode, KogitoProcessContext processInfo, Map<String, JsonNode> variables) {
@@ -93,7 +105,6 @@ public class JsonNodeContext implements AutoCloseable {
                 container = container instanceof KogitoNodeInstance ? ((KogitoNodeInstance) container).getNodeInstanceContainer() : null;
             }
         }
-        variables.forEach(jsonNode::set);
     }
 
     private static void getVariablesFromContext(ObjectNode jsonNode, ContextableInstance node, Map<String, JsonNode> variables) {
@@ -110,8 +121,6 @@ public class JsonNodeContext implements AutoCloseable {
 
     @Override
     public void close() {
-        if (!keys.isEmpty()) {
-            keys.forEach(((ObjectNode) jsonNode)::remove);
-        }
+        // nothing to restore, the workflow data was not modified
     }
 }
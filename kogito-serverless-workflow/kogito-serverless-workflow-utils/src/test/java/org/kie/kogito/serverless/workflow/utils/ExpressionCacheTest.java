@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serverless.workflow.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.expr.Expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ExpressionCacheTest {
+
+    private static class CountingExpressionHandler extends CachedExpressionHandler {
+
+        private final AtomicInteger built = new AtomicInteger();
+
+        @Override
+        protected Expression buildExpression(String expr) {
+            built.incrementAndGet();
+            return mock(Expression.class);
+        }
+
+        @Override
+        public String lang() {
+            return "cache-test";
+        }
+    }
+
+    @Test
+    void testSharedBetweenHandlers() {
+        CountingExpressionHandler first = new CountingExpressionHandler();
+        CountingExpressionHandler second = new CountingExpressionHandler();
+        ExpressionCache cache = ExpressionCache.of("cache-test");
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+
+        Expression expression = first.get("${ .name }");
+        assertThat(second.get(".name")).isSameAs(expression);
+        assertThat(first.get("{{.name}}")).isSameAs(expression);
+        assertThat(first.built.get() + second.built.get()).isEqualTo(1);
+        assertThat(cache.getMisses() - misses).isEqualTo(1);
+        assertThat(cache.getHits() - hits).isEqualTo(2);
+    }
+
+    @Test
+    void testMaxSize() {
+        ExpressionCache cache = new ExpressionCache(2);
+        AtomicInteger built = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            cache.get(".a" + i, expr -> {
+                built.incrementAndGet();
+                return mock(Expression.class);
+            });
+        }
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(".a3", expr -> mock(Expression.class))).isNotSameAs(cache.get(".a3", expr -> mock(Expression.class)));
+        assertThat(cache.get(".a0", expr -> mock(Expression.class))).isSameAs(cache.get(".a0", expr -> mock(Expression.class)));
+        assertThat(built.get()).isEqualTo(4);
+        assertThat(cache.getMisses()).isEqualTo(6);
+        assertThat(cache.getHits()).isEqualTo(2);
+    }
+}
@@ -64,4 +64,10 @@ public class ProcessInstancesTestUtils {
             assertThat(stream).hasSize(size);
         }
     }
+
+    public static <T> void assertWaitingForEventType(ProcessInstances<T> processInstances, String eventType, int size) {
+        try (Stream<ProcessInstance<T>> stream = processInstances.waitingForEventType(eventType)) {
+            assertThat(stream).hasSize(size);
+        }
+    }
 }
@@ -15,9 +15,13 @@
  */
 package org.kogito.workitem.rest.auth;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.oauth2.OAuth2Options;
 import io.vertx.mutiny.core.Vertx;
@@ -26,7 +30,16 @@ import io.vertx.mutiny.ext.auth.oauth2.OAuth2Auth;
 
 public abstract class OAuth2AuthToken<T> implements TokenRetriever {
 
-    private static final Map<Object, User> usersCache = new ConcurrentHashMap<>();
+    /**
+     * Number of seconds before expiration at which a token starts being refreshed in background
+     */
+    public static final String REFRESH_WINDOW_PROPERTY = "kogito.rest.oauth2.refresh-window";
+    private static final long DEFAULT_REFRESH_WINDOW = 30;
+
+    private static final Map<Object, TokenHolder<?>> usersCache = new ConcurrentHashMap<>();
+
+    private static Vertx vertx;
+    private static Thread closeOnShutdown;
 
     private final String tokenUrl;
     private final String refreshUrl;
@@ -36,25 +49,46 @@ public abstract class OAuth2AuthToken<T> implements TokenRetriever {
         this.refreshUrl = refreshUrl;
     }
 
-    @Override
-    public String getToken(Map<String, Object> parameters) {
-        User user = usersCache.compute(getCacheKey(parameters), this::getOrRefreshUser);
-        return user.principal().getString("access_token");
+    /**
+     * Sets the Vert.x instance used to request tokens, usually the one managed by the application.
+     * If never set, a single instance is created on first use and closed on shutdown.
+     */
+    public static synchronized void vertx(Vertx vertx) {
+        if (OAuth2AuthToken.vertx != vertx) {
+            closeCreatedVertx();
+            OAuth2AuthToken.vertx = vertx;
+        }
     }
 
-    private User getOrRefreshUser(Object c, User user) {
-        T cacheKey = (T) c;
-        if (user == null) {
-            return createOAuth2(tokenUrl, cacheKey).authenticateAndAwait(getJsonObject(cacheKey));
-        } else if (user.expired()) {
-            return createOAuth2(refreshUrl != null ? refreshUrl : tokenUrl, cacheKey).refreshAndAwait(user);
-        } else {
-            return user;
+    private static synchronized Vertx vertx() {
+        if (vertx == null) {
+            Vertx created = Vertx.vertx();
+            closeOnShutdown = new Thread(created::closeAndAwait);
+            Runtime.getRuntime().addShutdownHook(closeOnShutdown);
+            vertx = created;
         }
+        return vertx;
     }
 
-    private OAuth2Auth createOAuth2(String tokenPath, T cacheKey) {
-        return OAuth2Auth.create(Vertx.vertx(), fillOptions(new OAuth2Options().setTokenPath(tokenPath), cacheKey));
+    private static void closeCreatedVertx() {
+        if (closeOnShutdown != null) {
+            Runtime.getRuntime().removeShutdownHook(closeOnShutdown);
+            closeOnShutdown = null;
+            vertx.closeAndForget();
+        }
+    }
+
+    @Override
+    public String getToken(Map<String, Object> parameters) {
+        T cacheKey = getCacheKey(parameters);
+        Vertx current = vertx();
+        // holders created with a Vert.x instance that has been replaced since then are discarded
+        return usersCache.compute(Arrays.asList(tokenUrl, refreshUrl, cacheKey),
+                (k, holder) -> holder == null || holder.vertx != current ? new TokenHolder<>(this, cacheKey, current) : holder).getToken();
+    }
+
+    protected OAuth2Auth createOAuth2(Vertx vertx, String tokenPath, T cacheKey) {
+        return OAuth2Auth.create(vertx, fillOptions(new OAuth2Options().setTokenPath(tokenPath), cacheKey));
     }
 
     protected abstract OAuth2Options fillOptions(OAuth2Options setTokenPath, T cacheKey);
@@ -63,4 +97,79 @@ public abstract class OAuth2AuthToken<T> implements TokenRetriever {
 
     protected abstract T getCacheKey(Map<String, Object> parameters);
 
+    private static class TokenHolder<T> {
+
+        private final OAuth2AuthToken<T> retriever;
+        private final T cacheKey;
+        private final Vertx vertx;
+        private final OAuth2Auth tokenProvider;
+        private final OAuth2Auth refreshProvider;
+        private final long refreshWindow = Long.getLong(REFRESH_WINDOW_PROPERTY, DEFAULT_REFRESH_WINDOW);
+
+        private volatile User user;
+        private CompletableFuture<User> pending;
+
+        private TokenHolder(OAuth2AuthToken<T> retriever, T cacheKey, Vertx vertx) {
+            this.retriever = retriever;
+            this.cacheKey = cacheKey;
+            this.vertx = vertx;
+            this.tokenProvider = retriever.createOAuth2(vertx, retriever.tokenUrl, cacheKey);
+            this.refreshProvider = retriever.refreshUrl != null ? retriever.createOAuth2(vertx, retriever.refreshUrl, cacheKey) : tokenProvider;
+        }
+
+        public String getToken() {
+            User current = user;
+            if (current == null || current.expired()) {
+                // nothing usable yet, wait for the ongoing request
+                current = await(fetch(current));
+            } else if (expiresWithinWindow(current)) {
+                // token is still valid, keep using it while a fresh one is being retrieved
+                fetch(current);
+            }
+            return current.principal().getString("access_token");
+        }
+
+        private synchronized CompletableFuture<User> fetch(User current) {
+            if (user != current) {
+                // another caller already got a new token since this one looked at it
+                return CompletableFuture.completedFuture(user);
+            }
+            CompletableFuture<User> future = pending;
+            if (future == null) {
+                Uni<User> request = current == null ? authenticate() : refreshProvider.refresh(current).onFailure().recoverWithUni(this::authenticate);
+                CompletableFuture<User> fetching = request.subscribeAsCompletionStage();
+                pending = fetching;
+                // might be invoked right away when the request completes synchronously
+                fetching.whenComplete((fetched, error) -> onFetched(fetching, fetched));
+                future = fetching;
+            }
+            return future;
+        }
+
+        private synchronized void onFetched(CompletableFuture<User> future, User fetched) {
+            if (fetched != null) {
+                user = fetched;
+            }
+            if (pending == future) {
+                pending = null;
+            }
+        }
+
+        private Uni<User> authenticate() {
+            return tokenProvider.authenticate(retriever.getJsonObject(cacheKey));
+        }
+
+        private boolean expiresWithinWindow(User current) {
+            Long exp = current.attributes().getLong("exp", current.principal().getLong("exp"));
+            return exp != null && System.currentTimeMillis() / 1000 + refreshWindow >= exp;
+        }
+
+        private static User await(CompletableFuture<User> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kogito.workitem.rest.auth;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.oauth2.OAuth2Options;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.ext.auth.User;
+import io.vertx.mutiny.ext.auth.oauth2.OAuth2Auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OAuth2AuthTokenTest {
+
+    private static final AtomicInteger counter = new AtomicInteger();
+    private static Vertx vertx;
+
+    private OAuth2Auth provider;
+    private TestAuthToken retriever;
+    private Map<String, Object> parameters = Collections.singletonMap("key", "client");
+
+    @BeforeAll
+    static void init() {
+        vertx = Vertx.vertx();
+        OAuth2AuthToken.vertx(vertx);
+    }
+
+    @AfterAll
+    static void cleanup() {
+        vertx.closeAndAwait();
+    }
+
+    @BeforeEach
+    void setup() {
+        provider = mock(OAuth2Auth.class);
+        // tokens are cached by url, use a different one for each test
+        retriever = new TestAuthToken("http://localhost/token/" + counter.incrementAndGet(), provider);
+    }
+
+    @Test
+    void testConcurrentGetTokenSharesRequest() throws Exception {
+        CompletableFuture<User> response = new CompletableFuture<>();
+        when(provider.authenticate(any(JsonObject.class))).thenReturn(Uni.createFrom().completionStage(response));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                tokens.add(executor.submit(() -> retriever.getToken(parameters)));
+            }
+            verify(provider, timeout(5000)).authenticate(any(JsonObject.class));
+            response.complete(user("token", 3600));
+            for (Future<String> token : tokens) {
+                assertThat(token.get(5, TimeUnit.SECONDS)).isEqualTo("token");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(provider, times(1)).authenticate(any(JsonObject.class));
+    }
+
+    @Test
+    void testRefreshBeforeExpiration() {
+        User user = user("token", 10);
+        when(provider.authenticate(any(JsonObject.class))).thenReturn(Uni.createFrom().item(user));
+        when(provider.refresh(user)).thenReturn(Uni.createFrom().item(user("refreshed", 3600)));
+
+        assertThat(retriever.getToken(parameters)).isEqualTo("token");
+        // the token expires within the refresh window, it is still returned while being refreshed
+        assertThat(retriever.getToken(parameters)).isEqualTo("token");
+        verify(provider, timeout(5000)).refresh(user);
+        assertThat(retriever.getToken(parameters)).isEqualTo("refreshed");
+        assertThat(retriever.getToken(parameters)).isEqualTo("refreshed");
+        verify(provider, times(1)).refresh(any(User.class));
+    }
+
+    @Test
+    void testRefreshFailure() {
+        User expired = user("expired", -10);
+        when(provider.authenticate(any(JsonObject.class))).thenReturn(Uni.createFrom().item(expired), Uni.createFrom().item(user("token", 3600)));
+        when(provider.refresh(expired)).thenReturn(Uni.createFrom().failure(new IllegalStateException("Refresh token expired")));
+
+        assertThat(retriever.getToken(parameters)).isEqualTo("expired");
+        // the refresh fails, a new token is requested instead
+        assertThat(retriever.getToken(parameters)).isEqualTo("token");
+        verify(provider).refresh(expired);
+        verify(provider, times(2)).authenticate(any(JsonObject.class));
+    }
+
+    @Test
+    void testAuthenticationFailure() {
+        when(provider.authenticate(any(JsonObject.class))).thenReturn(Uni.createFrom().failure(new IllegalStateException("Invalid credentials")),
+                Uni.createFrom().item(user("token", 3600)));
+
+        assertThatThrownBy(() -> retriever.getToken(parameters)).isInstanceOf(IllegalStateException.class);
+        // failures are not cached
+        assertThat(retriever.getToken(parameters)).isEqualTo("token");
+    }
+
+    @Test
+    void testVertxReplaced() {
+        when(provider.authenticate(any(JsonObject.class))).thenReturn(Uni.createFrom().item(user("token", 3600)));
+        assertThat(retriever.getToken(parameters)).isEqualTo("token");
+        assertThat(retriever.vertxUsed).containsExactly(vertx);
+
+        Vertx other = Vertx.vertx();
+        try {
+            OAuth2AuthToken.vertx(other);
+            assertThat(retriever.getToken(parameters)).isEqualTo("token");
+            assertThat(retriever.vertxUsed).containsExactly(vertx, other);
+        } finally {
+            OAuth2AuthToken.vertx(vertx);
+            other.closeAndAwait();
+        }
+    }
+
+    private static User user(String token, long expiresIn) {
+        return User.create(new JsonObject().put("access_token", token).put("exp", System.currentTimeMillis() / 1000 + expiresIn));
+    }
+
+    private static class TestAuthToken extends OAuth2AuthToken<String> {
+
+        private final OAuth2Auth provider;
+        private final List<Vertx> vertxUsed = new ArrayList<>();
+
+        private TestAuthToken(String tokenUrl, OAuth2Auth provider) {
+            super(tokenUrl, null);
+            this.provider = provider;
+        }
+
+        @Override
+        protected OAuth2Auth createOAuth2(Vertx vertx, String tokenPath, String cacheKey) {
+            vertxUsed.add(vertx);
+            return provider;
+        }
+
+        @Override
+        protected OAuth2Options fillOptions(OAuth2Options options, String cacheKey) {
+            return options;
+        }
+
+        @Override
+        protected JsonObject getJsonObject(String cacheKey) {
+            return new JsonObject().put("key", cacheKey);
+        }
+
+        @Override
+        protected String getCacheKey(Map<String, Object> parameters) {
+            return (String) parameters.get("key");
+        }
+    }
+}
@@ -15,8 +15,10 @@
  */
 package org.kogito.workitem.rest;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -24,6 +26,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -32,6 +36,7 @@ import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.workflow.core.node.WorkItemNode;
 import org.jbpm.workflow.instance.NodeInstance;
+import org.jbpm.workflow.instance.node.AsyncWorkItemCompletion;
 import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
@@ -53,6 +58,9 @@ import org.kogito.workitem.rest.resulthandlers.RestWorkItemHandlerResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.http.HttpClosedException;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
@@ -80,8 +88,13 @@ public class RestWorkItemHandler implements KogitoWorkItemHandler {
     public static final String PARAMS_DECORATOR = "ParamsDecorator";
     public static final String PATH_PARAM_RESOLVER = "PathParamResolver";
     public static final String AUTH_METHOD = "AuthMethod";
+    public static final String ASYNC = "Async";
+    public static final String REQUEST_TIMEOUT = "RequestTimeout";
+    public static final String RETRIES = "Retries";
+    public static final String RETRY_DELAY = "RetryDelay";
 
     public static final int DEFAULT_PORT = 80;
+    public static final long DEFAULT_RETRY_DELAY = 1000L;
 
     private static final Logger logger = LoggerFactory.getLogger(RestWorkItemHandler.class);
     private static final RestWorkItemHandlerResult DEFAULT_RESULT_HANDLER = new DefaultRestWorkItemHandlerResult();
@@ -123,6 +136,10 @@ public class RestWorkItemHandler implements KogitoWorkItemHandler {
         ParamsDecorator paramsDecorator = getClassParam(parameters, PARAMS_DECORATOR, ParamsDecorator.class, DEFAULT_PARAMS_DECORATOR, paramsDecorators);
         PathParamResolver pathParamResolver = getClassParam(parameters, PATH_PARAM_RESOLVER, PathParamResolver.class, DEFAULT_PATH_PARAM_RESOLVER, pathParamsResolvers);
         Collection<? extends AuthDecorator> authDecorators = getClassListParam(parameters, AUTH_METHOD, AuthDecorator.class, DEFAULT_AUTH_DECORATORS, authDecoratorsMap);
+        boolean async = getParam(parameters, ASYNC, Boolean.class, RestWorkItemHandlerUtils.isAsyncByDefault());
+        Long requestTimeout = getParam(parameters, REQUEST_TIMEOUT, Long.class, null);
+        int retries = getParam(parameters, RETRIES, Integer.class, 0);
+        long retryDelay = getParam(parameters, RETRY_DELAY, Long.class, DEFAULT_RETRY_DELAY);
 
         logger.debug("Filtered parameters are {}", parameters);
         // create request
@@ -160,12 +177,66 @@ public class RestWorkItemHandler implements KogitoWorkItemHandler {
         requestDecorators.forEach(d -> d.decorate(workItem, parameters, request));
         authDecorators.forEach(d -> d.decorate(workItem, parameters, request));
         paramsDecorator.decorate(workItem, parameters, request);
-        HttpResponse<Buffer> response = method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) ? request.sendJsonAndAwait(bodyBuilder.apply(parameters)) : request.sendAndAwait();
+        if (requestTimeout != null) {
+            request.timeout(requestTimeout);
+        }
+        Object body = method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) ? bodyBuilder.apply(parameters) : null;
+        Uni<HttpResponse<Buffer>> response = send(request, body, endPoint, retries, retryDelay);
+        if (async) {
+            executeAsync(workItem, manager, response, r -> resultHandler.apply(r, targetInfo));
+        } else {
+            manager.completeWorkItem(workItem.getStringId(), Collections.singletonMap(RESULT, resultHandler.apply(response.await().indefinitely(), targetInfo)));
+        }
+    }
+
+    /**
+     * Builds the (lazy) request, retrying failures that might be transient with an exponential backoff that does not block any thread
+     */
+    private static Uni<HttpResponse<Buffer>> send(HttpRequest<Buffer> request, Object body, String endPoint, int retries, long retryDelay) {
+        Uni<HttpResponse<Buffer>> sent = Uni.createFrom().deferred(() -> body == null ? request.send() : request.sendJson(body)).map(response -> checkStatus(response, endPoint));
+        if (retries <= 0) {
+            return sent;
+        }
+        return sent.onFailure(RestWorkItemHandler::isRetriable)
+                .invoke(ex -> logger.warn("Request for endpoint {} failed: {}", endPoint, ex.getMessage()))
+                .onFailure(RestWorkItemHandler::isRetriable).retry().withBackOff(Duration.ofMillis(retryDelay)).atMost(retries);
+    }
+
+    /**
+     * Sends the request without waiting for the response. The request is fired once the current unit of work has ended and committed,
+     * so the process instance is already stored in its waiting state, and the work item is completed or failed in a new unit of
+     * work when the response arrives, on a worker thread rather than the event loop.
+     */
+    private void executeAsync(KogitoWorkItem workItem, KogitoWorkItemManager manager, Uni<HttpResponse<Buffer>> response, Function<HttpResponse<Buffer>, Object> resultHandler) {
+        AsyncWorkItemCompletion completion = new AsyncWorkItemCompletion(workItem, manager);
+        completion.start(() -> response.emitOn(Infrastructure.getDefaultWorkerPool())
+                .map(r -> Collections.singletonMap(RESULT, resultHandler.apply(r)))
+                .subscribeAsCompletionStage());
+    }
+
+    private static HttpResponse<Buffer> checkStatus(HttpResponse<Buffer> response, String endPoint) {
         int statusCode = response.statusCode();
         if (statusCode < 200 || statusCode >= 300) {
             throw new WorkItemExecutionException(Integer.toString(statusCode), "Request for endpoint " + endPoint + " failed with message: " + response.statusMessage());
         }
-        manager.completeWorkItem(workItem.getStringId(), Collections.singletonMap(RESULT, resultHandler.apply(response, targetInfo)));
+        return response;
+    }
+
+    /**
+     * Only I/O failures, timeouts and server errors might be transient, anything else (client errors, failures
+     * building the request or handling the response) would fail again
+     */
+    static boolean isRetriable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof WorkItemExecutionException) {
+                String errorCode = ((WorkItemExecutionException) cause).getErrorCode();
+                return errorCode != null && errorCode.startsWith("5");
+            }
+            if (cause instanceof IOException || cause instanceof TimeoutException || cause instanceof HttpClosedException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private Class<?> getTargetInfo(KogitoWorkItem workItem) {
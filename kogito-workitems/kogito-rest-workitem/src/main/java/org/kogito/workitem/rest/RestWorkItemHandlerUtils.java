@@ -21,19 +21,75 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.kogito.workitem.rest.auth.OAuth2AuthToken;
+
+import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.mutiny.core.Vertx;
 
 import static org.kie.kogito.internal.utils.ConversionUtils.convert;
 
 public class RestWorkItemHandlerUtils {
 
+    /**
+     * Maximum number of connections kept by the rest client for each host
+     */
+    public static final String MAX_POOL_SIZE_PROPERTY = "kogito.rest.client.max-pool-size";
+    /**
+     * Connection timeout of the rest client, in milliseconds
+     */
+    public static final String CONNECT_TIMEOUT_PROPERTY = "kogito.rest.client.connect-timeout";
+    /**
+     * Time after which an idle connection of the rest client is closed, in seconds
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = "kogito.rest.client.idle-timeout";
+    /**
+     * Whether rest tasks are executed asynchronously when they do not set the Async parameter
+     */
+    public static final String ASYNC_PROPERTY = "kogito.rest.client.async";
+
     private RestWorkItemHandlerUtils() {
     }
 
+    public static WebClientOptions webClientOptions() {
+        return webClientOptions(null, null, null);
+    }
+
+    /**
+     * Creates the rest client options from the application configuration, falling back to the system properties
+     * for the values that are not configured
+     */
+    public static WebClientOptions webClientOptions(Integer maxPoolSize, Integer connectTimeout, Integer idleTimeout) {
+        WebClientOptions options = new WebClientOptions();
+        if (maxPoolSize == null) {
+            maxPoolSize = Integer.getInteger(MAX_POOL_SIZE_PROPERTY);
+        }
+        if (maxPoolSize != null) {
+            options.setMaxPoolSize(maxPoolSize);
+        }
+        if (connectTimeout == null) {
+            connectTimeout = Integer.getInteger(CONNECT_TIMEOUT_PROPERTY);
+        }
+        if (connectTimeout != null) {
+            options.setConnectTimeout(connectTimeout);
+        }
+        if (idleTimeout == null) {
+            idleTimeout = Integer.getInteger(IDLE_TIMEOUT_PROPERTY);
+        }
+        if (idleTimeout != null) {
+            options.setIdleTimeout(idleTimeout);
+        }
+        return options;
+    }
+
+    public static boolean isAsyncByDefault() {
+        return Boolean.getBoolean(ASYNC_PROPERTY);
+    }
+
     private static Vertx vertxContext;
 
     public static synchronized Vertx vertx(Vertx vertx) {
         vertxContext = vertx == null ? Vertx.vertx() : vertx;
+        OAuth2AuthToken.vertx(vertxContext);
         return vertxContext;
     }
 
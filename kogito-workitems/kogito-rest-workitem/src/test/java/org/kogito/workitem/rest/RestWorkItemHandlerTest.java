@@ -15,25 +15,38 @@
  */
 package org.kogito.workitem.rest;
 
+import java.net.ConnectException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.drools.core.common.InternalKnowledgeRuntime;
 import org.jbpm.process.core.Process;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
+import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.ProcessInstance;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.workflow.core.impl.IOSpecification;
 import org.jbpm.workflow.core.node.WorkItemNode;
+import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
 import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
 import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.kie.kogito.process.ProcessInstances;
+import org.kie.kogito.process.workitem.WorkItemExecutionException;
 import org.kie.kogito.process.workitems.impl.KogitoWorkItemImpl;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEventListener;
 import org.kogito.workitem.rest.bodybuilders.DefaultWorkItemHandlerBodyBuilder;
 import org.kogito.workitem.rest.resulthandlers.DefaultRestWorkItemHandlerResult;
 import org.kogito.workitem.rest.resulthandlers.RestWorkItemHandlerResult;
@@ -47,6 +60,7 @@ import org.mockito.quality.Strictness;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
@@ -54,11 +68,16 @@ import io.vertx.mutiny.ext.web.client.HttpResponse;
 import io.vertx.mutiny.ext.web.client.WebClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.kogito.workitem.rest.RestWorkItemHandler.BODY_BUILDER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -110,8 +129,8 @@ public class RestWorkItemHandlerTest {
         when(webClient.request(any(HttpMethod.class), eq(8080), eq("localhost"), anyString()))
                 .thenReturn(request);
 
-        when(request.sendJsonAndAwait(any())).thenReturn(response);
-        when(request.sendAndAwait()).thenReturn(response);
+        when(request.sendJson(any())).thenReturn(Uni.createFrom().item(response));
+        when(request.send()).thenReturn(Uni.createFrom().item(response));
         when(response.bodyAsJson(ObjectNode.class)).thenReturn(ObjectMapperFactory.get().createObjectNode().put("num", 1));
         when(response.statusCode()).thenReturn(200);
 
@@ -198,7 +217,7 @@ public class RestWorkItemHandlerTest {
 
         handler.executeWorkItem(workItem, manager);
 
-        verify(request).sendJsonAndAwait(bodyCaptor.capture());
+        verify(request).sendJson(bodyCaptor.capture());
         Map<String, Object> bodyMap = bodyCaptor.getValue();
         assertThat(bodyMap).containsEntry("id", 26)
                 .containsEntry("name", "pepe");
@@ -215,7 +234,7 @@ public class RestWorkItemHandlerTest {
         handler.executeWorkItem(workItem, manager);
 
         ArgumentCaptor<ObjectNode> bodyCaptor = ArgumentCaptor.forClass(ObjectNode.class);
-        verify(request).sendJsonAndAwait(bodyCaptor.capture());
+        verify(request).sendJson(bodyCaptor.capture());
         ObjectNode bodyMap = bodyCaptor.getValue();
         assertThat(bodyMap.get("id").asInt()).isEqualTo(26);
         assertThat(bodyMap.get("name").asText()).isEqualTo("pepe");
@@ -248,7 +267,7 @@ public class RestWorkItemHandlerTest {
 
         handler.executeWorkItem(workItem, manager);
 
-        verify(request).sendJsonAndAwait(bodyCaptor.capture());
+        verify(request).sendJson(bodyCaptor.capture());
 
         Map<String, Object> bodyMap = bodyCaptor.getValue();
         assertThat(bodyMap).containsEntry("id", 123)
@@ -267,7 +286,7 @@ public class RestWorkItemHandlerTest {
         handler.executeWorkItem(workItem, manager);
 
         ArgumentCaptor<ObjectNode> bodyCaptor = ArgumentCaptor.forClass(ObjectNode.class);
-        verify(request).sendJsonAndAwait(bodyCaptor.capture());
+        verify(request).sendJson(bodyCaptor.capture());
         ObjectNode bodyMap = bodyCaptor.getValue();
         assertThat(bodyMap.get("id").asInt()).isEqualTo(26);
         assertThat(bodyMap.get("name").asText()).isEqualTo("pepe");
@@ -275,6 +294,116 @@ public class RestWorkItemHandlerTest {
         assertResult(manager, argCaptor);
     }
 
+    @Test
+    public void testRetryOnServerError() {
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.RETRIES, 2);
+        parameters.put(RestWorkItemHandler.RETRY_DELAY, 1);
+        when(response.statusCode()).thenReturn(503, 503, 200);
+
+        handler.executeWorkItem(workItem, manager);
+
+        verify(request, times(3)).send();
+        assertResult(manager, argCaptor);
+    }
+
+    @Test
+    public void testNoRetryOnClientError() {
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.RETRIES, 2);
+        parameters.put(RestWorkItemHandler.RETRY_DELAY, 1);
+        when(response.statusCode()).thenReturn(404);
+
+        assertThatThrownBy(() -> handler.executeWorkItem(workItem, manager)).isInstanceOf(WorkItemExecutionException.class);
+
+        verify(request).send();
+        verify(manager, never()).completeWorkItem(anyString(), any());
+    }
+
+    @Test
+    public void testRetryOnConnectionError() {
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.RETRIES, 2);
+        parameters.put(RestWorkItemHandler.RETRY_DELAY, 1);
+        when(request.send()).thenReturn(Uni.createFrom().failure(new ConnectException("Connection refused")), Uni.createFrom().item(response));
+
+        handler.executeWorkItem(workItem, manager);
+
+        verify(request, times(2)).send();
+        assertResult(manager, argCaptor);
+    }
+
+    @Test
+    public void testNoRetryOnUnexpectedError() {
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.RETRIES, 2);
+        parameters.put(RestWorkItemHandler.RETRY_DELAY, 1);
+        when(request.send()).thenReturn(Uni.createFrom().failure(new IllegalStateException("Cannot encode request")));
+
+        assertThatThrownBy(() -> handler.executeWorkItem(workItem, manager)).isInstanceOf(IllegalStateException.class);
+
+        verify(request).send();
+        verify(manager, never()).completeWorkItem(anyString(), any());
+    }
+
+    @Test
+    public void testAsyncRestTaskHandler() {
+        parameters.put(RestWorkItemHandler.METHOD, "POST");
+        parameters.put(RestWorkItemHandler.CONTENT_DATA, workflowData);
+        parameters.put(RestWorkItemHandler.ASYNC, true);
+        parameters.put(RestWorkItemHandler.REQUEST_TIMEOUT, 5000L);
+
+        handler.executeWorkItem(workItem, manager);
+
+        verify(request).timeout(5000L);
+        verify(manager, timeout(5000)).completeWorkItem(anyString(), argCaptor.capture());
+        assertResult(manager, argCaptor);
+    }
+
+    @Test
+    public void testAsyncRestTaskHandlerInUnitOfWork() {
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.ASYNC, true);
+
+        UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        InternalProcessRuntime processRuntime = mock(InternalProcessRuntime.class);
+        when(processRuntime.getUnitOfWorkManager()).thenReturn(unitOfWorkManager);
+        InternalKnowledgeRuntime knowledgeRuntime = mock(InternalKnowledgeRuntime.class);
+        when(knowledgeRuntime.getProcessRuntime()).thenReturn(processRuntime);
+        org.kie.kogito.process.ProcessInstance<?> kogitoProcessInstance = mock(org.kie.kogito.process.ProcessInstance.class);
+        org.kie.kogito.process.Process kogitoProcess = mock(org.kie.kogito.process.Process.class);
+        ProcessInstances instances = mock(ProcessInstances.class);
+        when(kogitoProcessInstance.id()).thenReturn("1");
+        when(kogitoProcessInstance.process()).thenReturn(kogitoProcess);
+        when(kogitoProcess.instances()).thenReturn(instances);
+        when(instances.findById("1")).thenReturn(Optional.of(kogitoProcessInstance));
+        RuleFlowProcessInstance processInstance = new RuleFlowProcessInstance();
+        processInstance.setKnowledgeRuntime(knowledgeRuntime);
+        processInstance.wrap(kogitoProcessInstance);
+        workItem.setProcessInstance(processInstance);
+
+        // the end listeners (committing the transaction) must be notified before the request is sent
+        AtomicBoolean sentBeforeEnd = new AtomicBoolean();
+        unitOfWorkManager.register(new UnitOfWorkEventListener() {
+            @Override
+            public void onAfterEndEvent(UnitOfWorkEndEvent event) {
+                sentBeforeEnd.set(mockingDetails(request).getInvocations().stream().anyMatch(i -> i.getMethod().getName().equals("send")));
+            }
+        });
+
+        UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        handler.executeWorkItem(workItem, manager);
+        verify(request, never()).send();
+        unitOfWork.end();
+
+        assertThat(sentBeforeEnd).isFalse();
+        verify(request).send();
+        verify(kogitoProcessInstance, timeout(5000)).completeWorkItem(eq("2"), argCaptor.capture());
+        assertThat(argCaptor.getValue()).containsKey(RestWorkItemHandler.RESULT);
+        verify(manager, never()).completeWorkItem(anyString(), any());
+    }
+
     public void assertResult(KogitoWorkItemManager manager, ArgumentCaptor<Map<String, Object>> argCaptor) {
         verify(manager).completeWorkItem(anyString(), argCaptor.capture());
         Map<String, Object> results = argCaptor.getValue();
@@ -16,12 +16,15 @@
 package org.kie.kogito.eventdriven.decision;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.decision.DecisionModels;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.impl.EventEvaluationExecutor;
 
 import io.quarkus.runtime.Startup;
 
@@ -40,9 +43,26 @@ public class QuarkusEventDrivenDecisionController extends EventDrivenDecisionCon
     @Inject
     EventReceiver eventReceiver;
 
+    @ConfigProperty(name = EventEvaluationExecutor.CONCURRENT_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_CONCURRENT)
+    boolean concurrent;
+
+    @ConfigProperty(name = EventEvaluationExecutor.MAX_IN_FLIGHT_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_MAX_IN_FLIGHT)
+    int maxInFlight;
+
+    @ConfigProperty(name = EventEvaluationExecutor.ORDERED_BY_SUBJECT_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_ORDERED_BY_SUBJECT)
+    boolean orderedBySubject;
+
+    @ConfigProperty(name = EventEvaluationExecutor.VIRTUAL_THREADS_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_VIRTUAL_THREADS)
+    boolean virtualThreads;
+
     @PostConstruct
     private void onPostConstruct() {
-        init(decisionModels, config, eventEmitter, eventReceiver);
+        init(decisionModels, config, eventEmitter, eventReceiver, EventEvaluationExecutor.of(concurrent, maxInFlight, orderedBySubject, virtualThreads));
         subscribe();
     }
+
+    @PreDestroy
+    private void onPreDestroy() {
+        close();
+    }
 }
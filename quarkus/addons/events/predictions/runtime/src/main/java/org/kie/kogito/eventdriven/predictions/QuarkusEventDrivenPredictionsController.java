@@ -16,11 +16,14 @@
 package org.kie.kogito.eventdriven.predictions;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.impl.EventEvaluationExecutor;
 import org.kie.kogito.prediction.PredictionModels;
 
 import io.quarkus.runtime.Startup;
@@ -40,9 +43,26 @@ public class QuarkusEventDrivenPredictionsController extends EventDrivenPredicti
     @Inject
     EventReceiver eventReceiver;
 
+    @ConfigProperty(name = EventEvaluationExecutor.CONCURRENT_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_CONCURRENT)
+    boolean concurrent;
+
+    @ConfigProperty(name = EventEvaluationExecutor.MAX_IN_FLIGHT_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_MAX_IN_FLIGHT)
+    int maxInFlight;
+
+    @ConfigProperty(name = EventEvaluationExecutor.ORDERED_BY_SUBJECT_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_ORDERED_BY_SUBJECT)
+    boolean orderedBySubject;
+
+    @ConfigProperty(name = EventEvaluationExecutor.VIRTUAL_THREADS_PROPERTY, defaultValue = EventEvaluationExecutor.DEFAULT_VIRTUAL_THREADS)
+    boolean virtualThreads;
+
     @PostConstruct
     private void onPostConstruct() {
-        init(predictionModels, config, eventEmitter, eventReceiver);
+        init(predictionModels, config, eventEmitter, eventReceiver, EventEvaluationExecutor.of(concurrent, maxInFlight, orderedBySubject, virtualThreads));
         subscribe();
     }
+
+    @PreDestroy
+    private void onPreDestroy() {
+        close();
+    }
 }
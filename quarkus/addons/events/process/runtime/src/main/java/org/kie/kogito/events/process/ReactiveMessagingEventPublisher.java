@@ -15,15 +15,28 @@
  */
 package org.kie.kogito.events.process;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.EventPublisher;
 import org.slf4j.Logger;
@@ -37,8 +50,35 @@ public class ReactiveMessagingEventPublisher implements EventPublisher {
     private static final String UI_TOPIC_NAME = "kogito-usertaskinstances-events";
     private static final String VI_TOPIC_NAME = "kogito-variables-events";
 
+    public static final String PUBLISH_MODE_PROPERTY = "kogito.events.publish.mode";
+    public static final String MAX_IN_FLIGHT_PROPERTY = "kogito.events.publish.maxInFlight";
+    public static final String MAX_BUFFERED_PROPERTY = "kogito.events.publish.maxBuffered";
+
     private static final Logger logger = LoggerFactory.getLogger(ReactiveMessagingEventPublisher.class);
 
+    private static final String KAFKA_METADATA_CLASS = "io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata";
+
+    /**
+     * How events are turned into messages
+     */
+    public enum PublishMode {
+        /**
+         * One message per event, without key
+         */
+        SINGLE,
+        /**
+         * One message per event, keyed by the process instance id, so a Kafka topic keeps the events of an instance in
+         * the same partition, hence in order. Requires the Kafka connector.
+         */
+        KEYED,
+        /**
+         * One message per topic and process instance for all the events published together, holding them as a JSON
+         * array (CloudEvents JSON batch format, <code>application/cloudevents-batch+json</code>). Only for consumers
+         * reading that format. Messages are keyed by process instance id when the Kafka connector is present.
+         */
+        BATCH
+    }
+
     @Inject
     ObjectMapper json;
 
@@ -66,50 +106,237 @@ public class ReactiveMessagingEventPublisher implements EventPublisher {
     @ConfigProperty(name = "kogito.events.variables.enabled")
     Optional<Boolean> variablesEvents;
 
+    @Inject
+    @ConfigProperty(name = PUBLISH_MODE_PROPERTY, defaultValue = "single")
+    String publishMode;
+
+    @Inject
+    @ConfigProperty(name = MAX_IN_FLIGHT_PROPERTY, defaultValue = "0")
+    int maxInFlight;
+
+    @Inject
+    @ConfigProperty(name = MAX_BUFFERED_PROPERTY, defaultValue = "1000")
+    int maxBuffered;
+
+    private PublishMode mode = PublishMode.SINGLE;
+    private boolean keyed;
+
+    // messages waiting for an acknowledgement to be sent, only used when the messages in flight are bounded
+    private final Queue<PendingMessage> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger overflowed = new AtomicInteger();
+    private final AtomicInteger drainers = new AtomicInteger();
+
+    private final LongAdder publishedMessages = new LongAdder();
+    private final LongAdder failedMessages = new LongAdder();
+    private final LongAdder backpressuredMessages = new LongAdder();
+    private final LongAdder overflowedMessages = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        mode = PublishMode.valueOf(publishMode.trim().toUpperCase(Locale.ROOT));
+        boolean kafkaAvailable = isKafkaAvailable();
+        if (mode == PublishMode.KEYED && !kafkaAvailable) {
+            throw new IllegalStateException("Publish mode " + mode + " requires the Kafka connector (" + KAFKA_METADATA_CLASS + ") in the classpath");
+        }
+        keyed = mode == PublishMode.KEYED || mode == PublishMode.BATCH && kafkaAvailable;
+        logger.debug("Publishing events in {} mode with {} messages in flight", mode, maxInFlight > 0 ? maxInFlight : "unbounded");
+    }
+
     @Override
     public void publish(DataEvent<?> event) {
-        switch (event.getType()) {
-            case "ProcessInstanceEvent":
-                if (processInstancesEvents.orElse(true)) {
-                    publishToTopic(event, processInstancesEventsEmitter, PI_TOPIC_NAME);
-                }
-                break;
-            case "UserTaskInstanceEvent":
-                if (userTasksEvents.orElse(true)) {
-                    publishToTopic(event, userTasksEventsEmitter, UI_TOPIC_NAME);
-                }
-                break;
-            case "VariableInstanceEvent":
-                if (variablesEvents.orElse(true)) {
-                    publishToTopic(event, variablesEventsEmitter, VI_TOPIC_NAME);
-                }
-                break;
-            default:
-                logger.debug("Unknown type of event '{}', ignoring for this publisher", event.getType());
+        if (mode == PublishMode.BATCH) {
+            publishBatches(Collections.singletonList(event));
+        } else {
+            String topic = topicFor(event);
+            if (topic != null) {
+                publishToTopic(event, emitterFor(topic), topic);
+            }
         }
     }
 
     @Override
     public void publish(Collection<DataEvent<?>> events) {
-        for (DataEvent<?> event : events) {
-            publish(event);
+        if (mode == PublishMode.BATCH) {
+            publishBatches(events);
+        } else {
+            for (DataEvent<?> event : events) {
+                publish(event);
+            }
         }
     }
 
     protected void publishToTopic(DataEvent<?> event, Emitter<String> emitter, String topic) {
-        if (emitter.hasRequests()) {
-            logger.debug("Emitter {} is not ready to send messages", topic);
-        }
-
         logger.debug("About to publish event {} to topic {}", event, topic);
         try {
             String eventString = json.writeValueAsString(event);
             logger.debug("Event payload '{}'", eventString);
 
-            emitter.send(eventString);
+            send(emitter, topic, eventString, keyed ? event.getKogitoProcessInstanceId() : null);
             logger.debug("Successfully published event {} to topic {}", event, topic);
         } catch (Exception e) {
             logger.error("Error while publishing event to topic {} for event {}", topic, event, e);
         }
     }
+
+    private void publishBatches(Collection<DataEvent<?>> events) {
+        Map<String, Map<String, List<DataEvent<?>>>> batches = new LinkedHashMap<>();
+        for (DataEvent<?> event : events) {
+            String topic = topicFor(event);
+            if (topic != null) {
+                batches.computeIfAbsent(topic, k -> new LinkedHashMap<>()).computeIfAbsent(event.getKogitoProcessInstanceId(), k -> new ArrayList<>()).add(event);
+            }
+        }
+        batches.forEach((topic, byInstance) -> byInstance.forEach((processInstanceId, batch) -> publishBatchToTopic(batch, emitterFor(topic), topic, processInstanceId)));
+    }
+
+    protected void publishBatchToTopic(List<DataEvent<?>> batch, Emitter<String> emitter, String topic, String processInstanceId) {
+        logger.debug("About to publish {} events of process instance {} to topic {}", batch.size(), processInstanceId, topic);
+        try {
+            // the events of the batch are serialized in a single pass and sent as a single message
+            String batchString = json.writeValueAsString(batch);
+            logger.debug("Batch payload '{}'", batchString);
+
+            send(emitter, topic, batchString, keyed ? processInstanceId : null);
+            logger.debug("Successfully published {} events to topic {}", batch.size(), topic);
+        } catch (Exception e) {
+            logger.error("Error while publishing events to topic {} for events {}", topic, batch, e);
+        }
+    }
+
+    private void send(Emitter<String> emitter, String topic, String payload, String key) {
+        if (!emitter.hasRequests()) {
+            backpressuredMessages.increment();
+            logger.debug("Emitter {} is not ready to send messages", topic);
+        }
+        boolean bounded = maxInFlight > 0;
+        Message<String> message = Message.of(payload, () -> {
+            publishedMessages.increment();
+            acknowledged(bounded);
+            return CompletableFuture.completedFuture(null);
+        }, reason -> {
+            failedMessages.increment();
+            logger.error("Message was not accepted by topic {}", topic, reason);
+            acknowledged(bounded);
+            return CompletableFuture.completedFuture(null);
+        });
+        if (key != null) {
+            message = KafkaMessages.withKey(message, key);
+        }
+        if (!bounded) {
+            emitter.send(message);
+            return;
+        }
+        boolean overflow = buffered.incrementAndGet() > maxBuffered;
+        buffer.add(new PendingMessage(emitter, message));
+        if (overflow) {
+            // never block the unit of work, the oldest buffered message is sent anyway so they all keep their order
+            overflowed.incrementAndGet();
+            overflowedMessages.increment();
+            logger.warn("{} messages in flight and {} buffered, sending to topic {} anyway", maxInFlight, maxBuffered, topic);
+        }
+        drain();
+    }
+
+    private void acknowledged(boolean bounded) {
+        if (bounded) {
+            inFlight.decrementAndGet();
+            drain();
+        }
+    }
+
+    /**
+     * Sends buffered messages while there is room for them. Only one thread drains at a time, a thread finding
+     * another one draining just asks it for one more pass, so acknowledgements received while sending never recurse.
+     */
+    private void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (inFlight.get() < maxInFlight || overflowed.get() > 0) {
+                PendingMessage next = buffer.poll();
+                if (next == null) {
+                    break;
+                }
+                if (inFlight.get() >= maxInFlight) {
+                    overflowed.decrementAndGet();
+                }
+                buffered.decrementAndGet();
+                inFlight.incrementAndGet();
+                next.emitter.send(next.message);
+            }
+            missed = drainers.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private String topicFor(DataEvent<?> event) {
+        switch (event.getType()) {
+            case "ProcessInstanceEvent":
+                return processInstancesEvents.orElse(true) ? PI_TOPIC_NAME : null;
+            case "UserTaskInstanceEvent":
+                return userTasksEvents.orElse(true) ? UI_TOPIC_NAME : null;
+            case "VariableInstanceEvent":
+                return variablesEvents.orElse(true) ? VI_TOPIC_NAME : null;
+            default:
+                logger.debug("Unknown type of event '{}', ignoring for this publisher", event.getType());
+                return null;
+        }
+    }
+
+    private static boolean isKafkaAvailable() {
+        try {
+            Class.forName(KAFKA_METADATA_CLASS, false, ReactiveMessagingEventPublisher.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private Emitter<String> emitterFor(String topic) {
+        switch (topic) {
+            case PI_TOPIC_NAME:
+                return processInstancesEventsEmitter;
+            case UI_TOPIC_NAME:
+                return userTasksEventsEmitter;
+            default:
+                return variablesEventsEmitter;
+        }
+    }
+
+    public long getPublishedMessages() {
+        return publishedMessages.sum();
+    }
+
+    public long getFailedMessages() {
+        return failedMessages.sum();
+    }
+
+    public long getBackpressuredMessages() {
+        return backpressuredMessages.sum();
+    }
+
+    public long getOverflowedMessages() {
+        return overflowedMessages.sum();
+    }
+
+    public int getMessagesInFlight() {
+        return inFlight.get();
+    }
+
+    public int getBufferedMessages() {
+        return buffered.get();
+    }
+
+    private static class PendingMessage {
+        private final Emitter<String> emitter;
+        private final Message<String> message;
+
+        private PendingMessage(Emitter<String> emitter, Message<String> message) {
+            this.emitter = emitter;
+            this.message = message;
+        }
+    }
 }
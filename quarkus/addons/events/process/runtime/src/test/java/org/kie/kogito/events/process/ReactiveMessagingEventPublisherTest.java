@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.events.process;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.event.DataEvent;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveMessagingEventPublisherTest {
+
+    private ReactiveMessagingEventPublisher publisher;
+    private Emitter<String> processInstancesEmitter;
+    private Emitter<String> userTasksEmitter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() throws Exception {
+        publisher = new ReactiveMessagingEventPublisher();
+        publisher.json = mock(ObjectMapper.class);
+        when(publisher.json.writeValueAsString(any())).thenAnswer(invocation -> {
+            Object value = invocation.getArgument(0);
+            return value instanceof Collection
+                    ? ((Collection<DataEvent<?>>) value).stream().map(DataEvent::getId).collect(Collectors.joining(",", "[", "]"))
+                    : ((DataEvent<?>) value).getId();
+        });
+        processInstancesEmitter = mockEmitter();
+        userTasksEmitter = mockEmitter();
+        publisher.processInstancesEventsEmitter = processInstancesEmitter;
+        publisher.userTasksEventsEmitter = userTasksEmitter;
+        publisher.variablesEventsEmitter = mockEmitter();
+        publisher.processInstancesEvents = Optional.empty();
+        publisher.userTasksEvents = Optional.of(false);
+        publisher.variablesEvents = Optional.empty();
+        publisher.publishMode = "single";
+        publisher.maxBuffered = 1;
+    }
+
+    @Test
+    void testSingleMode() {
+        publisher.init();
+        publisher.publish(List.of(event("1", "ProcessInstanceEvent", "pi1"), event("2", "ProcessInstanceEvent", "pi1"), event("3", "UserTaskInstanceEvent", "pi1")));
+
+        List<Message<String>> messages = sent(processInstancesEmitter, 2);
+        assertThat(messages).extracting(Message::getPayload).containsExactly("1", "2");
+        assertThat(messages).allMatch(message -> message.getMetadata(OutgoingKafkaRecordMetadata.class).isEmpty());
+        verify(userTasksEmitter, never()).send(any(Message.class));
+    }
+
+    @Test
+    void testKeyedMode() {
+        publisher.publishMode = "keyed";
+        publisher.init();
+        publisher.publish(List.of(event("1", "ProcessInstanceEvent", "pi1"), event("2", "ProcessInstanceEvent", "pi2")));
+
+        List<Message<String>> messages = sent(processInstancesEmitter, 2);
+        assertThat(messages).extracting(Message::getPayload).containsExactly("1", "2");
+        assertThat(messages).extracting(message -> message.getMetadata(OutgoingKafkaRecordMetadata.class).map(OutgoingKafkaRecordMetadata::getKey).orElse(null))
+                .containsExactly("pi1", "pi2");
+    }
+
+    @Test
+    void testModeIsLocaleIndependent() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            publisher.publishMode = " single ";
+            publisher.init();
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        publisher.publish(event("1", "ProcessInstanceEvent", "pi1"));
+        assertThat(sent(processInstancesEmitter, 1)).extracting(Message::getPayload).containsExactly("1");
+    }
+
+    @Test
+    void testBatchMode() {
+        publisher.publishMode = "batch";
+        publisher.init();
+        publisher.publish(List.of(event("1", "ProcessInstanceEvent", "pi1"), event("2", "ProcessInstanceEvent", "pi2"), event("3", "ProcessInstanceEvent", "pi1"),
+                event("4", "UserTaskInstanceEvent", "pi1")));
+
+        List<Message<String>> messages = sent(processInstancesEmitter, 2);
+        assertThat(messages).extracting(Message::getPayload).containsExactly("[1,3]", "[2]");
+        assertThat(messages).extracting(message -> message.getMetadata(OutgoingKafkaRecordMetadata.class).map(OutgoingKafkaRecordMetadata::getKey).orElse(null))
+                .containsExactly("pi1", "pi2");
+        verify(userTasksEmitter, never()).send(any(Message.class));
+    }
+
+    @Test
+    void testMaxInFlight() {
+        publisher.maxInFlight = 1;
+        publisher.init();
+
+        publisher.publish(event("1", "ProcessInstanceEvent", "pi1"));
+        assertThat(publisher.getMessagesInFlight()).isEqualTo(1);
+
+        // no room for it, it waits for an acknowledgement without blocking the caller
+        publisher.publish(event("2", "ProcessInstanceEvent", "pi1"));
+        assertThat(publisher.getBufferedMessages()).isEqualTo(1);
+        assertThat(sent(processInstancesEmitter, 1)).extracting(Message::getPayload).containsExactly("1");
+
+        // the buffer is full, the oldest buffered message is sent anyway
+        publisher.publish(event("3", "ProcessInstanceEvent", "pi1"));
+        assertThat(publisher.getOverflowedMessages()).isEqualTo(1);
+        assertThat(publisher.getBufferedMessages()).isEqualTo(1);
+        assertThat(publisher.getMessagesInFlight()).isEqualTo(2);
+
+        List<Message<String>> messages = sent(processInstancesEmitter, 2);
+        assertThat(messages).extracting(Message::getPayload).containsExactly("1", "2");
+        messages.get(0).ack();
+        assertThat(publisher.getPublishedMessages()).isEqualTo(1);
+        assertThat(publisher.getBufferedMessages()).isEqualTo(1);
+        messages.get(1).nack(new IllegalStateException("rejected"));
+        assertThat(publisher.getFailedMessages()).isEqualTo(1);
+        assertThat(publisher.getBufferedMessages()).isZero();
+        assertThat(publisher.getMessagesInFlight()).isEqualTo(1);
+
+        messages = sent(processInstancesEmitter, 3);
+        assertThat(messages).extracting(Message::getPayload).containsExactly("1", "2", "3");
+        messages.get(2).ack();
+        assertThat(publisher.getMessagesInFlight()).isZero();
+        assertThat(publisher.getPublishedMessages()).isEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Emitter<String> mockEmitter() {
+        Emitter<String> emitter = mock(Emitter.class);
+        when(emitter.hasRequests()).thenReturn(true);
+        return emitter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Message<String>> sent(Emitter<String> emitter, int count) {
+        ArgumentCaptor<Message<String>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(emitter, times(count)).send(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static DataEvent<?> event(String id, String type, String processInstanceId) {
+        DataEvent<?> event = mock(DataEvent.class);
+        when(event.getId()).thenReturn(id);
+        when(event.getType()).thenReturn(type);
+        when(event.getKogitoProcessInstanceId()).thenReturn(processInstanceId);
+        return event;
+    }
+}
@@ -16,11 +16,14 @@
 package org.kie.kogito.eventdriven.rules;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.event.EventEmitter;
+import org.kie.kogito.event.EventExecutorServiceFactory;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
 
 import io.quarkus.runtime.Startup;
 
@@ -36,8 +39,16 @@ public class QuarkusEventDrivenRulesController extends EventDrivenRulesControlle
     @Inject
     EventReceiver eventReceiver;
 
+    @Inject
+    EventExecutorServiceFactory executorServiceFactory;
+
     @PostConstruct
     private void onPostConstruct() {
-        init(config, eventEmitter, eventReceiver);
+        init(config, eventEmitter, eventReceiver, executorServiceFactory.getExecutorService(KogitoEventStreams.INCOMING));
+    }
+
+    @PreDestroy
+    private void onPreDestroy() {
+        close();
     }
 }
@@ -25,6 +25,7 @@ import org.kie.kogito.Model;
 import org.kie.kogito.event.EventExecutorServiceFactory;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.impl.AbstractMessageConsumer;
+import org.kie.kogito.event.impl.ProcessEventMailboxes;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessService;
 
@@ -39,11 +40,14 @@ public abstract class QuarkusMessageConsumer<M extends Model, D> extends Abstrac
     @Inject
     EventExecutorServiceFactory factory;
 
+    @Inject
+    ProcessEventMailboxes mailboxes;
+
     private ExecutorService executor;
 
     protected void init(Process<M> process, String trigger, Class<D> objectClass, EventReceiver eventReceiver, Set<String> correlation) {
         executor = factory.getExecutorService(trigger);
-        init(application, process, trigger, eventReceiver, objectClass, processService, executor, correlation);
+        init(application, process, trigger, eventReceiver, objectClass, processService, executor, correlation, mailboxes);
     }
 
     @javax.annotation.PreDestroy
@@ -22,14 +22,16 @@ import javax.sql.DataSource;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.persistence.jdbc.AbstractProcessInstancesFactory;
+import org.kie.kogito.persistence.jdbc.AbstractTransactionManager;
 
 @ApplicationScoped
 public class JDBCProcessInstancesFactory extends AbstractProcessInstancesFactory {
 
     @Inject
     public JDBCProcessInstancesFactory(DataSource dataSource,
+            AbstractTransactionManager transactionManager,
             @ConfigProperty(name = "kogito.persistence.optimistic.lock", defaultValue = "false") Boolean lock) {
-        super(dataSource, lock);
+        super(dataSource, lock, transactionManager);
     }
 
     public JDBCProcessInstancesFactory() {
@@ -21,7 +21,9 @@ import java.sql.SQLException;
 import javax.enterprise.inject.Produces;
 import javax.sql.DataSource;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.correlation.CorrelationService;
+import org.kie.kogito.event.correlation.CachingCorrelationService;
 import org.kie.kogito.event.correlation.DefaultCorrelationService;
 import org.kie.kogito.persistence.jdbc.DatabaseType;
 import org.kie.kogito.persistence.jdbc.correlation.JDBCCorrelationService;
@@ -32,6 +34,12 @@ public class JDBCorrelationServiceProducer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JDBCorrelationServiceProducer.class);
 
+    @ConfigProperty(name = CachingCorrelationService.CACHE_SIZE_PROPERTY, defaultValue = CachingCorrelationService.DEFAULT_CACHE_SIZE)
+    int cacheSize;
+
+    @ConfigProperty(name = CachingCorrelationService.CACHE_TTL_PROPERTY, defaultValue = CachingCorrelationService.DEFAULT_CACHE_TTL)
+    long cacheTtl;
+
     @Produces
     public CorrelationService jdbcCorrelationService(DataSource dataSource) {
         try (Connection connection = dataSource.getConnection()) {
@@ -41,6 +49,7 @@ public class JDBCorrelationServiceProducer {
         } catch (SQLException e) {
             LOGGER.error("Error getting connection for {}", dataSource);
         }
-        return new JDBCCorrelationService(dataSource);
+        JDBCCorrelationService correlationService = new JDBCCorrelationService(dataSource);
+        return cacheSize > 0 ? new CachingCorrelationService(correlationService, cacheSize, cacheTtl) : correlationService;
     }
 }
@@ -21,6 +21,7 @@ import java.util.Spliterators;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -33,6 +34,9 @@ import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstanceHeader;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
@@ -151,6 +155,11 @@ public class KafkaProcessInstances implements MutableProcessInstances {
         return getProcessInstanceById(id).map(marshaller.createUnmarshallFunction(process, mode));
     }
 
+    @Override
+    public Optional<ProcessInstanceHeader> findHeaderById(String id) {
+        return getProcessInstanceById(id).map(marshaller::unmarshallProcessInstanceHeader);
+    }
+
     @Override
     public Stream<ProcessInstance<?>> stream(ProcessInstanceReadMode mode) {
         KeyValueIterator<String, byte[]> iterator = getStore().prefixScan(getProcess().id(), Serdes.String().serializer());
@@ -159,6 +168,23 @@ public class KafkaProcessInstances implements MutableProcessInstances {
                 .map(marshaller.createUnmarshallFunction(process, mode)).onClose(iterator::close);
     }
 
+    @Override
+    public ProcessInstancePage<ProcessInstance<?>> findPage(ProcessInstanceFilter filter, String cursor, int pageSize, ProcessInstanceReadMode mode) {
+        String after = ProcessInstancePage.idOf(cursor);
+        String from = getKeyForProcessInstance(after == null ? "" : after);
+        // the store is sorted by key, so the range starts at the cursor and the stream stops once the page is full
+        KeyValueIterator<String, byte[]> iterator = getStore().range(from, getKeyForProcessInstance(Character.toString(Character.MAX_VALUE)));
+        try (Stream<byte[]> values = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .filter(k -> after == null || !k.key.equals(from))
+                .map(k -> k.value)
+                .onClose(iterator::close)) {
+            return ProcessInstancePage.of(values.filter(data -> filter.isEmpty() || filter.test(marshaller.unmarshallProcessInstanceHeader(data)))
+                    .limit(pageSize + 1L)
+                    .map(marshaller.createUnmarshallFunction(process, mode))
+                    .collect(Collectors.toList()), pageSize, ProcessInstance::id);
+        }
+    }
+
     protected void disconnect(ProcessInstance<?> instance) {
         ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(marshaller.createdReloadFunction(() -> getProcessInstanceById(instance.id()).orElseThrow()));
     }
@@ -16,6 +16,8 @@
 
 package org.kie.kogito.persistence.kafka;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -32,6 +34,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
+import org.kie.kogito.process.ProcessInstanceFilter;
+import org.kie.kogito.process.ProcessInstancePage;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
@@ -275,4 +279,50 @@ public class KafkaProcessInstancesTest {
         assertThatExceptionOfType(ProcessInstanceDuplicatedException.class).isThrownBy(() -> instances.create(id, instance));
     }
 
+    @Test
+    public void testProcessInstancesFindPageStartsAfterCursor() {
+        List<KeyValue<String, byte[]>> entries = List.of(KeyValue.pair(processId + "-a", new byte[] { 'a' }),
+                KeyValue.pair(processId + "-b", new byte[] { 'b' }),
+                KeyValue.pair(processId + "-c", new byte[] { 'c' }));
+        doReturn(new ListKeyValueIterator(entries.iterator())).when(store).range(eq(processId + "-a"), any());
+        for (KeyValue<String, byte[]> entry : entries) {
+            ProcessInstance instance = mock(ProcessInstance.class);
+            lenient().when(instance.id()).thenReturn(entry.key.substring(processId.length() + 1));
+            lenient().doReturn(instance).when(marshaller).unmarshallProcessInstance(eq(entry.value), any(), eq(ProcessInstanceReadMode.READ_ONLY));
+        }
+
+        ProcessInstancePage<ProcessInstance<?>> page = instances.findPage(ProcessInstanceFilter.ALL, ProcessInstancePage.cursorOf("a"), 1, ProcessInstanceReadMode.READ_ONLY);
+
+        assertThat(page.items()).extracting(ProcessInstance::id).containsExactly("b");
+        assertThat(page.nextCursor()).isEqualTo(ProcessInstancePage.cursorOf("b"));
+        verify(store, never()).prefixScan(any(), any());
+    }
+
+    private static class ListKeyValueIterator implements KeyValueIterator<String, byte[]> {
+
+        private final Iterator<KeyValue<String, byte[]>> iterator;
+
+        ListKeyValueIterator(Iterator<KeyValue<String, byte[]>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public KeyValue<String, byte[]> next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String peekNextKey() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
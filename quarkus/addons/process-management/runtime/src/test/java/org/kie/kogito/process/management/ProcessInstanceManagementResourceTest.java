@@ -32,6 +32,7 @@ import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
 import org.kie.kogito.process.ProcessError;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceHeader;
 import org.kie.kogito.process.ProcessInstances;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.impl.AbstractProcess;
@@ -98,6 +99,8 @@ public class ProcessInstanceManagementResourceTest {
         lenient().when(processes.processById(anyString())).thenReturn(process);
         lenient().when(process.instances()).thenReturn(instances);
         lenient().when(instances.findById(anyString())).thenReturn(Optional.of(processInstance));
+        lenient().when(instances.findHeaderById(anyString()))
+                .thenReturn(Optional.of(new ProcessInstanceHeader(PROCESS_INSTANCE_ID, KogitoProcessInstance.STATE_ERROR, null, 0L, null)));
         lenient().when(processInstance.error()).thenReturn(Optional.of(error));
         lenient().when(processInstance.id()).thenReturn("abc-def");
         lenient().when(processInstance.status()).thenReturn(KogitoProcessInstance.STATE_ACTIVE);
@@ -42,4 +42,11 @@ public class KogitoRuntimeConfig {
      */
     @ConfigItem(name = "process.instances.limit", defaultValue = "1000")
     public short processInstanceLimit;
+
+    /**
+     * Generator of process instance, node instance and work item ids: <code>time-ordered</code>, <code>random</code>
+     * or the fully qualified name of an <code>org.kie.kogito.id.IdGenerator</code> implementation
+     */
+    @ConfigItem(name = "id.generator")
+    public Optional<String> idGenerator;
 }
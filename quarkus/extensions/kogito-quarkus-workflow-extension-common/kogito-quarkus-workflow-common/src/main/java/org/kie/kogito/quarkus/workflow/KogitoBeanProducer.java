@@ -15,17 +15,23 @@
  */
 package org.kie.kogito.quarkus.workflow;
 
+import java.util.Optional;
+
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Produces;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.correlation.CorrelationService;
 import org.kie.kogito.event.correlation.DefaultCorrelationService;
+import org.kie.kogito.id.IdGenerators;
 import org.kie.kogito.process.ProcessVersionResolver;
 import org.kie.kogito.process.version.ProjectVersionProcessVersionResolver;
 
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.runtime.StartupEvent;
 
 @ApplicationScoped
 public class KogitoBeanProducer {
@@ -41,4 +47,8 @@ public class KogitoBeanProducer {
     ProcessVersionResolver projectVersionResolver(ConfigBean configBean) {
         return new ProjectVersionProcessVersionResolver(configBean.getGav().orElseThrow(() -> new RuntimeException("Unable to use kogito.workflow.version-strategy without a project GAV")));
     }
+
+    void configureIdGenerator(@Observes StartupEvent event, @ConfigProperty(name = IdGenerators.ID_GENERATOR_PROPERTY) Optional<String> idGenerator) {
+        idGenerator.ifPresent(IdGenerators::configure);
+    }
 }
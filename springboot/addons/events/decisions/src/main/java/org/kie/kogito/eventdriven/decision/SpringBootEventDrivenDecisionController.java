@@ -16,24 +16,36 @@
 package org.kie.kogito.eventdriven.decision;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.decision.DecisionModels;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.impl.EventEvaluationExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class SpringBootEventDrivenDecisionController extends EventDrivenDecisionController {
 
     @Autowired
-    public SpringBootEventDrivenDecisionController(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
-        super(decisionModels, config, eventEmitter, eventReceiver);
+    public SpringBootEventDrivenDecisionController(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver,
+            @Value("${" + EventEvaluationExecutor.CONCURRENT_PROPERTY + ":" + EventEvaluationExecutor.DEFAULT_CONCURRENT + "}") boolean concurrent,
+            @Value("${" + EventEvaluationExecutor.MAX_IN_FLIGHT_PROPERTY + ":" + EventEvaluationExecutor.DEFAULT_MAX_IN_FLIGHT + "}") int maxInFlight,
+            @Value("${" + EventEvaluationExecutor.ORDERED_BY_SUBJECT_PROPERTY + ":" + EventEvaluationExecutor.DEFAULT_ORDERED_BY_SUBJECT + "}") boolean orderedBySubject,
+            @Value("${" + EventEvaluationExecutor.VIRTUAL_THREADS_PROPERTY + ":" + EventEvaluationExecutor.DEFAULT_VIRTUAL_THREADS + "}") boolean virtualThreads) {
+        super(decisionModels, config, eventEmitter, eventReceiver, EventEvaluationExecutor.of(concurrent, maxInFlight, orderedBySubject, virtualThreads));
     }
 
     @PostConstruct
     private void onPostConstruct() {
         subscribe();
     }
+
+    @PreDestroy
+    public void onPreDestroy() {
+        close();
+    }
 }
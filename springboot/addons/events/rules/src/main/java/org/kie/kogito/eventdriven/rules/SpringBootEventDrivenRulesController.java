@@ -15,9 +15,13 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
+import javax.annotation.PreDestroy;
+
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.event.EventEmitter;
+import org.kie.kogito.event.EventExecutorServiceFactory;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -25,7 +29,12 @@ import org.springframework.stereotype.Component;
 public class SpringBootEventDrivenRulesController extends EventDrivenRulesController {
 
     @Autowired
-    public SpringBootEventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
-        super(config, eventEmitter, eventReceiver);
+    public SpringBootEventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventExecutorServiceFactory executorServiceFactory) {
+        super(config, eventEmitter, eventReceiver, executorServiceFactory.getExecutorService(KogitoEventStreams.INCOMING));
+    }
+
+    @PreDestroy
+    public void onPreDestroy() {
+        close();
     }
 }
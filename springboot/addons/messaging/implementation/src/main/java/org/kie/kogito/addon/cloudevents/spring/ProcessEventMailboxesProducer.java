@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.addon.cloudevents.spring;
+
+import org.kie.kogito.event.impl.ProcessEventMailboxes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProcessEventMailboxesProducer {
+
+    @Value("${" + ProcessEventMailboxes.ORDERED_WORKERS_PROPERTY + ":" + ProcessEventMailboxes.DEFAULT_ORDERED_WORKERS + "}")
+    int orderedWorkers;
+
+    @Bean(destroyMethod = "close")
+    public ProcessEventMailboxes processEventMailboxes() {
+        return new ProcessEventMailboxes(orderedWorkers);
+    }
+}
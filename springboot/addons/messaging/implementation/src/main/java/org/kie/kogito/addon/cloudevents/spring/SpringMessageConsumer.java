@@ -23,6 +23,7 @@ import org.kie.kogito.Model;
 import org.kie.kogito.event.EventExecutorServiceFactory;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.impl.AbstractMessageConsumer;
+import org.kie.kogito.event.impl.ProcessEventMailboxes;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,11 +39,14 @@ public abstract class SpringMessageConsumer<M extends Model, D> extends Abstract
     @Autowired
     EventExecutorServiceFactory factory;
 
+    @Autowired
+    ProcessEventMailboxes mailboxes;
+
     private ExecutorService executor;
 
     protected void init(Process<M> process, String trigger, Class<D> objectClass, EventReceiver eventReceiver) {
         executor = factory.getExecutorService(trigger);
-        init(application, process, trigger, eventReceiver, objectClass, processService, executor, Collections.emptySet());
+        init(application, process, trigger, eventReceiver, objectClass, processService, executor, Collections.emptySet(), mailboxes);
     }
 
     public void close() {
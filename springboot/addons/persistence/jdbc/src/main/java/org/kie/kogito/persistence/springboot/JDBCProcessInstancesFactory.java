@@ -19,6 +19,7 @@ package org.kie.kogito.persistence.springboot;
 import javax.sql.DataSource;
 
 import org.kie.kogito.persistence.jdbc.AbstractProcessInstancesFactory;
+import org.kie.kogito.persistence.jdbc.AbstractTransactionManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -28,8 +29,9 @@ public class JDBCProcessInstancesFactory extends AbstractProcessInstancesFactory
 
     @Autowired
     public JDBCProcessInstancesFactory(DataSource dataSource,
+            AbstractTransactionManager transactionManager,
             @Value("${kogito.persistence.optimistic.lock:false}") Boolean lock) {
-        super(dataSource, lock);
+        super(dataSource, lock, transactionManager);
     }
 
 }
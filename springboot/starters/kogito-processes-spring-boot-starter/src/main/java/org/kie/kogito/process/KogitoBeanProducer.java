@@ -18,8 +18,10 @@ package org.kie.kogito.process;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.correlation.CorrelationService;
 import org.kie.kogito.event.correlation.DefaultCorrelationService;
+import org.kie.kogito.id.IdGenerators;
 import org.kie.kogito.process.version.ProjectVersionProcessVersionResolver;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,8 +32,11 @@ public class KogitoBeanProducer {
     ConfigBean configBean;
 
     @Autowired
-    public KogitoBeanProducer(ConfigBean configBean) {
+    public KogitoBeanProducer(ConfigBean configBean, @Value("${" + IdGenerators.ID_GENERATOR_PROPERTY + ":#{null}}") String idGenerator) {
         this.configBean = configBean;
+        if (idGenerator != null) {
+            IdGenerators.configure(idGenerator);
+        }
     }
 
     @Bean